@@ -3,12 +3,28 @@ package com.smartcon.domain.admin.controller;
 import com.smartcon.domain.admin.dto.ApprovalStatsDto;
 import com.smartcon.domain.admin.dto.BillingStatsDto;
 import com.smartcon.domain.admin.dto.DashboardStatsDto;
+import com.smartcon.domain.admin.dto.SubscriptionCursorPageDto;
 import com.smartcon.domain.admin.dto.SubscriptionExportDto;
+import com.smartcon.domain.admin.dto.SubscriptionExportFormat;
+import com.smartcon.domain.admin.dto.TenantSearchResultDto;
 import com.smartcon.domain.admin.dto.TenantSummaryDto;
+import com.smartcon.domain.admin.service.SubscriptionExportStreamer;
 import com.smartcon.domain.admin.service.SuperAdminService;
+import com.smartcon.domain.billing.service.RevenueLedgerService;
+import com.smartcon.domain.subscription.dto.ApprovalLatencyDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationRequest;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsDto;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsRequest;
+import com.smartcon.domain.subscription.entity.ApprovalAction;
 import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.service.AutoApprovalSimulationService;
+import com.smartcon.domain.subscription.service.SubscriptionFactTable;
+import com.smartcon.domain.subscription.service.SubscriptionStatsService;
+import com.smartcon.domain.subscription.service.SubscriptionStatusCounterReconciler;
 import com.smartcon.domain.tenant.entity.Tenant;
 import com.smartcon.global.common.ApiResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,9 +36,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 슈퍼 관리자 전용 제어 컨트롤러
@@ -34,6 +53,12 @@ import java.util.List;
 public class SuperAdminController {
 
     private final SuperAdminService superAdminService;
+    private final AutoApprovalSimulationService autoApprovalSimulationService;
+    private final SubscriptionStatusCounterReconciler subscriptionStatusCounterReconciler;
+    private final RevenueLedgerService revenueLedgerService;
+    private final SubscriptionStatsService subscriptionStatsService;
+    private final SubscriptionFactTable subscriptionFactTable;
+    private final SubscriptionExportStreamer subscriptionExportStreamer;
 
     /**
      * 대시보드 통계 정보 조회
@@ -76,6 +101,23 @@ public class SuperAdminController {
         }
     }
 
+    /**
+     * 테넌트 검색 (회사명, 대표자명, 사업자등록번호, 이메일, 초성)
+     */
+    @GetMapping("/tenants/search")
+    public ApiResponse<List<TenantSearchResultDto>> searchTenants(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.info("테넌트 검색 요청 - 검색어: {}, 최대 건수: {}", q, limit);
+
+        try {
+            return ApiResponse.success(superAdminService.searchTenants(q, limit));
+        } catch (Exception e) {
+            log.error("테넌트 검색 중 오류 발생", e);
+            return ApiResponse.error("테넌트를 검색할 수 없습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 테넌트 상태 변경
      */
@@ -114,6 +156,22 @@ public class SuperAdminController {
         }
     }
 
+    /**
+     * 월 매출 원장 조정
+     * 최근 마감 월의 원장과 결제 기록을 비교하여 차이를 조정 항목으로 기록하고 기록 건수를 반환합니다.
+     */
+    @PostMapping("/billing/revenue-ledger/reconcile")
+    public ApiResponse<Integer> reconcileRevenueLedger() {
+        log.info("월 매출 원장 조정 요청");
+
+        try {
+            return ApiResponse.success(revenueLedgerService.reconcileClosedMonths());
+        } catch (Exception e) {
+            log.error("월 매출 원장 조정 중 오류 발생", e);
+            return ApiResponse.error("월 매출 원장을 조정할 수 없습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 최근 생성된 테넌트 목록 조회
      */
@@ -162,6 +220,78 @@ public class SuperAdminController {
         }
     }
 
+    /**
+     * 승인 처리 시간 분포 조회
+     * 기간 내 일별 히스토그램을 병합하여 처리 시간 백분위를 반환합니다 (기본 최근 30일).
+     */
+    @GetMapping("/approval/stats/latency")
+    public ApiResponse<ApprovalLatencyDto> getApprovalLatency(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) ApprovalAction action,
+            @RequestParam(required = false) Long adminId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(30);
+        log.info("승인 처리 시간 분포 조회 요청 - 기간: {} ~ {}, 액션: {}, 관리자: {}", start, end, action, adminId);
+        
+        try {
+            return ApiResponse.success(subscriptionStatsService.getApprovalLatency(start, end, action, adminId));
+        } catch (Exception e) {
+            log.error("승인 처리 시간 분포 조회 중 오류 발생", e);
+            return ApiResponse.error("승인 처리 시간 분포를 조회할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 상태 카운터 재집계
+     * 구독 테이블을 다시 세어 카운터를 바로잡고 상태별 차이를 반환합니다.
+     */
+    @PostMapping("/approval/stats/counters/reconcile")
+    public ApiResponse<Map<SubscriptionStatus, Long>> reconcileStatusCounters() {
+        log.info("구독 상태 카운터 재집계 요청");
+        
+        try {
+            return ApiResponse.success(subscriptionStatusCounterReconciler.reconcile());
+        } catch (Exception e) {
+            log.error("구독 상태 카운터 재집계 중 오류 발생", e);
+            return ApiResponse.error("구독 상태 카운터를 재집계할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 자동 승인 규칙 시뮬레이션
+     * 제안 규칙 집합을 최근 N개월 구독 신청에 재현하여 자동 승인 예상 건수를 계산합니다.
+     */
+    @PostMapping("/approval/auto-approval/simulate")
+    public ApiResponse<AutoApprovalSimulationDto> simulateAutoApproval(
+            @Valid @RequestBody AutoApprovalSimulationRequest request) {
+        log.info("자동 승인 규칙 시뮬레이션 요청 - 규칙: {}건, 기간: {}개월",
+                request.getRules() != null ? request.getRules().size() : 0, request.getMonths());
+        
+        try {
+            return ApiResponse.success(autoApprovalSimulationService.simulate(request));
+        } catch (Exception e) {
+            log.error("자동 승인 규칙 시뮬레이션 중 오류 발생", e);
+            return ApiResponse.error("자동 승인 규칙 시뮬레이션을 수행할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 분석 집계
+     * 요금제, 상태, 생성 월, 결제 주기, 자동 승인 여부로 거르고 묶어 구독 수와 월 요금 합계를 반환합니다.
+     */
+    @PostMapping("/analytics/subscriptions")
+    public ApiResponse<SubscriptionAnalyticsDto> analyzeSubscriptions(@RequestBody SubscriptionAnalyticsRequest request) {
+        log.info("구독 분석 집계 요청 - 기준: {}", request.getGroupBy());
+        
+        try {
+            return ApiResponse.success(subscriptionFactTable.query(request));
+        } catch (Exception e) {
+            log.error("구독 분석 집계 중 오류 발생", e);
+            return ApiResponse.error("구독 분석 집계를 수행할 수 없습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 구독 필터링 및 검색 API 확장
      */
@@ -183,58 +313,72 @@ public class SuperAdminController {
             Sort sort = Sort.by(sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            // 실제 구현에서는 검색어와 날짜 필터링을 포함한 복잡한 쿼리가 필요
-            // 현재는 기본 데이터 내보내기 메서드를 활용
-            List<SubscriptionExportDto> allData = superAdminService.exportSubscriptionData(status, startDate, endDate);
-            
-            // 검색어 필터링 (테넌트명 기준)
-            if (search != null && !search.trim().isEmpty()) {
-                allData = allData.stream()
-                        .filter(dto -> dto.getTenantName().toLowerCase().contains(search.toLowerCase()))
-                        .toList();
-            }
-            
-            // 페이지네이션 처리 (간단한 구현)
-            int start = page * size;
-            int end = Math.min(start + size, allData.size());
-            List<SubscriptionExportDto> pageData = allData.subList(start, end);
-            
-            // Page 객체 생성을 위한 간단한 구현
-            org.springframework.data.domain.PageImpl<SubscriptionExportDto> pageResult = 
-                    new org.springframework.data.domain.PageImpl<>(pageData, pageable, allData.size());
-            
-            return ApiResponse.success(pageResult);
+            return ApiResponse.success(superAdminService.getSubscriptions(search, status, startDate, endDate, pageable));
         } catch (Exception e) {
             log.error("구독 목록 조회 중 오류 발생", e);
             return ApiResponse.error("구독 목록을 조회할 수 없습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 구독 목록 커서 조회 API (무한 스크롤, 전체 건수 미계산)
+     */
+    @GetMapping("/subscriptions/cursor")
+    public ApiResponse<SubscriptionCursorPageDto> getSubscriptionsByCursor(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) SubscriptionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        
+        log.info("구독 목록 커서 조회 요청 - 검색어: {}, 상태: {}, 기간: {} ~ {}, 커서: {}, 크기: {}", 
+                search, status, startDate, endDate, cursor, size);
+        
+        try {
+            Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+            return ApiResponse.success(superAdminService.getSubscriptionsByCursor(
+                    search, status, startDate, endDate, cursor, size, direction));
+        } catch (Exception e) {
+            log.error("구독 목록 커서 조회 중 오류 발생", e);
+            return ApiResponse.error("구독 목록을 조회할 수 없습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 구독 데이터 내보내기 API
+     * 전체 목록을 메모리에 만들지 않고 DB 커서에서 읽은 행을 바로 응답에 기록합니다.
+     * 형식: json(기본, JSON 배열), ndjson, csv / gzip=true이면 gzip 압축 파일로 내려받습니다.
      */
     @GetMapping("/subscriptions/export")
-    public ResponseEntity<List<SubscriptionExportDto>> exportSubscriptions(
+    public ResponseEntity<StreamingResponseBody> exportSubscriptions(
             @RequestParam(required = false) SubscriptionStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
         
-        log.info("구독 데이터 내보내기 요청 - 상태: {}, 기간: {} ~ {}", status, startDate, endDate);
+        log.info("구독 데이터 내보내기 요청 - 상태: {}, 기간: {} ~ {}, 형식: {}, gzip: {}", status, startDate, endDate, format, gzip);
         
+        SubscriptionExportFormat exportFormat;
         try {
-            List<SubscriptionExportDto> exportData = superAdminService.exportSubscriptionData(status, startDate, endDate);
-            
-            // CSV 다운로드를 위한 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=subscriptions_export.json");
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(exportData);
-        } catch (Exception e) {
-            log.error("구독 데이터 내보내기 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+            exportFormat = SubscriptionExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("구독 데이터 내보내기 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         }
+        
+        String filename = "subscriptions_export." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        
+        StreamingResponseBody body = out -> subscriptionExportStreamer.export(
+                exportFormat, gzip, status, startDate, endDate, out);
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
     }
 }
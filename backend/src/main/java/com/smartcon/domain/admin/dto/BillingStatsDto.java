@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +20,7 @@ public class BillingStatsDto {
 
     // 전체 통계
     private BigDecimal totalRevenue;        // 전체 매출
+    private BigDecimal yearToDateRevenue;   // 올해 누적 매출
     private BigDecimal monthlyRevenue;      // 이번 달 매출
     private BigDecimal dailyRevenue;        // 오늘 매출
 
@@ -34,6 +36,11 @@ public class BillingStatsDto {
     // 실패한 결제 목록 (최근 10건)
     private List<FailedPaymentDto> recentFailedPayments;
 
+    // 스냅샷 정보
+    private long snapshotVersion;           // 대시보드 스냅샷 버전
+    private LocalDateTime snapshotAt;       // 스냅샷 조립 시각
+    private List<String> staleMetrics;      // 시간 안에 조회되지 않아 이전 값을 사용한 항목
+
     @Getter
     @Setter
     @AllArgsConstructor
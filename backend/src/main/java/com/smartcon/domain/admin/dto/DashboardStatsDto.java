@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 대시보드 통계 정보 DTO
@@ -36,4 +38,9 @@ public class DashboardStatsDto {
     // 시스템 상태
     private String systemStatus;        // 시스템 상태 (HEALTHY, WARNING, ERROR)
     private long activeConnections;     // 활성 연결 수
+
+    // 스냅샷 정보
+    private long snapshotVersion;           // 대시보드 스냅샷 버전
+    private LocalDateTime snapshotAt;       // 스냅샷 조립 시각
+    private List<String> staleMetrics;      // 시간 안에 조회되지 않아 이전 값을 사용한 항목
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.smartcon.domain.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 구독 목록 커서 페이지 DTO
+ * 전체 건수를 세지 않고 다음 페이지 존재 여부와 다음 커서만 반환합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubscriptionCursorPageDto {
+
+    private List<SubscriptionExportDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+}
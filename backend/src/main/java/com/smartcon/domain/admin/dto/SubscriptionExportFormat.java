@@ -0,0 +1,42 @@
+package com.smartcon.domain.admin.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 구독 데이터 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SubscriptionExportFormat {
+    /**
+     * JSON 배열 (기존 응답 형식)
+     */
+    JSON("application/json", "json"),
+
+    /**
+     * 줄 단위 JSON (한 줄에 구독 하나)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV (UTF-8 BOM 포함, 엑셀 호환)
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 요청 파라미터로부터 형식 변환 (대소문자 무시)
+     */
+    public static SubscriptionExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
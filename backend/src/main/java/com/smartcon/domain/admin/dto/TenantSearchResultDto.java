@@ -0,0 +1,37 @@
+package com.smartcon.domain.admin.dto;
+
+import com.smartcon.domain.tenant.service.TenantSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테넌트 검색 결과 DTO (검색 색인 순위순)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TenantSearchResultDto {
+
+    private Long tenantId;
+    private String companyName;
+    private String representativeName;
+    private String businessNo;
+    private String email;
+    private TenantSearchIndex.Field matchedField;  // 가장 높은 점수로 일치한 필드
+    private int score;                            // 일치 위치 점수 × 필드 가중치
+
+    public static TenantSearchResultDto from(TenantSearchIndex.Hit hit) {
+        return TenantSearchResultDto.builder()
+                .tenantId(hit.tenantId())
+                .companyName(hit.companyName())
+                .representativeName(hit.representativeName())
+                .businessNo(hit.businessNo())
+                .email(hit.email())
+                .matchedField(hit.matchedField())
+                .score(hit.score())
+                .build();
+    }
+}
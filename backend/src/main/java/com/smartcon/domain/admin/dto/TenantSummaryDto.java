@@ -1,6 +1,8 @@
 package com.smartcon.domain.admin.dto;
 
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
 import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.entity.TenantSummary;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,13 +26,17 @@ public class TenantSummaryDto {
     private Tenant.SubscriptionStatus status; // 구독 상태
     private String planId;              // 구독 플랜 ID
     private long userCount;             // 사용자 수
+    private long activeUserCount;       // 활성 사용자 수
+    private int siteCount;              // 현장 수
+    private SubscriptionStatus subscriptionStatus; // 현재 구독 상태
+    private LocalDateTime lastPaymentAt; // 마지막 결제 시각
     private LocalDateTime createdAt;    // 생성일
     private LocalDateTime lastLoginAt;  // 마지막 로그인 시간
 
     /**
-     * Tenant 엔티티로부터 DTO 생성
+     * Tenant 엔티티와 요약 프로젝션으로부터 DTO 생성 (요약이 아직 없으면 집계 값은 기본값)
      */
-    public static TenantSummaryDto from(Tenant tenant, long userCount) {
+    public static TenantSummaryDto from(Tenant tenant, TenantSummary summary) {
         TenantSummaryDto dto = new TenantSummaryDto();
         dto.setId(tenant.getId());
         dto.setBusinessNo(tenant.getBusinessNo());
@@ -38,7 +44,13 @@ public class TenantSummaryDto {
         dto.setRepresentativeName(tenant.getRepresentativeName());
         dto.setStatus(tenant.getStatus());
         dto.setPlanId(tenant.getPlanId());
-        dto.setUserCount(userCount);
+        if (summary != null) {
+            dto.setUserCount(summary.getUserCount());
+            dto.setActiveUserCount(summary.getActiveUserCount());
+            dto.setSiteCount(summary.getSiteCount());
+            dto.setSubscriptionStatus(summary.getSubscriptionStatus());
+            dto.setLastPaymentAt(summary.getLastPaymentAt());
+        }
         dto.setCreatedAt(tenant.getCreatedAt());
         // lastLoginAt은 별도 로직으로 설정 필요
         return dto;
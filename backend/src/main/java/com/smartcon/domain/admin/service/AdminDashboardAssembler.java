@@ -0,0 +1,293 @@
+package com.smartcon.domain.admin.service;
+
+import com.smartcon.domain.admin.dto.BillingStatsDto;
+import com.smartcon.domain.billing.entity.BillingRecord;
+import com.smartcon.domain.billing.repository.BillingRecordRepository;
+import com.smartcon.domain.billing.service.RevenueLedgerService;
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import com.smartcon.domain.user.repository.UserRepository;
+import com.smartcon.global.config.ContextPropagatingTaskDecorator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 대시보드 스냅샷 조립기
+ *
+ * 서로 독립적인 집계 쿼리를 가상 스레드에서 동시에 실행하여 대시보드 응답 시간을 가장 느린 쿼리 수준으로 줄입니다.
+ * - 동시 실행 수 제한: 커넥션 풀을 독점하지 않도록 세마포어로 제한
+ * - 항목별 대기 한도: 조립 시작부터 한도를 넘긴 항목은 이전 값으로 채우고 지연 항목으로 표시
+ *   (각 쿼리는 남은 한도를 타임아웃으로 둔 읽기 전용 트랜잭션에서 실행하고, 한도를 넘기면 작업을 취소하여
+ *   동시 실행 슬롯과 커넥션을 바로 반환)
+ * - 스냅샷 공유: 최대 수명 동안 모든 대시보드 API가 같은 버전의 스냅샷을 사용하며,
+ *   만료 시 동시 요청 중 하나만 조립하고 나머지는 그 결과를 기다립니다.
+ */
+@Component
+@Slf4j
+public class AdminDashboardAssembler {
+
+    private final Map<DashboardMetric<?>, Function<Period, ?>> queries = new LinkedHashMap<>();
+    private final Map<DashboardMetric<?>, Object> lastKnown = new ConcurrentHashMap<>();
+    private final AtomicReference<AdminDashboardSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AdminDashboardSnapshot>> inFlight = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    private final ExecutorService virtualThreads;
+    private final Executor executor;
+    private final PlatformTransactionManager transactionManager;
+    private final long queryTimeoutMillis;
+    private final long maxAgeMillis;
+
+    public AdminDashboardAssembler(TenantRepository tenantRepository,
+                                   UserRepository userRepository,
+                                   BillingRecordRepository billingRecordRepository,
+                                   RevenueLedgerService revenueLedgerService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${admin.dashboard.query-timeout-ms:2000}") long queryTimeoutMillis,
+                                   @Value("${admin.dashboard.max-age-ms:10000}") long maxAgeMillis,
+                                   @Value("${admin.dashboard.max-concurrency:6}") int maxConcurrency) {
+        this.transactionManager = transactionManager;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        this.maxAgeMillis = maxAgeMillis;
+        this.virtualThreads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Dashboard-", 0).factory());
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.executor = ContextPropagatingTaskDecorator.wrap(command -> virtualThreads.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                command.run();
+            } finally {
+                permits.release();
+            }
+        }));
+
+        // 테넌트 통계
+        register(DashboardMetric.TOTAL_TENANTS, period -> tenantRepository.count());
+        register(DashboardMetric.ACTIVE_TENANTS, period -> tenantRepository.countByStatus(Tenant.SubscriptionStatus.ACTIVE));
+        register(DashboardMetric.SUSPENDED_TENANTS, period -> tenantRepository.countByStatus(Tenant.SubscriptionStatus.SUSPENDED));
+        register(DashboardMetric.NEW_TENANTS_THIS_MONTH,
+                period -> tenantRepository.countByCreatedAtBetween(period.startOfMonth(), period.endOfMonth()));
+
+        // 사용자 통계
+        register(DashboardMetric.TOTAL_USERS, period -> userRepository.count());
+        register(DashboardMetric.NEW_USERS_THIS_MONTH,
+                period -> userRepository.countByCreatedAtBetween(period.startOfMonth(), period.endOfMonth()));
+
+        // 매출 통계 (누적/연간은 월 마감 원장 + 미마감 구간)
+        register(DashboardMetric.TOTAL_REVENUE, period -> revenueLedgerService.totalRevenue());
+        register(DashboardMetric.YEAR_TO_DATE_REVENUE, period -> revenueLedgerService.yearToDateRevenue());
+        register(DashboardMetric.MONTHLY_REVENUE,
+                period -> billingRecordRepository.getTotalRevenueByPeriod(period.startOfMonth(), period.endOfMonth()));
+        register(DashboardMetric.DAILY_REVENUE,
+                period -> billingRecordRepository.getTotalRevenueByPeriod(period.startOfToday(), period.endOfToday()));
+
+        // 결제 건수 통계
+        register(DashboardMetric.TOTAL_PAYMENTS, period -> billingRecordRepository.count());
+        register(DashboardMetric.COMPLETED_PAYMENTS,
+                period -> billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.SUCCESS));
+        register(DashboardMetric.FAILED_PAYMENTS,
+                period -> billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.FAILED));
+        register(DashboardMetric.PENDING_PAYMENTS,
+                period -> billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.PENDING));
+
+        // 월별 매출 추이 (최근 6개월)
+        register(DashboardMetric.MONTHLY_TRENDS, period -> billingRecordRepository.getMonthlyRevenueStats(period.now().minusMonths(6))
+                .stream()
+                .map(data -> new BillingStatsDto.MonthlyRevenueDto(
+                        ((Number) data[0]).intValue(),
+                        ((Number) data[1]).intValue(),
+                        (BigDecimal) data[2]))
+                .collect(Collectors.toList()));
+
+        // 최근 실패한 결제 목록 (최근 10건, 테넌트명 일괄 조회)
+        register(DashboardMetric.RECENT_FAILED_PAYMENTS, period -> {
+            List<BillingRecord> failed = billingRecordRepository
+                    .findTop10ByPaymentStatusOrderByCreatedAtDesc(BillingRecord.PaymentStatus.FAILED);
+            Set<Long> tenantIds = failed.stream().map(BillingRecord::getTenantId).collect(Collectors.toSet());
+            Map<Long, String> companyNames = new HashMap<>();
+            tenantRepository.findAllById(tenantIds)
+                    .forEach(tenant -> companyNames.put(tenant.getId(), tenant.getCompanyName()));
+
+            return failed.stream()
+                    .map(payment -> new BillingStatsDto.FailedPaymentDto(
+                            payment.getId(),
+                            payment.getTenantId().toString(),
+                            companyNames.getOrDefault(payment.getTenantId(), "알 수 없음"),
+                            payment.getTotalAmount(),
+                            payment.getFailureReason(),
+                            payment.getCreatedAt().toString()))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.shutdownNow();
+    }
+
+    /**
+     * 현재 스냅샷 조회 (만료되었으면 다시 조립)
+     */
+    public AdminDashboardSnapshot current() {
+        AdminDashboardSnapshot snapshot = current.get();
+        if (snapshot != null && !isExpired(snapshot)) {
+            return snapshot;
+        }
+        return refresh();
+    }
+
+    /**
+     * 스냅샷 다시 조립 (이미 조립 중이면 그 결과를 기다림)
+     */
+    public AdminDashboardSnapshot refresh() {
+        CompletableFuture<AdminDashboardSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<AdminDashboardSnapshot> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            return running.join();
+        }
+
+        try {
+            AdminDashboardSnapshot snapshot = assemble();
+            current.set(snapshot);
+            mine.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
+    }
+
+    private boolean isExpired(AdminDashboardSnapshot snapshot) {
+        return snapshot.getAssembledAt().plusNanos(TimeUnit.MILLISECONDS.toNanos(maxAgeMillis))
+                .isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 모든 항목을 동시에 조회하여 스냅샷 조립
+     */
+    private AdminDashboardSnapshot assemble() {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(queryTimeoutMillis);
+        Period period = Period.of(LocalDateTime.now());
+
+        Map<DashboardMetric<?>, FutureTask<Object>> tasks = new LinkedHashMap<>();
+        queries.forEach((metric, query) -> {
+            FutureTask<Object> task = new FutureTask<>(() -> query(metric, query, period, deadlineNanos));
+            executor.execute(task);
+            tasks.put(metric, task);
+        });
+
+        Map<DashboardMetric<?>, Object> values = new HashMap<>();
+        List<String> staleMetrics = new ArrayList<>();
+        for (Map.Entry<DashboardMetric<?>, FutureTask<Object>> entry : tasks.entrySet()) {
+            DashboardMetric<?> metric = entry.getKey();
+            FutureTask<Object> task = entry.getValue();
+            try {
+                Object value = task.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (value != null) {
+                    values.put(metric, value);
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                task.cancel(true);
+                staleMetrics.add(metric.name());
+                Object previous = lastKnown.get(metric);
+                if (previous != null) {
+                    values.put(metric, previous);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                task.cancel(true);
+                staleMetrics.add(metric.name());
+            }
+        }
+
+        long assemblyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        AdminDashboardSnapshot snapshot = new AdminDashboardSnapshot(
+                versions.incrementAndGet(), LocalDateTime.now(), assemblyMillis, values, staleMetrics);
+
+        if (snapshot.isPartial()) {
+            log.warn("대시보드 스냅샷 v{} 조립 - {}ms, 지연 항목: {}", snapshot.getVersion(), assemblyMillis, staleMetrics);
+        } else {
+            log.debug("대시보드 스냅샷 v{} 조립 - {}ms", snapshot.getVersion(), assemblyMillis);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 항목 조회 (남은 대기 한도를 쿼리 타임아웃으로 적용)
+     * 트랜잭션 타임아웃은 초 단위이므로 남은 시간을 올림하여 적용합니다.
+     */
+    private Object query(DashboardMetric<?> metric, Function<Period, ?> query, Period period, long deadlineNanos)
+            throws TimeoutException {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new TimeoutException("대기 한도 초과 - " + metric.name());
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.ceilDiv(remainingMillis, 1000L));
+        try {
+            Object value = transaction.execute(status -> query.apply(period));
+            if (value != null) {
+                lastKnown.put(metric, value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                log.warn("대시보드 항목 조회 실패 - {}: {}", metric.name(), e.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private <T> void register(DashboardMetric<T> metric, Function<Period, T> query) {
+        queries.put(metric, query);
+    }
+
+    /**
+     * 조립 시점 기준 집계 기간
+     */
+    record Period(LocalDateTime now, LocalDateTime startOfMonth, LocalDateTime endOfMonth,
+                  LocalDateTime startOfToday, LocalDateTime endOfToday) {
+
+        static Period of(LocalDateTime now) {
+            return new Period(
+                    now,
+                    now.with(TemporalAdjusters.firstDayOfMonth()).withHour(0).withMinute(0).withSecond(0),
+                    now.with(TemporalAdjusters.lastDayOfMonth()).withHour(23).withMinute(59).withSecond(59),
+                    now.withHour(0).withMinute(0).withSecond(0),
+                    now.withHour(23).withMinute(59).withSecond(59));
+        }
+    }
+}
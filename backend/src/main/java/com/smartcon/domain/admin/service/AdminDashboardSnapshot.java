@@ -0,0 +1,64 @@
+package com.smartcon.domain.admin.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 스냅샷
+ *
+ * 한 번의 조립에서 계산된 집계 값을 버전과 함께 보관하며, 모든 대시보드 API가 같은 스냅샷을 공유합니다.
+ * 시간 안에 끝나지 않은 항목은 이전에 계산된 값(또는 기본값)을 사용하고 지연 항목으로 표시합니다.
+ */
+@Getter
+public final class AdminDashboardSnapshot {
+
+    /**
+     * 스냅샷 버전 (조립할 때마다 1씩 증가)
+     */
+    private final long version;
+
+    /**
+     * 조립 완료 시각
+     */
+    private final LocalDateTime assembledAt;
+
+    /**
+     * 조립 소요 시간 (밀리초)
+     */
+    private final long assemblyMillis;
+
+    /**
+     * 지연되어 이전 값을 사용한 항목 이름
+     */
+    private final List<String> staleMetrics;
+
+    private final Map<DashboardMetric<?>, Object> values;
+
+    AdminDashboardSnapshot(long version, LocalDateTime assembledAt, long assemblyMillis,
+                           Map<DashboardMetric<?>, Object> values, List<String> staleMetrics) {
+        this.version = version;
+        this.assembledAt = assembledAt;
+        this.assemblyMillis = assemblyMillis;
+        this.values = Map.copyOf(values);
+        this.staleMetrics = List.copyOf(staleMetrics);
+    }
+
+    /**
+     * 항목 값 조회 (값이 없으면 항목 기본값)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(DashboardMetric<T> metric) {
+        Object value = values.get(metric);
+        return value != null ? (T) value : metric.fallback();
+    }
+
+    /**
+     * 지연 항목 포함 여부
+     */
+    public boolean isPartial() {
+        return !staleMetrics.isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package com.smartcon.domain.admin.service;
+
+import com.smartcon.domain.admin.dto.BillingStatsDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 관리자 대시보드 집계 항목 키
+ *
+ * @param name 항목 이름 (지연 표시에 사용)
+ * @param fallback 이전 값이 없을 때 사용할 기본값
+ */
+public record DashboardMetric<T>(String name, T fallback) {
+
+    // 테넌트
+    public static final DashboardMetric<Long> TOTAL_TENANTS = new DashboardMetric<>("totalTenants", 0L);
+    public static final DashboardMetric<Long> ACTIVE_TENANTS = new DashboardMetric<>("activeTenants", 0L);
+    public static final DashboardMetric<Long> SUSPENDED_TENANTS = new DashboardMetric<>("suspendedTenants", 0L);
+    public static final DashboardMetric<Long> NEW_TENANTS_THIS_MONTH = new DashboardMetric<>("newTenantsThisMonth", 0L);
+
+    // 사용자
+    public static final DashboardMetric<Long> TOTAL_USERS = new DashboardMetric<>("totalUsers", 0L);
+    public static final DashboardMetric<Long> NEW_USERS_THIS_MONTH = new DashboardMetric<>("newUsersThisMonth", 0L);
+
+    // 매출
+    public static final DashboardMetric<BigDecimal> TOTAL_REVENUE = new DashboardMetric<>("totalRevenue", BigDecimal.ZERO);
+    public static final DashboardMetric<BigDecimal> YEAR_TO_DATE_REVENUE = new DashboardMetric<>("yearToDateRevenue", BigDecimal.ZERO);
+    public static final DashboardMetric<BigDecimal> MONTHLY_REVENUE = new DashboardMetric<>("monthlyRevenue", BigDecimal.ZERO);
+    public static final DashboardMetric<BigDecimal> DAILY_REVENUE = new DashboardMetric<>("dailyRevenue", BigDecimal.ZERO);
+
+    // 결제 건수
+    public static final DashboardMetric<Long> TOTAL_PAYMENTS = new DashboardMetric<>("totalPayments", 0L);
+    public static final DashboardMetric<Long> COMPLETED_PAYMENTS = new DashboardMetric<>("completedPayments", 0L);
+    public static final DashboardMetric<Long> FAILED_PAYMENTS = new DashboardMetric<>("failedPayments", 0L);
+    public static final DashboardMetric<Long> PENDING_PAYMENTS = new DashboardMetric<>("pendingPayments", 0L);
+
+    // 결제 추이 및 목록
+    public static final DashboardMetric<List<BillingStatsDto.MonthlyRevenueDto>> MONTHLY_TRENDS =
+            new DashboardMetric<>("monthlyTrends", List.of());
+    public static final DashboardMetric<List<BillingStatsDto.FailedPaymentDto>> RECENT_FAILED_PAYMENTS =
+            new DashboardMetric<>("recentFailedPayments", List.of());
+}
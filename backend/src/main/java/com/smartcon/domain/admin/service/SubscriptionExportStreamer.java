@@ -0,0 +1,265 @@
+package com.smartcon.domain.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.admin.dto.SubscriptionExportDto;
+import com.smartcon.domain.admin.dto.SubscriptionExportFormat;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 구독 데이터 스트리밍 내보내기
+ *
+ * 전체 구독을 목록으로 만들지 않고 전진 전용 JDBC 커서로 한 행씩 읽어 바로 응답 스트림에 기록합니다.
+ * - 메모리: 드라이버 페치 버퍼(fetch-size 행)와 쓰기 버퍼만 사용하므로 행 수와 관계없이 일정
+ * - 형식: JSON 배열, 줄 단위 JSON, CSV (선택적으로 gzip 압축)
+ * - 중단: 클라이언트 연결이 끊겨 쓰기가 실패하면 실행 중인 쿼리를 취소하고 즉시 종료
+ */
+@Component
+@Slf4j
+public class SubscriptionExportStreamer {
+
+    /**
+     * 구독 목록 읽기 모델에서 구독당 한 행 (최근 승인 이력, 마지막 결제 시각 포함, 조인 없음)
+     * 인덱스 활용: idx_subscription_admin_view_created, idx_subscription_admin_view_status_created
+     */
+    private static final String EXPORT_SQL =
+            "SELECT subscription_id, tenant_name, plan_name, status, monthly_price, created_at, " +
+            "approved_at, last_payment_at, approval_reason, admin_name, auto_approved " +
+            "FROM subscription_admin_view";
+
+    private static final String[] CSV_HEADER = {
+            "subscriptionId", "tenantName", "planName", "status", "monthlyFee", "createdAt",
+            "approvedAt", "lastPaymentAt", "approvalReason", "adminName", "autoApproved"
+    };
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public SubscriptionExportStreamer(DataSource dataSource,
+                                      ObjectMapper objectMapper,
+                                      @Value("${subscription.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 조건에 맞는 구독을 생성일 역순으로 기록하고 기록한 행 수를 반환
+     *
+     * @throws IOException 출력 스트림 쓰기 실패 (클라이언트 연결 종료 포함)
+     */
+    public long export(SubscriptionExportFormat format,
+                       boolean gzip,
+                       SubscriptionStatus status,
+                       LocalDateTime startDate,
+                       LocalDateTime endDate,
+                       OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new OutputStreamWriter(gzipStream != null ? gzipStream : out, StandardCharsets.UTF_8);
+        RowWriter rowWriter = new RowWriter(format, writer);
+
+        StringBuilder sql = new StringBuilder(EXPORT_SQL).append(" WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND status = ?");
+            params.add(status.name());
+        }
+        if (startDate != null) {
+            sql.append(" AND created_at >= ?");
+            params.add(Timestamp.valueOf(startDate));
+        }
+        if (endDate != null) {
+            sql.append(" AND created_at <= ?");
+            params.add(Timestamp.valueOf(endDate));
+        }
+        sql.append(" ORDER BY created_at DESC, subscription_id DESC");
+
+        AtomicReference<Statement> running = new AtomicReference<>();
+        try {
+            rowWriter.begin();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                running.set(statement);
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    rowWriter.write(toDto(rs));
+                } catch (IOException e) {
+                    cancelQuietly(running.get());
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.end();
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        } catch (UncheckedIOException e) {
+            log.info("구독 데이터 내보내기 중단 (클라이언트 연결 종료) - 형식: {}, 기록: {}건", format, rowWriter.count);
+            throw e.getCause();
+        }
+
+        log.info("구독 데이터 내보내기 완료 - 형식: {}, gzip: {}, {}건, {} ms",
+                format, gzip, rowWriter.count, (System.nanoTime() - started) / 1_000_000);
+        return rowWriter.count;
+    }
+
+    private static SubscriptionExportDto toDto(ResultSet rs) throws SQLException {
+        return SubscriptionExportDto.builder()
+                .subscriptionId(rs.getLong(1))
+                .tenantName(rs.getString(2))
+                .planName(rs.getString(3))
+                .status(rs.getString(4) != null ? SubscriptionStatus.valueOf(rs.getString(4)) : null)
+                .monthlyFee(rs.getBigDecimal(5))
+                .createdAt(toLocalDateTime(rs.getTimestamp(6)))
+                .approvedAt(toLocalDateTime(rs.getTimestamp(7)))
+                .lastPaymentAt(toLocalDateTime(rs.getTimestamp(8)))
+                .approvalReason(rs.getString(9))
+                .adminName(rs.getString(10))
+                .autoApproved(rs.getBoolean(11))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static void cancelQuietly(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.debug("내보내기 쿼리 취소 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 형식별 행 기록기
+     */
+    private final class RowWriter {
+
+        private final SubscriptionExportFormat format;
+        private final Writer writer;
+        private long count;
+
+        RowWriter(SubscriptionExportFormat format, Writer writer) {
+            this.format = format;
+            this.writer = new BufferedWriter(writer, WRITE_BUFFER_SIZE);
+        }
+
+        void begin() throws IOException {
+            switch (format) {
+                case JSON -> writer.write('[');
+                case CSV -> {
+                    writer.write('\uFEFF');
+                    writeCsvRow(CSV_HEADER);
+                }
+                default -> { }
+            }
+        }
+
+        void write(SubscriptionExportDto dto) throws IOException {
+            switch (format) {
+                case JSON -> {
+                    if (count > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(objectMapper.writeValueAsString(dto));
+                }
+                case NDJSON -> {
+                    writer.write(objectMapper.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+                case CSV -> writeCsvRow(new String[] {
+                        String.valueOf(dto.getSubscriptionId()),
+                        csvText(dto.getTenantName()),
+                        csvText(dto.getPlanName()),
+                        dto.getStatus() != null ? dto.getStatus().name() : null,
+                        dto.getMonthlyFee() != null ? dto.getMonthlyFee().toPlainString() : null,
+                        dto.getCreatedAt() != null ? dto.getCreatedAt().toString() : null,
+                        dto.getApprovedAt() != null ? dto.getApprovedAt().toString() : null,
+                        dto.getLastPaymentAt() != null ? dto.getLastPaymentAt().toString() : null,
+                        csvText(dto.getApprovalReason()),
+                        csvText(dto.getAdminName()),
+                        String.valueOf(dto.isAutoApproved())
+                });
+            }
+            count++;
+        }
+
+        void end() throws IOException {
+            if (format == SubscriptionExportFormat.JSON) {
+                writer.write(']');
+            }
+            writer.flush();
+        }
+
+        private void writeCsvRow(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvCell(values[i]));
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * CSV 문자열 값 보호 (스프레드시트 수식으로 해석되는 값은 작은따옴표로 시작)
+     */
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    /**
+     * CSV 셀 변환 (RFC 4180 따옴표 처리)
+     */
+    static String csvCell(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
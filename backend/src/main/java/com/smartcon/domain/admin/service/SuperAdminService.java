@@ -3,29 +3,43 @@ package com.smartcon.domain.admin.service;
 import com.smartcon.domain.admin.dto.ApprovalStatsDto;
 import com.smartcon.domain.admin.dto.BillingStatsDto;
 import com.smartcon.domain.admin.dto.DashboardStatsDto;
+import com.smartcon.domain.admin.dto.SubscriptionCursorPageDto;
 import com.smartcon.domain.admin.dto.SubscriptionExportDto;
+import com.smartcon.domain.admin.dto.TenantSearchResultDto;
 import com.smartcon.domain.admin.dto.TenantSummaryDto;
-import com.smartcon.domain.billing.entity.BillingRecord;
-import com.smartcon.domain.billing.repository.BillingRecordRepository;
+import com.smartcon.domain.subscription.entity.SubscriptionAdminView;
 import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.SubscriptionAdminViewRepository;
 import com.smartcon.domain.subscription.repository.SubscriptionApprovalRepository;
 import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.subscription.service.SubscriptionStatusCounters;
 import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.entity.TenantSummary;
 import com.smartcon.domain.tenant.repository.TenantRepository;
-import com.smartcon.domain.user.repository.UserRepository;
+import com.smartcon.domain.tenant.service.TenantSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,72 +52,106 @@ import java.util.stream.Collectors;
 public class SuperAdminService {
 
     private final TenantRepository tenantRepository;
-    private final UserRepository userRepository;
-    private final BillingRecordRepository billingRecordRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionApprovalRepository subscriptionApprovalRepository;
+    private final SubscriptionStatusCounters subscriptionStatusCounters;
+    private final AdminDashboardAssembler dashboardAssembler;
+    private final SubscriptionAdminViewRepository subscriptionAdminViewRepository;
+    private final TenantSearchIndex tenantSearchIndex;
+
+    private static final int MAX_LIST_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    /**
+     * 검색 색인 결과를 ID 조건으로 넘길 최대 테넌트 수 (넘으면 LIKE 검색으로 대체)
+     */
+    private static final int MAX_INDEX_FILTER_IDS = 1000;
+
+    /**
+     * 구독 목록 정렬 허용 필드 (요청 필드 → 읽기 모델 필드)
+     */
+    private static final Map<String, String> LIST_SORT_PROPERTIES = Map.of(
+            "createdAt", "createdAt",
+            "subscriptionId", "subscriptionId",
+            "id", "subscriptionId",
+            "monthlyFee", "monthlyPrice",
+            "status", "status",
+            "tenantName", "tenantName");
 
     /**
      * 대시보드 통계 정보 조회
+     * 집계는 AdminDashboardAssembler가 병렬로 조립한 공유 스냅샷에서 읽습니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardStatsDto getDashboardStats() {
-        log.debug("대시보드 통계 정보 조회 시작");
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfMonth = now.with(TemporalAdjusters.firstDayOfMonth()).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfMonth = now.with(TemporalAdjusters.lastDayOfMonth()).withHour(23).withMinute(59).withSecond(59);
-        LocalDateTime startOfToday = now.withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfToday = now.withHour(23).withMinute(59).withSecond(59);
+        AdminDashboardSnapshot snapshot = dashboardAssembler.current();
 
         DashboardStatsDto stats = new DashboardStatsDto();
 
         // 테넌트 통계
-        stats.setTotalTenants(tenantRepository.count());
-        stats.setActiveTenants(tenantRepository.countByStatus(Tenant.SubscriptionStatus.ACTIVE));
-        stats.setSuspendedTenants(tenantRepository.countByStatus(Tenant.SubscriptionStatus.SUSPENDED));
-        stats.setNewTenantsThisMonth(tenantRepository.countByCreatedAtBetween(startOfMonth, endOfMonth));
+        stats.setTotalTenants(snapshot.get(DashboardMetric.TOTAL_TENANTS));
+        stats.setActiveTenants(snapshot.get(DashboardMetric.ACTIVE_TENANTS));
+        stats.setSuspendedTenants(snapshot.get(DashboardMetric.SUSPENDED_TENANTS));
+        stats.setNewTenantsThisMonth(snapshot.get(DashboardMetric.NEW_TENANTS_THIS_MONTH));
 
         // 사용자 통계
-        stats.setTotalUsers(userRepository.count());
-        stats.setNewUsersThisMonth(userRepository.countByCreatedAtBetween(startOfMonth, endOfMonth));
+        stats.setTotalUsers(snapshot.get(DashboardMetric.TOTAL_USERS));
+        stats.setNewUsersThisMonth(snapshot.get(DashboardMetric.NEW_USERS_THIS_MONTH));
 
         // 결제 통계
-        stats.setTotalRevenue(billingRecordRepository.getTotalRevenueByPeriod(LocalDateTime.of(2020, 1, 1, 0, 0), now));
-        stats.setMonthlyRevenue(billingRecordRepository.getTotalRevenueByPeriod(startOfMonth, endOfMonth));
-        stats.setCompletedPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.SUCCESS));
-        stats.setFailedPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.FAILED));
-        stats.setPendingPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.PENDING));
-
-        // 시스템 상태 (간단한 구현)
-        stats.setSystemStatus("HEALTHY");
+        stats.setTotalRevenue(snapshot.get(DashboardMetric.TOTAL_REVENUE));
+        stats.setMonthlyRevenue(snapshot.get(DashboardMetric.MONTHLY_REVENUE));
+        stats.setCompletedPayments(snapshot.get(DashboardMetric.COMPLETED_PAYMENTS));
+        stats.setFailedPayments(snapshot.get(DashboardMetric.FAILED_PAYMENTS));
+        stats.setPendingPayments(snapshot.get(DashboardMetric.PENDING_PAYMENTS));
+
+        // 시스템 상태 (지연 항목이 있으면 WARNING)
+        stats.setSystemStatus(snapshot.isPartial() ? "WARNING" : "HEALTHY");
         stats.setActiveConnections(0L); // 실제 구현 시 커넥션 풀에서 조회
 
-        log.debug("대시보드 통계 정보 조회 완료: 총 테넌트 {}, 활성 테넌트 {}", stats.getTotalTenants(), stats.getActiveTenants());
+        // 스냅샷 정보
+        stats.setSnapshotVersion(snapshot.getVersion());
+        stats.setSnapshotAt(snapshot.getAssembledAt());
+        stats.setStaleMetrics(snapshot.getStaleMetrics());
+
+        log.debug("대시보드 통계 정보 조회 완료 - 스냅샷 v{}: 총 테넌트 {}, 활성 테넌트 {}",
+                snapshot.getVersion(), stats.getTotalTenants(), stats.getActiveTenants());
         return stats;
     }
 
     /**
      * 테넌트 목록 조회 (페이징)
+     * 사용자 수 등 집계 값은 테넌트 요약 프로젝션(tenant_summaries)과 PK 조인한 한 번의 쿼리로 읽습니다.
+     * 검색어는 테넌트 검색 색인으로 회사명, 대표자명, 사업자등록번호, 이메일에서 찾습니다.
      */
     public Page<TenantSummaryDto> getTenants(String search, Tenant.SubscriptionStatus status, Pageable pageable) {
         log.debug("테넌트 목록 조회 시작 - 검색어: {}, 상태: {}, 페이지: {}", search, status, pageable.getPageNumber());
 
-        Page<Tenant> tenants;
-
-        if (search != null && !search.trim().isEmpty() && status != null) {
-            tenants = tenantRepository.findByCompanyNameContainingIgnoreCaseAndStatus(search.trim(), status, pageable);
-        } else if (search != null && !search.trim().isEmpty()) {
-            tenants = tenantRepository.findByCompanyNameContainingIgnoreCase(search.trim(), pageable);
-        } else if (status != null) {
-            tenants = tenantRepository.findByStatus(status, pageable);
-        } else {
-            tenants = tenantRepository.findAll(pageable);
+        String keyword = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        TenantFilter filter = keyword != null
+                ? TenantFilter.of(tenantSearchIndex, keyword, tenantSearchIndex::matchAny,
+                        tenantSearchIndex::search, keyword)
+                : TenantFilter.ALL;
+        if (filter.isEmpty()) {
+            return Page.empty(pageable);
         }
+        return tenantRepository.findSummaryPage(filter.pattern(), filter.allTenants(), filter.tenantIds(),
+                        status, pageable)
+                .map(row -> TenantSummaryDto.from((Tenant) row[0], (TenantSummary) row[1]));
+    }
 
-        return tenants.map(tenant -> {
-            long userCount = userRepository.countByTenantId(tenant.getId());
-            return TenantSummaryDto.from(tenant, userCount);
-        });
+    /**
+     * 테넌트 검색 (검색 색인 순위순, 자동완성용)
+     * 회사명, 대표자명, 사업자등록번호(하이픈 무시), 이메일과 회사명/대표자명 초성으로 찾습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TenantSearchResultDto> searchTenants(String query, int limit) {
+        if (!tenantSearchIndex.isReady()) {
+            throw new IllegalStateException("테넌트 검색 색인을 적재하는 중입니다");
+        }
+        return tenantSearchIndex.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT))).stream()
+                .map(TenantSearchResultDto::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -125,67 +173,37 @@ public class SuperAdminService {
 
     /**
      * 결제 통계 정보 조회
+     * 대시보드 통계와 같은 스냅샷에서 읽으므로 두 화면의 매출/결제 건수가 항상 일치합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BillingStatsDto getBillingStats() {
-        log.debug("결제 통계 정보 조회 시작");
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfMonth = now.with(TemporalAdjusters.firstDayOfMonth()).withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfMonth = now.with(TemporalAdjusters.lastDayOfMonth()).withHour(23).withMinute(59).withSecond(59);
-        LocalDateTime startOfToday = now.withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfToday = now.withHour(23).withMinute(59).withSecond(59);
-        LocalDateTime sixMonthsAgo = now.minusMonths(6);
+        AdminDashboardSnapshot snapshot = dashboardAssembler.current();
 
         BillingStatsDto stats = new BillingStatsDto();
 
         // 매출 통계
-        stats.setTotalRevenue(billingRecordRepository.getTotalRevenueByPeriod(LocalDateTime.of(2020, 1, 1, 0, 0), now));
-        stats.setMonthlyRevenue(billingRecordRepository.getTotalRevenueByPeriod(startOfMonth, endOfMonth));
-        stats.setDailyRevenue(billingRecordRepository.getTotalRevenueByPeriod(startOfToday, endOfToday));
+        stats.setTotalRevenue(snapshot.get(DashboardMetric.TOTAL_REVENUE));
+        stats.setYearToDateRevenue(snapshot.get(DashboardMetric.YEAR_TO_DATE_REVENUE));
+        stats.setMonthlyRevenue(snapshot.get(DashboardMetric.MONTHLY_REVENUE));
+        stats.setDailyRevenue(snapshot.get(DashboardMetric.DAILY_REVENUE));
 
         // 결제 건수 통계
-        stats.setTotalPayments(billingRecordRepository.count());
-        stats.setCompletedPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.SUCCESS));
-        stats.setFailedPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.FAILED));
-        stats.setPendingPayments(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.PENDING));
-
-        // 월별 매출 추이 (최근 6개월)
-        List<Object[]> monthlyData = billingRecordRepository.getMonthlyRevenueStats(sixMonthsAgo);
-        List<BillingStatsDto.MonthlyRevenueDto> monthlyTrends = monthlyData.stream()
-                .map(data -> new BillingStatsDto.MonthlyRevenueDto(
-                        (Integer) data[0], // year
-                        (Integer) data[1], // month
-                        (BigDecimal) data[2] // revenue
-                ))
-                .collect(Collectors.toList());
-        stats.setMonthlyTrends(monthlyTrends);
-
-        // 최근 실패한 결제 목록 (최근 10건)
-        List<BillingRecord> failedPayments = billingRecordRepository.findByPaymentStatusOrderByCreatedAtDesc(BillingRecord.PaymentStatus.FAILED)
-                .stream()
-                .limit(10)
-                .collect(Collectors.toList());
-
-        List<BillingStatsDto.FailedPaymentDto> recentFailedPayments = failedPayments.stream()
-                .map(payment -> {
-                    // 테넌트 정보 조회
-                    String companyName = tenantRepository.findById(payment.getTenantId())
-                            .map(Tenant::getCompanyName)
-                            .orElse("알 수 없음");
-
-                    return new BillingStatsDto.FailedPaymentDto(
-                            payment.getId(),
-                            payment.getTenantId().toString(),
-                            companyName,
-                            payment.getTotalAmount(),
-                            payment.getFailureReason(),
-                            payment.getCreatedAt().toString()
-                    );
-                })
-                .collect(Collectors.toList());
-        stats.setRecentFailedPayments(recentFailedPayments);
-
-        log.debug("결제 통계 정보 조회 완료 - 총 매출: {}, 이번 달 매출: {}", stats.getTotalRevenue(), stats.getMonthlyRevenue());
+        stats.setTotalPayments(snapshot.get(DashboardMetric.TOTAL_PAYMENTS));
+        stats.setCompletedPayments(snapshot.get(DashboardMetric.COMPLETED_PAYMENTS));
+        stats.setFailedPayments(snapshot.get(DashboardMetric.FAILED_PAYMENTS));
+        stats.setPendingPayments(snapshot.get(DashboardMetric.PENDING_PAYMENTS));
+
+        // 월별 매출 추이 (최근 6개월) 및 최근 실패한 결제 목록 (최근 10건)
+        stats.setMonthlyTrends(snapshot.get(DashboardMetric.MONTHLY_TRENDS));
+        stats.setRecentFailedPayments(snapshot.get(DashboardMetric.RECENT_FAILED_PAYMENTS));
+
+        // 스냅샷 정보
+        stats.setSnapshotVersion(snapshot.getVersion());
+        stats.setSnapshotAt(snapshot.getAssembledAt());
+        stats.setStaleMetrics(snapshot.getStaleMetrics());
+
+        log.debug("결제 통계 정보 조회 완료 - 스냅샷 v{}: 총 매출 {}, 이번 달 매출 {}",
+                snapshot.getVersion(), stats.getTotalRevenue(), stats.getMonthlyRevenue());
         return stats;
     }
 
@@ -195,13 +213,8 @@ public class SuperAdminService {
     public List<TenantSummaryDto> getRecentTenants() {
         log.debug("최근 생성된 테넌트 목록 조회 시작");
 
-        List<Tenant> recentTenants = tenantRepository.findTop10ByOrderByCreatedAtDesc();
-        
-        return recentTenants.stream()
-                .map(tenant -> {
-                    long userCount = userRepository.countByTenantId(tenant.getId());
-                    return TenantSummaryDto.from(tenant, userCount);
-                })
+        return tenantRepository.findRecentSummaries(Limit.of(10)).stream()
+                .map(row -> TenantSummaryDto.from((Tenant) row[0], (TenantSummary) row[1]))
                 .collect(Collectors.toList());
     }
 
@@ -213,17 +226,25 @@ public class SuperAdminService {
 
         ApprovalStatsDto stats = new ApprovalStatsDto();
         
-        // 구독 상태별 통계
-        stats.setTotalSubscriptions(subscriptionRepository.count());
-        stats.setPendingApprovals(subscriptionRepository.countByStatus(SubscriptionStatus.PENDING_APPROVAL));
-        stats.setApprovedSubscriptions(subscriptionRepository.countByStatus(SubscriptionStatus.ACTIVE));
-        stats.setRejectedSubscriptions(subscriptionRepository.countByStatus(SubscriptionStatus.REJECTED));
-        stats.setSuspendedSubscriptions(subscriptionRepository.countByStatus(SubscriptionStatus.SUSPENDED));
-        stats.setTerminatedSubscriptions(subscriptionRepository.countByStatus(SubscriptionStatus.TERMINATED));
+        // 구독 상태별 통계 (상태 카운터)
+        stats.setTotalSubscriptions(subscriptionStatusCounters.total());
+        stats.setPendingApprovals(subscriptionStatusCounters.count(SubscriptionStatus.PENDING_APPROVAL));
+        stats.setApprovedSubscriptions(subscriptionStatusCounters.count(SubscriptionStatus.ACTIVE));
+        stats.setRejectedSubscriptions(subscriptionStatusCounters.count(SubscriptionStatus.REJECTED));
+        stats.setSuspendedSubscriptions(subscriptionStatusCounters.count(SubscriptionStatus.SUSPENDED));
+        stats.setTerminatedSubscriptions(subscriptionStatusCounters.count(SubscriptionStatus.TERMINATED));
         
-        // 자동 승인 통계
-        long autoApprovedCount = subscriptionApprovalRepository.countByAutoApproved(true);
-        long manualApprovalCount = subscriptionApprovalRepository.countByAutoApproved(false);
+        // 자동 승인 통계 (자동/수동 건수 일괄 조회)
+        long autoApprovedCount = 0L;
+        long manualApprovalCount = 0L;
+        for (Object[] row : subscriptionApprovalRepository.countGroupByAutoApproved()) {
+            long count = ((Number) row[1]).longValue();
+            if (Boolean.TRUE.equals(row[0])) {
+                autoApprovedCount += count;
+            } else {
+                manualApprovalCount += count;
+            }
+        }
         stats.setAutoApprovedCount(autoApprovedCount);
         stats.setManualApprovalCount(manualApprovalCount);
         
@@ -257,6 +278,7 @@ public class SuperAdminService {
 
     /**
      * 구독 목록 조회 (페이징, 검색, 필터링)
+     * 검색/필터/정렬/페이지는 구독 목록 읽기 모델(subscription_admin_view)에서 조인 없이 처리합니다.
      */
     public Page<SubscriptionExportDto> getSubscriptions(
             String search, 
@@ -266,23 +288,187 @@ public class SuperAdminService {
             Pageable pageable) {
         log.debug("구독 목록 조회 시작 - 검색어: {}, 상태: {}, 기간: {} ~ {}", search, status, startDate, endDate);
 
-        // 전체 데이터 조회
-        List<SubscriptionExportDto> allData = exportSubscriptionData(status, startDate, endDate);
-        
-        // 검색어 필터링 (테넌트명 기준)
-        if (search != null && !search.trim().isEmpty()) {
-            allData = allData.stream()
-                    .filter(dto -> dto.getTenantName().toLowerCase().contains(search.toLowerCase()))
-                    .collect(Collectors.toList());
+        Pageable dbPageable = PageRequest.of(pageable.getPageNumber(),
+                Math.min(pageable.getPageSize(), MAX_LIST_PAGE_SIZE), toListSort(pageable.getSort()));
+        TenantFilter filter = tenantNameFilter(search);
+        if (filter.isEmpty()) {
+            return Page.empty(dbPageable);
+        }
+        return subscriptionAdminViewRepository.findAdminList(status, startDate, endDate,
+                        filter.pattern(), filter.allTenants(), filter.tenantIds(), dbPageable)
+                .map(SuperAdminService::toExportDto);
+    }
+
+    /**
+     * 구독 목록 커서 조회 (생성일 + ID 기준, 전체 건수 미계산)
+     * 깊은 페이지도 OFFSET 없이 인덱스 범위 조회로 처리합니다.
+     */
+    public SubscriptionCursorPageDto getSubscriptionsByCursor(
+            String search,
+            SubscriptionStatus status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            Sort.Direction direction) {
+        log.debug("구독 목록 커서 조회 시작 - 검색어: {}, 상태: {}, 커서: {}, 크기: {}", search, status, cursor, size);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        TenantFilter filter = tenantNameFilter(search);
+        Limit limit = Limit.of(pageSize + 1);
+        List<SubscriptionAdminView> rows = filter.isEmpty() ? List.of()
+                : direction == Sort.Direction.ASC
+                ? subscriptionAdminViewRepository.findAdminListAfter(status, startDate, endDate,
+                        filter.pattern(), filter.allTenants(), filter.tenantIds(), cursorCreatedAt, cursorId, limit)
+                : subscriptionAdminViewRepository.findAdminListBefore(status, startDate, endDate,
+                        filter.pattern(), filter.allTenants(), filter.tenantIds(), cursorCreatedAt, cursorId, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SubscriptionExportDto> content = (hasNext ? rows.subList(0, pageSize) : rows).stream()
+                .map(SuperAdminService::toExportDto)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            SubscriptionExportDto last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getSubscriptionId());
+        }
+
+        return SubscriptionCursorPageDto.builder()
+                .content(content)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 읽기 모델 행 → 목록/내보내기 DTO 변환
+     */
+    private static SubscriptionExportDto toExportDto(SubscriptionAdminView view) {
+        return SubscriptionExportDto.builder()
+                .subscriptionId(view.getSubscriptionId())
+                .tenantName(view.getTenantName())
+                .planName(view.getPlanName())
+                .status(view.getStatus())
+                .monthlyFee(view.getMonthlyPrice())
+                .createdAt(view.getCreatedAt())
+                .approvedAt(view.getApprovedAt())
+                .lastPaymentAt(view.getLastPaymentAt())
+                .approvalReason(view.getApprovalReason())
+                .adminName(view.getAdminName())
+                .autoApproved(view.isAutoApproved())
+                .build();
+    }
+
+    /**
+     * 목록 정렬 변환 (허용된 필드만 사용, 동일 값은 ID로 순서 고정)
+     */
+    private Sort toListSort(Sort requested) {
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : requested) {
+            String property = LIST_SORT_PROPERTIES.get(order.getProperty());
+            if (property != null) {
+                sort = sort.and(Sort.by(order.getDirection(), property));
+            }
+        }
+        if (sort.isUnsorted()) {
+            sort = Sort.by(Sort.Direction.DESC, "createdAt");
+        }
+        if (sort.getOrderFor("subscriptionId") == null) {
+            Sort.Direction tieBreak = sort.iterator().next().getDirection();
+            sort = sort.and(Sort.by(tieBreak, "subscriptionId"));
+        }
+        return sort;
+    }
+
+    /**
+     * 구독 목록의 테넌트명 검색 조건 (검색 색인의 회사명 일치 테넌트, 색인을 쓸 수 없으면 LIKE 패턴)
+     */
+    private TenantFilter tenantNameFilter(String search) {
+        if (search == null || search.trim().isEmpty()) {
+            return TenantFilter.ALL;
+        }
+        return TenantFilter.of(tenantSearchIndex, search.trim(), tenantSearchIndex::matchCompanyName,
+                tenantSearchIndex::searchCompanyName,
+                toSearchPattern(search));
+    }
+
+    /**
+     * 테넌트 검색 조건
+     * 색인이 준비되어 있으면 일치한 테넌트 ID 목록으로 거르고, 색인 적재 전이거나 일치 테넌트가 너무 많으면
+     * LIKE 패턴으로 거릅니다. 초성 검색어는 LIKE로 찾을 수 없으므로 너무 많으면 순위 상위 테넌트로 좁힙니다.
+     */
+    private record TenantFilter(String pattern, boolean allTenants, Collection<Long> tenantIds) {
+
+        // IN 조건 자리를 채우는 값 (allTenants가 true면 비교하지 않음)
+        private static final List<Long> NO_IDS = List.of(-1L);
+
+        static final TenantFilter ALL = new TenantFilter(null, true, NO_IDS);
+
+        static TenantFilter of(TenantSearchIndex index, String keyword, Function<String, Set<Long>> matcher,
+                               BiFunction<String, Integer, List<TenantSearchIndex.Hit>> ranked, String pattern) {
+            if (!index.isReady()) {
+                return new TenantFilter(pattern, true, NO_IDS);
+            }
+            Set<Long> ids = matcher.apply(keyword);
+            if (ids.size() <= MAX_INDEX_FILTER_IDS) {
+                return new TenantFilter(null, false, ids);
+            }
+            if (!TenantSearchIndex.isChoseongQuery(keyword)) {
+                return new TenantFilter(pattern, true, NO_IDS);
+            }
+            log.debug("초성 검색 일치 테넌트 {}곳 - 순위 상위 {}곳으로 제한: {}", ids.size(), MAX_INDEX_FILTER_IDS, keyword);
+            return new TenantFilter(null, false, ranked.apply(keyword, MAX_INDEX_FILTER_IDS).stream()
+                    .map(TenantSearchIndex.Hit::tenantId)
+                    .collect(Collectors.toSet()));
+        }
+
+        boolean isEmpty() {
+            return !allTenants && tenantIds.isEmpty();
+        }
+    }
+
+    /**
+     * 테넌트명 검색어를 소문자 LIKE 패턴으로 변환 (와일드카드 문자는 '!'로 이스케이프)
+     */
+    private static String toSearchPattern(String search) {
+        if (search == null || search.trim().isEmpty()) {
+            return null;
+        }
+        String escaped = search.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
         }
-        
-        // 페이지네이션 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), allData.size());
-        
-        List<SubscriptionExportDto> pageData = allData.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(pageData, pageable, allData.size());
     }
 
     /**
@@ -294,22 +480,8 @@ public class SuperAdminService {
             LocalDateTime endDate) {
         log.debug("구독 데이터 내보내기 시작 - 상태: {}, 기간: {} ~ {}", status, startDate, endDate);
 
-        List<Object[]> subscriptionData = subscriptionRepository.getSubscriptionExportData(status, startDate, endDate);
-        
-        return subscriptionData.stream()
-                .map(data -> SubscriptionExportDto.builder()
-                        .subscriptionId((Long) data[0])
-                        .tenantName((String) data[1])
-                        .planName((String) data[2])
-                        .status((SubscriptionStatus) data[3])
-                        .monthlyFee((BigDecimal) data[4])
-                        .createdAt((LocalDateTime) data[5])
-                        .approvedAt((LocalDateTime) data[6])
-                        .lastPaymentAt((LocalDateTime) data[7])
-                        .approvalReason((String) data[8])
-                        .adminName((String) data[9])
-                        .autoApproved((Boolean) data[10])
-                        .build())
+        return subscriptionAdminViewRepository.findForExport(status, startDate, endDate).stream()
+                .map(SuperAdminService::toExportDto)
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
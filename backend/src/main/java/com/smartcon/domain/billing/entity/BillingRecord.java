@@ -1,5 +1,6 @@
 package com.smartcon.domain.billing.entity;
 
+import com.smartcon.domain.tenant.service.TenantSummaryListener;
 import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "subscription_billing")
+@EntityListeners(TenantSummaryListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,79 @@
+package com.smartcon.domain.billing.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월 매출 원장 항목 엔티티 (월 × 테넌트)
+ *
+ * 월 마감 시 테넌트별 매출 스냅샷(SNAPSHOT)을 기록하고, 마감 이후 발견된 차이는
+ * 같은 월의 조정 항목(ADJUSTMENT)으로 추가합니다. 기록된 항목은 수정하거나 삭제하지 않습니다.
+ */
+@Entity
+@Immutable
+@Table(name = "revenue_ledger_entries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 귀속 월 (월 첫째 날)
+    @Column(name = "revenue_month", nullable = false)
+    private LocalDate revenueMonth;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private EntryType entryType;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "note", length = 255)
+    private String note;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 원장 항목 유형
+     */
+    public enum EntryType {
+        SNAPSHOT,   // 월 마감 스냅샷
+        ADJUSTMENT  // 마감 이후 보정
+    }
+
+    /**
+     * 마감된 월의 조정 항목 생성
+     *
+     * @param amount 원장 대비 증감 금액 (환불이면 음수)
+     * @param paymentCount 원장 대비 결제 건수 증감
+     */
+    public static RevenueLedgerEntry adjustment(LocalDate revenueMonth, Long tenantId,
+                                                BigDecimal amount, long paymentCount, String note) {
+        RevenueLedgerEntry entry = new RevenueLedgerEntry();
+        entry.revenueMonth = revenueMonth;
+        entry.tenantId = tenantId;
+        entry.entryType = EntryType.ADJUSTMENT;
+        entry.amount = amount;
+        entry.paymentCount = paymentCount;
+        entry.note = note;
+        entry.createdAt = LocalDateTime.now();
+        return entry;
+    }
+}
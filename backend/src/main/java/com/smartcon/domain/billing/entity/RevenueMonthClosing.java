@@ -0,0 +1,43 @@
+package com.smartcon.domain.billing.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 월 매출 마감 엔티티
+ *
+ * 마감 시점의 월 매출 스냅샷 합계를 보관합니다. 마감 후에는 변경하지 않으며,
+ * 늦게 반영된 환불이나 정정은 RevenueLedgerEntry 조정 항목으로 기록합니다.
+ * 마감 행은 월 마감 작업이 원장 스냅샷과 같은 트랜잭션에서 INSERT로만 생성합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "revenue_month_closings")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevenueMonthClosing {
+
+    // 마감 월 (월 첫째 날)
+    @Id
+    @Column(name = "revenue_month")
+    private LocalDate revenueMonth;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "tenant_count", nullable = false)
+    private int tenantCount;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+}
@@ -26,12 +26,41 @@ public interface BillingRecordRepository extends JpaRepository<BillingRecord, Lo
      */
     List<BillingRecord> findByPaymentStatusOrderByCreatedAtDesc(BillingRecord.PaymentStatus paymentStatus);
 
+    /**
+     * 최근 결제 건 10건 조회 (상태별)
+     */
+    List<BillingRecord> findTop10ByPaymentStatusOrderByCreatedAtDesc(BillingRecord.PaymentStatus paymentStatus);
+
     /**
      * 특정 기간 내 총 매출 조회
      */
     @Query("SELECT COALESCE(SUM(br.totalAmount), 0) FROM BillingRecord br WHERE br.paymentStatus = 'SUCCESS' AND br.paymentCompletedAt BETWEEN :startDate AND :endDate")
     BigDecimal getTotalRevenueByPeriod(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * 기간 내 테넌트별 성공 결제 합계 (구간 끝 미포함)
+     * 인덱스 활용: idx_billing_status_completed_at
+     */
+    @Query("SELECT br.tenantId, SUM(br.totalAmount), COUNT(br) FROM BillingRecord br " +
+           "WHERE br.paymentStatus = 'SUCCESS' AND br.paymentCompletedAt >= :start AND br.paymentCompletedAt < :end " +
+           "GROUP BY br.tenantId")
+    List<Object[]> sumSuccessfulByTenant(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 지정 시각 이후 변경된 결제의 결제 완료 연/월 (완료 일시 구간 끝 미포함)
+     * 인덱스 활용: idx_billing_updated_at
+     */
+    @Query("SELECT DISTINCT YEAR(br.paymentCompletedAt), MONTH(br.paymentCompletedAt) FROM BillingRecord br " +
+           "WHERE br.updatedAt >= :since AND br.paymentCompletedAt < :before")
+    List<Object[]> findCompletedMonthsChangedSince(@Param("since") LocalDateTime since,
+                                                   @Param("before") LocalDateTime before);
+
+    /**
+     * 최초 성공 결제 완료 일시
+     */
+    @Query("SELECT MIN(br.paymentCompletedAt) FROM BillingRecord br WHERE br.paymentStatus = 'SUCCESS'")
+    LocalDateTime findFirstPaymentCompletedAt();
+
     /**
      * 월별 매출 통계 조회
      */
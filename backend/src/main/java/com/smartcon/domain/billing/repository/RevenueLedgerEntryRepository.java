@@ -0,0 +1,61 @@
+package com.smartcon.domain.billing.repository;
+
+import com.smartcon.domain.billing.entity.RevenueLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 월 매출 원장 리포지토리
+ */
+@Repository
+public interface RevenueLedgerEntryRepository extends JpaRepository<RevenueLedgerEntry, Long> {
+
+    /**
+     * 월 마감 스냅샷 기록 (테넌트별 성공 결제 합계)
+     * 인덱스 활용: idx_billing_status_completed_at
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revenue_ledger_entries (revenue_month, tenant_id, entry_type, amount, payment_count, created_at) " +
+                   "SELECT :month, sb.tenant_id, 'SNAPSHOT', SUM(sb.total_amount), COUNT(*), CURRENT_TIMESTAMP " +
+                   "FROM subscription_billing sb " +
+                   "WHERE sb.payment_status = 'SUCCESS' " +
+                   "AND sb.payment_completed_at >= :start AND sb.payment_completed_at < :end " +
+                   "GROUP BY sb.tenant_id",
+           nativeQuery = true)
+    int insertSnapshot(@Param("month") LocalDate month,
+                       @Param("start") LocalDateTime start,
+                       @Param("end") LocalDateTime end);
+
+    /**
+     * 월 스냅샷 합계 (금액, 결제 건수, 테넌트 수)
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0), COALESCE(SUM(e.paymentCount), 0), COUNT(e) " +
+           "FROM RevenueLedgerEntry e " +
+           "WHERE e.revenueMonth = :month AND e.entryType = com.smartcon.domain.billing.entity.RevenueLedgerEntry.EntryType.SNAPSHOT")
+    List<Object[]> sumSnapshot(@Param("month") LocalDate month);
+
+    /**
+     * 월 원장의 테넌트별 합계 (스냅샷 + 조정)
+     */
+    @Query("SELECT e.tenantId, SUM(e.amount), SUM(e.paymentCount) " +
+           "FROM RevenueLedgerEntry e " +
+           "WHERE e.revenueMonth = :month " +
+           "GROUP BY e.tenantId")
+    List<Object[]> sumByTenant(@Param("month") LocalDate month);
+
+    /**
+     * 기간 내 조정 항목 합계 (귀속 월 기준)
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM RevenueLedgerEntry e " +
+           "WHERE e.entryType = com.smartcon.domain.billing.entity.RevenueLedgerEntry.EntryType.ADJUSTMENT " +
+           "AND e.revenueMonth BETWEEN :from AND :to")
+    BigDecimal sumAdjustments(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
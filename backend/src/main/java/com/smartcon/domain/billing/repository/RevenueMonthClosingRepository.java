@@ -0,0 +1,57 @@
+package com.smartcon.domain.billing.repository;
+
+import com.smartcon.domain.billing.entity.RevenueMonthClosing;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 월 매출 마감 리포지토리
+ */
+@Repository
+public interface RevenueMonthClosingRepository extends JpaRepository<RevenueMonthClosing, LocalDate> {
+
+    /**
+     * 가장 최근 마감 월
+     */
+    Optional<RevenueMonthClosing> findTopByOrderByRevenueMonthDesc();
+
+    /**
+     * 기간 내 마감 월 목록
+     */
+    List<RevenueMonthClosing> findByRevenueMonthGreaterThanEqualOrderByRevenueMonth(LocalDate from);
+
+    /**
+     * 마감 행 쓰기 잠금 조회 (조정 항목 기록 시 인스턴스 간 배타 처리)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RevenueMonthClosing c WHERE c.revenueMonth = :month")
+    Optional<RevenueMonthClosing> findForUpdate(@Param("month") LocalDate month);
+
+    /**
+     * 마감 행 생성 (이미 마감된 월이면 기본 키 중복으로 실패)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revenue_month_closings (revenue_month, total_amount, payment_count, tenant_count, closed_at) " +
+                   "VALUES (:month, :totalAmount, :paymentCount, :tenantCount, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertClosing(@Param("month") LocalDate month,
+                      @Param("totalAmount") BigDecimal totalAmount,
+                      @Param("paymentCount") long paymentCount,
+                      @Param("tenantCount") long tenantCount);
+
+    /**
+     * 기간 내 마감 스냅샷 합계
+     */
+    @Query("SELECT COALESCE(SUM(c.totalAmount), 0) FROM RevenueMonthClosing c WHERE c.revenueMonth BETWEEN :from AND :to")
+    BigDecimal sumTotalAmount(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
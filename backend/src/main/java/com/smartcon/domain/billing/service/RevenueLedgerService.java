@@ -0,0 +1,302 @@
+package com.smartcon.domain.billing.service;
+
+import com.smartcon.domain.billing.entity.RevenueLedgerEntry;
+import com.smartcon.domain.billing.entity.RevenueMonthClosing;
+import com.smartcon.domain.billing.repository.BillingRecordRepository;
+import com.smartcon.domain.billing.repository.RevenueLedgerEntryRepository;
+import com.smartcon.domain.billing.repository.RevenueMonthClosingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 월 매출 원장 서비스
+ *
+ * 월이 끝나면 테넌트별 성공 결제 합계를 원장 스냅샷으로 기록하고 월을 마감합니다.
+ * 누적/연간 매출은 마감 월 합계(월 수만큼의 행)와 미마감 구간의 원본 결제만 더해 계산합니다.
+ * - 마감 유예: 월이 끝난 뒤 유예 시간이 지나야 마감 (PG 정산 지연 고려)
+ * - 마감 이후 환불/정정: 마감 행과 스냅샷은 그대로 두고 같은 월의 조정 항목으로 차이를 기록
+ *   (조정 범위 이전 월도 최근 변경된 결제가 있으면 그 월만 경고와 함께 조정)
+ * - 여러 인스턴스: 마감 행 기본 키와 마감 행 쓰기 잠금으로 한 번만 반영
+ */
+@Service
+@Slf4j
+public class RevenueLedgerService {
+
+    /**
+     * 최초 마감 시작 월 (결제 이력이 없을 때 누적 매출 조회 시작점)
+     */
+    static final LocalDate INITIAL_MONTH = LocalDate.of(2000, 1, 1);
+
+    private final RevenueMonthClosingRepository closingRepository;
+    private final RevenueLedgerEntryRepository entryRepository;
+    private final BillingRecordRepository billingRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long closeGraceHours;
+    private final int adjustmentLookbackMonths;
+    private final long changeWindowHours;
+    private final Clock clock;
+
+    @Autowired
+    public RevenueLedgerService(RevenueMonthClosingRepository closingRepository,
+                                RevenueLedgerEntryRepository entryRepository,
+                                BillingRecordRepository billingRecordRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${billing.revenue-ledger.close-grace-hours:24}") long closeGraceHours,
+                                @Value("${billing.revenue-ledger.adjustment-lookback-months:12}") int adjustmentLookbackMonths,
+                                @Value("${billing.revenue-ledger.change-window-hours:48}") long changeWindowHours) {
+        this(closingRepository, entryRepository, billingRecordRepository, transactionManager,
+                closeGraceHours, adjustmentLookbackMonths, changeWindowHours, Clock.systemDefaultZone());
+    }
+
+    RevenueLedgerService(RevenueMonthClosingRepository closingRepository,
+                         RevenueLedgerEntryRepository entryRepository,
+                         BillingRecordRepository billingRecordRepository,
+                         PlatformTransactionManager transactionManager,
+                         long closeGraceHours,
+                         int adjustmentLookbackMonths,
+                         long changeWindowHours,
+                         Clock clock) {
+        this.closingRepository = closingRepository;
+        this.entryRepository = entryRepository;
+        this.billingRecordRepository = billingRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.closeGraceHours = closeGraceHours;
+        this.adjustmentLookbackMonths = adjustmentLookbackMonths;
+        this.changeWindowHours = changeWindowHours;
+        this.clock = clock;
+    }
+
+    /**
+     * 누적 매출
+     */
+    public BigDecimal totalRevenue() {
+        return revenueSince(INITIAL_MONTH);
+    }
+
+    /**
+     * 올해 누적 매출
+     */
+    public BigDecimal yearToDateRevenue() {
+        return revenueSince(LocalDate.now(clock).withDayOfYear(1));
+    }
+
+    /**
+     * 지정 월부터 현재까지의 매출
+     * 마감된 월은 마감 합계와 조정 항목으로, 마감 이후 구간은 원본 결제로 계산합니다.
+     *
+     * @param fromMonth 시작 월 (월 첫째 날)
+     */
+    public BigDecimal revenueSince(LocalDate fromMonth) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Optional<LocalDate> closedThrough = closingRepository.findTopByOrderByRevenueMonthDesc()
+                .map(RevenueMonthClosing::getRevenueMonth);
+
+        BigDecimal closed = BigDecimal.ZERO;
+        LocalDateTime openStart = fromMonth.atStartOfDay();
+        if (closedThrough.isPresent() && !closedThrough.get().isBefore(fromMonth)) {
+            LocalDate to = closedThrough.get();
+            closed = closingRepository.sumTotalAmount(fromMonth, to)
+                    .add(entryRepository.sumAdjustments(fromMonth, to));
+            openStart = to.plusMonths(1).atStartOfDay();
+        }
+
+        BigDecimal open = billingRecordRepository.getTotalRevenueByPeriod(openStart, now);
+        return closed.add(open != null ? open : BigDecimal.ZERO);
+    }
+
+    /**
+     * 주기적 월 마감 (기본 1시간)
+     */
+    @Scheduled(fixedDelayString = "${billing.revenue-ledger.close-interval-ms:3600000}",
+               initialDelayString = "${billing.revenue-ledger.initial-delay-ms:30000}")
+    public void scheduledClose() {
+        try {
+            closeMonths();
+        } catch (Exception e) {
+            log.error("월 매출 마감 실패", e);
+        }
+    }
+
+    /**
+     * 마감 가능한 월을 순서대로 모두 마감
+     * 최초 실행 시에는 첫 결제 월부터 백필합니다.
+     *
+     * @return 이번에 마감한 월 목록
+     */
+    public List<LocalDate> closeMonths() {
+        LocalDate lastClosable = LocalDateTime.now(clock).minusHours(closeGraceHours)
+                .toLocalDate().withDayOfMonth(1).minusMonths(1);
+        LocalDate next = closingRepository.findTopByOrderByRevenueMonthDesc()
+                .map(closing -> closing.getRevenueMonth().plusMonths(1))
+                .orElseGet(() -> firstMonth(lastClosable));
+
+        List<LocalDate> closed = new ArrayList<>();
+        for (LocalDate month = next; !month.isAfter(lastClosable); month = month.plusMonths(1)) {
+            try {
+                closeMonth(month);
+                closed.add(month);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("{} 매출이 다른 인스턴스에서 먼저 마감됨", month);
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 정기 조정 (기본 매일 05:00)
+     */
+    @Scheduled(cron = "${billing.revenue-ledger.reconcile-cron:0 0 5 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcileClosedMonths();
+        } catch (Exception e) {
+            log.error("월 매출 원장 조정 실패", e);
+        }
+    }
+
+    /**
+     * 최근 마감 월의 원장과 원본 결제를 비교하여 차이를 조정 항목으로 기록
+     * 조정 범위 이전 월은 변경 감지 구간 안에 바뀐 결제가 있는 월만 조정합니다.
+     *
+     * @return 기록한 조정 항목 수
+     */
+    public int reconcileClosedMonths() {
+        LocalDate from = LocalDate.now(clock).withDayOfMonth(1).minusMonths(adjustmentLookbackMonths);
+        Set<LocalDate> months = new TreeSet<>(changedMonthsBefore(from));
+        for (RevenueMonthClosing closing : closingRepository.findByRevenueMonthGreaterThanEqualOrderByRevenueMonth(from)) {
+            months.add(closing.getRevenueMonth());
+        }
+
+        int adjustments = 0;
+        for (LocalDate month : months) {
+            adjustments += reconcileMonth(month);
+        }
+        if (adjustments > 0) {
+            log.warn("월 매출 원장 조정 완료 - 조정 항목 {}건 기록", adjustments);
+        }
+        return adjustments;
+    }
+
+    /**
+     * 마감된 월 하나의 원장 조정
+     * 마감 행을 쓰기 잠금하므로 동시에 실행되어도 같은 차이가 두 번 기록되지 않습니다.
+     *
+     * @param month 마감 월 (월 첫째 날)
+     * @return 기록한 조정 항목 수
+     */
+    public int reconcileMonth(LocalDate month) {
+        Integer recorded = transactionTemplate.execute(status -> {
+            closingRepository.findForUpdate(month)
+                    .orElseThrow(() -> new IllegalArgumentException("마감되지 않은 월입니다: " + month));
+
+            Map<Long, Totals> ledger = toTotals(entryRepository.sumByTenant(month));
+            Map<Long, Totals> actual = toTotals(billingRecordRepository.sumSuccessfulByTenant(
+                    month.atStartOfDay(), month.plusMonths(1).atStartOfDay()));
+
+            Set<Long> tenantIds = new HashSet<>(ledger.keySet());
+            tenantIds.addAll(actual.keySet());
+
+            int count = 0;
+            for (Long tenantId : tenantIds) {
+                Totals booked = ledger.getOrDefault(tenantId, Totals.ZERO);
+                Totals current = actual.getOrDefault(tenantId, Totals.ZERO);
+                BigDecimal amount = current.amount().subtract(booked.amount());
+                long paymentCount = current.paymentCount() - booked.paymentCount();
+                if (amount.signum() == 0 && paymentCount == 0) {
+                    continue;
+                }
+
+                entryRepository.save(RevenueLedgerEntry.adjustment(month, tenantId, amount, paymentCount,
+                        "마감 이후 결제 변경 보정"));
+                log.info("{} 매출 조정 - 테넌트: {}, 금액: {}, 건수: {}", month, tenantId, amount, paymentCount);
+                count++;
+            }
+            return count;
+        });
+        return recorded != null ? recorded : 0;
+    }
+
+    /**
+     * 조정 범위 이전의 마감 월 중 변경 감지 구간 안에 결제가 바뀐 월
+     */
+    private List<LocalDate> changedMonthsBefore(LocalDate from) {
+        LocalDateTime since = LocalDateTime.now(clock).minusHours(changeWindowHours);
+        List<LocalDate> months = new ArrayList<>();
+        for (Object[] row : billingRecordRepository.findCompletedMonthsChangedSince(since, from.atStartOfDay())) {
+            LocalDate month = LocalDate.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(), 1);
+            if (!closingRepository.existsById(month)) {
+                continue;
+            }
+            log.warn("조정 범위({}개월) 이전 마감 월의 결제 변경 - {} 월 조정", adjustmentLookbackMonths, month);
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * 월 마감 (스냅샷 기록과 마감 행 생성을 한 트랜잭션에서 수행)
+     */
+    private void closeMonth(LocalDate month) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entryRepository.insertSnapshot(month, month.atStartOfDay(), month.plusMonths(1).atStartOfDay());
+            Object[] totals = entryRepository.sumSnapshot(month).get(0);
+            closingRepository.insertClosing(month, toBigDecimal(totals[0]),
+                    ((Number) totals[1]).longValue(), ((Number) totals[2]).longValue());
+            log.info("{} 매출 마감 - 매출: {}, 결제: {}건, 테넌트: {}개", month, totals[0], totals[1], totals[2]);
+        });
+    }
+
+    /**
+     * 최초 마감 월 (첫 성공 결제 월, 결제가 없으면 마감 가능한 마지막 월)
+     */
+    private LocalDate firstMonth(LocalDate lastClosable) {
+        LocalDateTime first = billingRecordRepository.findFirstPaymentCompletedAt();
+        if (first == null) {
+            return lastClosable;
+        }
+        LocalDate month = first.toLocalDate().withDayOfMonth(1);
+        return month.isAfter(lastClosable) ? lastClosable : month;
+    }
+
+    private static Map<Long, Totals> toTotals(List<Object[]> rows) {
+        Map<Long, Totals> totals = new HashMap<>();
+        for (Object[] row : rows) {
+            totals.put(((Number) row[0]).longValue(),
+                    new Totals(toBigDecimal(row[1]), row[2] != null ? ((Number) row[2]).longValue() : 0L));
+        }
+        return totals;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    /**
+     * 테넌트별 금액·건수 합계
+     */
+    private record Totals(BigDecimal amount, long paymentCount) {
+        static final Totals ZERO = new Totals(BigDecimal.ZERO, 0L);
+    }
+}
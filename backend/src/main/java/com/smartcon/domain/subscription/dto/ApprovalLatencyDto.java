@@ -0,0 +1,75 @@
+package com.smartcon.domain.subscription.dto;
+
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 승인 처리 시간 분포 DTO
+ * 승인 요청부터 처리까지 걸린 시간의 백분위 (분 단위, 상대 오차 약 3% 이내)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalLatencyDto {
+    
+    /**
+     * 조회 시작일
+     */
+    private LocalDate from;
+    
+    /**
+     * 조회 종료일
+     */
+    private LocalDate to;
+    
+    /**
+     * 승인 액션 (null이면 전체)
+     */
+    private ApprovalAction action;
+    
+    /**
+     * 관리자 ID (null이면 전체)
+     */
+    private Long adminId;
+    
+    /**
+     * 처리 건수
+     */
+    private long count;
+    
+    /**
+     * 평균 처리 시간 (분)
+     */
+    private double meanMinutes;
+    
+    /**
+     * 중앙값 (분)
+     */
+    private double p50Minutes;
+    
+    /**
+     * 90 백분위 (분)
+     */
+    private double p90Minutes;
+    
+    /**
+     * 95 백분위 (분)
+     */
+    private double p95Minutes;
+    
+    /**
+     * 99 백분위 (분)
+     */
+    private double p99Minutes;
+    
+    /**
+     * 최대 처리 시간 (분)
+     */
+    private double maxMinutes;
+}
@@ -45,6 +45,21 @@ public class ApprovalPerformanceDto {
      */
     private double stddevProcessingMinutes;
     
+    /**
+     * 처리 시간 중앙값 (분)
+     */
+    private double p50ProcessingMinutes;
+    
+    /**
+     * 처리 시간 95 백분위 (분)
+     */
+    private double p95ProcessingMinutes;
+    
+    /**
+     * 처리 시간 99 백분위 (분)
+     */
+    private double p99ProcessingMinutes;
+    
     /**
      * 액션 타입을 한국어로 반환
      */
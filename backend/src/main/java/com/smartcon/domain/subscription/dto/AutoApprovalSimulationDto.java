@@ -0,0 +1,81 @@
+package com.smartcon.domain.subscription.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동 승인 규칙 시뮬레이션 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoApprovalSimulationDto {
+
+    /**
+     * 재현 기간 시작 시각
+     */
+    private LocalDateTime from;
+
+    /**
+     * 재현한 규칙 수
+     */
+    private int ruleCount;
+
+    /**
+     * 재현한 구독 신청 수
+     */
+    private long totalRequests;
+
+    /**
+     * 제안 규칙으로 자동 승인되었을 건수
+     */
+    private long simulatedAutoApproved;
+
+    /**
+     * 제안 규칙 기준 자동 승인률 (%)
+     */
+    private double simulatedAutoApprovalRate;
+
+    /**
+     * 같은 기간의 실제 승인 처리 결과
+     */
+    private AutoApprovalEfficiencyDto actual;
+
+    /**
+     * 요금제별 결과
+     */
+    private List<PlanResult> plans;
+
+    /**
+     * 시뮬레이션 소요 시간 (ms)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 요금제별 시뮬레이션 결과
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlanResult {
+
+        private String planId;
+
+        private long totalRequests;
+
+        private long autoApproved;
+
+        /**
+         * 적용된 규칙 이름별 건수
+         */
+        private Map<String, Long> firedRules;
+    }
+}
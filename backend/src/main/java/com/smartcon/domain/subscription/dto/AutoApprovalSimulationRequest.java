@@ -0,0 +1,35 @@
+package com.smartcon.domain.subscription.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 자동 승인 규칙 시뮬레이션 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoApprovalSimulationRequest {
+
+    /**
+     * 제안 규칙 집합 (비어 있으면 현재 활성 규칙으로 시뮬레이션)
+     */
+    @Valid
+    private List<AutoApprovalRuleDto> rules;
+
+    /**
+     * 재현할 기간 (최근 N개월)
+     */
+    @Min(1)
+    @Max(36)
+    @Builder.Default
+    private int months = 6;
+}
@@ -0,0 +1,31 @@
+package com.smartcon.domain.subscription.dto;
+
+/**
+ * 구독 분석 집계 기준
+ */
+public enum SubscriptionAnalyticsDimension {
+    /**
+     * 요금제 ID
+     */
+    PLAN,
+
+    /**
+     * 구독 상태
+     */
+    STATUS,
+
+    /**
+     * 구독 생성 월 (yyyy-MM)
+     */
+    MONTH,
+
+    /**
+     * 결제 주기
+     */
+    BILLING_CYCLE,
+
+    /**
+     * 자동 승인 여부
+     */
+    AUTO_APPROVED
+}
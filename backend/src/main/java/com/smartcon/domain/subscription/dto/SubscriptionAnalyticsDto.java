@@ -0,0 +1,78 @@
+package com.smartcon.domain.subscription.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구독 분석 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionAnalyticsDto {
+
+    /**
+     * 집계 기준
+     */
+    private List<SubscriptionAnalyticsDimension> groupBy;
+
+    /**
+     * 집계 행 (집계 기준 값 순)
+     */
+    private List<Row> rows;
+
+    /**
+     * 조건에 맞는 구독 수
+     */
+    private long totalCount;
+
+    /**
+     * 조건에 맞는 구독의 월 요금 합계
+     */
+    private BigDecimal totalMonthlyPrice;
+
+    /**
+     * 검사한 구독 수
+     */
+    private long scannedRows;
+
+    /**
+     * 집계 소요 시간 (밀리초)
+     */
+    private double elapsedMillis;
+
+    /**
+     * 메모리 사본 적재 시각
+     */
+    private LocalDateTime loadedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        /**
+         * 집계 기준별 값
+         */
+        private Map<SubscriptionAnalyticsDimension, String> dimensions;
+
+        /**
+         * 구독 수
+         */
+        private long count;
+
+        /**
+         * 월 요금 합계
+         */
+        private BigDecimal monthlyPriceSum;
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartcon.domain.subscription.dto;
+
+import com.smartcon.domain.subscription.entity.BillingCycle;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 구독 분석 요청 DTO
+ * 필터 항목이 비어 있으면 해당 조건으로 거르지 않습니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionAnalyticsRequest {
+
+    /**
+     * 집계 기준 (비어 있으면 전체 합계 한 행)
+     */
+    private List<SubscriptionAnalyticsDimension> groupBy;
+
+    /**
+     * 요금제 ID 필터
+     */
+    private List<String> plans;
+
+    /**
+     * 구독 상태 필터
+     */
+    private List<SubscriptionStatus> statuses;
+
+    /**
+     * 결제 주기 필터
+     */
+    private List<BillingCycle> billingCycles;
+
+    /**
+     * 자동 승인 여부 필터
+     */
+    private Boolean autoApproved;
+
+    /**
+     * 생성 월 시작 (포함, yyyy-MM)
+     */
+    private YearMonth fromMonth;
+
+    /**
+     * 생성 월 종료 (포함, yyyy-MM)
+     */
+    private YearMonth toMonth;
+}
@@ -0,0 +1,71 @@
+package com.smartcon.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 승인 처리 일별 집계 엔티티 (일자 × 액션 × 관리자)
+ *
+ * 처리 시간은 구독 승인 요청 시각부터 처리 시각까지의 분 단위 차이이며,
+ * 평균과 표준편차를 다시 계산할 수 있도록 합계와 제곱합을 보관합니다.
+ */
+@Entity
+@Table(name = "approval_daily_rollups")
+@IdClass(ApprovalDailyRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApprovalDailyRollup {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private ApprovalAction action;
+
+    @Id
+    @Column(name = "admin_id")
+    private Long adminId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    // 처리 시간을 계산할 수 있는 건수 (승인 요청 시각이 있는 건)
+    @Column(name = "timed_count", nullable = false)
+    private long timedCount;
+
+    @Column(name = "processing_minutes_sum", nullable = false)
+    private long processingMinutesSum;
+
+    @Column(name = "processing_minutes_sq_sum", nullable = false)
+    private long processingMinutesSqSum;
+
+    @Column(name = "min_processing_minutes")
+    private Long minProcessingMinutes;
+
+    @Column(name = "max_processing_minutes")
+    private Long maxProcessingMinutes;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 키 (일자, 액션, 관리자)
+     */
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private ApprovalAction action;
+        private Long adminId;
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartcon.domain.subscription.entity;
+
+import com.smartcon.global.common.LatencyHistogram;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 승인 처리 시간 히스토그램 엔티티 (일자 × 액션 × 관리자)
+ *
+ * 구독 승인 요청 시각부터 처리 시각까지의 초 단위 처리 시간 분포를 직렬화하여 보관합니다.
+ * 인스턴스별로 모은 증분을 행 잠금 후 병합하므로 여러 인스턴스에서 같은 행을 갱신해도 누락되지 않습니다.
+ */
+@Entity
+@Table(name = "approval_latency_histograms")
+@IdClass(ApprovalLatencyHistogram.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApprovalLatencyHistogram {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", length = 20)
+    private ApprovalAction action;
+
+    @Id
+    @Column(name = "admin_id")
+    private Long adminId;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "encoded_histogram", nullable = false, length = 8192)
+    private byte[] encodedHistogram;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ApprovalLatencyHistogram(Key key, LatencyHistogram histogram) {
+        this.statDate = key.getStatDate();
+        this.action = key.getAction();
+        this.adminId = key.getAdminId();
+        store(histogram);
+    }
+
+    public Key getKey() {
+        return new Key(statDate, action, adminId);
+    }
+
+    /**
+     * 저장된 히스토그램 복원
+     */
+    public LatencyHistogram toHistogram() {
+        return LatencyHistogram.fromBytes(encodedHistogram);
+    }
+
+    /**
+     * 증분 병합
+     */
+    public void merge(LatencyHistogram delta) {
+        LatencyHistogram merged = toHistogram();
+        merged.merge(delta);
+        store(merged);
+    }
+
+    private void store(LatencyHistogram histogram) {
+        this.encodedHistogram = histogram.toBytes();
+        this.totalCount = histogram.getTotalCount();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 복합 키 (일자, 액션, 관리자)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        /**
+         * 행 잠금 순서 (교착 상태 방지)
+         */
+        public static final Comparator<Key> LOCK_ORDER = Comparator.comparing(Key::getStatDate)
+                .thenComparing(Key::getAction)
+                .thenComparing(Key::getAdminId);
+
+        private LocalDate statDate;
+        private ApprovalAction action;
+        private Long adminId;
+    }
+}
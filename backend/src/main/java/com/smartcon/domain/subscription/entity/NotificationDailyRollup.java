@@ -0,0 +1,59 @@
+package com.smartcon.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 일별 집계 엔티티 (발송일 × 알림 유형)
+ *
+ * 읽음 건수와 읽기까지 걸린 시간은 알림 발송일 기준으로 집계됩니다.
+ */
+@Entity
+@Table(name = "notification_daily_rollups")
+@IdClass(NotificationDailyRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationDailyRollup {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 50)
+    private NotificationType type;
+
+    @Column(name = "sent_count", nullable = false)
+    private long sentCount;
+
+    @Column(name = "read_count", nullable = false)
+    private long readCount;
+
+    @Column(name = "read_minutes_sum", nullable = false)
+    private long readMinutesSum;
+
+    // 읽은 시각이 기록된 건수 (평균 읽기 시간 계산용)
+    @Column(name = "read_timed_count", nullable = false)
+    private long readTimedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 키 (발송일, 알림 유형)
+     */
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private NotificationType type;
+    }
+}
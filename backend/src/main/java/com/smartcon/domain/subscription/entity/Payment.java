@@ -1,6 +1,8 @@
 package com.smartcon.domain.subscription.entity;
 
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewListener;
 import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.service.TenantSummaryListener;
 import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "payments")
+@EntityListeners({SubscriptionAdminViewListener.class, TenantSummaryListener.class})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends BaseEntity {
@@ -0,0 +1,50 @@
+package com.smartcon.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 집계 워터마크 엔티티
+ *
+ * 집계별로 마지막으로 반영한 원본 행 변경 시각(updated_at)을 보관합니다.
+ * 다음 집계는 이 시각 이후에 변경된 행이 속한 일자만 다시 계산합니다.
+ */
+@Entity
+@Table(name = "stats_rollup_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatsRollupWatermark {
+
+    /**
+     * 최초 집계 시작 시점 (전체 이력 백필)
+     */
+    public static final LocalDateTime INITIAL = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Id
+    @Column(name = "rollup_name", length = 50)
+    private String rollupName;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public StatsRollupWatermark(String rollupName) {
+        this.rollupName = rollupName;
+        this.watermark = INITIAL;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 워터마크 전진
+     */
+    public void advanceTo(LocalDateTime watermark) {
+        this.watermark = watermark;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,6 +1,11 @@
 package com.smartcon.domain.subscription.entity;
 
+import com.smartcon.domain.subscription.service.SubscriptionAccessStateListener;
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewListener;
+import com.smartcon.domain.subscription.service.SubscriptionFactListener;
+import com.smartcon.domain.subscription.service.SubscriptionStatusCounterListener;
 import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.service.TenantSummaryListener;
 import com.smartcon.domain.user.entity.User;
 import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -23,6 +28,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "subscriptions")
+@EntityListeners({SubscriptionAccessStateListener.class, SubscriptionStatusCounterListener.class,
+        SubscriptionFactListener.class, SubscriptionAdminViewListener.class, TenantSummaryListener.class})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PUBLIC) // 테스트를 위해 public으로 변경
@@ -98,6 +105,11 @@ public class Subscription extends BaseEntity {
     @Version
     private Long version;
     
+    // 마지막으로 DB에 반영된 상태 (상태 카운터 증감 계산용)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private SubscriptionStatus persistedStatus;
+    
     @Builder
     public Subscription(Tenant tenant, SubscriptionPlan plan, SubscriptionStatus status,
                        LocalDate startDate, LocalDate endDate, LocalDate nextBillingDate,
@@ -117,6 +129,13 @@ public class Subscription extends BaseEntity {
         this.approvalRequestedAt = LocalDateTime.now();
     }
     
+    /**
+     * 현재 상태를 DB 반영 상태로 기록
+     */
+    public void markStatusPersisted() {
+        this.persistedStatus = this.status;
+    }
+    
     /**
      * 구독 상태 변경
      */
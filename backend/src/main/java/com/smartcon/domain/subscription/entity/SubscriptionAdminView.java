@@ -0,0 +1,68 @@
+package com.smartcon.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 구독 목록 읽기 모델 엔티티
+ *
+ * 구독당 한 행으로 테넌트명, 요금제, 상태, 최근 승인 이력, 마지막 결제 시각을 비정규화해 둡니다.
+ * 행은 SubscriptionAdminViewProjector가 원본 변경과 같은 트랜잭션에서 다시 계산하며, JPA로는 읽기만 합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "subscription_admin_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SubscriptionAdminView {
+
+    @Id
+    @Column(name = "subscription_id")
+    private Long subscriptionId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "tenant_name", length = 100)
+    private String tenantName;
+
+    @Column(name = "plan_id", length = 50)
+    private String planId;
+
+    @Column(name = "plan_name", length = 100)
+    private String planName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30)
+    private SubscriptionStatus status;
+
+    @Column(name = "monthly_price", precision = 10, scale = 2)
+    private BigDecimal monthlyPrice;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @Column(name = "approval_reason", columnDefinition = "TEXT")
+    private String approvalReason;
+
+    @Column(name = "admin_name", length = 50)
+    private String adminName;
+
+    @Column(name = "auto_approved", nullable = false)
+    private boolean autoApproved;
+
+    @Column(name = "last_payment_at")
+    private LocalDateTime lastPaymentAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,8 @@
 package com.smartcon.domain.subscription.entity;
 
+import com.smartcon.domain.subscription.service.ApprovalLatencyListener;
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewListener;
+import com.smartcon.domain.subscription.service.SubscriptionFactListener;
 import com.smartcon.domain.user.entity.User;
 import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -18,6 +21,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "subscription_approvals")
+@EntityListeners({ApprovalLatencyListener.class, SubscriptionAdminViewListener.class, SubscriptionFactListener.class})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SubscriptionApproval extends BaseEntity {
@@ -48,7 +52,8 @@ public class SubscriptionApproval extends BaseEntity {
     @Column(name = "action", nullable = false)
     private ApprovalAction action;
     
-    @Column(name = "processed_at", nullable = false)
+    // 일별 집계의 기준 일자이므로 생성 후 변경하지 않음
+    @Column(name = "processed_at", nullable = false, updatable = false)
     private LocalDateTime processedAt;
     
     @Column(name = "auto_approved", nullable = false)
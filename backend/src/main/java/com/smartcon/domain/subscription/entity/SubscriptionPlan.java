@@ -1,5 +1,6 @@
 package com.smartcon.domain.subscription.entity;
 
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,6 +20,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "subscription_plans")
+@EntityListeners(SubscriptionAdminViewListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SubscriptionPlan {
@@ -0,0 +1,45 @@
+package com.smartcon.domain.subscription.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독 상태별 건수 카운터 엔티티
+ *
+ * 구독 상태 전이와 같은 트랜잭션에서 증감되며, 대시보드 건수 조회는 이 테이블(또는 메모리 사본)만 읽습니다.
+ */
+@Entity
+@Table(name = "subscription_status_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SubscriptionStatusCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30)
+    private SubscriptionStatus status;
+
+    @Column(name = "subscription_count", nullable = false)
+    private long subscriptionCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public SubscriptionStatusCounter(SubscriptionStatus status, long subscriptionCount) {
+        this.status = status;
+        this.subscriptionCount = subscriptionCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재집계 결과로 건수 교체
+     */
+    public void reset(long subscriptionCount) {
+        this.subscriptionCount = subscriptionCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
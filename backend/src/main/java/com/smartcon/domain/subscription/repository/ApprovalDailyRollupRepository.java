@@ -0,0 +1,94 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.ApprovalDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 승인 처리 일별 집계 리포지토리
+ */
+@Repository
+public interface ApprovalDailyRollupRepository extends JpaRepository<ApprovalDailyRollup, ApprovalDailyRollup.Key> {
+
+    /**
+     * 워터마크 구간에 변경된 승인 이력과, 구간에 변경된 구독(승인 요청 시각 등)의 승인 이력 처리 일자 목록
+     * 처리 시각(processed_at)은 생성 후 변경되지 않으므로 이전 일자는 따로 추적하지 않습니다.
+     * 인덱스 활용: idx_subscription_approvals_updated_at, idx_subscriptions_updated_at
+     */
+    @Query(value = "SELECT CAST(sa.processed_at AS DATE) FROM subscription_approvals sa " +
+                   "WHERE sa.updated_at > :from AND sa.updated_at <= :to " +
+                   "UNION " +
+                   "SELECT CAST(sa.processed_at AS DATE) FROM subscriptions s " +
+                   "JOIN subscription_approvals sa ON sa.subscription_id = s.id " +
+                   "WHERE s.updated_at > :from AND s.updated_at <= :to",
+           nativeQuery = true)
+    List<Object> findChangedDays(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 일자 집계 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM approval_daily_rollups WHERE stat_date = :day", nativeQuery = true)
+    int deleteByDay(@Param("day") LocalDate day);
+
+    /**
+     * 일자 집계 재계산 (원본 하루치만 조회)
+     * 인덱스 활용: idx_approvals_stats_date_action
+     */
+    @Modifying
+    @Query(value = "INSERT INTO approval_daily_rollups (stat_date, action, admin_id, processed_count, timed_count, " +
+                   "processing_minutes_sum, processing_minutes_sq_sum, min_processing_minutes, max_processing_minutes, updated_at) " +
+                   "SELECT :day, sa.action, sa.admin_id, COUNT(*), COUNT(s.approval_requested_at), " +
+                   "COALESCE(SUM(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)), 0), " +
+                   "COALESCE(SUM(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at) " +
+                   "* TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)), 0), " +
+                   "MIN(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)), " +
+                   "MAX(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)), " +
+                   "CURRENT_TIMESTAMP " +
+                   "FROM subscription_approvals sa " +
+                   "JOIN subscriptions s ON sa.subscription_id = s.id " +
+                   "WHERE sa.processed_at >= :start AND sa.processed_at < :end " +
+                   "GROUP BY sa.action, sa.admin_id",
+           nativeQuery = true)
+    int rebuildDay(@Param("day") LocalDate day,
+                   @Param("start") LocalDateTime start,
+                   @Param("end") LocalDateTime end);
+
+    /**
+     * 일자·액션별 합계 (관리자 합산)
+     */
+    @Query("SELECT r.statDate, r.action, SUM(r.processedCount), SUM(r.timedCount), SUM(r.processingMinutesSum) " +
+           "FROM ApprovalDailyRollup r " +
+           "WHERE r.statDate >= :from " +
+           "GROUP BY r.statDate, r.action " +
+           "ORDER BY r.statDate DESC, r.action")
+    List<Object[]> sumByDayAndAction(@Param("from") LocalDate from);
+
+    /**
+     * 관리자·액션별 합계
+     */
+    @Query("SELECT u.name, u.email, r.action, SUM(r.processedCount), SUM(r.timedCount), SUM(r.processingMinutesSum) " +
+           "FROM ApprovalDailyRollup r " +
+           "JOIN User u ON u.id = r.adminId " +
+           "WHERE r.statDate >= :from " +
+           "GROUP BY u.id, u.name, u.email, r.action " +
+           "ORDER BY SUM(r.processedCount) DESC")
+    List<Object[]> sumByAdminAndAction(@Param("from") LocalDate from);
+
+    /**
+     * 액션별 합계 (처리 시간 최소/최대/합계/제곱합 포함)
+     */
+    @Query("SELECT r.action, SUM(r.processedCount), SUM(r.timedCount), SUM(r.processingMinutesSum), " +
+           "SUM(r.processingMinutesSqSum), MIN(r.minProcessingMinutes), MAX(r.maxProcessingMinutes) " +
+           "FROM ApprovalDailyRollup r " +
+           "WHERE r.statDate >= :from " +
+           "GROUP BY r.action")
+    List<Object[]> sumByAction(@Param("from") LocalDate from);
+}
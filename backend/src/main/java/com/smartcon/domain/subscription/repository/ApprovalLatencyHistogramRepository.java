@@ -0,0 +1,38 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import com.smartcon.domain.subscription.entity.ApprovalLatencyHistogram;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 승인 처리 시간 히스토그램 리포지토리
+ */
+@Repository
+public interface ApprovalLatencyHistogramRepository
+        extends JpaRepository<ApprovalLatencyHistogram, ApprovalLatencyHistogram.Key> {
+
+    /**
+     * 히스토그램 행 조회 (쓰기 잠금)
+     * 여러 인스턴스의 증분 병합이 서로 덮어쓰지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM ApprovalLatencyHistogram h " +
+           "WHERE h.statDate = :statDate AND h.action = :action AND h.adminId = :adminId")
+    Optional<ApprovalLatencyHistogram> findForUpdate(@Param("statDate") LocalDate statDate,
+                                                     @Param("action") ApprovalAction action,
+                                                     @Param("adminId") Long adminId);
+
+    /**
+     * 보존 기간 히스토그램 조회
+     */
+    List<ApprovalLatencyHistogram> findByStatDateGreaterThanEqual(LocalDate from);
+}
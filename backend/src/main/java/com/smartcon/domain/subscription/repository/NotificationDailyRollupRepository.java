@@ -0,0 +1,72 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.NotificationDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 발송 일별 집계 리포지토리
+ */
+@Repository
+public interface NotificationDailyRollupRepository extends JpaRepository<NotificationDailyRollup, NotificationDailyRollup.Key> {
+
+    /**
+     * 워터마크 구간에 생성되거나 읽음 상태가 바뀐 알림의 발송 일자 목록
+     * 인덱스 활용: idx_notifications_updated_at
+     */
+    @Query(value = "SELECT DISTINCT CAST(n.created_at AS DATE) FROM notifications n " +
+                   "WHERE n.updated_at > :from AND n.updated_at <= :to",
+           nativeQuery = true)
+    List<Object> findChangedDays(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 일자 집계 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notification_daily_rollups WHERE stat_date = :day", nativeQuery = true)
+    int deleteByDay(@Param("day") LocalDate day);
+
+    /**
+     * 일자 집계 재계산 (원본 하루치만 조회)
+     * 인덱스 활용: idx_notifications_created_at
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_daily_rollups (stat_date, type, sent_count, read_count, " +
+                   "read_minutes_sum, read_timed_count, updated_at) " +
+                   "SELECT :day, n.type, COUNT(*), COUNT(CASE WHEN n.is_read = TRUE THEN 1 END), " +
+                   "COALESCE(SUM(CASE WHEN n.read_at IS NOT NULL THEN TIMESTAMPDIFF(MINUTE, n.created_at, n.read_at) END), 0), " +
+                   "COUNT(n.read_at), CURRENT_TIMESTAMP " +
+                   "FROM notifications n " +
+                   "WHERE n.created_at >= :start AND n.created_at < :end " +
+                   "GROUP BY n.type",
+           nativeQuery = true)
+    int rebuildDay(@Param("day") LocalDate day,
+                   @Param("start") LocalDateTime start,
+                   @Param("end") LocalDateTime end);
+
+    /**
+     * 일자·유형별 합계
+     */
+    @Query("SELECT r.statDate, r.type, r.sentCount, r.readCount " +
+           "FROM NotificationDailyRollup r " +
+           "WHERE r.statDate >= :from " +
+           "ORDER BY r.statDate DESC, r.type")
+    List<Object[]> findDaily(@Param("from") LocalDate from);
+
+    /**
+     * 유형별 합계
+     */
+    @Query("SELECT r.type, SUM(r.sentCount), SUM(r.readCount), SUM(r.readMinutesSum), SUM(r.readTimedCount) " +
+           "FROM NotificationDailyRollup r " +
+           "WHERE r.statDate >= :from " +
+           "GROUP BY r.type " +
+           "ORDER BY SUM(r.sentCount) DESC")
+    List<Object[]> sumByType(@Param("from") LocalDate from);
+}
@@ -134,23 +134,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
            nativeQuery = true)
     long countUnreadNotificationsOptimized(@Param("recipientId") Long recipientId);
     
-    /**
-     * 알림 발송 통계 조회 (성능 최적화)
-     * 인덱스 활용: idx_notifications_type, idx_notifications_created_at
-     */
-    @Query(value = "SELECT " +
-                   "n.type, " +
-                   "COUNT(*) as total_sent, " +
-                   "COUNT(CASE WHEN n.is_read = TRUE THEN 1 END) as total_read, " +
-                   "ROUND(COUNT(CASE WHEN n.is_read = TRUE THEN 1 END) * 100.0 / COUNT(*), 2) as read_rate, " +
-                   "AVG(CASE WHEN n.read_at IS NOT NULL THEN TIMESTAMPDIFF(MINUTE, n.created_at, n.read_at) END) as avg_read_time_minutes " +
-                   "FROM notifications n " +
-                   "WHERE n.created_at >= DATE_SUB(NOW(), INTERVAL 30 DAY) " +
-                   "GROUP BY n.type " +
-                   "ORDER BY total_sent DESC", 
-           nativeQuery = true)
-    List<Object[]> getNotificationStatsOptimized();
-    
     /**
      * 커서 기반 페이지네이션을 위한 알림 조회
      * 인덱스 활용: idx_notifications_cursor_pagination
@@ -167,21 +150,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             @Param("cursorId") Long cursorId,
             @Param("limit") int limit);
     
-    /**
-     * 일별 알림 발송 통계 조회 (성능 최적화)
-     */
-    @Query(value = "SELECT " +
-                   "DATE(n.created_at) as notification_date, " +
-                   "n.type, " +
-                   "COUNT(*) as total_sent, " +
-                   "COUNT(CASE WHEN n.is_read = TRUE THEN 1 END) as total_read " +
-                   "FROM notifications n " +
-                   "WHERE n.created_at >= DATE_SUB(NOW(), INTERVAL 30 DAY) " +
-                   "GROUP BY DATE(n.created_at), n.type " +
-                   "ORDER BY notification_date DESC, n.type", 
-           nativeQuery = true)
-    List<Object[]> getDailyNotificationStats();
-    
     /**
      * 관련 엔티티별 알림 조회 (성능 최적화)
      * 인덱스 활용: idx_notifications_entity_relation
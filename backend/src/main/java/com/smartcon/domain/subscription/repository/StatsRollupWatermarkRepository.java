@@ -0,0 +1,26 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.StatsRollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 통계 집계 워터마크 리포지토리
+ */
+@Repository
+public interface StatsRollupWatermarkRepository extends JpaRepository<StatsRollupWatermark, String> {
+
+    /**
+     * 워터마크 조회 (쓰기 잠금)
+     * 여러 인스턴스가 같은 집계를 동시에 수행하지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM StatsRollupWatermark w WHERE w.rollupName = :rollupName")
+    Optional<StatsRollupWatermark> findForUpdate(@Param("rollupName") String rollupName);
+}
@@ -0,0 +1,108 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.SubscriptionAdminView;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 관리자 구독 목록 읽기 모델 리포지토리
+ * 검색어는 소문자 LIKE 패턴(%, _, ! 를 '!'로 이스케이프)으로 전달하거나,
+ * 테넌트 검색 색인에서 찾은 테넌트 ID 목록으로 전달합니다 (allTenants가 true면 ID 조건 미적용).
+ */
+@Repository
+public interface SubscriptionAdminViewRepository extends JpaRepository<SubscriptionAdminView, Long> {
+
+    /**
+     * 관리자 구독 목록 페이지 (검색/필터/정렬/페이지를 DB에서 처리)
+     */
+    @Query(value = "SELECT v FROM SubscriptionAdminView v " +
+                   "WHERE (:status IS NULL OR v.status = :status) " +
+                   "AND (:startDate IS NULL OR v.createdAt >= :startDate) " +
+                   "AND (:endDate IS NULL OR v.createdAt <= :endDate) " +
+                   "AND (:search IS NULL OR LOWER(v.tenantName) LIKE :search ESCAPE '!') " +
+                   "AND (:allTenants = TRUE OR v.tenantId IN :tenantIds)",
+           countQuery = "SELECT COUNT(v) FROM SubscriptionAdminView v " +
+                   "WHERE (:status IS NULL OR v.status = :status) " +
+                   "AND (:startDate IS NULL OR v.createdAt >= :startDate) " +
+                   "AND (:endDate IS NULL OR v.createdAt <= :endDate) " +
+                   "AND (:search IS NULL OR LOWER(v.tenantName) LIKE :search ESCAPE '!') " +
+                   "AND (:allTenants = TRUE OR v.tenantId IN :tenantIds)")
+    Page<SubscriptionAdminView> findAdminList(
+            @Param("status") SubscriptionStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("search") String search,
+            @Param("allTenants") boolean allTenants,
+            @Param("tenantIds") Collection<Long> tenantIds,
+            Pageable pageable);
+
+    /**
+     * 관리자 구독 목록 커서 조회 - 최신순 (커서보다 오래된 구독, 커서가 없으면 첫 페이지)
+     * 인덱스 활용: idx_subscription_admin_view_created, idx_subscription_admin_view_status_created
+     */
+    @Query("SELECT v FROM SubscriptionAdminView v " +
+           "WHERE (:status IS NULL OR v.status = :status) " +
+           "AND (:startDate IS NULL OR v.createdAt >= :startDate) " +
+           "AND (:endDate IS NULL OR v.createdAt <= :endDate) " +
+           "AND (:search IS NULL OR LOWER(v.tenantName) LIKE :search ESCAPE '!') " +
+           "AND (:allTenants = TRUE OR v.tenantId IN :tenantIds) " +
+           "AND (:cursorId IS NULL OR v.createdAt < :cursorCreatedAt " +
+           "OR (v.createdAt = :cursorCreatedAt AND v.subscriptionId < :cursorId)) " +
+           "ORDER BY v.createdAt DESC, v.subscriptionId DESC")
+    List<SubscriptionAdminView> findAdminListBefore(
+            @Param("status") SubscriptionStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("search") String search,
+            @Param("allTenants") boolean allTenants,
+            @Param("tenantIds") Collection<Long> tenantIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    /**
+     * 관리자 구독 목록 커서 조회 - 오래된순 (커서보다 최근 구독)
+     */
+    @Query("SELECT v FROM SubscriptionAdminView v " +
+           "WHERE (:status IS NULL OR v.status = :status) " +
+           "AND (:startDate IS NULL OR v.createdAt >= :startDate) " +
+           "AND (:endDate IS NULL OR v.createdAt <= :endDate) " +
+           "AND (:search IS NULL OR LOWER(v.tenantName) LIKE :search ESCAPE '!') " +
+           "AND (:allTenants = TRUE OR v.tenantId IN :tenantIds) " +
+           "AND (:cursorId IS NULL OR v.createdAt > :cursorCreatedAt " +
+           "OR (v.createdAt = :cursorCreatedAt AND v.subscriptionId > :cursorId)) " +
+           "ORDER BY v.createdAt ASC, v.subscriptionId ASC")
+    List<SubscriptionAdminView> findAdminListAfter(
+            @Param("status") SubscriptionStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("search") String search,
+            @Param("allTenants") boolean allTenants,
+            @Param("tenantIds") Collection<Long> tenantIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    /**
+     * 구독 데이터 내보내기 (생성일 역순)
+     */
+    @Query("SELECT v FROM SubscriptionAdminView v " +
+           "WHERE (:status IS NULL OR v.status = :status) " +
+           "AND (:startDate IS NULL OR v.createdAt >= :startDate) " +
+           "AND (:endDate IS NULL OR v.createdAt <= :endDate) " +
+           "ORDER BY v.createdAt DESC, v.subscriptionId DESC")
+    List<SubscriptionAdminView> findForExport(
+            @Param("status") SubscriptionStatus status,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+}
@@ -1,5 +1,6 @@
 package com.smartcon.domain.subscription.repository;
 
+import com.smartcon.domain.subscription.entity.ApprovalAction;
 import com.smartcon.domain.subscription.entity.SubscriptionApproval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -45,7 +47,7 @@ public interface SubscriptionApprovalRepository extends JpaRepository<Subscripti
            "WHERE sa.action = :action " +
            "ORDER BY sa.processedAt DESC")
     Page<SubscriptionApproval> findByAction(
-            @Param("action") com.smartcon.domain.subscription.entity.ApprovalAction action,
+            @Param("action") ApprovalAction action,
             Pageable pageable);
     
     /**
@@ -84,6 +86,17 @@ public interface SubscriptionApprovalRepository extends JpaRepository<Subscripti
      */
     long countByAutoApproved(boolean autoApproved);
     
+    /**
+     * 자동 승인 여부별 승인 수 일괄 조회
+     */
+    @Query("SELECT sa.autoApproved, COUNT(sa) FROM SubscriptionApproval sa GROUP BY sa.autoApproved")
+    List<Object[]> countGroupByAutoApproved();
+    
+    /**
+     * 기간 내 처리 액션별 건수
+     */
+    long countByActionInAndProcessedAtGreaterThanEqual(Collection<ApprovalAction> actions, LocalDateTime from);
+    
     /**
      * 평균 처리 시간 조회 (시간 단위)
      */
@@ -111,51 +124,6 @@ public interface SubscriptionApprovalRepository extends JpaRepository<Subscripti
            nativeQuery = true)
     List<Object[]> findApprovalHistoryOptimized(@Param("subscriptionId") Long subscriptionId);
     
-    /**
-     * 관리자별 승인 통계 조회 (성능 최적화)
-     * 인덱스 활용: idx_subscription_approvals_admin_action_date
-     */
-    @Query(value = "SELECT u.name, u.email, sa.action, COUNT(*) as approval_count, " +
-                   "AVG(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as avg_processing_minutes " +
-                   "FROM subscription_approvals sa " +
-                   "FORCE INDEX (idx_subscription_approvals_admin_action_date) " +
-                   "JOIN users u ON sa.admin_id = u.id " +
-                   "JOIN subscriptions s ON sa.subscription_id = s.id " +
-                   "WHERE sa.processed_at >= DATE_SUB(NOW(), INTERVAL 30 DAY) " +
-                   "GROUP BY u.id, u.name, u.email, sa.action " +
-                   "ORDER BY approval_count DESC", 
-           nativeQuery = true)
-    List<Object[]> getAdminApprovalStatsOptimized();
-    
-    /**
-     * 일별 승인 통계 조회 (성능 최적화)
-     * 인덱스 활용: idx_subscription_approvals_action_date
-     */
-    @Query(value = "SELECT DATE(sa.processed_at) as approval_date, " +
-                   "sa.action, " +
-                   "COUNT(*) as total_processed, " +
-                   "AVG(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as avg_processing_minutes " +
-                   "FROM subscription_approvals sa " +
-                   "FORCE INDEX (idx_subscription_approvals_action_date) " +
-                   "JOIN subscriptions s ON sa.subscription_id = s.id " +
-                   "WHERE sa.processed_at >= DATE_SUB(NOW(), INTERVAL 30 DAY) " +
-                   "GROUP BY DATE(sa.processed_at), sa.action " +
-                   "ORDER BY approval_date DESC, sa.action", 
-           nativeQuery = true)
-    List<Object[]> getDailyApprovalStatsOptimized();
-    
-    /**
-     * 자동 승인 효율성 통계 조회 (성능 최적화)
-     */
-    @Query(value = "SELECT " +
-                   "COUNT(CASE WHEN sa.action = 'AUTO_APPROVE' THEN 1 END) as auto_approved, " +
-                   "COUNT(CASE WHEN sa.action IN ('APPROVE', 'REJECT') THEN 1 END) as manual_processed, " +
-                   "ROUND(COUNT(CASE WHEN sa.action = 'AUTO_APPROVE' THEN 1 END) * 100.0 / COUNT(*), 2) as auto_approval_rate " +
-                   "FROM subscription_approvals sa " +
-                   "WHERE sa.processed_at >= DATE_SUB(NOW(), INTERVAL 30 DAY)", 
-           nativeQuery = true)
-    Object[] getAutoApprovalEfficiencyStats();
-    
     /**
      * 커서 기반 페이지네이션을 위한 승인 이력 조회
      * 인덱스 활용: idx_approvals_cursor_pagination
@@ -172,21 +140,4 @@ public interface SubscriptionApprovalRepository extends JpaRepository<Subscripti
             @Param("cursorId") Long cursorId,
             @Param("limit") int limit);
     
-    /**
-     * 승인 처리 성능 분석 쿼리 (성능 최적화)
-     */
-    @Query(value = "SELECT " +
-                   "sa.action, " +
-                   "COUNT(*) as total_count, " +
-                   "MIN(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as min_processing_minutes, " +
-                   "MAX(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as max_processing_minutes, " +
-                   "AVG(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as avg_processing_minutes, " +
-                   "STDDEV(TIMESTAMPDIFF(MINUTE, s.approval_requested_at, sa.processed_at)) as stddev_processing_minutes " +
-                   "FROM subscription_approvals sa " +
-                   "JOIN subscriptions s ON sa.subscription_id = s.id " +
-                   "WHERE sa.processed_at >= DATE_SUB(NOW(), INTERVAL 30 DAY) " +
-                   "GROUP BY sa.action " +
-                   "ORDER BY avg_processing_minutes ASC", 
-           nativeQuery = true)
-    List<Object[]> getApprovalPerformanceAnalysis();
 }
\ No newline at end of file
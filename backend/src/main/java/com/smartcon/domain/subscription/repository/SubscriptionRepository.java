@@ -3,12 +3,15 @@ package com.smartcon.domain.subscription.repository;
 import com.smartcon.domain.subscription.entity.Subscription;
 import com.smartcon.domain.subscription.entity.SubscriptionStatus;
 import com.smartcon.domain.tenant.entity.Tenant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +33,28 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     @Query("SELECT s FROM Subscription s WHERE s.tenant = :tenant ORDER BY s.createdAt DESC")
     Optional<Subscription> findCurrentByTenant(@Param("tenant") Tenant tenant);
     
+    /**
+     * 테넌트 ID로 현재 구독 조회 (가장 최근 생성된 구독 1건)
+     */
+    Optional<Subscription> findFirstByTenant_IdOrderByIdDesc(Long tenantId);
+    
+    /**
+     * 테넌트별 현재 구독 일괄 조회 (접근 상태 테이블 워밍업용)
+     */
+    @Query("SELECT s FROM Subscription s WHERE s.id IN " +
+           "(SELECT MAX(s2.id) FROM Subscription s2 GROUP BY s2.tenant.id)")
+    List<Subscription> findLatestPerTenant();
+    
+    /**
+     * 기간 내 구독 신청의 (ID, 요금제 ID)를 ID 순으로 청크 조회 (자동 승인 시뮬레이션용)
+     * 엔티티 대신 값만 조회하여 대량 재현 시 영속성 컨텍스트가 커지지 않도록 합니다.
+     */
+    @Query("SELECT s.id, p.planId FROM Subscription s JOIN s.plan p " +
+           "WHERE s.createdAt >= :from AND s.id > :afterId ORDER BY s.id ASC")
+    List<Object[]> findPlanIdsCreatedSince(@Param("from") LocalDateTime from,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+    
     /**
      * 테넌트의 모든 구독 이력 조회 (최신순)
      */
@@ -69,13 +94,13 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      * 특정 시간 이전에 생성된 승인 대기 구독 조회
      */
     @Query("SELECT s FROM Subscription s WHERE s.status = 'PENDING_APPROVAL' AND s.approvalRequestedAt < :cutoffTime")
-    List<Subscription> findPendingSubscriptionsOlderThan(@Param("cutoffTime") java.time.LocalDateTime cutoffTime);
+    List<Subscription> findPendingSubscriptionsOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
     
     /**
      * 특정 상태의 구독 목록을 페이지네이션으로 조회 (생성일 오름차순)
      */
-    org.springframework.data.domain.Page<Subscription> findByStatusOrderByCreatedAtAsc(
-        SubscriptionStatus status, org.springframework.data.domain.Pageable pageable);
+    Page<Subscription> findByStatusOrderByCreatedAtAsc(
+        SubscriptionStatus status, Pageable pageable);
     
     /**
      * 특정 상태의 구독 수 조회
@@ -85,27 +110,7 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     /**
      * 특정 상태이면서 특정 시간 이전에 생성된 구독 수 조회
      */
-    long countByStatusAndCreatedAtBefore(SubscriptionStatus status, java.time.LocalDateTime createdAt);
-    
-    /**
-     * 구독 데이터 내보내기용 쿼리
-     */
-    @Query("SELECT s.id, t.companyName, sp.name, s.status, s.monthlyPrice, s.createdAt, " +
-           "sa.processedAt, p.createdAt, sa.reason, u.name, sa.autoApproved " +
-           "FROM Subscription s " +
-           "LEFT JOIN s.tenant t " +
-           "LEFT JOIN s.plan sp " +
-           "LEFT JOIN SubscriptionApproval sa ON sa.subscriptionId = s.id " +
-           "LEFT JOIN sa.admin u " +
-           "LEFT JOIN Payment p ON p.subscription = s " +
-           "WHERE (:status IS NULL OR s.status = :status) " +
-           "AND (:startDate IS NULL OR s.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR s.createdAt <= :endDate) " +
-           "ORDER BY s.createdAt DESC")
-    List<Object[]> getSubscriptionExportData(
-            @Param("status") SubscriptionStatus status,
-            @Param("startDate") java.time.LocalDateTime startDate,
-            @Param("endDate") java.time.LocalDateTime endDate);
+    long countByStatusAndCreatedAtBefore(SubscriptionStatus status, LocalDateTime createdAt);
     
     // =============================================================================
     // 성능 최적화된 쿼리 메서드들
@@ -137,18 +142,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     long countPendingApprovalsOptimized();
     
     /**
-     * 대시보드 통계 조회 (성능 최적화)
-     * H2 호환성을 위해 FORCE INDEX 제거
+     * 상태별 구독 수 집계 (상태 카운터 재집계용)
      */
-    @Query(value = "SELECT " +
-                   "COUNT(CASE WHEN status = 'PENDING_APPROVAL' THEN 1 END) as pending_count, " +
-                   "COUNT(CASE WHEN status = 'ACTIVE' THEN 1 END) as active_count, " +
-                   "COUNT(CASE WHEN status = 'SUSPENDED' THEN 1 END) as suspended_count, " +
-                   "COUNT(CASE WHEN status = 'TERMINATED' THEN 1 END) as terminated_count, " +
-                   "COUNT(CASE WHEN status = 'REJECTED' THEN 1 END) as rejected_count " +
-                   "FROM subscriptions", 
-           nativeQuery = true)
-    Object[] getSubscriptionStatsOptimized();
+    @Query("SELECT s.status, COUNT(s) FROM Subscription s GROUP BY s.status")
+    List<Object[]> countGroupByStatus();
     
     /**
      * 24시간 이상 대기 중인 승인 건수 조회 (성능 최적화)
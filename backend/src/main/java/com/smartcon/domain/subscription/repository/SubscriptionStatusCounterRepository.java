@@ -0,0 +1,26 @@
+package com.smartcon.domain.subscription.repository;
+
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.entity.SubscriptionStatusCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 구독 상태별 건수 카운터 리포지토리
+ */
+@Repository
+public interface SubscriptionStatusCounterRepository extends JpaRepository<SubscriptionStatusCounter, SubscriptionStatus> {
+
+    /**
+     * 재집계용 전체 카운터 조회 (쓰기 잠금)
+     * 재집계 중 상태 전이 트랜잭션은 카운터 갱신에서 대기합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SubscriptionStatusCounter c")
+    List<SubscriptionStatusCounter> findAllForUpdate();
+}
@@ -0,0 +1,313 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import com.smartcon.domain.subscription.entity.ApprovalLatencyHistogram;
+import com.smartcon.domain.subscription.entity.StatsRollupWatermark;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionApproval;
+import com.smartcon.domain.subscription.repository.ApprovalLatencyHistogramRepository;
+import com.smartcon.domain.subscription.repository.StatsRollupWatermarkRepository;
+import com.smartcon.global.common.AfterCommit;
+import com.smartcon.global.common.LatencyHistogram;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 승인 처리 시간 히스토그램 저장소
+ *
+ * 일자 × 액션 × 관리자별 처리 시간(초) 히스토그램을 메모리에 두고 백분위 조회를 메모리에서 처리합니다.
+ * - 기록: 승인 이력이 저장된 트랜잭션이 커밋된 뒤 메모리 사본과 미반영 증분에 추가
+ *   (승인 요청 시각은 같은 영속성 컨텍스트에 있는 구독에서 읽고, 없을 때만 조회)
+ * - 반영: 미반영 증분을 주기적으로 히스토그램 행에 병합 (행 쓰기 잠금, 실패 시 다음 주기에 재시도)
+ * - 재적재: 다른 인스턴스에서 반영한 분포를 주기적으로 다시 읽어 미반영 증분과 합침
+ * - 백필: 최초 기동 시 보존 기간의 승인 이력으로 한 번만 생성 (워터마크 행 잠금)
+ *
+ * 임의 기간 조회는 해당 일자들의 히스토그램을 병합하여 계산합니다.
+ */
+@Component
+@Slf4j
+public class ApprovalLatencyHistograms {
+
+    static final String BACKFILL_WATERMARK = "approval_latency";
+
+    private static final String REQUESTED_AT_SQL =
+            "SELECT approval_requested_at FROM subscriptions WHERE id = ?";
+
+    private static final String BACKFILL_SQL =
+            "SELECT sa.processed_at, sa.action, sa.admin_id, s.approval_requested_at " +
+            "FROM subscription_approvals sa " +
+            "JOIN subscriptions s ON sa.subscription_id = s.id " +
+            "WHERE sa.processed_at >= ? AND sa.processed_at < ? AND s.approval_requested_at IS NOT NULL";
+
+    private final ApprovalLatencyHistogramRepository histogramRepository;
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object maintenanceLock = new Object();
+    private volatile Map<ApprovalLatencyHistogram.Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private volatile Map<ApprovalLatencyHistogram.Key, LatencyHistogram> pending = new ConcurrentHashMap<>();
+
+    public ApprovalLatencyHistograms(ApprovalLatencyHistogramRepository histogramRepository,
+                                     StatsRollupWatermarkRepository watermarkRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     EntityManagerFactory entityManagerFactory,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${subscription.latency-histograms.retention-days:180}") int retentionDays) {
+        this.histogramRepository = histogramRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 승인 이력 저장 반영 (저장 flush 시점에 호출)
+     * 승인 요청 시각이 없는 구독은 처리 시간을 계산할 수 없으므로 제외합니다.
+     */
+    public void onApprovalRecorded(SubscriptionApproval approval) {
+        if (approval.getAdmin() == null || approval.getAction() == null || approval.getProcessedAt() == null) {
+            return;
+        }
+        LocalDateTime requestedAt = requestedAt(approval.getSubscriptionId());
+        if (requestedAt == null) {
+            return;
+        }
+
+        ApprovalLatencyHistogram.Key key = new ApprovalLatencyHistogram.Key(
+                approval.getProcessedAt().toLocalDate(), approval.getAction(), approval.getAdmin().getId());
+        long seconds = processingSeconds(requestedAt, approval.getProcessedAt());
+
+        AfterCommit.run(() -> record(key, seconds));
+    }
+
+    /**
+     * 구독의 승인 요청 시각
+     * 승인 처리 중 이미 적재된 구독이 있으면 그 값을 사용하여 추가 조회를 하지 않습니다.
+     */
+    private LocalDateTime requestedAt(Long subscriptionId) {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Subscription.class);
+            Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(subscriptionId, persister));
+            if (managed instanceof Subscription subscription) {
+                return subscription.getApprovalRequestedAt();
+            }
+        }
+
+        Timestamp requestedAt = jdbcTemplate.query(REQUESTED_AT_SQL,
+                rs -> rs.next() ? rs.getTimestamp(1) : null, subscriptionId);
+        return requestedAt != null ? requestedAt.toLocalDateTime() : null;
+    }
+
+    /**
+     * 처리 시간 기록 (메모리 사본과 미반영 증분)
+     */
+    public void record(ApprovalLatencyHistogram.Key key, long seconds) {
+        swapLock.readLock().lock();
+        try {
+            histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(seconds);
+            pending.computeIfAbsent(key, k -> new LatencyHistogram()).record(seconds);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 내 처리 시간 분포 (일별 히스토그램 병합)
+     *
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param action 액션 (null이면 전체)
+     * @param adminId 관리자 ID (null이면 전체)
+     */
+    public LatencyHistogram merged(LocalDate from, LocalDate to, ApprovalAction action, Long adminId) {
+        LatencyHistogram merged = new LatencyHistogram();
+        histograms.forEach((key, histogram) -> {
+            if (!key.getStatDate().isBefore(from) && !key.getStatDate().isAfter(to)
+                    && (action == null || key.getAction() == action)
+                    && (adminId == null || adminId.equals(key.getAdminId()))) {
+                merged.merge(histogram);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * 애플리케이션 시작 시 백필 및 메모리 사본 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            backfillIfNeeded();
+            reload();
+            log.info("승인 처리 시간 히스토그램 초기화 완료 - {}개", histograms.size());
+        } catch (Exception e) {
+            log.warn("승인 처리 시간 히스토그램 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 증분 반영 (기본 10초)
+     */
+    @Scheduled(fixedDelayString = "${subscription.latency-histograms.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("승인 처리 시간 히스토그램 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재적재 (기본 1분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.latency-histograms.refresh-interval-ms:60000}",
+               initialDelayString = "${subscription.latency-histograms.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("승인 처리 시간 히스토그램 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미반영 증분을 히스토그램 행에 병합
+     *
+     * @return 반영한 행 수
+     */
+    public int flush() {
+        synchronized (maintenanceLock) {
+            Map<ApprovalLatencyHistogram.Key, LatencyHistogram> batch;
+            swapLock.writeLock().lock();
+            try {
+                batch = pending;
+                pending = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(batch));
+            } catch (RuntimeException e) {
+                swapLock.writeLock().lock();
+                try {
+                    batch.forEach((key, delta) -> pending.computeIfAbsent(key, k -> new LatencyHistogram()).merge(delta));
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+                throw e;
+            }
+            return batch.size();
+        }
+    }
+
+    /**
+     * 히스토그램 행으로 메모리 사본 교체 (미반영 증분 포함)
+     */
+    public void reload() {
+        synchronized (maintenanceLock) {
+            Map<ApprovalLatencyHistogram.Key, LatencyHistogram> loaded = new ConcurrentHashMap<>();
+            for (ApprovalLatencyHistogram row : histogramRepository.findByStatDateGreaterThanEqual(retentionStart())) {
+                loaded.put(row.getKey(), row.toHistogram());
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                pending.forEach((key, delta) -> loaded.computeIfAbsent(key, k -> new LatencyHistogram()).merge(delta));
+                histograms = loaded;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 최초 1회 백필 (보존 기간의 승인 이력)
+     */
+    private void backfillIfNeeded() {
+        if (!watermarkRepository.existsById(BACKFILL_WATERMARK)) {
+            try {
+                watermarkRepository.saveAndFlush(new StatsRollupWatermark(BACKFILL_WATERMARK));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("승인 처리 시간 백필 워터마크가 다른 인스턴스에서 먼저 생성됨");
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            StatsRollupWatermark watermark = watermarkRepository.findForUpdate(BACKFILL_WATERMARK).orElse(null);
+            if (watermark == null || !StatsRollupWatermark.INITIAL.equals(watermark.getWatermark())) {
+                return;
+            }
+
+            LocalDateTime cutoff = LocalDateTime.now();
+            Map<ApprovalLatencyHistogram.Key, LatencyHistogram> backfill = new HashMap<>();
+            jdbcTemplate.query(BACKFILL_SQL, rs -> {
+                LocalDateTime processedAt = rs.getTimestamp(1).toLocalDateTime();
+                ApprovalLatencyHistogram.Key key = new ApprovalLatencyHistogram.Key(
+                        processedAt.toLocalDate(), ApprovalAction.valueOf(rs.getString(2)), rs.getLong(3));
+                backfill.computeIfAbsent(key, k -> new LatencyHistogram())
+                        .record(processingSeconds(rs.getTimestamp(4).toLocalDateTime(), processedAt));
+            }, Timestamp.valueOf(retentionStart().atStartOfDay()), Timestamp.valueOf(cutoff));
+
+            persist(backfill);
+            watermark.advanceTo(cutoff);
+            log.info("승인 처리 시간 히스토그램 백필 완료 - {}개", backfill.size());
+        });
+    }
+
+    /**
+     * 증분 병합 (행 잠금 순서 고정)
+     */
+    private void persist(Map<ApprovalLatencyHistogram.Key, LatencyHistogram> deltas) {
+        List<ApprovalLatencyHistogram.Key> keys = deltas.keySet().stream()
+                .sorted(ApprovalLatencyHistogram.Key.LOCK_ORDER)
+                .toList();
+        for (ApprovalLatencyHistogram.Key key : keys) {
+            LatencyHistogram delta = deltas.get(key);
+            histogramRepository.findForUpdate(key.getStatDate(), key.getAction(), key.getAdminId())
+                    .ifPresentOrElse(row -> row.merge(delta),
+                            () -> histogramRepository.save(new ApprovalLatencyHistogram(key, delta)));
+        }
+    }
+
+    private LocalDate retentionStart() {
+        return LocalDate.now().minusDays(retentionDays);
+    }
+
+    private static long processingSeconds(LocalDateTime requestedAt, LocalDateTime processedAt) {
+        return Math.max(0, Duration.between(requestedAt, processedAt).getSeconds());
+    }
+}
@@ -0,0 +1,23 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.SubscriptionApproval;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 승인 처리 시간 히스토그램 리스너
+ * 승인 이력이 저장되면 처리 시간을 히스토그램에 기록합니다 (커밋 이후 반영).
+ */
+public class ApprovalLatencyListener {
+
+    private final ObjectProvider<ApprovalLatencyHistograms> latencyHistograms;
+
+    public ApprovalLatencyListener(ObjectProvider<ApprovalLatencyHistograms> latencyHistograms) {
+        this.latencyHistograms = latencyHistograms;
+    }
+
+    @PostPersist
+    public void onApprovalRecorded(SubscriptionApproval approval) {
+        latencyHistograms.ifAvailable(histograms -> histograms.onApprovalRecorded(approval));
+    }
+}
@@ -0,0 +1,102 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.entity.AutoApprovalRule;
+import com.smartcon.domain.subscription.repository.AutoApprovalRuleRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionPlanRepository;
+import com.smartcon.global.cache.RemoteCacheInvalidatedEvent;
+import com.smartcon.global.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 자동 승인 규칙 엔진
+ *
+ * 컴파일된 규칙 집합을 volatile 참조로 게시하여 평가 시 잠금 없이 읽습니다.
+ * 규칙 집합은 다음 시점에만 다시 만들어집니다.
+ * - 규칙 생성/수정/삭제/상태 변경 트랜잭션 커밋 후
+ * - 다른 노드의 autoApprovalRules 캐시 무효화 수신 시
+ * - 주기적 재적재 (요금제 변경 등 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutoApprovalRuleEngine {
+
+    static final String RULE_CACHE_NAME = "autoApprovalRules";
+
+    private final AutoApprovalRuleRepository autoApprovalRuleRepository;
+    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile AutoApprovalRuleSet ruleSet;
+
+    /**
+     * 현재 규칙 집합 조회 (최초 호출 시 적재)
+     */
+    public AutoApprovalRuleSet current() {
+        AutoApprovalRuleSet current = ruleSet;
+        if (current == null) {
+            return reload();
+        }
+        return current;
+    }
+
+    /**
+     * 규칙 집합 재구성
+     */
+    public synchronized AutoApprovalRuleSet reload() {
+        List<AutoApprovalRule> activeRules = autoApprovalRuleRepository.findByIsActiveTrueOrderByPriorityDescIdAsc();
+        AutoApprovalRuleSet compiled = AutoApprovalRuleSet.compile(
+                activeRules, subscriptionPlanRepository.findAll(), objectMapper);
+        ruleSet = compiled;
+        log.info("자동 승인 규칙 집합 재구성 완료 - 활성 규칙: {}건", compiled.size());
+        return compiled;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 규칙 집합 재구성
+     */
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reloadSafely);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reloadSafely();
+    }
+
+    /**
+     * 다른 노드의 규칙 변경 반영
+     */
+    @EventListener
+    public void onRemoteInvalidation(RemoteCacheInvalidatedEvent event) {
+        if (RULE_CACHE_NAME.equals(event.getCacheName())) {
+            reloadSafely();
+        }
+    }
+
+    /**
+     * 주기적 재적재 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.auto-approval.refresh-interval-ms:600000}",
+               initialDelayString = "${subscription.auto-approval.refresh-interval-ms:600000}")
+    public void refresh() {
+        reloadSafely();
+    }
+
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 재구성 실패 시 이전 규칙 집합 유지
+            log.error("자동 승인 규칙 집합 재구성 실패", e);
+        }
+    }
+}
@@ -6,10 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartcon.domain.subscription.dto.AutoApprovalRuleDto;
 import com.smartcon.domain.subscription.dto.CreateSubscriptionRequest;
 import com.smartcon.domain.subscription.entity.AutoApprovalRule;
-import com.smartcon.domain.subscription.entity.SubscriptionPlan;
 import com.smartcon.domain.subscription.repository.AutoApprovalRuleRepository;
-import com.smartcon.domain.subscription.repository.SubscriptionPlanRepository;
-import com.smartcon.domain.tenant.entity.Tenant;
 import com.smartcon.domain.tenant.repository.TenantRepository;
 import com.smartcon.global.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
@@ -23,13 +20,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 자동 승인 규칙 서비스 구현체
+ * 
+ * 규칙 평가는 AutoApprovalRuleEngine의 컴파일된 규칙 집합을 사용하며,
+ * 규칙 변경 시 커밋 후 규칙 집합을 다시 만듭니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,7 +36,7 @@ import java.util.Optional;
 public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
     
     private final AutoApprovalRuleRepository autoApprovalRuleRepository;
-    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final AutoApprovalRuleEngine autoApprovalRuleEngine;
     private final TenantRepository tenantRepository;
     private final ObjectMapper objectMapper;
     
@@ -62,6 +60,7 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
                 .build();
         
         AutoApprovalRule savedRule = autoApprovalRuleRepository.save(rule);
+        autoApprovalRuleEngine.reloadAfterCommit();
         log.info("자동 승인 규칙 생성 완료: ID={}", savedRule.getId());
         
         return convertToDto(savedRule);
@@ -88,6 +87,7 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
             rule.updatePriority(ruleDto.getPriority());
         }
         
+        autoApprovalRuleEngine.reloadAfterCommit();
         log.info("자동 승인 규칙 수정 완료: ID={}", ruleId);
         return convertToDto(rule);
     }
@@ -103,6 +103,7 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
         }
         
         autoApprovalRuleRepository.deleteById(ruleId);
+        autoApprovalRuleEngine.reloadAfterCommit();
         log.info("자동 승인 규칙 삭제 완료: ID={}", ruleId);
     }
     
@@ -116,6 +117,7 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
                 .orElseThrow(() -> new IllegalArgumentException("자동 승인 규칙을 찾을 수 없습니다: " + ruleId));
         
         rule.updateActiveStatus(isActive);
+        autoApprovalRuleEngine.reloadAfterCommit();
         log.info("자동 승인 규칙 상태 변경 완료: ID={}, 활성화={}", ruleId, isActive);
         
         return convertToDto(rule);
@@ -155,40 +157,21 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
             return false;
         }
         
-        List<AutoApprovalRule> activeRules = autoApprovalRuleRepository
-                .findByIsActiveTrueOrderByPriorityDescIdAsc();
-        
-        if (activeRules.isEmpty()) {
+        AutoApprovalRuleSet ruleSet = autoApprovalRuleEngine.current();
+        if (ruleSet.isEmpty()) {
             log.info("활성화된 자동 승인 규칙이 없습니다");
             return false;
         }
         
-        // 현재 테넌트 정보 조회
-        Long currentTenantId = TenantContext.getCurrentTenantId();
-        Optional<Tenant> tenantOpt = tenantRepository.findById(currentTenantId);
-        
-        if (tenantOpt.isEmpty()) {
-            log.warn("현재 테넌트 정보를 찾을 수 없습니다: {}", currentTenantId);
-            return false;
-        }
-        
-        Tenant tenant = tenantOpt.get();
-        
-        // 요금제 정보 조회
-        Optional<SubscriptionPlan> planOpt = subscriptionPlanRepository.findById(request.getPlanId());
-        if (planOpt.isEmpty()) {
-            log.warn("요금제 정보를 찾을 수 없습니다: {}", request.getPlanId());
-            return false;
-        }
-        
-        SubscriptionPlan plan = planOpt.get();
-        
         // 우선순위 순으로 규칙 평가
-        for (AutoApprovalRule rule : activeRules) {
-            if (evaluateRule(rule, request, tenant, plan)) {
-                log.info("자동 승인 규칙 적용됨: 규칙={}, 요청={}", rule.getRuleName(), request.getPlanId());
-                return true;
+        AutoApprovalRuleSet.CompiledRule matched = ruleSet.findFirstMatch(request.getPlanId());
+        if (matched != null) {
+            if (!currentTenantExists()) {
+                return false;
             }
+
+            log.info("자동 승인 규칙 적용됨: 규칙={}, 요청={}", matched.getRuleName(), request.getPlanId());
+            return true;
         }
         
         log.info("적용 가능한 자동 승인 규칙이 없습니다: 요청={}", request.getPlanId());
@@ -201,32 +184,9 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
             return null;
         }
         
-        List<AutoApprovalRule> activeRules = autoApprovalRuleRepository
-                .findByIsActiveTrueOrderByPriorityDescIdAsc();
-        
-        Long currentTenantId = TenantContext.getCurrentTenantId();
-        Optional<Tenant> tenantOpt = tenantRepository.findById(currentTenantId);
-        
-        if (tenantOpt.isEmpty()) {
-            return null;
-        }
-        
-        Tenant tenant = tenantOpt.get();
-        
-        Optional<SubscriptionPlan> planOpt = subscriptionPlanRepository.findById(request.getPlanId());
-        if (planOpt.isEmpty()) {
-            return null;
-        }
-        
-        SubscriptionPlan plan = planOpt.get();
-        
-        for (AutoApprovalRule rule : activeRules) {
-            if (evaluateRule(rule, request, tenant, plan)) {
-                return convertToDto(rule);
-            }
-        }
-        
-        return null;
+        AutoApprovalRuleSet.CompiledRule matched = autoApprovalRuleEngine.current()
+                .findFirstMatch(request.getPlanId());
+        return matched != null && currentTenantExists() ? matched.toDto() : null;
     }
     
     @Override
@@ -243,40 +203,14 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
     }
     
     /**
-     * 개별 규칙 평가
+     * 현재 테넌트가 존재하는지 확인 (규칙이 일치한 경우에만 조회)
      */
-    private boolean evaluateRule(AutoApprovalRule rule, CreateSubscriptionRequest request, 
-                                Tenant tenant, SubscriptionPlan plan) {
-        
-        // 요금제 조건 확인
-        if (rule.getPlanIds() != null && !rule.getPlanIds().isEmpty()) {
-            List<String> allowedPlanIds = convertJsonToStringList(rule.getPlanIds());
-            if (!allowedPlanIds.contains(plan.getPlanId())) {
-                return false;
-            }
-        }
-        
-        // 검증된 테넌트만 허용 조건 확인
-        if (rule.getVerifiedTenantsOnly() != null && rule.getVerifiedTenantsOnly()) {
-            // 테넌트 검증 상태 확인 (현재는 모든 테넌트를 검증된 것으로 간주)
-            // 실제 구현에서는 tenant.isVerified() 같은 필드를 확인해야 함
-        }
-        
-        // 결제 방법 조건 확인
-        if (rule.getPaymentMethods() != null && !rule.getPaymentMethods().isEmpty()) {
-            List<String> allowedPaymentMethods = convertJsonToStringList(rule.getPaymentMethods());
-            // 현재 요청에서 결제 방법 정보가 없으므로 일단 통과
-            // 실제 구현에서는 request.getPaymentMethod() 같은 필드를 확인해야 함
-        }
-        
-        // 최대 금액 조건 확인
-        if (rule.getMaxAmount() != null) {
-            BigDecimal planAmount = plan.getMonthlyPrice();
-            if (planAmount.compareTo(rule.getMaxAmount()) > 0) {
-                return false;
-            }
+    private boolean currentTenantExists() {
+        Long currentTenantId = TenantContext.getCurrentTenantId();
+        if (currentTenantId == null || !tenantRepository.existsById(currentTenantId)) {
+            log.warn("현재 테넌트 정보를 찾을 수 없습니다: {}", currentTenantId);
+            return false;
         }
-        
         return true;
     }
     
@@ -314,22 +248,6 @@ public class AutoApprovalRuleServiceImpl implements AutoApprovalRuleService {
         }
     }
     
-    /**
-     * JSON 문자열을 Long List로 변환
-     */
-    private List<Long> convertJsonToLongList(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<Long>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("JSON을 Long List로 변환 실패: {}", json, e);
-            return new ArrayList<>();
-        }
-    }
-    
     /**
      * JSON 문자열을 String List로 변환
      */
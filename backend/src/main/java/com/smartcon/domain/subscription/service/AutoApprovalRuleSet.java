@@ -0,0 +1,229 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.dto.AutoApprovalRuleDto;
+import com.smartcon.domain.subscription.entity.AutoApprovalRule;
+import com.smartcon.domain.subscription.entity.SubscriptionPlan;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 자동 승인 규칙 집합 (불변)
+ *
+ * 활성 규칙을 우선순위 순 배열로 보관하며, JSON 조건은 컴파일 시 Set으로 미리 파싱합니다.
+ * 요금제 금액도 함께 스냅샷하므로 평가 시 DB 조회와 JSON 파싱이 없습니다.
+ */
+@Slf4j
+public final class AutoApprovalRuleSet {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    public static final AutoApprovalRuleSet EMPTY = new AutoApprovalRuleSet(new CompiledRule[0], Map.of());
+
+    private final CompiledRule[] rules;
+    private final Map<String, BigDecimal> planPrices;
+
+    private AutoApprovalRuleSet(CompiledRule[] rules, Map<String, BigDecimal> planPrices) {
+        this.rules = rules;
+        this.planPrices = planPrices;
+    }
+
+    /**
+     * 활성 규칙(우선순위 내림차순, ID 오름차순)과 요금제 목록으로 규칙 집합 생성
+     */
+    public static AutoApprovalRuleSet compile(List<AutoApprovalRule> activeRules,
+                                              Collection<SubscriptionPlan> plans,
+                                              ObjectMapper objectMapper) {
+        CompiledRule[] compiled = new CompiledRule[activeRules.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new CompiledRule(activeRules.get(i), objectMapper);
+        }
+
+        return new AutoApprovalRuleSet(compiled, planPrices(plans));
+    }
+
+    private static Map<String, BigDecimal> planPrices(Collection<SubscriptionPlan> plans) {
+        Map<String, BigDecimal> planPrices = new HashMap<>();
+        for (SubscriptionPlan plan : plans) {
+            if (plan.getMonthlyPrice() != null) {
+                planPrices.put(plan.getPlanId(), plan.getMonthlyPrice());
+            }
+        }
+        return Map.copyOf(planPrices);
+    }
+
+    /**
+     * 제안 규칙(DTO)으로 규칙 집합 생성 (시뮬레이션용)
+     * 활성 규칙만 우선순위 내림차순, 입력 순서대로 정렬합니다.
+     */
+    public static AutoApprovalRuleSet compileProposed(List<AutoApprovalRuleDto> proposedRules,
+                                                      Collection<SubscriptionPlan> plans) {
+        List<AutoApprovalRuleDto> ordered = proposedRules.stream()
+                .filter(rule -> !Boolean.FALSE.equals(rule.getIsActive()))
+                .sorted(Comparator.comparingInt((AutoApprovalRuleDto rule) ->
+                        rule.getPriority() != null ? rule.getPriority() : 0).reversed())
+                .toList();
+
+        CompiledRule[] compiled = new CompiledRule[ordered.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new CompiledRule(ordered.get(i));
+        }
+        return new AutoApprovalRuleSet(compiled, planPrices(plans));
+    }
+
+    /**
+     * 요금제에 처음으로 일치하는 규칙 조회 (우선순위 순)
+     *
+     * @return 일치하는 규칙, 없거나 요금제를 알 수 없으면 null
+     */
+    public CompiledRule findFirstMatch(String planId) {
+        if (planId == null) {
+            return null;
+        }
+        BigDecimal planAmount = planPrices.get(planId);
+        if (planAmount == null) {
+            return null;
+        }
+
+        for (CompiledRule rule : rules) {
+            if (rule.matches(planId, planAmount)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return rules.length == 0;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * 컴파일된 단일 규칙
+     */
+    @Getter
+    public static final class CompiledRule {
+
+        private final Long id;
+        private final String ruleName;
+        private final int priority;
+
+        /**
+         * 허용 요금제 (null이면 모든 요금제)
+         */
+        private final Set<String> planIds;
+
+        private final boolean verifiedTenantsOnly;
+
+        /**
+         * 허용 결제 방법 (null이면 모든 결제 방법)
+         */
+        private final Set<String> paymentMethods;
+
+        /**
+         * 최대 금액 (null이면 제한 없음)
+         */
+        private final BigDecimal maxAmount;
+
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        private CompiledRule(AutoApprovalRule rule, ObjectMapper objectMapper) {
+            this.id = rule.getId();
+            this.ruleName = rule.getRuleName();
+            this.priority = rule.getPriority() != null ? rule.getPriority() : 0;
+            this.planIds = parseSet(rule.getPlanIds(), objectMapper);
+            this.verifiedTenantsOnly = Boolean.TRUE.equals(rule.getVerifiedTenantsOnly());
+            this.paymentMethods = parseSet(rule.getPaymentMethods(), objectMapper);
+            this.maxAmount = rule.getMaxAmount();
+            this.createdAt = rule.getCreatedAt();
+            this.updatedAt = rule.getUpdatedAt();
+        }
+
+        private CompiledRule(AutoApprovalRuleDto rule) {
+            this.id = rule.getId();
+            this.ruleName = rule.getRuleName();
+            this.priority = rule.getPriority() != null ? rule.getPriority() : 0;
+            this.planIds = toSet(rule.getPlanIds());
+            this.verifiedTenantsOnly = Boolean.TRUE.equals(rule.getVerifiedTenantsOnly());
+            this.paymentMethods = toSet(rule.getPaymentMethods());
+            this.maxAmount = rule.getMaxAmount();
+            this.createdAt = rule.getCreatedAt();
+            this.updatedAt = rule.getUpdatedAt();
+        }
+
+        /**
+         * 규칙 조건 평가
+         */
+        boolean matches(String planId, BigDecimal planAmount) {
+            // 요금제 조건 확인
+            if (planIds != null && !planIds.contains(planId)) {
+                return false;
+            }
+
+            // 검증된 테넌트만 허용 조건, 결제 방법 조건은
+            // 테넌트 검증 상태와 요청 결제 방법 정보가 없어 현재는 통과
+
+            // 최대 금액 조건 확인
+            return maxAmount == null || planAmount.compareTo(maxAmount) <= 0;
+        }
+
+        /**
+         * DTO 변환 (JSON 파싱 없이 미리 파싱된 값 사용)
+         */
+        public AutoApprovalRuleDto toDto() {
+            return AutoApprovalRuleDto.builder()
+                    .id(id)
+                    .ruleName(ruleName)
+                    .isActive(true)
+                    .planIds(planIds != null ? List.copyOf(planIds) : List.of())
+                    .verifiedTenantsOnly(verifiedTenantsOnly)
+                    .paymentMethods(paymentMethods != null ? List.copyOf(paymentMethods) : List.of())
+                    .maxAmount(maxAmount)
+                    .priority(priority)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        /**
+         * 목록을 Set으로 변환 (비어 있으면 null, 저장 시 빈 목록은 조건 없음으로 저장됨)
+         */
+        private static Set<String> toSet(List<String> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            return Set.copyOf(values.stream().filter(value -> value != null).toList());
+        }
+
+        /**
+         * JSON 배열 문자열을 Set으로 파싱 (비어 있으면 null, 파싱 실패 시 빈 Set으로 어떤 값도 허용하지 않음)
+         */
+        private static Set<String> parseSet(String json, ObjectMapper objectMapper) {
+            if (json == null || json.isEmpty()) {
+                return null;
+            }
+            try {
+                List<String> values = objectMapper.readValue(json, STRING_LIST);
+                return Set.copyOf(values.stream().filter(value -> value != null).toList());
+            } catch (JsonProcessingException e) {
+                log.error("자동 승인 규칙 조건 JSON 파싱 실패: {}", json, e);
+                return Set.of();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationRequest;
+
+/**
+ * 자동 승인 규칙 시뮬레이션 서비스 인터페이스
+ */
+public interface AutoApprovalSimulationService {
+
+    /**
+     * 제안 규칙 집합을 최근 N개월 구독 신청에 재현
+     *
+     * @param request 제안 규칙과 재현 기간
+     * @return 자동 승인 예상 건수와 요금제별 적용 규칙
+     */
+    AutoApprovalSimulationDto simulate(AutoApprovalSimulationRequest request);
+}
@@ -0,0 +1,247 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.dto.AutoApprovalEfficiencyDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationRequest;
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import com.smartcon.domain.subscription.repository.SubscriptionApprovalRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionPlanRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 자동 승인 규칙 시뮬레이션 서비스 구현체
+ *
+ * 구독 신청 이력을 ID 순 청크로 스트리밍하며, 각 청크는 전용 Fork-Join 풀에서
+ * 분할 평가한 뒤 요금제별 집계를 병합합니다.
+ * 현재 청크를 평가하는 동안 다음 청크를 조회하므로 메모리에는 최대 두 청크만 유지됩니다.
+ */
+@Service
+@Slf4j
+public class AutoApprovalSimulationServiceImpl implements AutoApprovalSimulationService {
+
+    /**
+     * Fork-Join 작업 분할 기준 (이 크기 이하면 직접 평가)
+     */
+    private static final int SPLIT_THRESHOLD = 1_024;
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionApprovalRepository subscriptionApprovalRepository;
+    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final AutoApprovalRuleEngine autoApprovalRuleEngine;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    public AutoApprovalSimulationServiceImpl(
+            SubscriptionRepository subscriptionRepository,
+            SubscriptionApprovalRepository subscriptionApprovalRepository,
+            SubscriptionPlanRepository subscriptionPlanRepository,
+            AutoApprovalRuleEngine autoApprovalRuleEngine,
+            @Value("${subscription.auto-approval.simulation.chunk-size:5000}") int chunkSize,
+            @Value("${subscription.auto-approval.simulation.parallelism:0}") int parallelism) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.subscriptionApprovalRepository = subscriptionApprovalRepository;
+        this.subscriptionPlanRepository = subscriptionPlanRepository;
+        this.autoApprovalRuleEngine = autoApprovalRuleEngine;
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Override
+    public AutoApprovalSimulationDto simulate(AutoApprovalSimulationRequest request) {
+        long startNanos = System.nanoTime();
+        LocalDateTime from = LocalDateTime.now().minusMonths(request.getMonths());
+
+        AutoApprovalRuleSet ruleSet = request.getRules() == null || request.getRules().isEmpty()
+                ? autoApprovalRuleEngine.current()
+                : AutoApprovalRuleSet.compileProposed(request.getRules(), subscriptionPlanRepository.findAll());
+
+        log.info("자동 승인 시뮬레이션 시작 - 규칙: {}건, 기간: 최근 {}개월", ruleSet.size(), request.getMonths());
+
+        SimulationTally total = new SimulationTally();
+        ForkJoinTask<SimulationTally> pending = null;
+        long afterId = 0L;
+        int chunks = 0;
+
+        while (true) {
+            List<Object[]> rows = subscriptionRepository.findPlanIdsCreatedSince(
+                    from, afterId, PageRequest.of(0, chunkSize));
+            if (pending != null) {
+                total.merge(pending.join());
+            }
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            String[] planIds = new String[rows.size()];
+            for (int i = 0; i < planIds.length; i++) {
+                planIds[i] = (String) rows.get(i)[1];
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            chunks++;
+
+            pending = pool.submit(new EvaluateTask(ruleSet, planIds, 0, planIds.length));
+            if (rows.size() < chunkSize) {
+                total.merge(pending.join());
+                break;
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("자동 승인 시뮬레이션 완료 - 신청: {}건, 자동 승인 예상: {}건, 청크: {}개, 소요: {}ms",
+                total.requests, total.approved, chunks, elapsedMillis);
+
+        return AutoApprovalSimulationDto.builder()
+                .from(from)
+                .ruleCount(ruleSet.size())
+                .totalRequests(total.requests)
+                .simulatedAutoApproved(total.approved)
+                .simulatedAutoApprovalRate(rate(total.approved, total.requests))
+                .actual(actualEfficiency(from))
+                .plans(total.toPlanResults())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 같은 기간의 실제 승인 처리 결과
+     */
+    private AutoApprovalEfficiencyDto actualEfficiency(LocalDateTime from) {
+        long autoApproved = subscriptionApprovalRepository.countByActionInAndProcessedAtGreaterThanEqual(
+                List.of(ApprovalAction.AUTO_APPROVE), from);
+        long manualProcessed = subscriptionApprovalRepository.countByActionInAndProcessedAtGreaterThanEqual(
+                List.of(ApprovalAction.APPROVE, ApprovalAction.REJECT), from);
+        return AutoApprovalEfficiencyDto.builder()
+                .autoApproved(autoApproved)
+                .manualProcessed(manualProcessed)
+                .autoApprovalRate(rate(autoApproved, autoApproved + manualProcessed))
+                .build();
+    }
+
+    private static double rate(long part, long total) {
+        return total == 0 ? 0.0 : Math.round(part * 10_000.0 / total) / 100.0;
+    }
+
+    /**
+     * 청크 분할 평가 작업
+     */
+    private static final class EvaluateTask extends RecursiveTask<SimulationTally> {
+
+        private final AutoApprovalRuleSet ruleSet;
+        private final String[] planIds;
+        private final int start;
+        private final int end;
+
+        private EvaluateTask(AutoApprovalRuleSet ruleSet, String[] planIds, int start, int end) {
+            this.ruleSet = ruleSet;
+            this.planIds = planIds;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (end - start <= SPLIT_THRESHOLD) {
+                SimulationTally tally = new SimulationTally();
+                for (int i = start; i < end; i++) {
+                    String planId = planIds[i];
+                    tally.record(planId, ruleSet.findFirstMatch(planId));
+                }
+                return tally;
+            }
+
+            int middle = (start + end) >>> 1;
+            EvaluateTask left = new EvaluateTask(ruleSet, planIds, start, middle);
+            left.fork();
+            SimulationTally right = new EvaluateTask(ruleSet, planIds, middle, end).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * 요금제별 집계 (작업마다 독립 인스턴스를 사용하고 병합)
+     */
+    private static final class SimulationTally {
+
+        private long requests;
+        private long approved;
+        private final Map<String, PlanTally> plans = new HashMap<>();
+
+        void record(String planId, AutoApprovalRuleSet.CompiledRule firedRule) {
+            requests++;
+            PlanTally plan = plans.computeIfAbsent(planId, key -> new PlanTally());
+            plan.requests++;
+            if (firedRule != null) {
+                approved++;
+                plan.approved++;
+                plan.firedRules.merge(label(firedRule), 1L, Long::sum);
+            }
+        }
+
+        /**
+         * 적용 규칙 표시 이름 (이름이 없으면 ID, 제안 규칙은 우선순위로 표시)
+         */
+        private static String label(AutoApprovalRuleSet.CompiledRule rule) {
+            if (rule.getRuleName() != null && !rule.getRuleName().isBlank()) {
+                return rule.getRuleName();
+            }
+            return rule.getId() != null ? "rule#" + rule.getId() : "rule#" + rule.getPriority();
+        }
+
+        SimulationTally merge(SimulationTally other) {
+            requests += other.requests;
+            approved += other.approved;
+            other.plans.forEach((planId, otherPlan) -> {
+                PlanTally plan = plans.computeIfAbsent(planId, key -> new PlanTally());
+                plan.requests += otherPlan.requests;
+                plan.approved += otherPlan.approved;
+                otherPlan.firedRules.forEach((rule, count) -> plan.firedRules.merge(rule, count, Long::sum));
+            });
+            return this;
+        }
+
+        List<AutoApprovalSimulationDto.PlanResult> toPlanResults() {
+            List<AutoApprovalSimulationDto.PlanResult> results = new ArrayList<>();
+            plans.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        Map<String, Long> firedRules = new LinkedHashMap<>();
+                        entry.getValue().firedRules.entrySet().stream()
+                                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                                .forEach(rule -> firedRules.put(rule.getKey(), rule.getValue()));
+                        results.add(AutoApprovalSimulationDto.PlanResult.builder()
+                                .planId(entry.getKey())
+                                .totalRequests(entry.getValue().requests)
+                                .autoApproved(entry.getValue().approved)
+                                .firedRules(firedRules)
+                                .build());
+                    });
+            return results;
+        }
+    }
+
+    private static final class PlanTally {
+        private long requests;
+        private long approved;
+        private final Map<String, Long> firedRules = new HashMap<>();
+    }
+}
@@ -0,0 +1,184 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.StatsRollupWatermark;
+import com.smartcon.domain.subscription.repository.ApprovalDailyRollupRepository;
+import com.smartcon.domain.subscription.repository.NotificationDailyRollupRepository;
+import com.smartcon.domain.subscription.repository.StatsRollupWatermarkRepository;
+import com.smartcon.global.cache.RefreshAheadRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 승인/알림 일별 집계 작업
+ *
+ * 집계별 워터마크(원본 행 updated_at) 이후에 생성되거나 변경된 행만 조회하여, 그 행이 속한 일자의 집계만 다시 계산합니다.
+ * - 변경 구간 상한은 현재 시각 - 유예 시간이며, 커밋이 늦은 트랜잭션의 변경이 누락되지 않도록 합니다.
+ * - 일자 단위로 다시 계산하므로 알림 읽음/읽지 않음 전환처럼 원본 행이 바뀌어도 집계가 정확합니다.
+ * - 승인 집계는 처리 시간 계산에 쓰는 구독의 승인 요청 시각이 바뀐 경우에도 그 구독의 처리 일자를 다시 계산합니다.
+ * - 워터마크 행을 쓰기 잠금하므로 여러 인스턴스에서 실행되어도 한 번만 반영됩니다.
+ *
+ * 최초 실행 시에는 전체 이력을 일자별로 백필합니다.
+ * 집계가 바뀌면 통계 캐시는 비우지 않고 백그라운드에서 다시 계산합니다 (계산 중에는 이전 값 반환).
+ */
+@Component
+@Slf4j
+public class DailyStatsRollupJob {
+
+    static final String APPROVAL_ROLLUP = "approval";
+    static final String NOTIFICATION_ROLLUP = "notification";
+
+    private final ApprovalDailyRollupRepository approvalRollupRepository;
+    private final NotificationDailyRollupRepository notificationRollupRepository;
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshAheadRegistry refreshAheadRegistry;
+    private final long graceSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public DailyStatsRollupJob(ApprovalDailyRollupRepository approvalRollupRepository,
+                               NotificationDailyRollupRepository notificationRollupRepository,
+                               StatsRollupWatermarkRepository watermarkRepository,
+                               PlatformTransactionManager transactionManager,
+                               RefreshAheadRegistry refreshAheadRegistry,
+                               @Value("${subscription.stats-rollup.grace-seconds:120}") long graceSeconds) {
+        this(approvalRollupRepository, notificationRollupRepository, watermarkRepository,
+                transactionManager, refreshAheadRegistry, graceSeconds, Clock.systemDefaultZone());
+    }
+
+    DailyStatsRollupJob(ApprovalDailyRollupRepository approvalRollupRepository,
+                        NotificationDailyRollupRepository notificationRollupRepository,
+                        StatsRollupWatermarkRepository watermarkRepository,
+                        PlatformTransactionManager transactionManager,
+                        RefreshAheadRegistry refreshAheadRegistry,
+                        long graceSeconds,
+                        Clock clock) {
+        this.approvalRollupRepository = approvalRollupRepository;
+        this.notificationRollupRepository = notificationRollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshAheadRegistry = refreshAheadRegistry;
+        this.graceSeconds = graceSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * 주기적 증분 집계 (기본 5분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.stats-rollup.interval-ms:300000}",
+               initialDelayString = "${subscription.stats-rollup.initial-delay-ms:10000}")
+    public void scheduledRollUp() {
+        try {
+            rollUp();
+        } catch (Exception e) {
+            log.error("일별 통계 집계 실패", e);
+        }
+    }
+
+    /**
+     * 승인/알림 집계 수행
+     *
+     * @return 다시 계산한 일자 수
+     */
+    public int rollUp() {
+        int approvalDays = rollUp(APPROVAL_ROLLUP,
+                approvalRollupRepository::findChangedDays,
+                approvalRollupRepository::deleteByDay,
+                day -> approvalRollupRepository.rebuildDay(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+        if (approvalDays > 0) {
+            refreshAheadRegistry.refreshAll("approvalStats");
+        }
+
+        int notificationDays = rollUp(NOTIFICATION_ROLLUP,
+                notificationRollupRepository::findChangedDays,
+                notificationRollupRepository::deleteByDay,
+                day -> notificationRollupRepository.rebuildDay(day, day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+        if (notificationDays > 0) {
+            refreshAheadRegistry.refreshAll("notificationStats");
+        }
+
+        if (approvalDays + notificationDays > 0) {
+            log.info("일별 통계 집계 완료 - 승인: {}일, 알림: {}일", approvalDays, notificationDays);
+        }
+        return approvalDays + notificationDays;
+    }
+
+    /**
+     * 워터마크 이후 변경된 일자 집계 재계산
+     */
+    private int rollUp(String rollupName,
+                       BiFunction<LocalDateTime, LocalDateTime, List<Object>> changedDays,
+                       Function<LocalDate, Integer> deleteDay,
+                       Function<LocalDate, Integer> rebuildDay) {
+        ensureWatermark(rollupName);
+
+        Integer rebuilt = transactionTemplate.execute(status -> {
+            StatsRollupWatermark watermark = watermarkRepository.findForUpdate(rollupName)
+                    .orElseThrow(() -> new IllegalStateException("집계 워터마크가 없습니다: " + rollupName));
+
+            LocalDateTime upperBound = LocalDateTime.now(clock).minusSeconds(graceSeconds);
+            if (!upperBound.isAfter(watermark.getWatermark())) {
+                return 0;
+            }
+
+            List<LocalDate> days = changedDays.apply(watermark.getWatermark(), upperBound).stream()
+                    .filter(Objects::nonNull)
+                    .map(DailyStatsRollupJob::toLocalDate)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            for (LocalDate day : days) {
+                deleteDay.apply(day);
+                rebuildDay.apply(day);
+            }
+
+            watermark.advanceTo(upperBound);
+            log.debug("{} 집계 워터마크 전진 - {}, 재계산 일자: {}", rollupName, upperBound, days);
+            return days.size();
+        });
+        return rebuilt != null ? rebuilt : 0;
+    }
+
+    /**
+     * 워터마크 행이 없으면 생성 (동시 생성은 무시)
+     */
+    private void ensureWatermark(String rollupName) {
+        if (watermarkRepository.existsById(rollupName)) {
+            return;
+        }
+        try {
+            watermarkRepository.saveAndFlush(new StatsRollupWatermark(rollupName));
+            log.info("{} 집계 워터마크 생성 - 전체 이력 백필 예정", rollupName);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("{} 집계 워터마크가 다른 인스턴스에서 먼저 생성됨", rollupName);
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
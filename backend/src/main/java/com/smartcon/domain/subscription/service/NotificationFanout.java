@@ -0,0 +1,68 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.NotificationType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 일괄 발송기
+ *
+ * 수신자마다 Notification 엔티티를 저장하면 IDENTITY 키 때문에 Hibernate가 INSERT를 배치로 묶지 못해
+ * 수신자 수만큼 왕복이 생깁니다. 수신자 ID 목록을 받아 같은 내용의 알림 행을 JDBC 배치 INSERT로
+ * 호출자 트랜잭션 안에서 기록합니다. (알림 엔티티 리스너가 없으므로 JPA를 거치지 않아도 부수 효과가 없음)
+ */
+@Component
+@Slf4j
+public class NotificationFanout {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (recipient_id, type, title, message, related_entity_type, related_entity_id, " +
+            "is_read, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public NotificationFanout(JdbcTemplate jdbcTemplate,
+                              @Value("${subscription.notification.fanout-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 수신자 전체에게 같은 알림 기록
+     *
+     * @return 기록한 알림 수
+     */
+    public int send(List<Long> recipientIds, NotificationType type, String title, String message,
+                    String relatedEntityType, Long relatedEntityId) {
+        if (recipientIds.isEmpty()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, recipientIds, batchSize, (ps, recipientId) -> {
+            ps.setLong(1, recipientId);
+            ps.setString(2, type.name());
+            ps.setString(3, title);
+            ps.setString(4, message);
+            ps.setString(5, relatedEntityType);
+            if (relatedEntityId != null) {
+                ps.setLong(6, relatedEntityId);
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        log.debug("알림 일괄 기록 완료 - 유형: {}, 수신자: {}명, {} ms",
+                type, recipientIds.size(), (System.nanoTime() - started) / 1_000_000);
+        return recipientIds.size();
+    }
+}
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 /**
  * 알림 서비스 구현체
  * JWT 인증 시스템 테스트를 위한 기본 구현
+ * 여러 수신자에게 보내는 알림은 수신자 ID만 조회해 NotificationFanout으로 일괄 기록합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,6 +34,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final NotificationFanout notificationFanout;
 
     @Override
     public void sendSubscriptionRequestNotification(Long subscriptionId) {
@@ -44,30 +46,18 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         try {
-            Optional<Subscription> subscriptionOpt = subscriptionRepository.findById(subscriptionId);
-            if (subscriptionOpt.isEmpty()) {
+            if (!subscriptionRepository.existsById(subscriptionId)) {
                 log.warn("존재하지 않는 구독입니다 - ID: {}", subscriptionId);
                 return;
             }
 
-            Subscription subscription = subscriptionOpt.get();
-            
-            // 슈퍼관리자들에게 알림 발송
-            List<User> superAdmins = userRepository.findByRole(User.Role.ROLE_SUPER);
-            
-            for (User admin : superAdmins) {
-                Notification notification = Notification.builder()
-                        .recipient(admin)
-                        .type(NotificationType.SUBSCRIPTION_REQUEST)
-                        .title("새로운 구독 신청")
-                        .message(String.format("새로운 구독 신청이 있습니다. (구독 ID: %d)", subscriptionId))
-                        .relatedEntityType("Subscription")
-                        .relatedEntityId(subscriptionId)
-                        .build();
-                
-                notificationRepository.save(notification);
-                log.debug("구독 신청 알림 생성 완료 - 수신자: {}", admin.getEmail());
-            }
+            // 슈퍼관리자들에게 알림 발송 (수신자 ID만 조회하여 일괄 기록)
+            List<Long> superAdminIds = userRepository.findIdsByRole(User.Role.ROLE_SUPER);
+            int sent = notificationFanout.send(superAdminIds, NotificationType.SUBSCRIPTION_REQUEST,
+                    "새로운 구독 신청",
+                    String.format("새로운 구독 신청이 있습니다. (구독 ID: %d)", subscriptionId),
+                    "Subscription", subscriptionId);
+            log.debug("구독 신청 알림 생성 완료 - 수신자: {}명", sent);
             
         } catch (Exception e) {
             log.error("구독 신청 알림 발송 중 오류 발생 - 구독 ID: {}", subscriptionId, e);
@@ -93,7 +83,7 @@ public class NotificationServiceImpl implements NotificationService {
             Subscription subscription = subscriptionOpt.get();
             
             // 테넌트의 관리자들에게 알림 발송
-            List<User> tenantAdmins = userRepository.findByTenantIdAndRole(
+            List<Long> tenantAdminIds = userRepository.findIdsByTenantIdAndRole(
                     subscription.getTenant().getId(), User.Role.ROLE_HQ);
             
             NotificationType notificationType = approved ? 
@@ -105,19 +95,9 @@ public class NotificationServiceImpl implements NotificationService {
                     String.format("구독이 승인되었습니다. %s", reason) :
                     String.format("구독 신청이 거부되었습니다. 사유: %s", reason);
             
-            for (User admin : tenantAdmins) {
-                Notification notification = Notification.builder()
-                        .recipient(admin)
-                        .type(notificationType)
-                        .title(title)
-                        .message(message)
-                        .relatedEntityType("Subscription")
-                        .relatedEntityId(subscriptionId)
-                        .build();
-                
-                notificationRepository.save(notification);
-                log.debug("승인 결과 알림 생성 완료 - 수신자: {}", admin.getEmail());
-            }
+            int sent = notificationFanout.send(tenantAdminIds, notificationType, title, message,
+                    "Subscription", subscriptionId);
+            log.debug("승인 결과 알림 생성 완료 - 수신자: {}명", sent);
             
         } catch (Exception e) {
             log.error("승인 결과 알림 발송 중 오류 발생 - 구독 ID: {}", subscriptionId, e);
@@ -131,27 +111,20 @@ public class NotificationServiceImpl implements NotificationService {
         try {
             // 승인 대기 중인 구독들에 대한 리마인더
             List<Subscription> pendingSubscriptions = subscriptionRepository.findPendingApprovalSubscriptions();
+            List<Long> superAdminIds = null;
             
             for (Subscription subscription : pendingSubscriptions) {
                 // 7일 이상 대기 중인 구독에 대해서만 리마인더 발송
                 if (subscription.getApprovalRequestedAt() != null &&
                     subscription.getApprovalRequestedAt().isBefore(LocalDateTime.now().minusDays(7))) {
                     
-                    List<User> superAdmins = userRepository.findByRole(User.Role.ROLE_SUPER);
-                    
-                    for (User admin : superAdmins) {
-                        Notification notification = Notification.builder()
-                                .recipient(admin)
-                                .type(NotificationType.APPROVAL_REMINDER)
-                                .title("구독 승인 대기 리마인더")
-                                .message(String.format("구독 승인이 7일 이상 대기 중입니다. (구독 ID: %d)", 
-                                        subscription.getId()))
-                                .relatedEntityType("Subscription")
-                                .relatedEntityId(subscription.getId())
-                                .build();
-                        
-                        notificationRepository.save(notification);
+                    if (superAdminIds == null) {
+                        superAdminIds = userRepository.findIdsByRole(User.Role.ROLE_SUPER);
                     }
+                    notificationFanout.send(superAdminIds, NotificationType.APPROVAL_REMINDER,
+                            "구독 승인 대기 리마인더",
+                            String.format("구독 승인이 7일 이상 대기 중입니다. (구독 ID: %d)", subscription.getId()),
+                            "Subscription", subscription.getId());
                 }
             }
             
@@ -273,22 +246,10 @@ public class NotificationServiceImpl implements NotificationService {
             Subscription subscription = subscriptionOpt.get();
             
             // 테넌트의 관리자들에게 알림 발송
-            List<User> tenantAdmins = userRepository.findByTenantIdAndRole(
+            List<Long> tenantAdminIds = userRepository.findIdsByTenantIdAndRole(
                     subscription.getTenant().getId(), User.Role.ROLE_HQ);
-            
-            for (User admin : tenantAdmins) {
-                Notification notification = Notification.builder()
-                        .recipient(admin)
-                        .type(type)
-                        .title(title)
-                        .message(message)
-                        .relatedEntityType("Subscription")
-                        .relatedEntityId(subscriptionId)
-                        .build();
-                
-                notificationRepository.save(notification);
-                log.debug("상태 변경 알림 생성 완료 - 수신자: {}", admin.getEmail());
-            }
+            int sent = notificationFanout.send(tenantAdminIds, type, title, message, "Subscription", subscriptionId);
+            log.debug("상태 변경 알림 생성 완료 - 수신자: {}명", sent);
             
         } catch (Exception e) {
             log.error("상태 변경 알림 발송 중 오류 발생 - 구독 ID: {}", subscriptionId, e);
@@ -16,6 +16,14 @@ public interface SubscriptionAccessControlService {
      */
     SubscriptionAccessResult checkAccess(Long tenantId, String requestPath);
     
+    /**
+     * 테넌트의 현재 구독 접근 상태 조회 (경로 제외 규칙 미적용)
+     * 
+     * @param tenantId 테넌트 ID
+     * @return 상태별 접근 제어 결과와 거부 응답 본문
+     */
+    SubscriptionAccessState getAccessState(Long tenantId);
+    
     /**
      * 구독 상태별 서비스 접근 가능 여부 확인
      * 
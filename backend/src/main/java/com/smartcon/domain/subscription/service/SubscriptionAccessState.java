@@ -0,0 +1,191 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.global.security.SubscriptionAccessResult;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테넌트별 구독 접근 상태
+ *
+ * 현재 구독 상태와 접근 제어 결과, 거부 시 그대로 응답할 JSON 본문을
+ * 상태 전이 시점에 미리 만들어 두어 요청 처리 중에는 계산이 필요 없습니다.
+ */
+@Getter
+public final class SubscriptionAccessState {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * 상태를 결정한 구독 ID (구독이 없으면 null)
+     */
+    private final Long subscriptionId;
+
+    /**
+     * 현재 구독 상태 (구독이 없으면 null)
+     */
+    private final SubscriptionStatus status;
+
+    /**
+     * 접근 제어 결과
+     */
+    private final SubscriptionAccessResult result;
+
+    /**
+     * 접근 거부 응답 본문 (허용 상태는 null)
+     */
+    private final String denialBody;
+
+    private SubscriptionAccessState(Long subscriptionId, SubscriptionAccessResult result) {
+        this.subscriptionId = subscriptionId;
+        this.status = result.getSubscriptionStatus();
+        this.result = result;
+        this.denialBody = result.isAllowed() ? null : toDenialBody(result);
+    }
+
+    public boolean isAllowed() {
+        return result.isAllowed();
+    }
+
+    /**
+     * 구독이 없는 테넌트의 접근 상태
+     */
+    public static SubscriptionAccessState noSubscription() {
+        return new SubscriptionAccessState(null, SubscriptionAccessResult.denied(
+                null,
+                "활성 구독이 없습니다. 구독을 신청해주세요.",
+                "/subscription/plans"
+        ));
+    }
+
+    /**
+     * 존재하지 않는 테넌트의 접근 상태
+     */
+    public static SubscriptionAccessState unknownTenant() {
+        return new SubscriptionAccessState(null, SubscriptionAccessResult.denied(
+                null,
+                "존재하지 않는 테넌트입니다.",
+                "/error"
+        ));
+    }
+
+    /**
+     * 테넌트의 현재 구독으로부터 접근 상태 생성
+     */
+    public static SubscriptionAccessState of(Subscription subscription) {
+        return new SubscriptionAccessState(subscription.getId(), resolve(subscription));
+    }
+
+    /**
+     * 구독 상태별 접근 제어 결과 결정
+     */
+    private static SubscriptionAccessResult resolve(Subscription subscription) {
+        SubscriptionStatus status = subscription.getStatus();
+        if (status == null) {
+            return unknownStatus(null);
+        }
+
+        switch (status) {
+            case ACTIVE:
+            case TRIAL:
+            case AUTO_APPROVED:
+                // 정상 서비스 이용 가능
+                return SubscriptionAccessResult.allowedWithStatus(status);
+
+            case PENDING_APPROVAL:
+                // 승인 대기 중 - 서비스 접근 차단
+                return SubscriptionAccessResult.denied(
+                    status,
+                    "구독 승인이 진행 중입니다. 승인 완료까지 잠시만 기다려주세요.",
+                    "/subscription/pending"
+                );
+
+            case REJECTED:
+                // 승인 거부 - 재신청 안내
+                String rejectionReason = subscription.getRejectionReason();
+                String rejectionMessage = rejectionReason != null ?
+                    String.format("구독 신청이 거부되었습니다. 사유: %s", rejectionReason) :
+                    "구독 신청이 거부되었습니다. 다시 신청하거나 고객센터에 문의해주세요.";
+
+                return SubscriptionAccessResult.denied(
+                    status,
+                    rejectionMessage,
+                    "/subscription/rejected"
+                );
+
+            case SUSPENDED:
+                // 일시 중지 - 재활성화 안내
+                String suspensionReason = subscription.getSuspensionReason();
+                String suspensionMessage = suspensionReason != null ?
+                    String.format("구독이 일시 중지되었습니다. 사유: %s 고객센터에 문의해주세요.", suspensionReason) :
+                    "구독이 일시 중지되었습니다. 고객센터에 문의해주세요.";
+
+                return SubscriptionAccessResult.denied(
+                    status,
+                    suspensionMessage,
+                    "/subscription/suspended"
+                );
+
+            case TERMINATED:
+                // 종료됨 - 새 구독 신청 안내
+                String terminationReason = subscription.getTerminationReason();
+                String terminationMessage = terminationReason != null ?
+                    String.format("구독이 종료되었습니다. 사유: %s 새로운 구독을 신청해주세요.", terminationReason) :
+                    "구독이 종료되었습니다. 새로운 구독을 신청해주세요.";
+
+                return SubscriptionAccessResult.denied(
+                    status,
+                    terminationMessage,
+                    "/subscription/terminated"
+                );
+
+            case CANCELLED:
+                // 해지됨 - 새 구독 신청 안내
+                return SubscriptionAccessResult.denied(
+                    status,
+                    "구독이 해지되었습니다. 새로운 구독을 신청해주세요.",
+                    "/subscription/cancelled"
+                );
+
+            case EXPIRED:
+                // 만료됨 - 갱신 안내
+                return SubscriptionAccessResult.denied(
+                    status,
+                    "구독이 만료되었습니다. 구독을 갱신해주세요.",
+                    "/subscription/expired"
+                );
+
+            default:
+                return unknownStatus(status);
+        }
+    }
+
+    private static SubscriptionAccessResult unknownStatus(SubscriptionStatus status) {
+        return SubscriptionAccessResult.denied(
+            status,
+            "구독 상태를 확인할 수 없습니다. 고객센터에 문의해주세요.",
+            "/error"
+        );
+    }
+
+    /**
+     * 접근 거부 응답 JSON 생성 (사유 문자열은 JSON 이스케이프 처리)
+     */
+    private static String toDenialBody(SubscriptionAccessResult result) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("error", "ACCESS_DENIED");
+        body.put("message", result.getMessage());
+        body.put("subscriptionStatus", String.valueOf(result.getSubscriptionStatus()));
+        body.put("redirectUrl", result.getRedirectUrl());
+        try {
+            return OBJECT_MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("접근 거부 응답 생성 실패", e);
+        }
+    }
+}
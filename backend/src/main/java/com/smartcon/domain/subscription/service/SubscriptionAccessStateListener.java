@@ -0,0 +1,40 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Subscription;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 구독 엔티티 변경 리스너
+ * 구독이 저장, 변경, 삭제되면 테넌트 접근 상태 테이블에 반영합니다.
+ */
+public class SubscriptionAccessStateListener {
+
+    private final ObjectProvider<SubscriptionAccessStateTable> accessStateTable;
+
+    public SubscriptionAccessStateListener(ObjectProvider<SubscriptionAccessStateTable> accessStateTable) {
+        this.accessStateTable = accessStateTable;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSubscriptionChanged(Subscription subscription) {
+        if (subscription.getTenant() == null || subscription.getTenant().getId() == null) {
+            return;
+        }
+        Long tenantId = subscription.getTenant().getId();
+        SubscriptionAccessState state = SubscriptionAccessState.of(subscription);
+        accessStateTable.ifAvailable(table -> table.onTransition(tenantId, state));
+    }
+
+    @PostRemove
+    public void onSubscriptionRemoved(Subscription subscription) {
+        if (subscription.getTenant() == null || subscription.getTenant().getId() == null) {
+            return;
+        }
+        Long tenantId = subscription.getTenant().getId();
+        accessStateTable.ifAvailable(table -> table.onRemoved(tenantId));
+    }
+}
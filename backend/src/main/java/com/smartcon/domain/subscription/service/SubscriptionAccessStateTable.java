@@ -0,0 +1,202 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import com.smartcon.global.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 테넌트별 구독 접근 상태 테이블
+ *
+ * 구독 접근 제어 인터셉터가 요청마다 DB를 조회하지 않도록 테넌트 ID별 현재 구독 상태를 보관합니다.
+ * - 갱신: 구독 저장/변경 트랜잭션 커밋 직후 (SubscriptionAccessStateListener)
+ * - 삭제: 커밋 직후 테넌트 항목 제거, 다음 요청에서 남은 최신 구독을 DB 조회
+ * - 워밍업: 애플리케이션 시작 시 테넌트별 최신 구독 일괄 적재
+ * - 미스: DB 조회 후 적재 (존재하지 않는 테넌트는 적재하지 않음)
+ * - 주기적 재적재: 다른 인스턴스에서 변경된 상태 반영
+ *
+ * 테넌트의 현재 구독은 ID가 가장 큰(가장 최근 생성된) 구독입니다.
+ * 다른 노드의 변경/삭제는 주기적 재적재로만 반영되므로 노드 간에는 최대 재적재 주기
+ * (subscription.access-state.refresh-interval-ms, 기본 5분)만큼 이전 상태가 보일 수 있습니다.
+ * 주기적 재적재는 스냅샷에 없는 테넌트(모든 구독이 삭제된 테넌트 등)의 항목을 제거합니다.
+ * 전체 재적재 중에 커밋된 상태 전이/제거는 기록해 두었다가 스냅샷 반영 직후 다시 적용하여
+ * 재적재가 더 최신 변경을 덮어쓰지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionAccessStateTable {
+
+    private final Map<Long, SubscriptionAccessState> states = new ConcurrentHashMap<>();
+
+    private final Object reloadLock = new Object();
+    // 재적재 중 커밋된 변경 (this로 보호, 재적재 중이 아니면 null)
+    private List<Runnable> replay;
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final TenantRepository tenantRepository;
+
+    /**
+     * 테넌트 접근 상태 조회 (미스 시 DB 조회)
+     */
+    public SubscriptionAccessState get(Long tenantId) {
+        SubscriptionAccessState state = states.get(tenantId);
+        if (state != null) {
+            return state;
+        }
+        return load(tenantId);
+    }
+
+    /**
+     * 구독 상태 전이 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 상태가 노출되지 않도록 합니다.
+     */
+    public void onTransition(Long tenantId, SubscriptionAccessState state) {
+        AfterCommit.run(() -> apply(tenantId, state));
+    }
+
+    /**
+     * 구독 삭제 반영
+     * 커밋 이후에 테넌트 항목을 제거하여 다음 요청에서 남은 구독 기준으로 다시 조회합니다.
+     */
+    public void onRemoved(Long tenantId) {
+        AfterCommit.run(() -> evict(tenantId));
+    }
+
+    /**
+     * 테넌트 항목 제거
+     */
+    public synchronized void evict(Long tenantId) {
+        states.remove(tenantId);
+        if (replay != null) {
+            replay.add(() -> states.remove(tenantId));
+        }
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * 애플리케이션 시작 시 워밍업
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int loaded = reload(false);
+            log.info("구독 접근 상태 테이블 워밍업 완료 - 테넌트 수: {}", loaded);
+        } catch (Exception e) {
+            log.warn("구독 접근 상태 테이블 워밍업 실패 - 요청 시 DB 조회로 대체: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재적재 (기본 5분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.access-state.refresh-interval-ms:300000}",
+               initialDelayString = "${subscription.access-state.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            reload(true);
+        } catch (Exception e) {
+            log.warn("구독 접근 상태 테이블 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 테넌트별 최신 구독으로 테이블 적재
+     * 스냅샷 조회 중 커밋된 변경은 스냅샷 반영 후 순서대로 다시 적용합니다.
+     */
+    private int reload(boolean overwrite) {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+            try {
+                List<Subscription> latest = subscriptionRepository.findLatestPerTenant();
+                synchronized (this) {
+                    if (overwrite) {
+                        Set<Long> tenantIds = latest.stream()
+                                .map(subscription -> subscription.getTenant().getId())
+                                .collect(Collectors.toSet());
+                        states.keySet().retainAll(tenantIds);
+                    }
+                    for (Subscription subscription : latest) {
+                        Long tenantId = subscription.getTenant().getId();
+                        SubscriptionAccessState state = SubscriptionAccessState.of(subscription);
+                        if (overwrite) {
+                            states.put(tenantId, state);
+                        } else {
+                            states.putIfAbsent(tenantId, state);
+                        }
+                    }
+                    replay.forEach(Runnable::run);
+                }
+                return latest.size();
+            } finally {
+                synchronized (this) {
+                    replay = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 테이블 미스 시 DB 조회
+     * 조회 중 커밋된 상태 전이가 먼저 반영되었으면 그 값을 유지합니다.
+     */
+    private SubscriptionAccessState load(Long tenantId) {
+        Optional<Subscription> current = subscriptionRepository.findFirstByTenant_IdOrderByIdDesc(tenantId);
+        if (current.isPresent()) {
+            return putIfAbsent(tenantId, SubscriptionAccessState.of(current.get()));
+        }
+
+        if (!tenantRepository.existsById(tenantId)) {
+            log.warn("존재하지 않는 테넌트: {}", tenantId);
+            return SubscriptionAccessState.unknownTenant();
+        }
+
+        log.debug("구독이 없음 - 테넌트: {}", tenantId);
+        return putIfAbsent(tenantId, SubscriptionAccessState.noSubscription());
+    }
+
+    private SubscriptionAccessState putIfAbsent(Long tenantId, SubscriptionAccessState state) {
+        SubscriptionAccessState existing = states.putIfAbsent(tenantId, state);
+        return existing != null ? existing : state;
+    }
+
+    /**
+     * 상태 반영 (현재 구독보다 오래된 구독의 변경은 무시)
+     */
+    private synchronized void apply(Long tenantId, SubscriptionAccessState state) {
+        merge(tenantId, state);
+        if (replay != null) {
+            replay.add(() -> merge(tenantId, state));
+        }
+        log.debug("구독 접근 상태 갱신 - 테넌트: {}, 상태: {}", tenantId, state.getStatus());
+    }
+
+    private void merge(Long tenantId, SubscriptionAccessState state) {
+        states.merge(tenantId, state, (existing, updated) -> isOlder(updated, existing) ? existing : updated);
+    }
+
+    private static boolean isOlder(SubscriptionAccessState candidate, SubscriptionAccessState current) {
+        return candidate.getSubscriptionId() != null
+                && current.getSubscriptionId() != null
+                && candidate.getSubscriptionId() < current.getSubscriptionId();
+    }
+}
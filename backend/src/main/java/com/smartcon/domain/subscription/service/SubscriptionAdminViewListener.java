@@ -0,0 +1,57 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Payment;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionApproval;
+import com.smartcon.domain.subscription.entity.SubscriptionPlan;
+import com.smartcon.domain.tenant.entity.Tenant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 관리자 구독 목록 읽기 모델 리스너
+ * 구독, 승인 이력, 결제, 테넌트, 요금제가 저장/변경/삭제되면 트랜잭션 커밋 후 읽기 모델 행을 갱신합니다.
+ */
+public class SubscriptionAdminViewListener {
+
+    private final ObjectProvider<SubscriptionAdminViewProjector> projector;
+
+    public SubscriptionAdminViewListener(ObjectProvider<SubscriptionAdminViewProjector> projector) {
+        this.projector = projector;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Object entity) {
+        projector.ifAvailable(view -> {
+            if (entity instanceof Subscription subscription) {
+                view.refresh(subscription.getId());
+            } else if (entity instanceof SubscriptionApproval approval) {
+                view.refresh(approval.getSubscriptionId());
+            } else if (entity instanceof Payment payment && payment.getSubscription() != null) {
+                view.refresh(payment.getSubscription().getId());
+            } else if (entity instanceof Tenant tenant) {
+                view.onTenantChanged(tenant.getId());
+            } else if (entity instanceof SubscriptionPlan plan) {
+                view.onPlanChanged(plan.getPlanId());
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        projector.ifAvailable(view -> {
+            if (entity instanceof Subscription subscription) {
+                view.remove(subscription.getId());
+            } else if (entity instanceof SubscriptionApproval approval) {
+                view.refresh(approval.getSubscriptionId());
+            } else if (entity instanceof Payment payment && payment.getSubscription() != null) {
+                view.refresh(payment.getSubscription().getId());
+            } else if (entity instanceof Tenant tenant) {
+                view.onTenantRemoved(tenant.getId());
+            }
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.global.common.AfterCommitBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 구독 목록 읽기 모델 반영기
+ *
+ * 구독, 승인 이력, 결제, 테넌트명, 요금제명이 바뀌면 subscription_admin_view 행을 다시 계산합니다.
+ * 갱신은 호출자 트랜잭션 커밋 후 별도 트랜잭션에서 실행하므로 사용자 트랜잭션이 읽기 모델 쓰기를 기다리지 않으며,
+ * 한 트랜잭션에서 같은 구독/테넌트/요금제가 여러 번 바뀌어도 한 번만 반영합니다. (롤백된 변경은 반영하지 않음)
+ * - 구독 단위 갱신은 행 삭제 후 원본 조인으로 다시 적재 (DML의 현재 읽기이므로 같은 구독의 동시 갱신은 행 잠금에서 순서가 정해짐)
+ * - 테넌트명/요금제명 변경은 커밋된 이름으로 해당 행의 이름 컬럼만 수정
+ * - JPA를 거치지 않은 변경(관리자 이름 변경, 직접 SQL)은 SubscriptionAdminViewReconciler 정기 재구성으로 맞춥니다.
+ */
+@Component
+@Slf4j
+public class SubscriptionAdminViewProjector {
+
+    private static final String INSERT_PROJECTION =
+            "INSERT INTO subscription_admin_view (subscription_id, tenant_id, tenant_name, plan_id, plan_name, status, " +
+            "monthly_price, created_at, approved_at, approval_reason, admin_name, auto_approved, last_payment_at, updated_at) " +
+            "SELECT s.id, s.tenant_id, t.company_name, s.plan_id, sp.name, s.status, s.monthly_price, s.created_at, " +
+            "sa.processed_at, sa.reason, u.name, COALESCE(sa.auto_approved, FALSE), " +
+            "(SELECT MAX(p.created_at) FROM payments p WHERE p.subscription_id = s.id), CURRENT_TIMESTAMP " +
+            "FROM subscriptions s " +
+            "LEFT JOIN tenants t ON t.id = s.tenant_id " +
+            "LEFT JOIN subscription_plans sp ON sp.plan_id = s.plan_id " +
+            "LEFT JOIN subscription_approvals sa ON sa.id = " +
+            "(SELECT MAX(sa2.id) FROM subscription_approvals sa2 WHERE sa2.subscription_id = s.id) " +
+            "LEFT JOIN users u ON u.id = sa.admin_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate refreshTransaction;
+    private final AfterCommitBatch<Long> pendingRefreshes = new AfterCommitBatch<>(afterCommit("구독", this::refreshNow));
+    private final AfterCommitBatch<Long> pendingTenantNames =
+            new AfterCommitBatch<>(afterCommit("테넌트명", this::applyTenantName));
+    private final AfterCommitBatch<String> pendingPlanNames =
+            new AfterCommitBatch<>(afterCommit("요금제명", this::applyPlanName));
+
+    public SubscriptionAdminViewProjector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 구독 한 건의 행 재계산 예약 (커밋 후 실행, 구독이 없으면 행 삭제)
+     */
+    public void refresh(Long subscriptionId) {
+        if (subscriptionId != null) {
+            pendingRefreshes.add(subscriptionId);
+        }
+    }
+
+    /**
+     * 삭제된 구독의 행 제거
+     */
+    public void remove(Long subscriptionId) {
+        if (subscriptionId != null) {
+            jdbcTemplate.update("DELETE FROM subscription_admin_view WHERE subscription_id = ?", subscriptionId);
+        }
+    }
+
+    /**
+     * 테넌트 변경 반영 예약 (커밋 후 이름이 달라진 행만 수정)
+     */
+    public void onTenantChanged(Long tenantId) {
+        if (tenantId != null) {
+            pendingTenantNames.add(tenantId);
+        }
+    }
+
+    /**
+     * 삭제된 테넌트의 행 제거 (구독은 DB에서 연쇄 삭제됨)
+     */
+    public void onTenantRemoved(Long tenantId) {
+        if (tenantId != null) {
+            jdbcTemplate.update("DELETE FROM subscription_admin_view WHERE tenant_id = ?", tenantId);
+        }
+    }
+
+    /**
+     * 요금제 변경 반영 예약 (커밋 후 이름이 달라진 행만 수정)
+     */
+    public void onPlanChanged(String planId) {
+        if (planId != null) {
+            pendingPlanNames.add(planId);
+        }
+    }
+
+    /**
+     * 구독 ID 구간 재구성 (호출자 트랜잭션에서 실행)
+     *
+     * @return 적재한 행 수
+     */
+    public int rebuildRange(long fromId, long toId) {
+        jdbcTemplate.update("DELETE FROM subscription_admin_view WHERE subscription_id BETWEEN ? AND ?", fromId, toId);
+        return jdbcTemplate.update(INSERT_PROJECTION + "WHERE s.id BETWEEN ? AND ?", fromId, toId);
+    }
+
+    /**
+     * 구독 ID 범위 밖(삭제된 구독)의 행 제거
+     *
+     * @return 제거한 행 수
+     */
+    public int removeOutside(Long minId, Long maxId) {
+        if (minId == null || maxId == null) {
+            return jdbcTemplate.update("DELETE FROM subscription_admin_view");
+        }
+        return jdbcTemplate.update("DELETE FROM subscription_admin_view WHERE subscription_id < ? OR subscription_id > ?",
+                minId, maxId);
+    }
+
+    private void refreshNow(Long subscriptionId) {
+        jdbcTemplate.update("DELETE FROM subscription_admin_view WHERE subscription_id = ?", subscriptionId);
+        jdbcTemplate.update(INSERT_PROJECTION + "WHERE s.id = ?", subscriptionId);
+    }
+
+    private void applyTenantName(Long tenantId) {
+        int updated = jdbcTemplate.update("UPDATE subscription_admin_view v " +
+                "SET tenant_name = (SELECT t.company_name FROM tenants t WHERE t.id = v.tenant_id), updated_at = CURRENT_TIMESTAMP " +
+                "WHERE v.tenant_id = ? AND NOT EXISTS (SELECT 1 FROM tenants t WHERE t.id = v.tenant_id " +
+                "AND t.company_name = v.tenant_name)", tenantId);
+        if (updated > 0) {
+            log.debug("구독 목록 읽기 모델 테넌트명 반영 - 테넌트: {}, {}건", tenantId, updated);
+        }
+    }
+
+    private void applyPlanName(String planId) {
+        jdbcTemplate.update("UPDATE subscription_admin_view v " +
+                "SET plan_name = (SELECT sp.name FROM subscription_plans sp WHERE sp.plan_id = v.plan_id), updated_at = CURRENT_TIMESTAMP " +
+                "WHERE v.plan_id = ? AND NOT EXISTS (SELECT 1 FROM subscription_plans sp WHERE sp.plan_id = v.plan_id " +
+                "AND sp.name = v.plan_name)", planId);
+    }
+
+    /**
+     * 커밋 후 키마다 반영 (별도 트랜잭션, 실패 시 정기 재구성에서 보정)
+     */
+    private <K> Consumer<Set<K>> afterCommit(String target, Consumer<K> action) {
+        return keys -> {
+            try {
+                refreshTransaction.executeWithoutResult(status -> keys.forEach(action));
+            } catch (Exception e) {
+                log.warn("구독 목록 읽기 모델 갱신 실패 - {}: {}, 오류: {}", target, keys, e.getMessage());
+            }
+        };
+    }
+}
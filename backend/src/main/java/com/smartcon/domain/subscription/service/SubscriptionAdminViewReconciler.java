@@ -0,0 +1,93 @@
+package com.smartcon.domain.subscription.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * 관리자 구독 목록 읽기 모델 재구성
+ *
+ * 구독 ID 구간별로 짧은 트랜잭션을 나눠 원본 테이블에서 다시 적재합니다.
+ * 리스너를 거치지 않은 변경(관리자 이름 변경, 직접 SQL)으로 생긴 차이를 정기적으로 맞춥니다.
+ */
+@Component
+@Slf4j
+public class SubscriptionAdminViewReconciler {
+
+    private final SubscriptionAdminViewProjector projector;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SubscriptionAdminViewReconciler(SubscriptionAdminViewProjector projector,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           @Value("${subscription.admin-view.rebuild-chunk-size:10000}") int chunkSize) {
+        this.projector = projector;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 애플리케이션 시작 시 읽기 모델이 비어 있고 구독이 있으면 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Long viewRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subscription_admin_view", Long.class);
+            Long subscriptions = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subscriptions", Long.class);
+            if (viewRows != null && viewRows == 0 && subscriptions != null && subscriptions > 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("구독 목록 읽기 모델 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정기 재구성 (기본 매일 04:45)
+     */
+    @Scheduled(cron = "${subscription.admin-view.rebuild-cron:0 45 4 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("구독 목록 읽기 모델 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 전체 재구성
+     *
+     * @return 적재한 행 수
+     */
+    public long rebuild() {
+        long started = System.nanoTime();
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM subscriptions");
+        Long minId = range.get("min_id") != null ? ((Number) range.get("min_id")).longValue() : null;
+        Long maxId = range.get("max_id") != null ? ((Number) range.get("max_id")).longValue() : null;
+
+        long rows = 0;
+        if (minId != null) {
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, maxId);
+                long chunkFrom = from;
+                rows += transactionTemplate.execute(status -> projector.rebuildRange(chunkFrom, to));
+            }
+        }
+        int removed = transactionTemplate.execute(status -> projector.removeOutside(minId, maxId));
+
+        log.info("구독 목록 읽기 모델 재구성 완료 - {}건 적재, 범위 밖 {}건 제거, {} ms",
+                rows, removed, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.BillingCycle;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 구독 분석용 사실 행
+ * 자동 승인 여부는 가장 최근 승인 이력(subscription_approvals.auto_approved) 값을 사용합니다.
+ * 구독 엔티티 변경으로 만든 행은 승인 이력을 모르므로 autoApproved가 null이며, 저장소의 기존 값을 유지합니다.
+ */
+record SubscriptionFact(long id, String planId, SubscriptionStatus status, BillingCycle billingCycle,
+                        YearMonth month, Boolean autoApproved, BigDecimal monthlyPrice) {
+
+    static SubscriptionFact of(Subscription subscription) {
+        LocalDateTime createdAt = subscription.getCreatedAt() != null ? subscription.getCreatedAt() : LocalDateTime.now();
+        return new SubscriptionFact(
+                subscription.getId(),
+                subscription.getPlan().getPlanId(),
+                subscription.getStatus(),
+                subscription.getBillingCycle(),
+                YearMonth.from(createdAt),
+                null,
+                subscription.getMonthlyPrice());
+    }
+}
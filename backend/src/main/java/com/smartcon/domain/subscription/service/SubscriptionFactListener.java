@@ -0,0 +1,40 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionApproval;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 구독 분석 사실 리스너
+ * 구독이 저장, 변경, 삭제되거나 승인 이력이 기록되면 분석용 컬럼 저장소에 반영합니다.
+ */
+public class SubscriptionFactListener {
+
+    private final ObjectProvider<SubscriptionFactTable> factTable;
+
+    public SubscriptionFactListener(ObjectProvider<SubscriptionFactTable> factTable) {
+        this.factTable = factTable;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Object entity) {
+        factTable.ifAvailable(table -> {
+            if (entity instanceof Subscription subscription) {
+                table.onChanged(subscription);
+            } else if (entity instanceof SubscriptionApproval approval) {
+                table.onApprovalRecorded(approval.getSubscriptionId(), approval.isAutoApproved());
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Subscription subscription) {
+            factTable.ifAvailable(table -> table.onRemoved(subscription.getId()));
+        }
+    }
+}
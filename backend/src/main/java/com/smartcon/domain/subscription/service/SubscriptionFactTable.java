@@ -0,0 +1,575 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsDimension;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsDto;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsRequest;
+import com.smartcon.domain.subscription.entity.BillingCycle;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.global.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 구독 분석용 컬럼 저장소
+ *
+ * 슈퍼 관리자 분석 화면의 요금제 × 상태 × 월 × 결제 주기 × 자동 승인 집계를 조건마다 GROUP BY 쿼리로
+ * 만들지 않도록, 구독 사실 행을 컬럼별 기본형 배열로 메모리에 보관하고 필터/그룹/합계를 직접 계산합니다.
+ * - 저장: 요금제는 사전 코드(short), 상태와 결제 주기는 enum 순서(byte), 월은 연월 번호(int), 요금은 1/100 단위(long)
+ * - 정렬: 행은 구독 ID 순으로 유지하여 ID 이진 탐색으로 갱신 위치를 찾음
+ * - 갱신: 구독 저장/변경/삭제와 승인 이력 기록 트랜잭션 커밋 직후 (SubscriptionFactListener), 삭제 행은 재적재 때 정리
+ * - 자동 승인: 가장 최근 승인 이력의 auto_approved (관리자 구독 목록, 승인 통계와 같은 기준)
+ * - 적재: 애플리케이션 시작 시 전체 적재, 이후 주기적으로 다시 읽어 다른 인스턴스의 변경 반영
+ * - 조회: 행을 구간으로 나누어 코어별로 병렬 집계한 뒤 병합
+ */
+@Component
+@Slf4j
+public class SubscriptionFactTable {
+
+    private static final String LOAD_SQL =
+            "SELECT s.id, s.plan_id, s.status, s.billing_cycle, s.created_at, s.monthly_price, sa.auto_approved " +
+            "FROM subscriptions s " +
+            "LEFT JOIN subscription_approvals sa ON sa.id = " +
+            "(SELECT MAX(sa2.id) FROM subscription_approvals sa2 WHERE sa2.subscription_id = s.id) " +
+            "ORDER BY s.id";
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private static final SubscriptionStatus[] STATUSES = SubscriptionStatus.values();
+    private static final BillingCycle[] BILLING_CYCLES = BillingCycle.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Object reloadLock = new Object();
+
+    // 현재 저장소 참조와 재적재 중 변경 기록은 this 모니터로 보호, 배열 자체는 저장소별 읽기/쓰기 잠금으로 보호
+    private Columns columns = new Columns(INITIAL_CAPACITY);
+    private List<Consumer<Columns>> replay;
+
+    public SubscriptionFactTable(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+    }
+
+    /**
+     * 구독 저장/변경 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 집계에 포함되지 않도록 합니다.
+     */
+    public void onChanged(Subscription subscription) {
+        if (subscription.getId() == null || subscription.getPlan() == null) {
+            return;
+        }
+        SubscriptionFact fact = SubscriptionFact.of(subscription);
+        AfterCommit.run(() -> upsert(fact));
+    }
+
+    /**
+     * 승인 이력 기록 반영 (새 이력이 가장 최근 이력이므로 자동 승인 여부를 그 값으로 변경)
+     */
+    public void onApprovalRecorded(Long subscriptionId, boolean autoApproved) {
+        if (subscriptionId != null) {
+            AfterCommit.run(() -> apply(columns -> columns.setAutoApproved(subscriptionId, autoApproved)));
+        }
+    }
+
+    /**
+     * 구독 삭제 반영
+     */
+    public void onRemoved(Long subscriptionId) {
+        if (subscriptionId != null) {
+            AfterCommit.run(() -> remove(subscriptionId));
+        }
+    }
+
+    /**
+     * 사실 행 추가 또는 갱신 (상태가 없는 구독은 제외)
+     */
+    void upsert(SubscriptionFact fact) {
+        if (fact.status() == null) {
+            remove(fact.id());
+            return;
+        }
+        apply(columns -> columns.upsert(fact));
+    }
+
+    /**
+     * 사실 행 삭제
+     */
+    void remove(long subscriptionId) {
+        apply(columns -> columns.remove(subscriptionId));
+    }
+
+    /**
+     * 필터/그룹/합계 집계
+     */
+    public SubscriptionAnalyticsDto query(SubscriptionAnalyticsRequest request) {
+        long started = System.nanoTime();
+        List<SubscriptionAnalyticsDimension> groupBy = request.getGroupBy() != null
+                ? request.getGroupBy().stream().distinct().toList()
+                : List.of();
+
+        Columns current;
+        synchronized (this) {
+            current = columns;
+        }
+        current.lock.readLock().lock();
+        try {
+            Filter filter = Filter.of(request, current);
+            Grouping grouping = new Grouping(groupBy);
+            int size = current.size;
+            int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            GroupTotals totals = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> current.scan(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE),
+                            filter, grouping))
+                    .reduce(GroupTotals::merge)
+                    .orElseGet(GroupTotals::new);
+
+            List<SubscriptionAnalyticsDto.Row> rows = totals.toRows(grouping, current);
+            long totalCount = rows.stream().mapToLong(SubscriptionAnalyticsDto.Row::getCount).sum();
+            BigDecimal totalPrice = rows.stream()
+                    .map(SubscriptionAnalyticsDto.Row::getMonthlyPriceSum)
+                    .reduce(BigDecimal.valueOf(0, 2), BigDecimal::add);
+
+            return SubscriptionAnalyticsDto.builder()
+                    .groupBy(groupBy)
+                    .rows(rows)
+                    .totalCount(totalCount)
+                    .totalMonthlyPrice(totalPrice)
+                    .scannedRows(current.liveCount)
+                    .elapsedMillis((System.nanoTime() - started) / 1_000_000.0)
+                    .loadedAt(current.loadedAt)
+                    .build();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 구독 수
+     */
+    public int size() {
+        Columns current;
+        synchronized (this) {
+            current = columns;
+        }
+        current.lock.readLock().lock();
+        try {
+            return current.liveCount;
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int loaded = reload();
+            log.info("구독 분석 컬럼 저장소 적재 완료 - 구독 수: {}", loaded);
+        } catch (Exception e) {
+            log.warn("구독 분석 컬럼 저장소 적재 실패 - 다음 재적재 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재적재 (기본 15분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.analytics.refresh-interval-ms:900000}",
+               initialDelayString = "${subscription.analytics.refresh-interval-ms:900000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("구독 분석 컬럼 저장소 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 테이블 전체를 새 컬럼 저장소로 적재한 뒤 교체
+     * 적재 중 커밋된 변경은 기록해 두었다가 새 저장소에 다시 반영합니다.
+     *
+     * @return 적재한 구독 수
+     */
+    public int reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+
+            Columns loaded = new Columns(INITIAL_CAPACITY);
+            try {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    String status = rs.getString(3);
+                    if (status == null) {
+                        return;
+                    }
+                    Timestamp createdAt = rs.getTimestamp(5);
+                    String billingCycle = rs.getString(4);
+                    loaded.upsert(new SubscriptionFact(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            SubscriptionStatus.valueOf(status),
+                            billingCycle != null ? BillingCycle.valueOf(billingCycle) : null,
+                            YearMonth.from(createdAt != null ? createdAt.toLocalDateTime() : LocalDateTime.now()),
+                            rs.getBoolean(7),
+                            rs.getBigDecimal(6)));
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    replay = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                replay.forEach(change -> change.accept(loaded));
+                replay = null;
+                columns = loaded;
+            }
+            return loaded.liveCount;
+        }
+    }
+
+    private synchronized void apply(Consumer<Columns> change) {
+        columns.lock.writeLock().lock();
+        try {
+            change.accept(columns);
+        } finally {
+            columns.lock.writeLock().unlock();
+        }
+        if (replay != null) {
+            replay.add(change);
+        }
+    }
+
+    /**
+     * 컬럼 배열 (구독 ID 오름차순)
+     */
+    private static final class Columns {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final LocalDateTime loadedAt = LocalDateTime.now();
+        private final List<String> planDictionary = new ArrayList<>();
+        private final Map<String, Short> planCodes = new HashMap<>();
+
+        private long[] ids;
+        private short[] plans;
+        private byte[] statuses;
+        private byte[] cycles;
+        private boolean[] autoApproved;
+        private int[] months;
+        private long[] prices;
+        private boolean[] live;
+        private int size;
+        private int liveCount;
+
+        Columns(int capacity) {
+            ids = new long[capacity];
+            plans = new short[capacity];
+            statuses = new byte[capacity];
+            cycles = new byte[capacity];
+            autoApproved = new boolean[capacity];
+            months = new int[capacity];
+            prices = new long[capacity];
+            live = new boolean[capacity];
+        }
+
+        void upsert(SubscriptionFact fact) {
+            int row = Arrays.binarySearch(ids, 0, size, fact.id());
+            if (row < 0) {
+                row = insertAt(-row - 1, fact.id());
+            }
+            if (!live[row]) {
+                live[row] = true;
+                liveCount++;
+            }
+            plans[row] = planCode(fact.planId());
+            statuses[row] = (byte) fact.status().ordinal();
+            cycles[row] = (byte) (fact.billingCycle() != null ? fact.billingCycle() : BillingCycle.MONTHLY).ordinal();
+            if (fact.autoApproved() != null) {
+                autoApproved[row] = fact.autoApproved();
+            }
+            months[row] = monthNumber(fact.month());
+            prices[row] = fact.monthlyPrice() != null
+                    ? fact.monthlyPrice().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue()
+                    : 0L;
+        }
+
+        void setAutoApproved(long id, boolean approved) {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row >= 0) {
+                autoApproved[row] = approved;
+            }
+        }
+
+        void remove(long id) {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row >= 0 && live[row]) {
+                live[row] = false;
+                liveCount--;
+            }
+        }
+
+        /**
+         * 구간 집계 (병렬 작업 단위)
+         */
+        GroupTotals scan(int from, int to, Filter filter, Grouping grouping) {
+            GroupTotals totals = new GroupTotals();
+            for (int i = from; i < to; i++) {
+                if (!live[i]
+                        || (filter.plans != null && !filter.plans[plans[i] & 0xFFFF])
+                        || (filter.statuses != null && !filter.statuses[statuses[i]])
+                        || (filter.cycles != null && !filter.cycles[cycles[i]])
+                        || (filter.autoApproved != null && filter.autoApproved != autoApproved[i])
+                        || months[i] < filter.fromMonth || months[i] > filter.toMonth) {
+                    continue;
+                }
+                totals.add(grouping.key(plans[i], statuses[i], cycles[i], autoApproved[i], months[i]), 1, prices[i]);
+            }
+            return totals;
+        }
+
+        /**
+         * ID 순서를 유지하며 빈 행 삽입 (새 구독은 대부분 끝에 추가됨)
+         */
+        private int insertAt(int row, long id) {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                plans = Arrays.copyOf(plans, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                cycles = Arrays.copyOf(cycles, capacity);
+                autoApproved = Arrays.copyOf(autoApproved, capacity);
+                months = Arrays.copyOf(months, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                live = Arrays.copyOf(live, capacity);
+            }
+            int tail = size - row;
+            if (tail > 0) {
+                System.arraycopy(ids, row, ids, row + 1, tail);
+                System.arraycopy(plans, row, plans, row + 1, tail);
+                System.arraycopy(statuses, row, statuses, row + 1, tail);
+                System.arraycopy(cycles, row, cycles, row + 1, tail);
+                System.arraycopy(autoApproved, row, autoApproved, row + 1, tail);
+                System.arraycopy(months, row, months, row + 1, tail);
+                System.arraycopy(prices, row, prices, row + 1, tail);
+                System.arraycopy(live, row, live, row + 1, tail);
+            }
+            ids[row] = id;
+            autoApproved[row] = false;
+            live[row] = false;
+            size++;
+            return row;
+        }
+
+        private short planCode(String planId) {
+            return planCodes.computeIfAbsent(planId, id -> {
+                planDictionary.add(id);
+                return (short) (planDictionary.size() - 1);
+            });
+        }
+    }
+
+    /**
+     * 조회 조건 (코드별 허용 여부 배열, null이면 거르지 않음)
+     */
+    private record Filter(boolean[] plans, boolean[] statuses, boolean[] cycles, Boolean autoApproved,
+                          int fromMonth, int toMonth) {
+
+        static Filter of(SubscriptionAnalyticsRequest request, Columns columns) {
+            boolean[] plans = null;
+            if (request.getPlans() != null && !request.getPlans().isEmpty()) {
+                plans = new boolean[columns.planDictionary.size()];
+                for (String planId : request.getPlans()) {
+                    Short code = columns.planCodes.get(planId);
+                    if (code != null) {
+                        plans[code] = true;
+                    }
+                }
+            }
+
+            boolean[] statuses = null;
+            if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
+                statuses = new boolean[STATUSES.length];
+                for (SubscriptionStatus status : request.getStatuses()) {
+                    statuses[status.ordinal()] = true;
+                }
+            }
+
+            boolean[] cycles = null;
+            if (request.getBillingCycles() != null && !request.getBillingCycles().isEmpty()) {
+                cycles = new boolean[BILLING_CYCLES.length];
+                for (BillingCycle cycle : request.getBillingCycles()) {
+                    cycles[cycle.ordinal()] = true;
+                }
+            }
+
+            return new Filter(plans, statuses, cycles, request.getAutoApproved(),
+                    request.getFromMonth() != null ? monthNumber(request.getFromMonth()) : Integer.MIN_VALUE,
+                    request.getToMonth() != null ? monthNumber(request.getToMonth()) : Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * 집계 키 구성 (집계 기준이 아닌 항목은 0)
+     * 비트 배치: 월 0-15, 요금제 16-31, 상태 32-39, 결제 주기 40-47, 자동 승인 48
+     */
+    private record Grouping(List<SubscriptionAnalyticsDimension> dimensions,
+                            boolean byPlan, boolean byStatus, boolean byCycle, boolean byAutoApproved,
+                            boolean byMonth) {
+
+        Grouping(List<SubscriptionAnalyticsDimension> dimensions) {
+            this(dimensions,
+                    dimensions.contains(SubscriptionAnalyticsDimension.PLAN),
+                    dimensions.contains(SubscriptionAnalyticsDimension.STATUS),
+                    dimensions.contains(SubscriptionAnalyticsDimension.BILLING_CYCLE),
+                    dimensions.contains(SubscriptionAnalyticsDimension.AUTO_APPROVED),
+                    dimensions.contains(SubscriptionAnalyticsDimension.MONTH));
+        }
+
+        long key(short plan, byte status, byte cycle, boolean autoApproved, int month) {
+            long key = 0;
+            if (byMonth) {
+                key |= month & 0xFFFFL;
+            }
+            if (byPlan) {
+                key |= (plan & 0xFFFFL) << 16;
+            }
+            if (byStatus) {
+                key |= (status & 0xFFL) << 32;
+            }
+            if (byCycle) {
+                key |= (cycle & 0xFFL) << 40;
+            }
+            if (byAutoApproved && autoApproved) {
+                key |= 1L << 48;
+            }
+            return key;
+        }
+
+        Map<SubscriptionAnalyticsDimension, String> decode(long key, Columns columns) {
+            Map<SubscriptionAnalyticsDimension, String> values = new LinkedHashMap<>();
+            for (SubscriptionAnalyticsDimension dimension : dimensions) {
+                String value = switch (dimension) {
+                    case PLAN -> columns.planDictionary.get((int) ((key >>> 16) & 0xFFFF));
+                    case STATUS -> STATUSES[(int) ((key >>> 32) & 0xFF)].name();
+                    case BILLING_CYCLE -> BILLING_CYCLES[(int) ((key >>> 40) & 0xFF)].name();
+                    case AUTO_APPROVED -> String.valueOf(((key >>> 48) & 1) == 1);
+                    case MONTH -> {
+                        int month = (int) (key & 0xFFFF);
+                        yield YearMonth.of(month / 12, month % 12 + 1).toString();
+                    }
+                };
+                values.put(dimension, value);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 집계 키별 건수/합계 (기본형 개방 주소 해시)
+     */
+    private static final class GroupTotals {
+
+        private long[] keys = new long[16];
+        private long[] counts = new long[16];
+        private long[] sums = new long[16];
+        private boolean[] used = new boolean[16];
+        private int size;
+
+        void add(long key, long count, long sum) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                keys[slot] = key;
+                size++;
+            }
+            counts[slot] += count;
+            sums[slot] += sum;
+        }
+
+        GroupTotals merge(GroupTotals other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.used[i]) {
+                    add(other.keys[i], other.counts[i], other.sums[i]);
+                }
+            }
+            return this;
+        }
+
+        List<SubscriptionAnalyticsDto.Row> toRows(Grouping grouping, Columns columns) {
+            List<SubscriptionAnalyticsDto.Row> rows = new ArrayList<>(size);
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    rows.add(SubscriptionAnalyticsDto.Row.builder()
+                            .dimensions(grouping.decode(keys[i], columns))
+                            .count(counts[i])
+                            .monthlyPriceSum(BigDecimal.valueOf(sums[i], 2))
+                            .build());
+                }
+            }
+            rows.sort(Comparator.comparing(row -> String.join("\u0000", row.getDimensions().values())));
+            return rows;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            long[] oldSums = sums;
+            boolean[] oldUsed = used;
+            int capacity = oldKeys.length * 2;
+            keys = new long[capacity];
+            counts = new long[capacity];
+            sums = new long[capacity];
+            used = new boolean[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    add(oldKeys[i], oldCounts[i], oldSums[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+
+    private static int monthNumber(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+}
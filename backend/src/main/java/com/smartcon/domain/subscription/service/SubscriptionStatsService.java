@@ -1,7 +1,9 @@
 package com.smartcon.domain.subscription.service;
 
 import com.smartcon.domain.subscription.dto.*;
+import com.smartcon.domain.subscription.entity.ApprovalAction;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -54,6 +56,17 @@ public interface SubscriptionStatsService {
      */
     List<ApprovalPerformanceDto> getApprovalPerformanceAnalysis();
     
+    /**
+     * 기간 내 승인 처리 시간 분포 조회 (메모리 히스토그램)
+     * 
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @param action 승인 액션 (null이면 전체)
+     * @param adminId 관리자 ID (null이면 전체)
+     * @return 처리 시간 백분위
+     */
+    ApprovalLatencyDto getApprovalLatency(LocalDate from, LocalDate to, ApprovalAction action, Long adminId);
+    
     /**
      * 알림 발송 통계 조회 (캐시 적용)
      * 
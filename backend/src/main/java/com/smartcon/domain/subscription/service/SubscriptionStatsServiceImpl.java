@@ -1,19 +1,27 @@
 package com.smartcon.domain.subscription.service;
 
 import com.smartcon.domain.subscription.dto.*;
-import com.smartcon.domain.subscription.repository.NotificationRepository;
-import com.smartcon.domain.subscription.repository.SubscriptionApprovalRepository;
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import com.smartcon.domain.subscription.entity.NotificationType;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.ApprovalDailyRollupRepository;
+import com.smartcon.domain.subscription.repository.NotificationDailyRollupRepository;
 import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.global.cache.RefreshAheadRegistry;
+import com.smartcon.global.common.LatencyHistogram;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,34 +35,37 @@ import java.util.stream.Collectors;
 public class SubscriptionStatsServiceImpl implements SubscriptionStatsService {
     
     private final SubscriptionRepository subscriptionRepository;
-    private final SubscriptionApprovalRepository subscriptionApprovalRepository;
-    private final NotificationRepository notificationRepository;
+    private final SubscriptionStatusCounters subscriptionStatusCounters;
+    private final ApprovalDailyRollupRepository approvalDailyRollupRepository;
+    private final NotificationDailyRollupRepository notificationDailyRollupRepository;
+    private final ApprovalLatencyHistograms approvalLatencyHistograms;
+    private final RefreshAheadRegistry refreshAheadRegistry;
+    
+    /**
+     * 승인/알림 통계 조회 기간 (일)
+     */
+    private static final int STATS_WINDOW_DAYS = 30;
+    
+    /**
+     * 선제 갱신 대상 통계 캐시
+     */
+    private static final String[] STATS_CACHES = {"approvalStats", "notificationStats"};
     
     @Override
-    @Cacheable(value = "subscriptionStats", key = "'overall'")
     public SubscriptionStatsDto getSubscriptionStats() {
-        log.debug("구독 통계 조회 (캐시 적용)");
-        
-        Object[] stats = subscriptionRepository.getSubscriptionStatsOptimized();
-        
-        // H2 데이터베이스에서 반환되는 값들을 안전하게 변환
-        long pendingCount = stats[0] != null ? ((Number) stats[0]).longValue() : 0L;
-        long activeCount = stats[1] != null ? ((Number) stats[1]).longValue() : 0L;
-        long suspendedCount = stats[2] != null ? ((Number) stats[2]).longValue() : 0L;
-        long terminatedCount = stats[3] != null ? ((Number) stats[3]).longValue() : 0L;
-        long rejectedCount = stats[4] != null ? ((Number) stats[4]).longValue() : 0L;
+        log.debug("구독 통계 조회 (상태 카운터)");
         
         return SubscriptionStatsDto.builder()
-                .pendingCount(pendingCount)
-                .activeCount(activeCount)
-                .suspendedCount(suspendedCount)
-                .terminatedCount(terminatedCount)
-                .rejectedCount(rejectedCount)
+                .pendingCount(subscriptionStatusCounters.count(SubscriptionStatus.PENDING_APPROVAL))
+                .activeCount(subscriptionStatusCounters.count(SubscriptionStatus.ACTIVE))
+                .suspendedCount(subscriptionStatusCounters.count(SubscriptionStatus.SUSPENDED))
+                .terminatedCount(subscriptionStatusCounters.count(SubscriptionStatus.TERMINATED))
+                .rejectedCount(subscriptionStatusCounters.count(SubscriptionStatus.REJECTED))
                 .build();
     }
     
     @Override
-    @Cacheable(value = "approvalStats", key = "'monthly'")
+    @Cacheable(value = "approvalStats", key = "'monthly'", sync = true)
     public List<MonthlyApprovalStatsDto> getMonthlyApprovalStats() {
         log.debug("월별 승인 통계 조회 (캐시 적용)");
         
@@ -72,102 +83,152 @@ public class SubscriptionStatsServiceImpl implements SubscriptionStatsService {
     }
     
     @Override
-    @Cacheable(value = "approvalStats", key = "'admin'")
+    @Cacheable(value = "approvalStats", key = "'admin'", sync = true)
     public List<AdminApprovalStatsDto> getAdminApprovalStats() {
-        log.debug("관리자별 승인 통계 조회 (캐시 적용)");
+        log.debug("관리자별 승인 통계 조회 (일별 집계)");
         
-        List<Object[]> results = subscriptionApprovalRepository.getAdminApprovalStatsOptimized();
+        List<Object[]> results = approvalDailyRollupRepository.sumByAdminAndAction(statsWindowStart());
         
         return results.stream()
                 .map(result -> AdminApprovalStatsDto.builder()
                         .adminName((String) result[0])
                         .adminEmail((String) result[1])
-                        .action(com.smartcon.domain.subscription.entity.ApprovalAction.valueOf((String) result[2]))
+                        .action((ApprovalAction) result[2])
                         .approvalCount(((Number) result[3]).longValue())
-                        .avgProcessingMinutes(result[4] != null ? ((Number) result[4]).doubleValue() : 0.0)
+                        .avgProcessingMinutes(average(result[5], result[4]))
                         .build())
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Cacheable(value = "approvalStats", key = "'daily'")
+    @Cacheable(value = "approvalStats", key = "'daily'", sync = true)
     public List<DailyApprovalStatsDto> getDailyApprovalStats() {
-        log.debug("일별 승인 통계 조회 (캐시 적용)");
+        log.debug("일별 승인 통계 조회 (일별 집계)");
         
-        List<Object[]> results = subscriptionApprovalRepository.getDailyApprovalStatsOptimized();
+        List<Object[]> results = approvalDailyRollupRepository.sumByDayAndAction(statsWindowStart());
         
         return results.stream()
                 .map(result -> DailyApprovalStatsDto.builder()
-                        .approvalDate(((java.sql.Date) result[0]).toLocalDate())
-                        .action(com.smartcon.domain.subscription.entity.ApprovalAction.valueOf((String) result[1]))
+                        .approvalDate((LocalDate) result[0])
+                        .action((ApprovalAction) result[1])
                         .totalProcessed(((Number) result[2]).longValue())
-                        .avgProcessingMinutes(result[3] != null ? ((Number) result[3]).doubleValue() : 0.0)
+                        .avgProcessingMinutes(average(result[4], result[3]))
                         .build())
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Cacheable(value = "approvalStats", key = "'autoEfficiency'")
+    @Cacheable(value = "approvalStats", key = "'autoEfficiency'", sync = true)
     public AutoApprovalEfficiencyDto getAutoApprovalEfficiencyStats() {
-        log.debug("자동 승인 효율성 통계 조회 (캐시 적용)");
+        log.debug("자동 승인 효율성 통계 조회 (일별 집계)");
         
-        Object[] result = subscriptionApprovalRepository.getAutoApprovalEfficiencyStats();
+        long autoApproved = 0L;
+        long manualProcessed = 0L;
+        long total = 0L;
+        for (Object[] result : approvalDailyRollupRepository.sumByAction(statsWindowStart())) {
+            ApprovalAction action = (ApprovalAction) result[0];
+            long count = ((Number) result[1]).longValue();
+            total += count;
+            if (action == ApprovalAction.AUTO_APPROVE) {
+                autoApproved += count;
+            } else if (action == ApprovalAction.APPROVE || action == ApprovalAction.REJECT) {
+                manualProcessed += count;
+            }
+        }
         
         return AutoApprovalEfficiencyDto.builder()
-                .autoApproved(((Number) result[0]).longValue())
-                .manualProcessed(((Number) result[1]).longValue())
-                .autoApprovalRate(result[2] != null ? ((Number) result[2]).doubleValue() : 0.0)
+                .autoApproved(autoApproved)
+                .manualProcessed(manualProcessed)
+                .autoApprovalRate(total > 0 ? Math.round(autoApproved * 10000.0 / total) / 100.0 : 0.0)
                 .build();
     }
     
     @Override
-    @Cacheable(value = "approvalStats", key = "'performance'")
+    @Cacheable(value = "approvalStats", key = "'performance'", sync = true)
     public List<ApprovalPerformanceDto> getApprovalPerformanceAnalysis() {
-        log.debug("승인 처리 성능 분석 조회 (캐시 적용)");
+        log.debug("승인 처리 성능 분석 조회 (일별 집계)");
         
-        List<Object[]> results = subscriptionApprovalRepository.getApprovalPerformanceAnalysis();
+        LocalDate from = statsWindowStart();
+        LocalDate today = LocalDate.now();
+        List<Object[]> results = approvalDailyRollupRepository.sumByAction(from);
         
         return results.stream()
-                .map(result -> ApprovalPerformanceDto.builder()
-                        .action(com.smartcon.domain.subscription.entity.ApprovalAction.valueOf((String) result[0]))
-                        .totalCount(((Number) result[1]).longValue())
-                        .minProcessingMinutes(result[2] != null ? ((Number) result[2]).doubleValue() : 0.0)
-                        .maxProcessingMinutes(result[3] != null ? ((Number) result[3]).doubleValue() : 0.0)
-                        .avgProcessingMinutes(result[4] != null ? ((Number) result[4]).doubleValue() : 0.0)
-                        .stddevProcessingMinutes(result[5] != null ? ((Number) result[5]).doubleValue() : 0.0)
-                        .build())
+                .map(result -> {
+                    ApprovalAction action = (ApprovalAction) result[0];
+                    LatencyHistogram latency = approvalLatencyHistograms.merged(from, today, action, null);
+                    long timedCount = ((Number) result[2]).longValue();
+                    double avg = average(result[3], result[2]);
+                    double variance = timedCount > 0
+                            ? ((Number) result[4]).doubleValue() / timedCount - avg * avg
+                            : 0.0;
+                    return ApprovalPerformanceDto.builder()
+                            .action(action)
+                            .totalCount(((Number) result[1]).longValue())
+                            .minProcessingMinutes(result[5] != null ? ((Number) result[5]).doubleValue() : 0.0)
+                            .maxProcessingMinutes(result[6] != null ? ((Number) result[6]).doubleValue() : 0.0)
+                            .avgProcessingMinutes(avg)
+                            .stddevProcessingMinutes(Math.sqrt(Math.max(variance, 0.0)))
+                            .p50ProcessingMinutes(toMinutes(latency.valueAtPercentile(50)))
+                            .p95ProcessingMinutes(toMinutes(latency.valueAtPercentile(95)))
+                            .p99ProcessingMinutes(toMinutes(latency.valueAtPercentile(99)))
+                            .build();
+                })
+                .sorted(Comparator.comparingDouble(ApprovalPerformanceDto::getAvgProcessingMinutes))
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Cacheable(value = "notificationStats", key = "'overall'")
+    public ApprovalLatencyDto getApprovalLatency(LocalDate from, LocalDate to, ApprovalAction action, Long adminId) {
+        LatencyHistogram latency = approvalLatencyHistograms.merged(from, to, action, adminId);
+        
+        return ApprovalLatencyDto.builder()
+                .from(from)
+                .to(to)
+                .action(action)
+                .adminId(adminId)
+                .count(latency.getTotalCount())
+                .meanMinutes(latency.getMean() / 60.0)
+                .p50Minutes(toMinutes(latency.valueAtPercentile(50)))
+                .p90Minutes(toMinutes(latency.valueAtPercentile(90)))
+                .p95Minutes(toMinutes(latency.valueAtPercentile(95)))
+                .p99Minutes(toMinutes(latency.valueAtPercentile(99)))
+                .maxMinutes(toMinutes(latency.getMax()))
+                .build();
+    }
+    
+    @Override
+    @Cacheable(value = "notificationStats", key = "'overall'", sync = true)
     public List<NotificationStatsDto> getNotificationStats() {
-        log.debug("알림 발송 통계 조회 (캐시 적용)");
+        log.debug("알림 발송 통계 조회 (일별 집계)");
         
-        List<Object[]> results = notificationRepository.getNotificationStatsOptimized();
+        List<Object[]> results = notificationDailyRollupRepository.sumByType(statsWindowStart());
         
         return results.stream()
-                .map(result -> NotificationStatsDto.builder()
-                        .type(com.smartcon.domain.subscription.entity.NotificationType.valueOf((String) result[0]))
-                        .totalSent(((Number) result[1]).longValue())
-                        .totalRead(((Number) result[2]).longValue())
-                        .readRate(result[3] != null ? ((Number) result[3]).doubleValue() : 0.0)
-                        .avgReadTimeMinutes(result[4] != null ? ((Number) result[4]).doubleValue() : 0.0)
-                        .build())
+                .map(result -> {
+                    long totalSent = ((Number) result[1]).longValue();
+                    long totalRead = ((Number) result[2]).longValue();
+                    return NotificationStatsDto.builder()
+                            .type((NotificationType) result[0])
+                            .totalSent(totalSent)
+                            .totalRead(totalRead)
+                            .readRate(totalSent > 0 ? Math.round(totalRead * 10000.0 / totalSent) / 100.0 : 0.0)
+                            .avgReadTimeMinutes(average(result[3], result[4]))
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Cacheable(value = "notificationStats", key = "'daily'")
+    @Cacheable(value = "notificationStats", key = "'daily'", sync = true)
     public List<DailyNotificationStatsDto> getDailyNotificationStats() {
-        log.debug("일별 알림 발송 통계 조회 (캐시 적용)");
+        log.debug("일별 알림 발송 통계 조회 (일별 집계)");
         
-        List<Object[]> results = notificationRepository.getDailyNotificationStats();
+        List<Object[]> results = notificationDailyRollupRepository.findDaily(statsWindowStart());
         
         return results.stream()
                 .map(result -> DailyNotificationStatsDto.builder()
-                        .notificationDate(((java.sql.Date) result[0]).toLocalDate())
-                        .type(com.smartcon.domain.subscription.entity.NotificationType.valueOf((String) result[1]))
+                        .notificationDate((LocalDate) result[0])
+                        .type((NotificationType) result[1])
                         .totalSent(((Number) result[2]).longValue())
                         .totalRead(((Number) result[3]).longValue())
                         .build())
@@ -193,27 +254,21 @@ public class SubscriptionStatsServiceImpl implements SubscriptionStatsService {
     }
     
     /**
-     * 매시간 통계 캐시 갱신 (스케줄링)
+     * 통계 캐시 선제 갱신 등록 및 워밍업
+     * 로더는 프록시를 거치지 않는 this 호출이므로 캐시를 건너뛰고 직접 계산합니다.
+     * 이후 항목은 만료 전에 백그라운드에서 다시 계산되며, 계산 중에는 이전 값이 반환됩니다.
      */
-    @Scheduled(fixedRate = 3600000) // 1시간마다
-    @Async("statisticsExecutor")
-    public void scheduledStatsRefresh() {
-        log.info("스케줄링된 통계 캐시 갱신 시작");
-        
-        try {
-            // 캐시 갱신
-            refreshStatsCache();
-            
-            // 주요 통계 미리 로드
-            getSubscriptionStats();
-            getMonthlyApprovalStats();
-            getAutoApprovalEfficiencyStats();
-            getNotificationStats();
-            
-            log.info("스케줄링된 통계 캐시 갱신 완료");
-        } catch (Exception e) {
-            log.error("스케줄링된 통계 캐시 갱신 실패", e);
-        }
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerRefreshAhead() {
+        refreshAheadRegistry.register("approvalStats", "monthly", this::getMonthlyApprovalStats);
+        refreshAheadRegistry.register("approvalStats", "admin", this::getAdminApprovalStats);
+        refreshAheadRegistry.register("approvalStats", "daily", this::getDailyApprovalStats);
+        refreshAheadRegistry.register("approvalStats", "autoEfficiency", this::getAutoApprovalEfficiencyStats);
+        refreshAheadRegistry.register("approvalStats", "performance", this::getApprovalPerformanceAnalysis);
+        refreshAheadRegistry.register("notificationStats", "overall", this::getNotificationStats);
+        refreshAheadRegistry.register("notificationStats", "daily", this::getDailyNotificationStats);
+        refreshAheadRegistry.refreshAll(STATS_CACHES);
+        log.info("통계 캐시 선제 갱신 등록 완료");
     }
     
     /**
@@ -228,12 +283,34 @@ public class SubscriptionStatsServiceImpl implements SubscriptionStatsService {
             // 90일 이전 통계 데이터 정리 로직
             // 실제 구현에서는 별도의 통계 테이블이 있다면 해당 테이블 정리
             
-            // 캐시 갱신
-            refreshStatsCache();
+            // 날짜 기준이 바뀌었으므로 통계 캐시를 백그라운드에서 다시 계산 (계산 중에는 이전 값 반환)
+            refreshAheadRegistry.refreshAll(STATS_CACHES);
             
             log.info("스케줄링된 통계 데이터 정리 완료");
         } catch (Exception e) {
             log.error("스케줄링된 통계 데이터 정리 실패", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 통계 조회 기간 시작일 (최근 30일)
+     */
+    private static LocalDate statsWindowStart() {
+        return LocalDate.now().minusDays(STATS_WINDOW_DAYS);
+    }
+    
+    /**
+     * 초 단위 처리 시간을 분 단위로 변환
+     */
+    private static double toMinutes(long seconds) {
+        return seconds / 60.0;
+    }
+    
+    /**
+     * 합계/건수 평균 (건수가 없으면 0)
+     */
+    private static double average(Object sum, Object count) {
+        long n = count != null ? ((Number) count).longValue() : 0L;
+        return n > 0 ? ((Number) sum).doubleValue() / n : 0.0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 구독 상태 카운터 리스너
+ * 구독이 저장, 상태 변경, 삭제될 때 같은 트랜잭션에서 상태별 카운터를 증감합니다.
+ */
+public class SubscriptionStatusCounterListener {
+
+    private final ObjectProvider<SubscriptionStatusCounters> statusCounters;
+
+    public SubscriptionStatusCounterListener(ObjectProvider<SubscriptionStatusCounters> statusCounters) {
+        this.statusCounters = statusCounters;
+    }
+
+    @PostLoad
+    public void onSubscriptionLoaded(Subscription subscription) {
+        subscription.markStatusPersisted();
+    }
+
+    @PostPersist
+    public void onSubscriptionCreated(Subscription subscription) {
+        record(null, subscription.getStatus());
+        subscription.markStatusPersisted();
+    }
+
+    @PostUpdate
+    public void onSubscriptionUpdated(Subscription subscription) {
+        SubscriptionStatus previous = subscription.getPersistedStatus();
+        if (previous != null && previous != subscription.getStatus()) {
+            record(previous, subscription.getStatus());
+        }
+        subscription.markStatusPersisted();
+    }
+
+    @PostRemove
+    public void onSubscriptionRemoved(Subscription subscription) {
+        record(subscription.getPersistedStatus(), null);
+    }
+
+    private void record(SubscriptionStatus from, SubscriptionStatus to) {
+        statusCounters.ifAvailable(counters -> counters.onTransition(from, to));
+    }
+}
@@ -0,0 +1,121 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.entity.SubscriptionStatusCounter;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionStatusCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구독 상태 카운터 재집계
+ *
+ * subscriptions 테이블을 상태별로 다시 세어 카운터 테이블을 덮어쓰고, 차이(drift)를 보고합니다.
+ * 카운터 행을 쓰기 잠금한 뒤 집계하므로 재집계 중 상태 전이는 카운터 갱신에서 대기합니다.
+ */
+@Component
+@Slf4j
+public class SubscriptionStatusCounterReconciler {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionStatusCounterRepository counterRepository;
+    private final SubscriptionStatusCounters statusCounters;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubscriptionStatusCounterReconciler(SubscriptionRepository subscriptionRepository,
+                                               SubscriptionStatusCounterRepository counterRepository,
+                                               SubscriptionStatusCounters statusCounters,
+                                               PlatformTransactionManager transactionManager) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.counterRepository = counterRepository;
+        this.statusCounters = statusCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 시작 시 메모리 사본 적재 (카운터 테이블이 비어 있으면 재집계)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (counterRepository.count() == 0) {
+                reconcile();
+            } else {
+                statusCounters.reload();
+            }
+            log.info("구독 상태 카운터 초기화 완료 - 전체: {}", statusCounters.total());
+        } catch (Exception e) {
+            log.warn("구독 상태 카운터 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정기 재집계 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${subscription.status-counters.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("구독 상태 카운터 재집계 실패", e);
+        }
+    }
+
+    /**
+     * 카운터 재집계
+     *
+     * @return 상태별 차이 (카운터 값 - 실제 건수, 차이가 없는 상태는 제외)
+     */
+    public Map<SubscriptionStatus, Long> reconcile() {
+        Map<SubscriptionStatus, Long> drift = transactionTemplate.execute(status -> rebuild());
+        statusCounters.reload();
+
+        if (drift.isEmpty()) {
+            log.info("구독 상태 카운터 재집계 완료 - 차이 없음");
+        } else {
+            log.warn("구독 상태 카운터 재집계 완료 - 차이 발견: {}", drift);
+        }
+        return drift;
+    }
+
+    private Map<SubscriptionStatus, Long> rebuild() {
+        Map<SubscriptionStatus, SubscriptionStatusCounter> stored = counterRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(SubscriptionStatusCounter::getStatus, Function.identity()));
+
+        Map<SubscriptionStatus, Long> actual = new EnumMap<>(SubscriptionStatus.class);
+        List<Object[]> rows = subscriptionRepository.countGroupByStatus();
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                actual.put((SubscriptionStatus) row[0], ((Number) row[1]).longValue());
+            }
+        }
+
+        Map<SubscriptionStatus, Long> drift = new EnumMap<>(SubscriptionStatus.class);
+        for (SubscriptionStatus status : SubscriptionStatus.values()) {
+            long actualCount = actual.getOrDefault(status, 0L);
+            SubscriptionStatusCounter counter = stored.get(status);
+            long storedCount = counter != null ? counter.getSubscriptionCount() : 0L;
+
+            if (storedCount != actualCount) {
+                drift.put(status, storedCount - actualCount);
+            }
+            if (counter == null) {
+                counterRepository.save(new SubscriptionStatusCounter(status, actualCount));
+            } else if (storedCount != actualCount) {
+                counter.reset(actualCount);
+            }
+        }
+        return drift;
+    }
+}
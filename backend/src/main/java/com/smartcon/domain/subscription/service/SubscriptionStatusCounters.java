@@ -0,0 +1,185 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.entity.SubscriptionStatusCounter;
+import com.smartcon.domain.subscription.repository.SubscriptionStatusCounterRepository;
+import com.smartcon.global.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 구독 상태별 건수 카운터
+ *
+ * subscription_status_counters 테이블과 그 메모리 사본을 관리합니다.
+ * - 갱신: 상태 전이 flush 시점에 같은 트랜잭션(같은 커넥션)에서 카운터 행 증감
+ * - 메모리 사본: 커밋 직후 증감 반영, 롤백된 전이는 반영되지 않음
+ * - 주기적 재적재: 다른 인스턴스에서 커밋된 증감 반영
+ *
+ * 대시보드 건수 조회는 메모리 사본만 읽으므로 O(1)입니다.
+ * 재적재 중에 커밋된 전이는 기록해 두었다가 스냅샷 반영 직후 다시 적용하여 누락되지 않도록 합니다.
+ * (재적재 시작과 카운터 조회 사이에 커밋된 전이는 두 번 반영될 수 있으며 다음 재적재에서 바로잡힙니다)
+ * 누락이나 수동 변경으로 생긴 오차는 SubscriptionStatusCounterReconciler가 재집계로 바로잡습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionStatusCounters {
+
+    private static final SubscriptionStatus[] STATUSES = SubscriptionStatus.values();
+
+    private static final String INCREMENT_SQL =
+            "UPDATE subscription_status_counters " +
+            "SET subscription_count = subscription_count + ?, updated_at = CURRENT_TIMESTAMP " +
+            "WHERE status = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO subscription_status_counters (status, subscription_count, updated_at) " +
+            "VALUES (?, ?, CURRENT_TIMESTAMP)";
+
+    private final AtomicLongArray counts = new AtomicLongArray(STATUSES.length);
+
+    private final Object reloadLock = new Object();
+    // 재적재 중 커밋된 전이 (this로 보호, 재적재 중이 아니면 null)
+    private List<Runnable> replay;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SubscriptionStatusCounterRepository counterRepository;
+
+    /**
+     * 상태별 구독 수
+     */
+    public long count(SubscriptionStatus status) {
+        return counts.get(status.ordinal());
+    }
+
+    /**
+     * 전체 구독 수
+     */
+    public long total() {
+        long total = 0;
+        for (int i = 0; i < STATUSES.length; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 상태별 구독 수 스냅샷
+     */
+    public Map<SubscriptionStatus, Long> snapshot() {
+        Map<SubscriptionStatus, Long> snapshot = new EnumMap<>(SubscriptionStatus.class);
+        for (SubscriptionStatus status : STATUSES) {
+            snapshot.put(status, counts.get(status.ordinal()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 상태 전이 반영
+     * 카운터 행은 현재 트랜잭션에서 즉시 증감하고, 메모리 사본은 커밋 이후에 반영합니다.
+     * 행 잠금 순서를 고정하기 위해 상태 순서대로 갱신합니다.
+     *
+     * @param from 이전 상태 (신규 생성이면 null)
+     * @param to 새 상태 (삭제면 null)
+     */
+    public void onTransition(SubscriptionStatus from, SubscriptionStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null && to != null && to.ordinal() < from.ordinal()) {
+            increment(to, 1);
+            increment(from, -1);
+        } else {
+            if (from != null) {
+                increment(from, -1);
+            }
+            if (to != null) {
+                increment(to, 1);
+            }
+        }
+
+        AfterCommit.run(() -> apply(from, to));
+    }
+
+    /**
+     * 카운터 테이블로 메모리 사본 교체
+     * 조회 중 커밋된 전이는 스냅샷 반영 후 순서대로 다시 적용합니다.
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+            try {
+                long[] loaded = new long[STATUSES.length];
+                for (SubscriptionStatusCounter counter : counterRepository.findAll()) {
+                    loaded[counter.getStatus().ordinal()] = counter.getSubscriptionCount();
+                }
+                synchronized (this) {
+                    for (int i = 0; i < loaded.length; i++) {
+                        counts.set(i, loaded[i]);
+                    }
+                    replay.forEach(Runnable::run);
+                }
+            } finally {
+                synchronized (this) {
+                    replay = null;
+                }
+            }
+        }
+        log.debug("구독 상태 카운터 재적재 완료 - 전체: {}", total());
+    }
+
+    /**
+     * 주기적 재적재 (기본 1분)
+     */
+    @Scheduled(fixedDelayString = "${subscription.status-counters.refresh-interval-ms:60000}",
+               initialDelayString = "${subscription.status-counters.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("구독 상태 카운터 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터 행 증감 (행이 없으면 생성)
+     */
+    private void increment(SubscriptionStatus status, long delta) {
+        if (jdbcTemplate.update(INCREMENT_SQL, delta, status.name()) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, status.name(), delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREMENT_SQL, delta, status.name());
+        }
+    }
+
+    private synchronized void apply(SubscriptionStatus from, SubscriptionStatus to) {
+        add(from, to);
+        if (replay != null) {
+            replay.add(() -> add(from, to));
+        }
+    }
+
+    private void add(SubscriptionStatus from, SubscriptionStatus to) {
+        if (from != null) {
+            counts.decrementAndGet(from.ordinal());
+        }
+        if (to != null) {
+            counts.incrementAndGet(to.ordinal());
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.smartcon.domain.tenant.entity;
 
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewListener;
+import com.smartcon.domain.tenant.service.TenantSearchIndexListener;
+import com.smartcon.domain.tenant.service.TenantSummaryListener;
 import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -14,6 +17,7 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "tenants")
+@EntityListeners({SubscriptionAdminViewListener.class, TenantSummaryListener.class, TenantSearchIndexListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
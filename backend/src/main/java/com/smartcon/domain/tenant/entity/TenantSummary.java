@@ -0,0 +1,47 @@
+package com.smartcon.domain.tenant.entity;
+
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테넌트 요약 프로젝션 엔티티
+ *
+ * 테넌트별 사용자 수, 현장 수, 현재 구독 상태, 마지막 결제 시각을 미리 계산해 둡니다.
+ * 행은 TenantSummaryProjector가 원본 변경 트랜잭션의 커밋 후 다시 계산하며, JPA로는 읽기만 합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "tenant_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TenantSummary {
+
+    @Id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+
+    @Column(name = "active_user_count", nullable = false)
+    private long activeUserCount;
+
+    @Column(name = "site_count", nullable = false)
+    private int siteCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subscription_status", length = 30)
+    private SubscriptionStatus subscriptionStatus;
+
+    @Column(name = "last_payment_at")
+    private LocalDateTime lastPaymentAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
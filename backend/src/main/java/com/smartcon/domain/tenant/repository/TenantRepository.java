@@ -1,6 +1,7 @@
 package com.smartcon.domain.tenant.repository;
 
 import com.smartcon.domain.tenant.entity.Tenant;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -58,4 +60,30 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
      * 최근 생성된 테넌트 목록 조회
      */
     List<Tenant> findTop10ByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    /**
+     * 테넌트 목록 페이지 (요약 프로젝션과 PK 조인, [Tenant, TenantSummary])
+     * 검색은 회사명 LIKE 또는 테넌트 검색 색인에서 찾은 ID 목록 (allTenants가 true면 ID 조건 미적용)
+     */
+    @Query(value = "SELECT t, ts FROM Tenant t LEFT JOIN TenantSummary ts ON ts.tenantId = t.id " +
+                   "WHERE (:search IS NULL OR UPPER(t.companyName) LIKE UPPER(CONCAT('%', :search, '%'))) " +
+                   "AND (:allTenants = TRUE OR t.id IN :tenantIds) " +
+                   "AND (:status IS NULL OR t.status = :status)",
+           countQuery = "SELECT COUNT(t) FROM Tenant t " +
+                   "WHERE (:search IS NULL OR UPPER(t.companyName) LIKE UPPER(CONCAT('%', :search, '%'))) " +
+                   "AND (:allTenants = TRUE OR t.id IN :tenantIds) " +
+                   "AND (:status IS NULL OR t.status = :status)")
+    Page<Object[]> findSummaryPage(
+            @Param("search") String search,
+            @Param("allTenants") boolean allTenants,
+            @Param("tenantIds") Collection<Long> tenantIds,
+            @Param("status") Tenant.SubscriptionStatus status,
+            Pageable pageable);
+
+    /**
+     * 최근 생성된 테넌트 요약 조회 ([Tenant, TenantSummary])
+     */
+    @Query("SELECT t, ts FROM Tenant t LEFT JOIN TenantSummary ts ON ts.tenantId = t.id " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Object[]> findRecentSummaries(Limit limit);
+}
@@ -0,0 +1,533 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.global.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 테넌트 검색용 n-gram 색인
+ *
+ * 회사명, 대표자명, 사업자등록번호, 대표 이메일을 LIKE '%검색어%' 전체 스캔 없이 찾도록
+ * 정규화한 값의 글자(1-gram)와 두 글자(2-gram)별 테넌트 ID 목록을 메모리에 보관합니다.
+ * - 정규화: NFC 조합, 소문자, 공백과 하이픈 제거 (예: "123-45-67890" → "1234567890")
+ * - 초성: 회사명과 대표자명은 한글 음절을 초성으로 바꾼 값도 색인하여 "ㅅㅁㅌ" 같은 검색어를 지원
+ * - 조회: 검색어 n-gram 중 가장 짧은 목록만 후보로 삼고, 후보의 정규화 값에 검색어가 실제로 포함되는지 확인
+ * - 순위: 일치 위치(전체 > 접두 > 부분) × 필드 가중치(회사명 > 사업자번호 > 대표자명 > 이메일), 동점은 짧은 회사명, ID 순
+ * - 갱신: 테넌트 저장/변경/삭제 트랜잭션 커밋 직후 (TenantSearchIndexListener)
+ * - 적재: 애플리케이션 시작 시 전체 적재, 이후 주기적으로 다시 읽어 다른 인스턴스의 변경 반영
+ */
+@Component
+@Slf4j
+public class TenantSearchIndex {
+
+    private static final String LOAD_SQL =
+            "SELECT id, company_name, ceo_name, business_number, email FROM tenants";
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 검색 대상 필드 (가중치가 클수록 먼저 노출)
+     */
+    public enum Field {
+        COMPANY_NAME(8),
+        BUSINESS_NUMBER(6),
+        REPRESENTATIVE_NAME(4),
+        EMAIL(2);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * 검색 결과 한 건
+     *
+     * @param matchedField 가장 높은 점수로 일치한 필드
+     * @param score        일치 위치 점수 × 필드 가중치 (초성 일치는 한 단계 낮게 계산)
+     */
+    public record Hit(long tenantId, String companyName, String representativeName, String businessNo,
+                      String email, Field matchedField, int score) {
+    }
+
+    /**
+     * 검색 결과 순위 (점수 높은 순, 짧은 회사명 순, ID 순)
+     */
+    private static final Field[] ALL_FIELDS = Field.values();
+    private static final Field[] COMPANY_NAME_ONLY = {Field.COMPANY_NAME};
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt((Hit hit) -> hit.companyName() != null ? hit.companyName().length() : Integer.MAX_VALUE)
+            .thenComparingLong(Hit::tenantId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Object reloadLock = new Object();
+
+    // 현재 색인 참조와 재적재 중 변경 기록은 this 모니터로 보호, 색인 내용은 색인별 읽기/쓰기 잠금으로 보호
+    private Postings postings = new Postings();
+    private List<Consumer<Postings>> replay;
+    private volatile boolean ready;
+
+    public TenantSearchIndex(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+    }
+
+    /**
+     * 테넌트 저장/변경 반영
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 검색되지 않도록 합니다.
+     */
+    public void onChanged(Tenant tenant) {
+        if (tenant.getId() == null) {
+            return;
+        }
+        Document document = Document.of(tenant.getId(), tenant.getCompanyName(), tenant.getRepresentativeName(),
+                tenant.getBusinessNo(), tenant.getEmail());
+        AfterCommit.run(() -> apply(index -> index.upsert(document)));
+    }
+
+    /**
+     * 테넌트 삭제 반영
+     */
+    public void onRemoved(Long tenantId) {
+        if (tenantId != null) {
+            AfterCommit.run(() -> apply(index -> index.remove(tenantId)));
+        }
+    }
+
+    /**
+     * 최초 적재 완료 여부 (적재 전에는 호출자가 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 필드 검색 (순위순)
+     *
+     * @param query 검색어 (초성만 입력하면 회사명/대표자명 초성으로 검색)
+     * @param limit 최대 결과 수
+     */
+    public List<Hit> search(String query, int limit) {
+        return top(query, ALL_FIELDS, limit);
+    }
+
+    /**
+     * 회사명 검색 (순위순)
+     *
+     * @param query 검색어 (초성만 입력하면 회사명 초성으로 검색)
+     * @param limit 최대 결과 수
+     */
+    public List<Hit> searchCompanyName(String query, int limit) {
+        return top(query, COMPANY_NAME_ONLY, limit);
+    }
+
+    /**
+     * 순위 상위 limit건
+     */
+    private List<Hit> top(String query, Field[] fields, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // 상위 limit건만 유지 (힙의 머리가 현재 가장 낮은 순위)
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        find(query, fields, (document, scored) -> {
+            if (top.size() < limit) {
+                top.add(document.toHit(scored));
+            } else if (document.outranks(scored, top.peek())) {
+                top.poll();
+                top.add(document.toHit(scored));
+            }
+        });
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    /**
+     * 회사명에 검색어가 포함된 테넌트 ID (순서 없음)
+     * 구독 목록처럼 회사명으로만 거르는 화면에서 LIKE 조건 대신 사용합니다.
+     */
+    public Set<Long> matchCompanyName(String query) {
+        Set<Long> ids = new HashSet<>();
+        find(query, COMPANY_NAME_ONLY, (document, scored) -> ids.add(document.id()));
+        return ids;
+    }
+
+    /**
+     * 전체 필드 검색에 일치한 테넌트 ID (순서 없음)
+     */
+    public Set<Long> matchAny(String query) {
+        Set<Long> ids = new HashSet<>();
+        find(query, ALL_FIELDS, (document, scored) -> ids.add(document.id()));
+        return ids;
+    }
+
+    /**
+     * 색인된 테넌트 수
+     */
+    public int size() {
+        Postings current;
+        synchronized (this) {
+            current = postings;
+        }
+        current.lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 문서마다 점수와 함께 전달 (결과 객체는 호출자가 필요할 때만 생성)
+     * 가장 짧은 n-gram 목록을 순회하면서 다음으로 짧은 목록 두 개에 없는 후보는 문자열 비교 전에 건너뜁니다.
+     */
+    private void find(String query, Field[] fields, ObjIntConsumer<Document> consumer) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        boolean choseong = hasCompatibilityJamo(normalized);
+        String needle = choseong ? toChoseong(normalized) : normalized;
+
+        Postings current;
+        synchronized (this) {
+            current = postings;
+        }
+        current.lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = current.postingLists(needle);
+            if (lists.isEmpty()) {
+                return;
+            }
+            Set<Long> second = lists.size() > 1 ? lists.get(1) : null;
+            Set<Long> third = lists.size() > 2 ? lists.get(2) : null;
+            for (Long id : lists.get(0)) {
+                if ((second != null && !second.contains(id)) || (third != null && !third.contains(id))) {
+                    continue;
+                }
+                Document document = current.documents.get(id);
+                int scored = document.score(needle, choseong, fields);
+                if (scored != 0) {
+                    consumer.accept(document, scored);
+                }
+            }
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            long started = System.nanoTime();
+            int loaded = reload();
+            log.info("테넌트 검색 색인 적재 완료 - 테넌트 수: {}, {} ms", loaded, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("테넌트 검색 색인 적재 실패 - 다음 재적재 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 재적재 (기본 15분)
+     */
+    @Scheduled(fixedDelayString = "${tenant.search-index.refresh-interval-ms:900000}",
+               initialDelayString = "${tenant.search-index.refresh-interval-ms:900000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("테넌트 검색 색인 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 테넌트 테이블 전체를 새 색인으로 적재한 뒤 교체
+     * 적재 중 커밋된 변경은 기록해 두었다가 새 색인에 다시 반영합니다.
+     *
+     * @return 적재한 테넌트 수
+     */
+    public int reload() {
+        synchronized (reloadLock) {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+
+            Postings loaded = new Postings();
+            try {
+                jdbcTemplate.query(LOAD_SQL, rs -> {
+                    loaded.upsert(Document.of(rs.getLong(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), rs.getString(5)));
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    replay = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                replay.forEach(change -> change.accept(loaded));
+                replay = null;
+                postings = loaded;
+            }
+            ready = true;
+            return loaded.documents.size();
+        }
+    }
+
+    private synchronized void apply(Consumer<Postings> change) {
+        postings.lock.writeLock().lock();
+        try {
+            change.accept(postings);
+        } finally {
+            postings.lock.writeLock().unlock();
+        }
+        if (replay != null) {
+            replay.add(change);
+        }
+    }
+
+    /**
+     * 검색 비교용 정규화 (NFC 조합, 소문자, 공백과 하이픈 제거)
+     */
+    static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (c != '-' && !Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 한글 음절을 초성 자모로 변환 (그 밖의 글자는 그대로)
+     */
+    static String toChoseong(String normalized) {
+        StringBuilder choseong = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            choseong.append(c >= '가' && c <= '힣' ? CHOSEONG[(c - '가') / 588] : c);
+        }
+        return choseong.toString();
+    }
+
+    /**
+     * 초성(호환 자모)이 포함된 검색어인지 여부
+     */
+    public static boolean isChoseongQuery(String query) {
+        return hasCompatibilityJamo(normalize(query));
+    }
+
+    private static boolean hasCompatibilityJamo(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 색인할 n-gram (한 글자와 연속한 두 글자)
+     */
+    private static void addGrams(String value, Set<String> out) {
+        for (int i = 0; i < value.length(); i++) {
+            out.add(value.substring(i, i + 1));
+            if (i + 1 < value.length()) {
+                out.add(value.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 검색어 n-gram (한 글자면 1-gram, 그 이상이면 2-gram)
+     */
+    private static List<String> queryGrams(String needle) {
+        if (needle.length() == 1) {
+            return List.of(needle);
+        }
+        List<String> grams = new ArrayList<>(needle.length() - 1);
+        for (int i = 0; i + 1 < needle.length(); i++) {
+            grams.add(needle.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 문서 (원본 값과 정규화 값)
+     */
+    private record Document(long id, String companyName, String representativeName, String businessNo, String email,
+                            String[] normalized, String companyChoseong, String representativeChoseong) {
+
+        static Document of(long id, String companyName, String representativeName, String businessNo, String email) {
+            String[] normalized = new String[Field.values().length];
+            normalized[Field.COMPANY_NAME.ordinal()] = normalize(companyName);
+            normalized[Field.BUSINESS_NUMBER.ordinal()] = normalize(businessNo);
+            normalized[Field.REPRESENTATIVE_NAME.ordinal()] = normalize(representativeName);
+            normalized[Field.EMAIL.ordinal()] = normalize(email);
+            return new Document(id, companyName, representativeName, businessNo, email, normalized,
+                    toChoseong(normalized[Field.COMPANY_NAME.ordinal()]),
+                    toChoseong(normalized[Field.REPRESENTATIVE_NAME.ordinal()]));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String value : normalized) {
+                addGrams(value, grams);
+            }
+            addGrams(companyChoseong, grams);
+            addGrams(representativeChoseong, grams);
+            return grams;
+        }
+
+        /**
+         * 검색어 일치 점수 (점수 << 2 | 필드 순서, 일치하지 않으면 0)
+         */
+        int score(String needle, boolean choseong, Field[] fields) {
+            Field best = null;
+            int bestScore = 0;
+            for (Field field : fields) {
+                String value;
+                int offset = 0;
+                if (!choseong) {
+                    value = normalized[field.ordinal()];
+                } else if (field == Field.COMPANY_NAME) {
+                    value = companyChoseong;
+                    offset = 1;
+                } else if (field == Field.REPRESENTATIVE_NAME) {
+                    value = representativeChoseong;
+                    offset = 1;
+                } else {
+                    continue;
+                }
+                int position = position(value, needle);
+                int score = position > 0 ? (position * 2 - offset) * field.weight : 0;
+                if (score > bestScore) {
+                    best = field;
+                    bestScore = score;
+                }
+            }
+            return best == null ? 0 : bestScore << 2 | best.ordinal();
+        }
+
+        Hit toHit(int scored) {
+            return new Hit(id, companyName, representativeName, businessNo, email, ALL_FIELDS[scored & 3], scored >>> 2);
+        }
+
+        /**
+         * 결과 객체를 만들지 않고 RANKING 기준으로 기존 결과보다 앞서는지 비교
+         */
+        boolean outranks(int scored, Hit other) {
+            int score = scored >>> 2;
+            if (score != other.score()) {
+                return score > other.score();
+            }
+            int length = companyName != null ? companyName.length() : Integer.MAX_VALUE;
+            int otherLength = other.companyName() != null ? other.companyName().length() : Integer.MAX_VALUE;
+            if (length != otherLength) {
+                return length < otherLength;
+            }
+            return id < other.tenantId();
+        }
+
+        /**
+         * 일치 위치 점수 (전체 3, 접두 2, 부분 1, 불일치 0)
+         */
+        private static int position(String value, String needle) {
+            if (value.equals(needle)) {
+                return 3;
+            } else if (value.startsWith(needle)) {
+                return 2;
+            } else if (value.contains(needle)) {
+                return 1;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * n-gram별 테넌트 ID 목록
+     */
+    private static final class Postings {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<String, Set<Long>> index = new HashMap<>();
+
+        void upsert(Document document) {
+            remove(document.id());
+            documents.put(document.id(), document);
+            for (String gram : document.grams()) {
+                index.computeIfAbsent(gram, key -> new HashSet<>()).add(document.id());
+            }
+        }
+
+        void remove(long id) {
+            Document previous = documents.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : previous.grams()) {
+                Set<Long> ids = index.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    index.remove(gram);
+                }
+            }
+        }
+
+        /**
+         * 검색어 n-gram별 ID 목록 (짧은 순, 하나라도 없으면 빈 목록)
+         */
+        List<Set<Long>> postingLists(String needle) {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : new LinkedHashSet<>(queryGrams(needle))) {
+                Set<Long> ids = index.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            return lists;
+        }
+    }
+}
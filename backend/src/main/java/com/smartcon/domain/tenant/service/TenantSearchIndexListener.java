@@ -0,0 +1,31 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.domain.tenant.entity.Tenant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 테넌트 검색 색인 리스너
+ * 테넌트가 저장, 변경, 삭제되면 검색 색인에 반영합니다.
+ */
+public class TenantSearchIndexListener {
+
+    private final ObjectProvider<TenantSearchIndex> searchIndex;
+
+    public TenantSearchIndexListener(ObjectProvider<TenantSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onTenantChanged(Tenant tenant) {
+        searchIndex.ifAvailable(index -> index.onChanged(tenant));
+    }
+
+    @PostRemove
+    public void onTenantRemoved(Tenant tenant) {
+        searchIndex.ifAvailable(index -> index.onRemoved(tenant.getId()));
+    }
+}
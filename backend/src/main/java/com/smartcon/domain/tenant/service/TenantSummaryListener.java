@@ -0,0 +1,87 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.domain.billing.entity.BillingRecord;
+import com.smartcon.domain.subscription.entity.Payment;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.user.entity.User;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Objects;
+
+/**
+ * 테넌트 요약 리스너
+ * 테넌트, 사용자(생성/활성 여부 변경/삭제), 구독, 결제, 결제 기록이 바뀌면 트랜잭션 커밋 후 테넌트 요약을 갱신합니다.
+ * 로그인 실패 횟수 같은 사용자 정보 수정은 사용자 수와 무관하므로 반영하지 않습니다.
+ */
+public class TenantSummaryListener {
+
+    private final ObjectProvider<TenantSummaryProjector> projector;
+
+    public TenantSummaryListener(ObjectProvider<TenantSummaryProjector> projector) {
+        this.projector = projector;
+    }
+
+    @PostLoad
+    public void onLoaded(Object entity) {
+        if (entity instanceof User user) {
+            user.markActivePersisted();
+        }
+    }
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        refresh(tenantIdOf(entity));
+        if (entity instanceof User user) {
+            user.markActivePersisted();
+        }
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        if (entity instanceof User user) {
+            if (!Objects.equals(user.getPersistedActive(), user.getIsActive())) {
+                refresh(user.getTenantId());
+            }
+            user.markActivePersisted();
+            return;
+        }
+        if (!(entity instanceof Tenant)) {
+            refresh(tenantIdOf(entity));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Tenant tenant) {
+            projector.ifAvailable(summaries -> summaries.remove(tenant.getId()));
+        } else {
+            refresh(tenantIdOf(entity));
+        }
+    }
+
+    private void refresh(Long tenantId) {
+        if (tenantId != null) {
+            projector.ifAvailable(summaries -> summaries.refresh(tenantId));
+        }
+    }
+
+    private static Long tenantIdOf(Object entity) {
+        if (entity instanceof Tenant tenant) {
+            return tenant.getId();
+        } else if (entity instanceof User user) {
+            return user.getTenantId();
+        } else if (entity instanceof Subscription subscription && subscription.getTenant() != null) {
+            return subscription.getTenant().getId();
+        } else if (entity instanceof Payment payment && payment.getTenant() != null) {
+            return payment.getTenant().getId();
+        } else if (entity instanceof BillingRecord record) {
+            return record.getTenantId();
+        }
+        return null;
+    }
+}
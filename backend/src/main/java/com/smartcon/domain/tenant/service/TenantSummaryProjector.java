@@ -0,0 +1,102 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.global.common.AfterCommitBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+/**
+ * 테넌트 요약 프로젝션 반영기
+ *
+ * 사용자 생성/비활성화, 구독, 결제, 결제 기록 변경 시 해당 테넌트의 tenant_summaries 행을 다시 계산합니다.
+ * 재계산은 호출자 트랜잭션 커밋 후 별도 트랜잭션에서 실행하므로 원본 쓰기 트랜잭션이 집계 쿼리의 잠금을 잡지 않으며,
+ * 한 트랜잭션에서 같은 테넌트가 여러 번 바뀌어도 한 번만 계산합니다. (실패 시 정기 재구성에서 보정)
+ * 집계는 테넌트 단위 인덱스(idx_users_tenant_active, idx_tenant_status, idx_payments_tenant_status_paid,
+ * idx_subscription_billing_tenant_id) 범위만 읽습니다.
+ * - 현장 수: 별도 현장 테이블이 없어 가장 최근 결제 기록(subscription_billing)의 현장 수를 사용
+ * - 현재 구독 상태: 가장 최근 구독의 상태
+ * - 마지막 결제 시각: 성공한 결제의 최근 결제 시각
+ */
+@Component
+@Slf4j
+public class TenantSummaryProjector {
+
+    private static final String INSERT_PROJECTION =
+            "INSERT INTO tenant_summaries (tenant_id, user_count, active_user_count, site_count, subscription_status, " +
+            "last_payment_at, updated_at) " +
+            "SELECT t.id, " +
+            "(SELECT COUNT(*) FROM users u WHERE u.tenant_id = t.id), " +
+            "(SELECT COUNT(*) FROM users u WHERE u.tenant_id = t.id AND u.is_active = TRUE), " +
+            "COALESCE((SELECT b.sites_count FROM subscription_billing b WHERE b.tenant_id = t.id " +
+            "ORDER BY b.billing_period_start DESC, b.id DESC LIMIT 1), 0), " +
+            "(SELECT s.status FROM subscriptions s WHERE s.tenant_id = t.id ORDER BY s.id DESC LIMIT 1), " +
+            "(SELECT MAX(p.paid_at) FROM payments p WHERE p.tenant_id = t.id AND p.status = 'SUCCESS'), " +
+            "CURRENT_TIMESTAMP " +
+            "FROM tenants t ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate refreshTransaction;
+    private final AfterCommitBatch<Long> pendingRefreshes = new AfterCommitBatch<>(this::refreshNow);
+
+    public TenantSummaryProjector(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 테넌트 한 곳의 요약 재계산 예약 (현재 트랜잭션 커밋 후 실행, 테넌트가 없으면 행 삭제)
+     */
+    public void refresh(Long tenantId) {
+        if (tenantId != null) {
+            pendingRefreshes.add(tenantId);
+        }
+    }
+
+    private void refreshNow(Set<Long> tenantIds) {
+        try {
+            refreshTransaction.executeWithoutResult(status -> tenantIds.stream().sorted().forEach(tenantId -> {
+                jdbcTemplate.update("DELETE FROM tenant_summaries WHERE tenant_id = ?", tenantId);
+                jdbcTemplate.update(INSERT_PROJECTION + "WHERE t.id = ?", tenantId);
+            }));
+        } catch (Exception e) {
+            log.warn("테넌트 요약 갱신 실패 - 테넌트: {}, 오류: {}", tenantIds, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 테넌트의 요약 제거
+     */
+    public void remove(Long tenantId) {
+        if (tenantId != null) {
+            jdbcTemplate.update("DELETE FROM tenant_summaries WHERE tenant_id = ?", tenantId);
+        }
+    }
+
+    /**
+     * 테넌트 ID 구간 재구성 (호출자 트랜잭션에서 실행)
+     *
+     * @return 적재한 행 수
+     */
+    public int rebuildRange(long fromId, long toId) {
+        jdbcTemplate.update("DELETE FROM tenant_summaries WHERE tenant_id BETWEEN ? AND ?", fromId, toId);
+        return jdbcTemplate.update(INSERT_PROJECTION + "WHERE t.id BETWEEN ? AND ?", fromId, toId);
+    }
+
+    /**
+     * 테넌트 ID 범위 밖(삭제된 테넌트)의 행 제거
+     *
+     * @return 제거한 행 수
+     */
+    public int removeOutside(Long minId, Long maxId) {
+        if (minId == null || maxId == null) {
+            return jdbcTemplate.update("DELETE FROM tenant_summaries");
+        }
+        return jdbcTemplate.update("DELETE FROM tenant_summaries WHERE tenant_id < ? OR tenant_id > ?", minId, maxId);
+    }
+}
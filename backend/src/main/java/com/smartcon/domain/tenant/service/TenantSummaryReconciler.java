@@ -0,0 +1,94 @@
+package com.smartcon.domain.tenant.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 테넌트 요약 프로젝션 재구성
+ *
+ * 테넌트 ID 구간별로 짧은 트랜잭션을 나눠 원본 테이블에서 다시 계산합니다.
+ * 리스너를 거치지 않은 변경(직접 SQL, 연쇄 삭제)으로 생긴 차이를 정기적으로 맞춥니다.
+ */
+@Component
+@Slf4j
+public class TenantSummaryReconciler {
+
+    private final TenantSummaryProjector projector;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TenantSummaryReconciler(TenantSummaryProjector projector,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${tenant.summary.rebuild-chunk-size:1000}") int chunkSize) {
+        this.projector = projector;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 애플리케이션 시작 시 요약 행 수가 테넌트 수와 다르면 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            Long summaries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tenant_summaries", Long.class);
+            Long tenants = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tenants", Long.class);
+            if (!Objects.equals(summaries, tenants)) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("테넌트 요약 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정기 재구성 (기본 매일 04:50)
+     */
+    @Scheduled(cron = "${tenant.summary.rebuild-cron:0 50 4 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("테넌트 요약 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 전체 재구성
+     *
+     * @return 적재한 행 수
+     */
+    public long rebuild() {
+        long started = System.nanoTime();
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM tenants");
+        Long minId = range.get("min_id") != null ? ((Number) range.get("min_id")).longValue() : null;
+        Long maxId = range.get("max_id") != null ? ((Number) range.get("max_id")).longValue() : null;
+
+        long rows = 0;
+        if (minId != null) {
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long to = Math.min(from + chunkSize - 1, maxId);
+                long chunkFrom = from;
+                rows += transactionTemplate.execute(status -> projector.rebuildRange(chunkFrom, to));
+            }
+        }
+        int removed = transactionTemplate.execute(status -> projector.removeOutside(minId, maxId));
+
+        log.info("테넌트 요약 재구성 완료 - {}건 적재, 범위 밖 {}건 제거, {} ms",
+                rows, removed, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
@@ -66,16 +66,18 @@ public class AuthController {
     }
 
     /**
-     * 로그아웃
+     * 로그아웃 (본문에 Refresh Token이 있으면 함께 폐기)
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
         log.info("로그아웃 API 호출");
 
         try {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String accessToken = authHeader.substring(7);
-                authService.logout(accessToken);
+                authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
             }
             return ResponseEntity.ok(ApiResponse.success(null, "로그아웃이 완료되었습니다"));
         } catch (Exception e) {
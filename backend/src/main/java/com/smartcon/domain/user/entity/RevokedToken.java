@@ -0,0 +1,43 @@
+package com.smartcon.domain.user.entity;
+
+import com.smartcon.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 토큰 엔티티
+ *
+ * 로그아웃 등으로 만료 전에 무효화된 JWT의 토큰 ID(jti)를 저장합니다.
+ * 원래 토큰의 만료 시간이 지나면 정리 작업에 의해 삭제됩니다.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken extends BaseEntity {
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "user_id", length = 50)
+    private String userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RevokedToken(String tokenId, String userId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
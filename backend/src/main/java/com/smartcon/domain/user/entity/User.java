@@ -1,7 +1,9 @@
 package com.smartcon.domain.user.entity;
 
+import com.smartcon.domain.tenant.service.TenantSummaryListener;
 import com.smartcon.global.tenant.BaseTenantEntity;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +17,7 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(TenantSummaryListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -67,6 +70,11 @@ public class User extends BaseTenantEntity {
     @Builder.Default
     private Role role = Role.ROLE_WORKER;
 
+    // 마지막으로 DB에 반영된 활성 여부 (테넌트 요약 사용자 수 갱신 판단용)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Boolean persistedActive;
+
     /**
      * 인증 제공자 열거형
      */
@@ -94,6 +102,13 @@ public class User extends BaseTenantEntity {
         return Boolean.TRUE.equals(isActive);
     }
 
+    /**
+     * 현재 활성 여부를 DB 반영 상태로 기록
+     */
+    public void markActivePersisted() {
+        this.persistedActive = this.isActive;
+    }
+
     /**
      * 이메일 인증 여부 확인
      */
@@ -0,0 +1,47 @@
+package com.smartcon.domain.user.repository;
+
+import com.smartcon.domain.user.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 토큰 리포지토리
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * 토큰 ID 폐기 여부 확인
+     */
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 ID 목록 조회 (Bloom Filter 재구성용)
+     */
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 마지막으로 반영한 ID 이후에 추가된 폐기 토큰 조회 (다른 노드의 폐기 동기화용)
+     */
+    List<RevokedToken> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * 최대 ID 조회
+     */
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM RevokedToken r")
+    Long findMaxId();
+
+    /**
+     * 원래 만료 시간이 지난 폐기 토큰 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
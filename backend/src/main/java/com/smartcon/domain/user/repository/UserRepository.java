@@ -61,4 +61,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 테넌트 ID와 역할로 사용자 조회
      */
     List<User> findByTenantIdAndRole(Long tenantId, User.Role role);
+
+    /**
+     * 역할별 사용자 ID 조회 (알림 일괄 발송용, 엔티티 미적재)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.role = :role ORDER BY u.id")
+    List<Long> findIdsByRole(@Param("role") User.Role role);
+
+    /**
+     * 테넌트 ID와 역할로 사용자 ID 조회 (알림 일괄 발송용, 엔티티 미적재)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.tenantId = :tenantId AND u.role = :role ORDER BY u.id")
+    List<Long> findIdsByTenantIdAndRole(@Param("tenantId") Long tenantId, @Param("role") User.Role role);
 }
\ No newline at end of file
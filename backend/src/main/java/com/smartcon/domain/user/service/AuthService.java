@@ -21,8 +21,9 @@ public interface AuthService {
 
     /**
      * 로그아웃
+     * Access Token과 함께 Refresh Token이 전달되면 둘 다 폐기합니다.
      */
-    void logout(String accessToken);
+    void logout(String accessToken, String refreshToken);
 
     /**
      * 토큰 검증
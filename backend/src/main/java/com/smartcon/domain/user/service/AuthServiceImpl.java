@@ -6,6 +6,8 @@ import com.smartcon.domain.user.dto.RefreshTokenRequest;
 import com.smartcon.domain.user.entity.User;
 import com.smartcon.domain.user.repository.UserRepository;
 import com.smartcon.global.security.JwtTokenService;
+import com.smartcon.global.security.PermissionSet;
+import com.smartcon.global.security.VerifiedToken;
 import com.smartcon.global.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +15,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +30,7 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final JwtTokenService jwtTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public LoginResponse login(LoginRequest request) {
@@ -76,7 +77,7 @@ public class AuthServiceImpl implements AuthService {
             userRepository.save(user);
 
             // 권한 정보 생성
-            Map<String, Object> permissions = generateUserPermissions(user.getRole());
+            PermissionSet permissions = RolePermissionRegistry.of(user.getRole());
 
             // JWT 토큰 생성
             String accessToken = jwtTokenService.generateAccessToken(
@@ -104,7 +105,7 @@ public class AuthServiceImpl implements AuthService {
                             .email(user.getEmail())
                             .role(user.getRole().name())
                             .tenantId(user.getTenantId() != null ? user.getTenantId().toString() : null)
-                            .permissions(permissions)
+                            .permissions(permissions.toMap())
                             .profileImageUrl(user.getProfileImageUrl())
                             .build())
                     .build();
@@ -119,20 +120,26 @@ public class AuthServiceImpl implements AuthService {
         log.info("토큰 갱신 요청");
 
         try {
-            // Refresh Token 검증
-            if (!jwtTokenService.validateToken(request.getRefreshToken())) {
-                log.warn("토큰 갱신 실패 - 유효하지 않은 Refresh Token");
-                throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
-            }
-
-            if (!jwtTokenService.isRefreshToken(request.getRefreshToken())) {
+            // Refresh Token 검증 (한 번만 파싱)
+            VerifiedToken verified = jwtTokenService.verifyToken(request.getRefreshToken())
+                    .orElseThrow(() -> {
+                        log.warn("토큰 갱신 실패 - 유효하지 않은 Refresh Token");
+                        return new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
+                    });
+
+            if (!verified.isRefreshToken()) {
                 log.warn("토큰 갱신 실패 - Access Token으로 갱신 시도");
                 throw new IllegalArgumentException("Refresh Token이 아닙니다");
             }
 
+            if (tokenRevocationService.isRevoked(verified.getTokenId())) {
+                log.warn("토큰 갱신 실패 - 폐기된 Refresh Token");
+                throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
+            }
+
             // 토큰에서 사용자 정보 추출
-            String userId = jwtTokenService.extractUserId(request.getRefreshToken());
-            String tenantId = jwtTokenService.extractTenantId(request.getRefreshToken());
+            String userId = verified.getUserId();
+            String tenantId = verified.getTenantId();
 
             // 테넌트 컨텍스트 설정
             if (tenantId != null) {
@@ -155,7 +162,7 @@ public class AuthServiceImpl implements AuthService {
             }
 
             // 권한 정보 생성
-            Map<String, Object> permissions = generateUserPermissions(user.getRole());
+            PermissionSet permissions = RolePermissionRegistry.of(user.getRole());
 
             // 새로운 Access Token 생성
             String newAccessToken = jwtTokenService.generateAccessToken(
@@ -178,7 +185,7 @@ public class AuthServiceImpl implements AuthService {
                             .email(user.getEmail())
                             .role(user.getRole().name())
                             .tenantId(user.getTenantId() != null ? user.getTenantId().toString() : null)
-                            .permissions(permissions)
+                            .permissions(permissions.toMap())
                             .profileImageUrl(user.getProfileImageUrl())
                             .build())
                     .build();
@@ -189,15 +196,22 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void logout(String accessToken) {
+    public void logout(String accessToken, String refreshToken) {
         log.info("로그아웃 요청");
         
-        // 실제 운영에서는 토큰 블랙리스트에 추가하거나 Redis에서 토큰 무효화
-        // 현재는 로그만 남김
+        // 토큰을 폐기 목록에 추가하여 만료 전까지 재사용 차단
         try {
-            if (jwtTokenService.validateToken(accessToken)) {
-                String userId = jwtTokenService.extractUserId(accessToken);
-                log.info("로그아웃 성공 - 사용자 ID: {}", userId);
+            jwtTokenService.verifyToken(accessToken).ifPresent(verified -> {
+                tokenRevocationService.revoke(verified.getTokenId(), verified.getUserId(), verified.getExpiresAt());
+                log.info("로그아웃 성공 - 사용자 ID: {}", verified.getUserId());
+            });
+
+            // Refresh Token도 폐기해야 로그아웃 후 토큰 갱신이 차단됨
+            if (refreshToken != null && !refreshToken.isBlank()) {
+                jwtTokenService.verifyToken(refreshToken)
+                        .filter(VerifiedToken::isRefreshToken)
+                        .ifPresent(verified -> tokenRevocationService.revoke(
+                                verified.getTokenId(), verified.getUserId(), verified.getExpiresAt()));
             }
         } catch (Exception e) {
             log.warn("로그아웃 처리 중 오류: {}", e.getMessage());
@@ -225,7 +239,7 @@ public class AuthServiceImpl implements AuthService {
                 userRole = User.Role.ROLE_SUPER; // 기본값
             }
             
-            Map<String, Object> permissions = generateUserPermissions(userRole);
+            PermissionSet permissions = RolePermissionRegistry.of(userRole);
 
             // JWT 토큰 생성
             String accessToken = jwtTokenService.generateAccessToken(
@@ -251,7 +265,7 @@ public class AuthServiceImpl implements AuthService {
                             .email("dev@smartcon.com")
                             .role(role)
                             .tenantId(tenantId)
-                            .permissions(permissions)
+                            .permissions(permissions.toMap())
                             .profileImageUrl(null)
                             .build())
                     .build();
@@ -288,63 +302,4 @@ public class AuthServiceImpl implements AuthService {
             return rawPassword.equals(encodedPassword);
         }
     }
-
-    /**
-     * 사용자 역할에 따른 권한 정보 생성
-     */
-    private Map<String, Object> generateUserPermissions(User.Role role) {
-        Map<String, Object> permissions = new HashMap<>();
-
-        switch (role) {
-            case ROLE_SUPER:
-                permissions.put("admin.read", true);
-                permissions.put("admin.write", true);
-                permissions.put("subscription.approve", true);
-                permissions.put("subscription.reject", true);
-                permissions.put("tenant.manage", true);
-                permissions.put("user.manage", true);
-                permissions.put("system.monitor", true);
-                break;
-
-            case ROLE_HQ:
-                permissions.put("tenant.read", true);
-                permissions.put("tenant.write", true);
-                permissions.put("user.read", true);
-                permissions.put("user.write", true);
-                permissions.put("attendance.read", true);
-                permissions.put("contract.read", true);
-                permissions.put("contract.write", true);
-                break;
-
-            case ROLE_SITE:
-                permissions.put("site.read", true);
-                permissions.put("site.write", true);
-                permissions.put("attendance.read", true);
-                permissions.put("attendance.write", true);
-                permissions.put("worker.read", true);
-                permissions.put("worker.write", true);
-                permissions.put("contract.read", true);
-                break;
-
-            case ROLE_TEAM:
-                permissions.put("team.read", true);
-                permissions.put("team.write", true);
-                permissions.put("attendance.read", true);
-                permissions.put("worker.read", true);
-                break;
-
-            case ROLE_WORKER:
-                permissions.put("attendance.read", true);
-                permissions.put("contract.read", true);
-                permissions.put("profile.read", true);
-                permissions.put("profile.write", true);
-                break;
-
-            default:
-                // 기본 권한 없음
-                break;
-        }
-
-        return permissions;
-    }
 }
\ No newline at end of file
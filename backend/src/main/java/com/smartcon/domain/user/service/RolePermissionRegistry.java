@@ -0,0 +1,52 @@
+package com.smartcon.domain.user.service;
+
+import com.smartcon.domain.user.entity.User;
+import com.smartcon.global.security.Permission;
+import com.smartcon.global.security.PermissionSet;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.smartcon.global.security.Permission.*;
+
+/**
+ * 역할별 권한 레지스트리
+ * 역할마다 불변 권한 집합을 한 번만 만들어 로그인/토큰 갱신 시 재사용합니다.
+ */
+public final class RolePermissionRegistry {
+
+    private static final Map<User.Role, PermissionSet> ROLE_PERMISSIONS = new EnumMap<>(User.Role.class);
+
+    static {
+        ROLE_PERMISSIONS.put(User.Role.ROLE_SUPER, PermissionSet.of(
+                ADMIN_READ, ADMIN_WRITE, SUBSCRIPTION_APPROVE, SUBSCRIPTION_REJECT,
+                TENANT_MANAGE, USER_MANAGE, SYSTEM_MONITOR));
+
+        ROLE_PERMISSIONS.put(User.Role.ROLE_HQ, PermissionSet.of(
+                TENANT_READ, TENANT_WRITE, USER_READ, USER_WRITE,
+                ATTENDANCE_READ, CONTRACT_READ, CONTRACT_WRITE));
+
+        ROLE_PERMISSIONS.put(User.Role.ROLE_SITE, PermissionSet.of(
+                SITE_READ, SITE_WRITE, ATTENDANCE_READ, ATTENDANCE_WRITE,
+                WORKER_READ, WORKER_WRITE, CONTRACT_READ));
+
+        ROLE_PERMISSIONS.put(User.Role.ROLE_TEAM, PermissionSet.of(
+                TEAM_READ, TEAM_WRITE, ATTENDANCE_READ, WORKER_READ));
+
+        ROLE_PERMISSIONS.put(User.Role.ROLE_WORKER, PermissionSet.of(
+                ATTENDANCE_READ, CONTRACT_READ, PROFILE_READ, PROFILE_WRITE));
+    }
+
+    private RolePermissionRegistry() {
+    }
+
+    /**
+     * 역할의 권한 집합 조회
+     */
+    public static PermissionSet of(User.Role role) {
+        if (role == null) {
+            return PermissionSet.empty();
+        }
+        return ROLE_PERMISSIONS.getOrDefault(role, PermissionSet.empty());
+    }
+}
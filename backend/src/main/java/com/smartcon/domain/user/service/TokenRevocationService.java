@@ -0,0 +1,160 @@
+package com.smartcon.domain.user.service;
+
+import com.smartcon.domain.user.entity.RevokedToken;
+import com.smartcon.domain.user.repository.RevokedTokenRepository;
+import com.smartcon.global.common.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 토큰 폐기(denylist) 서비스
+ *
+ * 폐기된 토큰 ID를 revoked_tokens 테이블에 저장하고, 메모리의 Bloom Filter로
+ * "폐기되지 않음" 판정을 DB 조회 없이 처리합니다.
+ * - Bloom Filter가 포함 가능성을 알릴 때만 DB로 최종 확인 (거짓 양성 대비)
+ * - 다른 노드에서 추가된 폐기 항목은 ID 워터마크로 주기적으로 반영
+ *   (늦게 커밋된 낮은 ID를 놓치지 않도록 워터마크 이전 구간도 다시 조회)
+ * - 원래 토큰 만료 시간이 지난 항목은 삭제 후 필터를 재구성
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncOverlap;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile long lastSyncedId;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${jwt.revocation.sync-overlap:1000}") long syncOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 애플리케이션 시작 시 아직 유효한 폐기 토큰으로 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildFilter();
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param userId 사용자 ID
+     * @param expiresAt 원래 토큰 만료 시간
+     */
+    @Transactional
+    public void revoke(String tokenId, String userId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            log.warn("토큰 ID 또는 만료 시간이 없어 폐기할 수 없습니다 - 사용자: {}", userId);
+            return;
+        }
+
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .userId(userId)
+                    .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                    .build());
+        }
+        bloomFilter.put(tokenId);
+
+        log.info("토큰 폐기 완료 - 사용자: {}, 토큰 ID: {}", userId, tokenId);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     * 대부분의 요청은 Bloom Filter에서 즉시 false로 판정되어 DB를 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    /**
+     * 다른 노드에서 추가된 폐기 토큰 반영 (기본 10초마다)
+     * AUTO_INCREMENT ID는 커밋 순서와 다를 수 있으므로 워터마크 직전 syncOverlap개 구간을 매번 다시 조회합니다.
+     * Bloom Filter 추가는 멱등이라 이미 반영된 항목이 다시 조회되어도 무방합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:10000}")
+    @Transactional(readOnly = true)
+    public void syncRecentRevocations() {
+        long watermark = lastSyncedId;
+        List<RevokedToken> recent = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(
+                Math.max(0, watermark - syncOverlap));
+        if (recent.isEmpty()) {
+            return;
+        }
+
+        BloomFilter filter = bloomFilter;
+        int added = 0;
+        for (RevokedToken revokedToken : recent) {
+            if (!filter.mightContain(revokedToken.getTokenId())) {
+                filter.put(revokedToken.getTokenId());
+                added++;
+            }
+        }
+        lastSyncedId = Math.max(watermark, recent.get(recent.size() - 1).getId());
+
+        if (added > 0) {
+            log.debug("폐기 토큰 동기화 - 추가: {}건, 워터마크: {}", added, lastSyncedId);
+        }
+    }
+
+    /**
+     * 만료된 폐기 토큰 정리 및 필터 재구성 (1시간마다)
+     */
+    @Scheduled(fixedRate = 3600000)
+    @Transactional
+    public void pruneExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        rebuildFilter();
+
+        log.info("만료된 폐기 토큰 정리 완료 - 삭제: {}건", deleted);
+    }
+
+    /**
+     * 유효한 폐기 토큰 ID로 새 필터를 만들어 교체
+     */
+    private void rebuildFilter() {
+        long watermark = revokedTokenRepository.findMaxId();
+        List<String> activeTokenIds = revokedTokenRepository.findActiveTokenIds(LocalDateTime.now());
+
+        BloomFilter filter = BloomFilter.create(Math.max(expectedInsertions, activeTokenIds.size()), falsePositiveRate);
+        activeTokenIds.forEach(filter::put);
+
+        this.bloomFilter = filter;
+        this.lastSyncedId = watermark;
+
+        log.info("폐기 토큰 필터 구성 완료 - 항목: {}건, 비트 수: {}, 해시 함수: {}",
+                activeTokenIds.size(), filter.getBitSize(), filter.getHashFunctions());
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartcon.global.cache;
+
+import com.smartcon.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 무효화 로그 엔티티
+ *
+ * 한 노드에서 캐시 항목을 제거하면 기록되며, 다른 노드는 이 로그를 폴링하여
+ * 자신의 로컬 캐시에서도 같은 항목을 제거합니다.
+ */
+@Entity
+@Table(name = "cache_invalidations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation extends BaseEntity {
+
+    @Column(name = "cache_name", nullable = false, length = 100)
+    private String cacheName;
+
+    /**
+     * 제거할 캐시 키 (null이면 캐시 전체 제거)
+     */
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    /**
+     * 무효화를 발생시킨 노드 ID
+     */
+    @Column(name = "origin_node", nullable = false, length = 100)
+    private String originNode;
+
+    @Builder
+    public CacheInvalidation(String cacheName, String cacheKey, String originNode) {
+        this.cacheName = cacheName;
+        this.cacheKey = cacheKey;
+        this.originNode = originNode;
+    }
+
+    /**
+     * 캐시 전체 제거 여부
+     */
+    public boolean isClearAll() {
+        return cacheKey == null;
+    }
+}
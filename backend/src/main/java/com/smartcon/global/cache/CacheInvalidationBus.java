@@ -0,0 +1,224 @@
+package com.smartcon.global.cache;
+
+import com.smartcon.global.common.AfterCommitBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * DB 기반 캐시 무효화 채널
+ *
+ * 별도 메시지 브로커 없이 cache_invalidations 테이블을 통해 노드 간 캐시 무효화를 전파합니다.
+ * - 발행: 로컬 캐시 제거 시 무효화 로그 기록 (진행 중인 트랜잭션이 있으면 커밋 후 별도 트랜잭션에서 기록)
+ * - 수신: 워터마크(반영한 최대 ID) 이후 로그를 주기적으로 폴링하여 로컬 캐시에서 제거
+ *
+ * AUTO_INCREMENT ID는 커밋 순서와 다를 수 있으므로, 매 폴링마다 워터마크 이전 rescan-window개 구간을
+ * 다시 조회하고 이미 반영한 ID는 건너뜁니다. (늦게 커밋된 낮은 ID도 반영)
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String nodeId;
+    private final long rescanWindow;
+    private final long retentionMinutes;
+    private final TransactionTemplate publishTransaction;
+    private final AfterCommitBatch<PendingInvalidation> pendingInvalidations = new AfterCommitBatch<>(this::record);
+
+    private volatile CacheManager localCacheManager;
+
+    /**
+     * 반영한 무효화 로그 최대 ID (-1: 미초기화)
+     */
+    private long watermark = -1;
+
+    /**
+     * 재조회 구간(워터마크 - rescanWindow 초과) 안에서 이미 반영한 로그 ID
+     */
+    private final TreeSet<Long> appliedIds = new TreeSet<>();
+
+    public CacheInvalidationBus(
+            CacheInvalidationRepository cacheInvalidationRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${cache.invalidation.node-id:}") String nodeId,
+            @Value("${cache.invalidation.rescan-window:1000}") long rescanWindow,
+            @Value("${cache.invalidation.retention-minutes:60}") long retentionMinutes,
+            PlatformTransactionManager transactionManager) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.nodeId = nodeId != null && !nodeId.isBlank() ? nodeId : defaultNodeId();
+        this.rescanWindow = Math.max(0, rescanWindow);
+        this.retentionMinutes = retentionMinutes;
+        this.publishTransaction = new TransactionTemplate(transactionManager);
+        this.publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        log.info("캐시 무효화 채널 초기화 - 활성화: {}, 노드 ID: {}", enabled, this.nodeId);
+    }
+
+    /**
+     * 원격 무효화를 반영할 로컬 캐시 매니저 연결
+     */
+    public void attach(CacheManager localCacheManager) {
+        this.localCacheManager = localCacheManager;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 캐시 무효화 발행
+     * 진행 중인 트랜잭션이 있으면 커밋 후 기록하므로, 기록 실패가 호출자 트랜잭션을 롤백 전용으로 만들지 않고
+     * 다른 노드도 커밋 전 데이터로 캐시를 다시 채우지 않습니다. (같은 트랜잭션의 중복 발행은 한 번만 기록)
+     *
+     * @param cacheName 캐시 이름
+     * @param key 제거할 키 (null이면 캐시 전체)
+     */
+    public void publish(String cacheName, Object key) {
+        if (!enabled) {
+            return;
+        }
+        pendingInvalidations.add(new PendingInvalidation(cacheName, toStoredKey(key)));
+    }
+
+    private void record(Set<PendingInvalidation> invalidations) {
+        try {
+            publishTransaction.executeWithoutResult(status -> invalidations.forEach(invalidation ->
+                    cacheInvalidationRepository.save(CacheInvalidation.builder()
+                            .cacheName(invalidation.cacheName())
+                            .cacheKey(invalidation.cacheKey())
+                            .originNode(nodeId)
+                            .build())));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 캐시 TTL 만료 시점에 갱신됨
+            log.warn("캐시 무효화 발행 실패 - 대상: {}, 오류: {}", invalidations, e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 완료 시 현재 최대 ID를 워터마크로 설정
+     * 기동 직후 로컬 캐시는 비어 있으므로 이전 로그는 반영할 필요가 없습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            watermark = cacheInvalidationRepository.findMaxId();
+            log.info("캐시 무효화 채널 시작 - 워터마크: {}", watermark);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 워터마크 초기화 실패 - 첫 폴링 시 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 로그 반영 (기본 1초마다)
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled || localCacheManager == null) {
+            return;
+        }
+
+        try {
+            if (watermark < 0) {
+                watermark = cacheInvalidationRepository.findMaxId();
+                return;
+            }
+
+            long rescanFrom = Math.max(0, watermark - rescanWindow);
+            List<CacheInvalidation> invalidations = cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(rescanFrom);
+            for (CacheInvalidation invalidation : invalidations) {
+                if (appliedIds.add(invalidation.getId()) && !nodeId.equals(invalidation.getOriginNode())) {
+                    apply(invalidation);
+                }
+                watermark = Math.max(watermark, invalidation.getId());
+            }
+            // 재조회 구간을 벗어난 ID는 다시 조회되지 않으므로 기록에서 제거
+            appliedIds.headSet(watermark - rescanWindow, true).clear();
+        } catch (Exception e) {
+            log.warn("캐시 무효화 로그 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 무효화 로그 정리 (1시간마다)
+     */
+    @Scheduled(fixedRate = 3600000)
+    @Transactional
+    public void pruneExpired() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = cacheInvalidationRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.info("오래된 캐시 무효화 로그 정리 - {}건", deleted);
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        Cache cache = localCacheManager.getCache(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+
+        if (invalidation.isClearAll()) {
+            cache.invalidate();
+        } else {
+            cache.evict(invalidation.getCacheKey());
+        }
+        eventPublisher.publishEvent(new RemoteCacheInvalidatedEvent(
+                invalidation.getCacheName(), invalidation.getCacheKey()));
+        log.debug("원격 캐시 무효화 반영 - 캐시: {}, 키: {}, 노드: {}",
+                invalidation.getCacheName(), invalidation.getCacheKey(), invalidation.getOriginNode());
+    }
+
+    /**
+     * 문자열 키만 개별 제거하고, 그 외 키는 캐시 전체 제거로 전파
+     */
+    private static String toStoredKey(Object key) {
+        if (key instanceof String stringKey && stringKey.length() <= 255) {
+            return stringKey;
+        }
+        return null;
+    }
+
+    /**
+     * 커밋 후 기록할 무효화 (캐시 이름 + 저장 키)
+     */
+    private record PendingInvalidation(String cacheName, String cacheKey) {
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
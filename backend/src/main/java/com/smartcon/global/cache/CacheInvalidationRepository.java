@@ -0,0 +1,35 @@
+package com.smartcon.global.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시 무효화 로그 리포지토리
+ */
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    /**
+     * 워터마크 이후 기록된 무효화 로그 조회
+     */
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * 최대 ID 조회
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheInvalidation c")
+    Long findMaxId();
+
+    /**
+     * 보존 기간이 지난 무효화 로그 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
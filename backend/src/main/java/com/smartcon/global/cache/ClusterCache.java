@@ -0,0 +1,88 @@
+package com.smartcon.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 제거 시 다른 노드로 무효화를 전파하는 캐시
+ * 조회/저장은 로컬 캐시에서만 처리합니다.
+ */
+public class ClusterCache implements Cache {
+
+    private final Cache localCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    ClusterCache(Cache localCache, CacheInvalidationBus invalidationBus) {
+        this.localCache = localCache;
+        this.invalidationBus = invalidationBus;
+    }
+
+    public Cache getLocalCache() {
+        return localCache;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        return localCache.get(key);
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        return localCache.get(key, type);
+    }
+
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        return localCache.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        localCache.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        return localCache.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        localCache.evict(key);
+        invalidationBus.publish(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = localCache.evictIfPresent(key);
+        invalidationBus.publish(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        invalidationBus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = localCache.invalidate();
+        invalidationBus.publish(getName(), null);
+        return invalidated;
+    }
+}
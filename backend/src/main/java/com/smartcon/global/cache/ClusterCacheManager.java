@@ -0,0 +1,52 @@
+package com.smartcon.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 매니저
+ *
+ * 로컬 캐시 매니저(near cache)를 감싸서, 캐시 제거 시 무효화 채널로 다른 노드에 전파합니다.
+ * 다른 노드에서 받은 무효화는 로컬 캐시 매니저에 직접 반영되어 다시 전파되지 않습니다.
+ */
+public class ClusterCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, ClusterCache> caches = new ConcurrentHashMap<>();
+
+    public ClusterCacheManager(CacheManager localCacheManager, CacheInvalidationBus invalidationBus) {
+        this.localCacheManager = localCacheManager;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.attach(localCacheManager);
+    }
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        ClusterCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new ClusterCache(localCache, invalidationBus));
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    public CacheManager getLocalCacheManager() {
+        return localCacheManager;
+    }
+}
@@ -0,0 +1,23 @@
+package com.smartcon.global.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * 2단계 캐시의 로컬 캐시 통계를 Actuator 캐시 메트릭으로 노출
+ */
+public class ClusterCacheMeterBinderProvider implements CacheMeterBinderProvider<ClusterCache> {
+
+    private final CaffeineCacheMeterBinderProvider caffeineProvider = new CaffeineCacheMeterBinderProvider();
+
+    @Override
+    public MeterBinder getMeterBinder(ClusterCache cache, Iterable<Tag> tags) {
+        if (cache.getLocalCache() instanceof CaffeineCache caffeineCache) {
+            return caffeineProvider.getMeterBinder(caffeineCache, tags);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.smartcon.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 선제 갱신(refresh-ahead) 캐시 로더 등록소
+ *
+ * 갱신 기준 시간(refresh-after)이 설정된 캐시는 키별 로더로 값을 다시 계산할 수 있는 로딩 캐시로 만들어집니다.
+ * - 조회 시: 갱신 기준 시간이 지난 항목은 이전 값을 그대로 반환하고 백그라운드에서 다시 계산
+ * - 주기 점검: 등록된 키 중 비어 있거나 갱신 기준 시간이 지난 항목을 만료 전에 미리 다시 계산
+ * - 동시 미스: 같은 키의 적재는 캐시가 한 번만 수행하고 나머지 요청은 그 결과를 기다림
+ *
+ * 로더는 캐시 프록시를 거치지 않는 계산 함수여야 합니다 (@Cacheable 메서드를 프록시로 다시 호출하면 이전 값이 반환됨).
+ */
+@Component
+@Slf4j
+public class RefreshAheadRegistry {
+
+    private final Map<String, Map<Object, Supplier<?>>> loaders = new ConcurrentHashMap<>();
+    private final Map<String, LoadingCache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    public RefreshAheadRegistry(@Qualifier("statisticsExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 캐시 키별 로더 등록
+     */
+    public void register(String cacheName, Object key, Supplier<?> loader) {
+        loaders.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>()).put(key, loader);
+    }
+
+    /**
+     * 선제 갱신 로딩 캐시 생성
+     */
+    public LoadingCache<Object, Object> build(String cacheName, Caffeine<Object, Object> builder, Duration refreshAfter) {
+        LoadingCache<Object, Object> cache = builder
+                .refreshAfterWrite(refreshAfter)
+                .executor(executor)
+                .build(key -> load(cacheName, key));
+        caches.put(cacheName, cache);
+        return cache;
+    }
+
+    /**
+     * 갱신 시점이 된 등록 항목 선제 갱신 (기본 30초마다 점검)
+     */
+    @Scheduled(fixedDelayString = "${cache.refresh-ahead.check-interval-ms:30000}",
+               initialDelayString = "${cache.refresh-ahead.check-interval-ms:30000}")
+    public void refreshDue() {
+        caches.forEach((cacheName, cache) -> {
+            Duration refreshAfter = cache.policy().refreshAfterWrite()
+                    .map(Policy.FixedRefresh::getRefreshesAfter)
+                    .orElse(Duration.ZERO);
+            for (Object key : registeredKeys(cacheName)) {
+                Optional<Duration> age = cache.policy().refreshAfterWrite().flatMap(policy -> policy.ageOf(key));
+                if (age.isEmpty() || age.get().compareTo(refreshAfter) >= 0) {
+                    refresh(cacheName, cache, key);
+                }
+            }
+        });
+    }
+
+    /**
+     * 등록 항목 전체 백그라운드 갱신 (갱신이 끝날 때까지 이전 값 유지)
+     */
+    public void refreshAll(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            LoadingCache<Object, Object> cache = caches.get(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            for (Object key : registeredKeys(cacheName)) {
+                refresh(cacheName, cache, key);
+            }
+        }
+    }
+
+    /**
+     * 등록된 로더로 값 계산 (등록되지 않은 키는 null을 반환하여 캐시하지 않음)
+     */
+    private Object load(String cacheName, Object key) {
+        Supplier<?> loader = loaders.getOrDefault(cacheName, Map.of()).get(key);
+        if (loader == null) {
+            return null;
+        }
+        log.debug("캐시 항목 적재 - {}: {}", cacheName, key);
+        return loader.get();
+    }
+
+    private void refresh(String cacheName, LoadingCache<Object, Object> cache, Object key) {
+        try {
+            cache.refresh(key);
+        } catch (Exception e) {
+            log.warn("캐시 선제 갱신 요청 실패 - {}: {} ({})", cacheName, key, e.getMessage());
+        }
+    }
+
+    private Iterable<Object> registeredKeys(String cacheName) {
+        return loaders.getOrDefault(cacheName, Map.of()).keySet();
+    }
+}
@@ -0,0 +1,23 @@
+package com.smartcon.global.cache;
+
+import lombok.Getter;
+
+/**
+ * 다른 노드에서 발생한 캐시 무효화를 로컬 캐시에 반영한 후 발행되는 이벤트
+ * 캐시 외부에 파생 데이터를 보관하는 컴포넌트가 함께 갱신할 때 사용합니다.
+ */
+@Getter
+public class RemoteCacheInvalidatedEvent {
+
+    private final String cacheName;
+
+    /**
+     * 제거된 키 (null이면 캐시 전체)
+     */
+    private final String cacheKey;
+
+    public RemoteCacheInvalidatedEvent(String cacheName, String cacheKey) {
+        this.cacheName = cacheName;
+        this.cacheKey = cacheKey;
+    }
+}
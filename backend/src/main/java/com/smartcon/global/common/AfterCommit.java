@@ -0,0 +1,30 @@
+package com.smartcon.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행
+ *
+ * 트랜잭션 안에서 호출되면 커밋 이후에 실행하고 롤백되면 실행하지 않습니다.
+ * 트랜잭션 밖에서 호출하면 즉시 실행합니다.
+ * 같은 키를 한 번만 처리해야 하면 {@link AfterCommitBatch}를 사용합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
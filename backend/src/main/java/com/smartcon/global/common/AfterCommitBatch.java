@@ -0,0 +1,61 @@
+package com.smartcon.global.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 커밋 후 일괄 처리
+ *
+ * 한 트랜잭션에서 같은 키가 여러 번 추가되어도 커밋 후 한 번만 처리합니다.
+ * 롤백되면 처리하지 않고, 트랜잭션 밖에서 추가하면 즉시 처리합니다.
+ * 커밋 후 DB 작업이 필요하면 처리 함수에서 새 트랜잭션(REQUIRES_NEW)을 열어야 합니다.
+ *
+ * @param <K> 처리 대상 키 타입
+ */
+public class AfterCommitBatch<K> {
+
+    private final Consumer<Set<K>> action;
+
+    public AfterCommitBatch(Consumer<Set<K>> action) {
+        this.action = action;
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 후 처리 대상에 키 추가
+     */
+    public void add(K key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(Set.of(key));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keys.add(key);
+    }
+
+    private class Pending implements TransactionSynchronization {
+
+        private final Set<K> keys = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            action.accept(Collections.unmodifiableSet(keys));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AfterCommitBatch.this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.smartcon.global.common;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 고정 메모리 지연 시간 히스토그램 (HDR 방식 로그-선형 버킷)
+ *
+ * 값을 2의 거듭제곱 구간마다 16개의 하위 버킷으로 나누어 세므로, 값의 크기와 관계없이
+ * 백분위 값의 상대 오차가 약 3% 이내입니다.
+ * - 메모리: 버킷 368개 고정 (MAX_TRACKABLE_VALUE보다 큰 값은 마지막 버킷에 포함)
+ * - 병합: 같은 버킷끼리 더하므로 일별 히스토그램을 임의 기간으로 합칠 수 있음
+ * - 직렬화: 0이 아닌 버킷만 가변 길이 정수로 기록
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 25;
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * 구분해서 기록할 수 있는 최대 값 (초 단위 기준 약 2년)
+     */
+    public static final long MAX_TRACKABLE_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * 값 기록
+     */
+    public synchronized void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("음수 값은 기록할 수 없습니다: " + value);
+        }
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 히스토그램 병합
+     */
+    public void merge(LatencyHistogram other) {
+        LatencyHistogram source = other.copy();
+        synchronized (this) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += source.counts[i];
+            }
+            if (source.totalCount > 0) {
+                totalCount += source.totalCount;
+                sum += source.sum;
+                min = Math.min(min, source.min);
+                max = Math.max(max, source.max);
+            }
+        }
+    }
+
+    /**
+     * 복사본 생성
+     */
+    public synchronized LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, BUCKET_COUNT);
+        copy.totalCount = totalCount;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMin() {
+        return totalCount > 0 ? min : 0;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    public synchronized double getMean() {
+        return totalCount > 0 ? (double) sum / totalCount : 0.0;
+    }
+
+    /**
+     * 백분위 값 (해당 버킷의 중간값, 기록된 최소/최대 범위로 보정, 100이면 최대값)
+     *
+     * @param percentile 0 ~ 100
+     * @return 기록된 값이 없으면 0
+     */
+    public synchronized long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double bounded = Math.min(Math.max(percentile, 0.0), 100.0);
+        long rank = Math.max(1, (long) Math.ceil(bounded / 100.0 * totalCount));
+        if (rank >= totalCount) {
+            return max;
+        }
+
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                long value = bucketLowerBound(i) + (bucketWidth(i) - 1) / 2;
+                return Math.min(Math.max(value, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 직렬화 (형식 버전, 합계, 최소, 최대, 0이 아닌 버킷의 인덱스 차이와 건수)
+     */
+    public synchronized byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, sum);
+        writeVarLong(out, getMin());
+        writeVarLong(out, max);
+
+        int previous = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                writeVarLong(out, i - previous);
+                writeVarLong(out, counts[i]);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 역직렬화
+     */
+    public static LatencyHistogram fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 히스토그램 형식입니다");
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        int[] position = {1};
+        histogram.sum = readVarLong(bytes, position);
+        long min = readVarLong(bytes, position);
+        histogram.max = readVarLong(bytes, position);
+
+        int index = -1;
+        while (position[0] < bytes.length) {
+            index += (int) readVarLong(bytes, position);
+            long count = readVarLong(bytes, position);
+            histogram.counts[index] = count;
+            histogram.totalCount += count;
+        }
+        histogram.min = histogram.totalCount > 0 ? min : Long.MAX_VALUE;
+        return histogram;
+    }
+
+    static int bucketIndex(long value) {
+        long bounded = Math.min(value, MAX_TRACKABLE_VALUE);
+        if (bounded < SUB_BUCKETS) {
+            return (int) bounded;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(bounded);
+        int mantissa = (int) (bounded >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    static long bucketWidth(int index) {
+        return index < SUB_BUCKETS ? 1 : 1L << (index / SUB_BUCKETS - 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -11,11 +11,20 @@ import java.util.concurrent.Executor;
  * 비동기 처리 설정
  * 
  * 알림 발송, 통계 계산 등의 작업을 비동기로 처리하여 응답 성능을 향상시킵니다.
+ * 모든 실행자는 요청 스레드의 테넌트 ID, 보안 컨텍스트, MDC를 작업 스레드로 전파합니다.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
     
+    /**
+     * 요청 컨텍스트(테넌트, 보안, MDC) 전파 데코레이터
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+    
     /**
      * 알림 발송용 비동기 실행자
      */
@@ -26,6 +35,7 @@ public class AsyncConfig {
         executor.setMaxPoolSize(5);            // 최대 스레드 수
         executor.setQueueCapacity(100);        // 큐 용량
         executor.setThreadNamePrefix("Notification-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
@@ -42,12 +52,31 @@ public class AsyncConfig {
         executor.setMaxPoolSize(3);            // 최대 스레드 수
         executor.setQueueCapacity(50);         // 큐 용량
         executor.setThreadNamePrefix("Statistics-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
         return executor;
     }
     
+    /**
+     * 스트리밍 응답(대용량 내보내기)용 실행자
+     * 동시 내보내기 수를 제한하여 장시간 점유되는 DB 연결 수를 제한합니다.
+     */
+    @Bean(name = "streamingExecutor")
+    public ThreadPoolTaskExecutor streamingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);           // 기본 스레드 수
+        executor.setMaxPoolSize(4);            // 최대 스레드 수
+        executor.setQueueCapacity(20);         // 큐 용량
+        executor.setThreadNamePrefix("Streaming-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+    
     /**
      * 일반적인 비동기 작업용 실행자
      */
@@ -58,6 +87,7 @@ public class AsyncConfig {
         executor.setMaxPoolSize(10);           // 최대 스레드 수
         executor.setQueueCapacity(200);        // 큐 용량
         executor.setThreadNamePrefix("Task-");
+        executor.setTaskDecorator(contextPropagatingTaskDecorator());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
         executor.initialize();
@@ -1,46 +1,139 @@
 package com.smartcon.global.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartcon.global.cache.CacheInvalidationBus;
+import com.smartcon.global.cache.ClusterCacheManager;
+import com.smartcon.global.cache.ClusterCacheMeterBinderProvider;
+import com.smartcon.global.cache.RefreshAheadRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * 캐시 설정
  * 
  * 자동 승인 규칙, 대시보드 통계 등의 데이터를 캐싱하여 성능을 향상시킵니다.
+ * 캐시별 최대 항목 수와 만료 시간은 cache.policies 설정을 따르며,
+ * 적중/미스/제거 통계는 Actuator 메트릭(cache.gets, cache.evictions, cache.size)으로 노출됩니다.
+ * 캐시 제거는 DB 무효화 로그를 통해 다른 노드의 로컬 캐시에도 전파됩니다.
+ * refresh-after가 지정된 캐시는 만료 전에 백그라운드에서 다시 계산됩니다 (RefreshAheadRegistry).
  */
 @Configuration
 @EnableCaching
 @EnableScheduling
+@Slf4j
 public class CacheConfig {
     
+    /**
+     * 캐시 이름 정의
+     */
+    static final List<String> CACHE_NAMES = List.of(
+        "autoApprovalRules",        // 자동 승인 규칙
+        "subscriptionStats",        // 구독 통계
+        "approvalStats",           // 승인 통계
+        "notificationStats",       // 알림 통계
+        "tenantInfo",              // 테넌트 정보
+        "adminInfo"                // 관리자 정보
+    );
+    
     /**
      * 캐시 매니저 설정
      * 
-     * 운영 환경에서는 Redis 등의 분산 캐시를 사용할 수 있습니다.
+     * 노드 로컬 캐시에 DB 기반 무효화 전파를 결합한 2단계 캐시를 사용합니다.
      */
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        
-        // 캐시 이름 정의
-        cacheManager.setCacheNames(Arrays.asList(
-            "autoApprovalRules",        // 자동 승인 규칙
-            "subscriptionStats",        // 구독 통계
-            "approvalStats",           // 승인 통계
-            "notificationStats",       // 알림 통계
-            "tenantInfo",              // 테넌트 정보
-            "adminInfo"                // 관리자 정보
-        ));
+    public CacheManager cacheManager(CachePolicyProperties cachePolicyProperties,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     ObjectProvider<RefreshAheadRegistry> refreshAheadRegistry) {
+        return new ClusterCacheManager(localCacheManager(cachePolicyProperties, refreshAheadRegistry.getIfAvailable()),
+                cacheInvalidationBus);
+    }
+    
+    /**
+     * 2단계 캐시의 로컬 캐시 통계를 메트릭으로 노출
+     */
+    @Bean
+    public ClusterCacheMeterBinderProvider clusterCacheMeterBinderProvider() {
+        return new ClusterCacheMeterBinderProvider();
+    }
+    
+    /**
+     * 노드 로컬 캐시 매니저 (캐시별 크기 제한 및 만료 정책 적용)
+     */
+    static CaffeineCacheManager localCacheManager(CachePolicyProperties cachePolicyProperties) {
+        return localCacheManager(cachePolicyProperties, null);
+    }
+    
+    /**
+     * 노드 로컬 캐시 매니저 (refresh-after가 지정된 캐시는 선제 갱신 로딩 캐시로 생성)
+     */
+    static CaffeineCacheManager localCacheManager(CachePolicyProperties cachePolicyProperties,
+                                                  RefreshAheadRegistry refreshAheadRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         
         // 캐시 설정
         cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(caffeine(cachePolicyProperties.getDefaultPolicy()));
+        cacheManager.setCacheNames(CACHE_NAMES);
+        
+        // 캐시별 정책 적용
+        for (String cacheName : CACHE_NAMES) {
+            CachePolicyProperties.Policy policy = resolve(cachePolicyProperties, cacheName);
+            if (policy.getRefreshAfter() != null && refreshAheadRegistry != null) {
+                cacheManager.registerCustomCache(cacheName,
+                        refreshAheadRegistry.build(cacheName, caffeine(policy), policy.getRefreshAfter()));
+            } else {
+                cacheManager.registerCustomCache(cacheName, caffeine(policy).build());
+            }
+            log.info("캐시 정책 적용 - {}: 최대 {}건, TTL {}, 유휴 만료 {}, 선제 갱신 {}",
+                    cacheName, policy.getMaxSize(), policy.getTtl(), policy.getExpireAfterAccess(),
+                    policy.getRefreshAfter());
+        }
         
         return cacheManager;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 캐시 이름에 적용할 정책 (미지정 항목은 기본 정책으로 보완)
+     */
+    static CachePolicyProperties.Policy resolve(CachePolicyProperties cachePolicyProperties, String cacheName) {
+        CachePolicyProperties.Policy defaultPolicy = cachePolicyProperties.getDefaultPolicy();
+        CachePolicyProperties.Policy policy = cachePolicyProperties.getPolicies().get(cacheName);
+        if (policy == null) {
+            return defaultPolicy;
+        }
+        
+        CachePolicyProperties.Policy resolved = new CachePolicyProperties.Policy();
+        resolved.setMaxSize(policy.getMaxSize() != null ? policy.getMaxSize() : defaultPolicy.getMaxSize());
+        resolved.setTtl(policy.getTtl() != null ? policy.getTtl() : defaultPolicy.getTtl());
+        resolved.setExpireAfterAccess(policy.getExpireAfterAccess() != null
+                ? policy.getExpireAfterAccess() : defaultPolicy.getExpireAfterAccess());
+        resolved.setRefreshAfter(policy.getRefreshAfter() != null
+                ? policy.getRefreshAfter() : defaultPolicy.getRefreshAfter());
+        return resolved;
+    }
+    
+    /**
+     * 정책으로부터 Caffeine 빌더 생성 (통계 기록 활성화)
+     */
+    static Caffeine<Object, Object> caffeine(CachePolicyProperties.Policy policy) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (policy.getMaxSize() != null) {
+            builder.maximumSize(policy.getMaxSize());
+        }
+        if (policy.getTtl() != null) {
+            builder.expireAfterWrite(policy.getTtl());
+        }
+        if (policy.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(policy.getExpireAfterAccess());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,65 @@
+package com.smartcon.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 정책 설정 (cache)
+ *
+ * 캐시 이름마다 최대 항목 수와 만료 정책을 지정합니다.
+ * 지정하지 않은 값은 default-policy 값을 사용합니다 (CacheConfig에서 보완).
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CachePolicyProperties {
+
+    /**
+     * 기본 캐시 정책 (기본값: 최대 1000건, TTL 10분)
+     */
+    private Policy defaultPolicy = defaultPolicy();
+
+    /**
+     * 캐시 이름별 정책
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    private static Policy defaultPolicy() {
+        Policy policy = new Policy();
+        policy.setMaxSize(1000L);
+        policy.setTtl(Duration.ofMinutes(10));
+        return policy;
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 최대 항목 수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+         */
+        private Long maxSize;
+
+        /**
+         * 저장 후 만료 시간
+         */
+        private Duration ttl;
+
+        /**
+         * 마지막 조회 후 만료 시간 (선택)
+         */
+        private Duration expireAfterAccess;
+
+        /**
+         * 저장 후 선제 갱신 시간 (선택, ttl보다 짧게 지정하며 갱신 중에는 이전 값 반환)
+         */
+        private Duration refreshAfter;
+    }
+}
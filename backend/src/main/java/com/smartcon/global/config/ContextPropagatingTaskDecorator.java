@@ -0,0 +1,60 @@
+package com.smartcon.global.config;
+
+import com.smartcon.global.tenant.TenantContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 요청 컨텍스트 전파 TaskDecorator
+ *
+ * 작업 제출 시점의 테넌트 ID, 보안 컨텍스트, 로깅 MDC를 캡처하여
+ * 작업 실행 스레드에 복원하고, 실행 후에는 해당 스레드의 기존 값으로 되돌립니다.
+ * 스레드 풀 재사용이나 가상 스레드에서도 다른 작업으로 컨텍스트가 새지 않습니다.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        Long tenantId = TenantContext.getCurrentTenantId();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+
+            try {
+                SecurityContextHolder.setContext(securityContext);
+                setMdc(mdc);
+
+                TenantContext.runWithTenant(tenantId, runnable);
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    /**
+     * 임의의 Executor에 컨텍스트 전파 적용 (CompletableFuture, 가상 스레드 실행자 등)
+     */
+    public static Executor wrap(Executor executor) {
+        ContextPropagatingTaskDecorator decorator = new ContextPropagatingTaskDecorator();
+        return command -> executor.execute(decorator.decorate(command));
+    }
+
+    private static void setMdc(Map<String, String> mdc) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
+}
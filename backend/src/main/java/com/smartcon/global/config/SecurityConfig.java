@@ -49,8 +49,9 @@ public class SecurityConfig {
                 // H2 콘솔 접근 허용 (개발용)
                 .requestMatchers("/h2-console/**").permitAll()
                 
-                // Actuator 허용
-                .requestMatchers("/actuator/**").permitAll()
+                // Actuator - 헬스 체크만 허용, 메트릭/캐시는 슈퍼관리자 전용
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("SUPER")
                 
                 // 인증 관련 경로 허용
                 .requestMatchers("/v1/auth/**").permitAll()
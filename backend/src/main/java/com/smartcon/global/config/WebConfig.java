@@ -2,9 +2,11 @@ package com.smartcon.global.config;
 
 import com.smartcon.global.security.ApiAuditInterceptor;
 import com.smartcon.global.security.SubscriptionAccessInterceptor;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,30 +14,45 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * 웹 MVC 설정
  */
 @Configuration
-@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
+    /**
+     * API 경로 패턴 (일부 컨트롤러는 /api 접두사를 포함하여 매핑됨)
+     */
+    private static final String[] API_PATH_PATTERNS = {"/v1/**", "/api/v1/**"};
+    
     private final SubscriptionAccessInterceptor subscriptionAccessInterceptor;
     private final ApiAuditInterceptor apiAuditInterceptor;
+    private final AsyncTaskExecutor streamingExecutor;
+    
+    public WebConfig(SubscriptionAccessInterceptor subscriptionAccessInterceptor,
+                     ApiAuditInterceptor apiAuditInterceptor,
+                     @Qualifier("streamingExecutor") AsyncTaskExecutor streamingExecutor) {
+        this.subscriptionAccessInterceptor = subscriptionAccessInterceptor;
+        this.apiAuditInterceptor = apiAuditInterceptor;
+        this.streamingExecutor = streamingExecutor;
+    }
     
     @Override
     public void addInterceptors(@NonNull InterceptorRegistry registry) {
         // API 감사 추적 인터셉터 등록 (가장 먼저 실행)
+        // 경로 패턴은 컨텍스트 경로(/api) 제외 기준이며, 세부 분류는 RoutePolicyRegistry가 담당
         registry.addInterceptor(apiAuditInterceptor)
-                .addPathPatterns("/api/v1/**")
+                .addPathPatterns(API_PATH_PATTERNS)
                 .order(1);
         
-        // 구독 접근 제어 인터셉터 등록
+        // 구독 접근 제어 인터셉터 등록 (제외 경로는 security.routes 설정으로 판단)
         registry.addInterceptor(subscriptionAccessInterceptor)
-                .addPathPatterns("/api/v1/**")  // API 경로에만 적용
-                .excludePathPatterns(
-                    "/api/v1/auth/**",          // 인증 관련 경로 제외
-                    "/api/v1/subscriptions/**", // 구독 관련 경로 제외
-                    "/api/v1/admin/**",         // 슈퍼관리자 경로 제외
-                    "/api/actuator/**",         // Actuator 제외
-                    "/api/h2-console/**",       // H2 콘솔 제외
-                    "/api/health"               // 헬스체크 제외
-                )
+                .addPathPatterns(API_PATH_PATTERNS)
                 .order(2);
     }
+    
+    /**
+     * 비동기 응답(StreamingResponseBody) 실행자 설정
+     * 제한 시간은 spring.mvc.async.request-timeout 설정을 따릅니다.
+     */
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.smartcon.global.security;
 
+import com.smartcon.global.security.route.RoutePolicyRegistry;
 import com.smartcon.global.tenant.TenantContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -15,16 +19,19 @@ import java.util.Enumeration;
  * 슈퍼관리자 API 요청에 대한 상세한 로깅을 수행합니다.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ApiAuditInterceptor implements HandlerInterceptor {
     
+    private final RoutePolicyRegistry routePolicyRegistry;
+    
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
         
         // 슈퍼관리자 API 요청만 상세 로깅
-        if (isAdminApiRequest(requestURI)) {
+        if (routePolicyRegistry.classify(request).isAdmin()) {
             logAdminApiRequest(request);
         } else {
             // 일반 API 요청은 간단한 로깅
@@ -41,7 +48,7 @@ public class ApiAuditInterceptor implements HandlerInterceptor {
         int status = response.getStatus();
         
         // 슈퍼관리자 API 응답 로깅
-        if (isAdminApiRequest(requestURI)) {
+        if (routePolicyRegistry.classify(request).isAdmin()) {
             logAdminApiResponse(request, response, ex);
         }
         
@@ -52,13 +59,6 @@ public class ApiAuditInterceptor implements HandlerInterceptor {
         }
     }
     
-    /**
-     * 슈퍼관리자 API 요청인지 확인
-     */
-    private boolean isAdminApiRequest(String requestURI) {
-        return requestURI.startsWith("/api/v1/admin/");
-    }
-    
     /**
      * 슈퍼관리자 API 요청 상세 로깅
      */
@@ -68,7 +68,7 @@ public class ApiAuditInterceptor implements HandlerInterceptor {
         String queryString = request.getQueryString();
         String remoteAddr = getClientIpAddress(request);
         String userAgent = request.getHeader("User-Agent");
-        Long tenantId = TenantContext.getCurrentTenantId();
+        String tenantId = getAuthenticatedTenantId();
         
         StringBuilder logMessage = new StringBuilder();
         logMessage.append("슈퍼관리자 API 요청 시작\n");
@@ -135,6 +135,18 @@ public class ApiAuditInterceptor implements HandlerInterceptor {
         }
     }
     
+    /**
+     * 인증 토큰의 테넌트 ID 조회 (슈퍼관리자 API는 테넌트 컨텍스트를 설정하지 않음)
+     */
+    private String getAuthenticatedTenantId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            return details.getTenantId();
+        }
+        Long tenantId = TenantContext.getCurrentTenantId();
+        return tenantId != null ? tenantId.toString() : null;
+    }
+    
     /**
      * 클라이언트 IP 주소 추출
      */
@@ -0,0 +1,28 @@
+package com.smartcon.global.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 인증 부가 정보
+ * Authentication#getDetails()로 조회할 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtAuthenticationDetails {
+
+    /**
+     * 토큰 ID (jti)
+     */
+    private final String tokenId;
+
+    /**
+     * 테넌트 ID (슈퍼관리자는 null)
+     */
+    private final String tenantId;
+
+    /**
+     * 권한 집합
+     */
+    private final PermissionSet permissions;
+}
@@ -1,5 +1,8 @@
 package com.smartcon.global.security;
 
+import com.smartcon.domain.user.service.TokenRevocationService;
+import com.smartcon.global.security.route.RouteClass;
+import com.smartcon.global.security.route.RoutePolicyRegistry;
 import com.smartcon.global.tenant.TenantContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,7 +19,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT 토큰 검증 필터
@@ -28,15 +31,18 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenService jwtTokenService;
+    private final RoutePolicyRegistry routePolicyRegistry;
+    private final TokenRevocationService tokenRevocationService;
     
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) 
             throws ServletException, IOException {
         
         String requestURI = request.getRequestURI();
+        RouteClass routeClass = routePolicyRegistry.classify(request);
         
         // 인증이 필요 없는 경로는 건너뛰기
-        if (isPublicPath(requestURI)) {
+        if (routeClass.isAuthenticationSkipped()) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -46,7 +52,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Authorization 헤더가 없는 경우
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             // 슈퍼관리자 API가 아닌 경우 통과 (개발 단계)
-            if (!requestURI.startsWith("/api/v1/admin/")) {
+            if (!routeClass.isAdmin()) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -59,33 +65,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7); // "Bearer " 제거
         
         try {
-            // JWT 토큰 검증
-            if (!jwtTokenService.validateToken(token)) {
+            // JWT 토큰 검증 (한 번만 파싱하여 Claims 스냅샷 사용)
+            Optional<VerifiedToken> verifiedToken = jwtTokenService.verifyToken(token);
+            if (verifiedToken.isEmpty()) {
                 log.warn("JWT 토큰 검증 실패 - URI: {}", requestURI);
                 sendUnauthorizedResponse(response, "유효하지 않은 토큰입니다");
                 return;
             }
+            VerifiedToken verified = verifiedToken.get();
 
             // Access Token인지 확인
-            if (!jwtTokenService.isAccessToken(token)) {
+            if (!verified.isAccessToken()) {
                 log.warn("Access Token이 아닌 토큰으로 API 접근 시도 - URI: {}", requestURI);
                 sendUnauthorizedResponse(response, "Access Token이 필요합니다");
                 return;
             }
 
+            // 폐기된 토큰인지 확인 (Bloom Filter로 대부분 I/O 없이 판정)
+            if (tokenRevocationService.isRevoked(verified.getTokenId())) {
+                log.warn("폐기된 토큰으로 API 접근 시도 - URI: {}", requestURI);
+                sendUnauthorizedResponse(response, "폐기된 토큰입니다");
+                return;
+            }
+
             // 토큰에서 사용자 정보 추출
-            String userId = jwtTokenService.extractUserId(token);
-            String tenantId = jwtTokenService.extractTenantId(token);
-            String role = jwtTokenService.extractRole(token);
-            Map<String, Object> permissions = jwtTokenService.extractPermissions(token);
+            String userId = verified.getUserId();
+            String tenantId = verified.getTenantId();
+            String role = verified.getRole();
+            PermissionSet permissions = verified.getPermissions();
 
-            // 테넌트 컨텍스트 설정
-            if (tenantId != null) {
+            // 테넌트 컨텍스트 설정 (슈퍼관리자 API는 전체 테넌트 조회를 위해 설정하지 않음)
+            if (tenantId != null && !routeClass.isAdmin()) {
                 TenantContext.setCurrentTenant(tenantId);
             }
 
             // 슈퍼관리자 API 접근 시 권한 확인
-            if (requestURI.startsWith("/v1/admin/") && !"ROLE_SUPER".equals(role)) {
+            if (routeClass.isAdmin() && !"ROLE_SUPER".equals(role)) {
                 log.warn("슈퍼관리자 API 접근 거부 - 권한 부족: {} (역할: {})", requestURI, role);
                 sendForbiddenResponse(response, "슈퍼관리자 권한이 필요합니다");
                 return;
@@ -97,10 +112,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 new UsernamePasswordAuthenticationToken(userId, null, authorities);
             
             // 추가 정보 설정
-            authentication.setDetails(Map.of(
-                "tenantId", tenantId,
-                "permissions", permissions
-            ));
+            authentication.setDetails(new JwtAuthenticationDetails(verified.getTokenId(), tenantId, permissions));
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
             
@@ -120,23 +132,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
     
-    /**
-     * 공개 경로인지 확인
-     */
-    private boolean isPublicPath(String requestURI) {
-        return requestURI.startsWith("/api/h2-console/") ||
-               requestURI.startsWith("/api/actuator/") ||
-               requestURI.startsWith("/api/v1/auth/") ||
-               requestURI.equals("/api/v1/subscriptions/plans") ||
-               requestURI.equals("/api/v1/subscriptions/create") ||
-               requestURI.equals("/api/v1/subscriptions/current") ||
-               requestURI.startsWith("/static/") ||
-               requestURI.startsWith("/assets/") ||
-               requestURI.endsWith(".js") ||
-               requestURI.endsWith(".css") ||
-               requestURI.endsWith(".ico");
-    }
-    
     /**
      * 401 Unauthorized 응답 전송
      */
@@ -3,6 +3,7 @@ package com.smartcon.global.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +13,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 서비스
@@ -22,18 +25,31 @@ import java.util.Map;
 public class JwtTokenService {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationMinutes;
     private final long refreshTokenExpirationDays;
+    private final VerifiedTokenCache verifiedTokenCache;
 
+    public JwtTokenService(String secret, long accessTokenExpirationMinutes, long refreshTokenExpirationDays) {
+        this(secret, accessTokenExpirationMinutes, refreshTokenExpirationDays, VerifiedTokenCache.disabled());
+    }
+
+    @Autowired
     public JwtTokenService(
             @Value("${jwt.secret:smartcon-lite-jwt-secret-key-for-development-only-change-in-production}") String secret,
             @Value("${jwt.access-token-expiration-minutes:60}") long accessTokenExpirationMinutes,
-            @Value("${jwt.refresh-token-expiration-days:7}") long refreshTokenExpirationDays) {
+            @Value("${jwt.refresh-token-expiration-days:7}") long refreshTokenExpirationDays,
+            VerifiedTokenCache verifiedTokenCache) {
         
         // 개발 환경에서는 HMAC-SHA 알고리즘 사용 (운영에서는 RSA256 권장)
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        // 파서는 스레드 안전하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenExpirationMinutes = accessTokenExpirationMinutes;
         this.refreshTokenExpirationDays = refreshTokenExpirationDays;
+        this.verifiedTokenCache = verifiedTokenCache;
         
         log.info("JWT 토큰 서비스 초기화 완료 - Access Token 만료: {}분, Refresh Token 만료: {}일", 
                 accessTokenExpirationMinutes, refreshTokenExpirationDays);
@@ -42,17 +58,18 @@ public class JwtTokenService {
     /**
      * Access Token 생성
      */
-    public String generateAccessToken(String userId, String tenantId, String role, Map<String, Object> permissions) {
+    public String generateAccessToken(String userId, String tenantId, String role, PermissionSet permissions) {
         Instant now = Instant.now();
         Instant expiration = now.plus(accessTokenExpirationMinutes, ChronoUnit.MINUTES);
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("tenant_id", tenantId);
         claims.put("role", role);
-        claims.put("permissions", permissions);
+        claims.put(VerifiedToken.PERMISSIONS_CLAIM, permissions.getMask());
         claims.put("token_type", "access");
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId)
                 .addClaims(claims)
                 .setIssuedAt(Date.from(now))
@@ -73,6 +90,7 @@ public class JwtTokenService {
         claims.put("token_type", "refresh");
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId)
                 .addClaims(claims)
                 .setIssuedAt(Date.from(now))
@@ -85,30 +103,43 @@ public class JwtTokenService {
      * 토큰 검증
      */
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 Claims 스냅샷 반환
+     * 검증 실패 시 빈 Optional을 반환합니다.
+     * 이미 검증된 토큰은 만료 전까지 캐시된 스냅샷을 사용합니다.
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = VerifiedToken.from(claims);
+            verifiedTokenCache.put(token, verified);
+            return Optional.of(verified);
         } catch (ExpiredJwtException e) {
             log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (SecurityException e) {
             log.warn("JWT 토큰 서명이 유효하지 않습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있거나 null입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (Exception e) {
             log.error("JWT 토큰 검증 중 예상치 못한 오류가 발생했습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -117,11 +148,7 @@ public class JwtTokenService {
      */
     public Claims extractClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             log.error("토큰에서 Claims 추출 실패: {}", e.getMessage());
             throw new IllegalArgumentException("유효하지 않은 토큰입니다", e);
@@ -152,13 +179,9 @@ public class JwtTokenService {
     /**
      * 토큰에서 권한 정보 추출
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> extractPermissions(String token) {
-        Object permissions = extractClaims(token).get("permissions");
-        if (permissions instanceof Map) {
-            return (Map<String, Object>) permissions;
-        }
-        return new HashMap<>();
+    public PermissionSet extractPermissions(String token) {
+        Integer mask = extractClaims(token).get(VerifiedToken.PERMISSIONS_CLAIM, Integer.class);
+        return mask != null ? PermissionSet.fromMask(mask) : PermissionSet.empty();
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.smartcon.global.security;
+
+/**
+ * 권한 정의
+ *
+ * 각 권한은 고정된 비트 위치를 가지며 JWT에는 비트마스크(perm 클레임)로 저장됩니다.
+ * 이미 발급된 토큰과의 호환을 위해 기존 권한의 비트 위치는 변경하지 말고 새 권한은 뒤에 추가합니다.
+ */
+public enum Permission {
+
+    ADMIN_READ("admin.read", 0),
+    ADMIN_WRITE("admin.write", 1),
+    SUBSCRIPTION_APPROVE("subscription.approve", 2),
+    SUBSCRIPTION_REJECT("subscription.reject", 3),
+    TENANT_MANAGE("tenant.manage", 4),
+    USER_MANAGE("user.manage", 5),
+    SYSTEM_MONITOR("system.monitor", 6),
+    TENANT_READ("tenant.read", 7),
+    TENANT_WRITE("tenant.write", 8),
+    USER_READ("user.read", 9),
+    USER_WRITE("user.write", 10),
+    ATTENDANCE_READ("attendance.read", 11),
+    ATTENDANCE_WRITE("attendance.write", 12),
+    CONTRACT_READ("contract.read", 13),
+    CONTRACT_WRITE("contract.write", 14),
+    SITE_READ("site.read", 15),
+    SITE_WRITE("site.write", 16),
+    WORKER_READ("worker.read", 17),
+    WORKER_WRITE("worker.write", 18),
+    TEAM_READ("team.read", 19),
+    TEAM_WRITE("team.write", 20),
+    PROFILE_READ("profile.read", 21),
+    PROFILE_WRITE("profile.write", 22);
+
+    private final String key;
+    private final int bit;
+
+    Permission(String key, int bit) {
+        this.key = key;
+        this.bit = bit;
+    }
+
+    /**
+     * 권한 키 (예: admin.read)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 비트마스크 값
+     */
+    public int mask() {
+        return 1 << bit;
+    }
+}
@@ -0,0 +1,120 @@
+package com.smartcon.global.security;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 불변 권한 집합
+ *
+ * 권한을 int 비트마스크 하나로 표현하여 토큰 크기와 요청당 객체 생성을 줄입니다.
+ */
+public final class PermissionSet {
+
+    private static final Permission[] PERMISSIONS = Permission.values();
+    private static final int KNOWN_MASK = knownMask();
+    private static final PermissionSet EMPTY = new PermissionSet(0);
+
+    private final int mask;
+    private volatile Map<String, Object> mapView;
+
+    private PermissionSet(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * 빈 권한 집합
+     */
+    public static PermissionSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 권한 목록으로 생성
+     */
+    public static PermissionSet of(Permission... permissions) {
+        int mask = 0;
+        for (Permission permission : permissions) {
+            mask |= permission.mask();
+        }
+        return fromMask(mask);
+    }
+
+    /**
+     * 비트마스크로 생성 (정의되지 않은 비트는 무시)
+     */
+    public static PermissionSet fromMask(int mask) {
+        int known = mask & KNOWN_MASK;
+        return known == 0 ? EMPTY : new PermissionSet(known);
+    }
+
+    /**
+     * 권한 보유 여부 확인
+     */
+    public boolean contains(Permission permission) {
+        return (mask & permission.mask()) != 0;
+    }
+
+    /**
+     * 권한 키로 보유 여부 확인 (예: admin.read)
+     */
+    public boolean contains(String key) {
+        for (Permission permission : PERMISSIONS) {
+            if (permission.getKey().equals(key)) {
+                return contains(permission);
+            }
+        }
+        return false;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * 기존 응답 형식({"admin.read": true, ...})의 읽기 전용 Map 반환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> view = mapView;
+        if (view == null) {
+            Map<String, Object> permissions = new LinkedHashMap<>();
+            for (Permission permission : PERMISSIONS) {
+                if (contains(permission)) {
+                    permissions.put(permission.getKey(), true);
+                }
+            }
+            view = Collections.unmodifiableMap(permissions);
+            mapView = view;
+        }
+        return view;
+    }
+
+    private static int knownMask() {
+        int mask = 0;
+        for (Permission permission : PERMISSIONS) {
+            mask |= permission.mask();
+        }
+        return mask;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof PermissionSet)) return false;
+        return mask == ((PermissionSet) obj).mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(mask);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionSet" + toMap().keySet();
+    }
+}
@@ -1,7 +1,8 @@
 package com.smartcon.global.security;
 
-import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.service.SubscriptionAccessState;
 import com.smartcon.domain.subscription.service.SubscriptionAccessControlService;
+import com.smartcon.global.security.route.RoutePolicyRegistry;
 import com.smartcon.global.tenant.TenantContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -20,6 +21,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class SubscriptionAccessInterceptor implements HandlerInterceptor {
     
     private final SubscriptionAccessControlService accessControlService;
+    private final RoutePolicyRegistry routePolicyRegistry;
     
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -28,8 +30,8 @@ public class SubscriptionAccessInterceptor implements HandlerInterceptor {
         
         log.debug("구독 접근 제어 검사 - URI: {}, Method: {}", requestURI, method);
         
-        // 접근 제어 제외 경로 확인
-        if (isExcludedPath(requestURI)) {
+        // 접근 제어 제외 경로 확인 (요청당 한 번 분류된 경로 정책 사용)
+        if (!routePolicyRegistry.classify(request).isSubscriptionChecked()) {
             log.debug("접근 제어 제외 경로: {}", requestURI);
             return true;
         }
@@ -41,67 +43,21 @@ public class SubscriptionAccessInterceptor implements HandlerInterceptor {
             return true;
         }
         
-        // 구독 상태별 접근 제어 검사
-        SubscriptionAccessResult accessResult = accessControlService.checkAccess(tenantId, requestURI);
+        // 구독 상태별 접근 제어 검사 (테넌트별 접근 상태 테이블 조회)
+        SubscriptionAccessState accessState = accessControlService.getAccessState(tenantId);
         
-        if (!accessResult.isAllowed()) {
+        if (!accessState.isAllowed()) {
             log.warn("구독 상태로 인한 접근 거부 - 테넌트: {}, 상태: {}, URI: {}", 
-                    tenantId, accessResult.getSubscriptionStatus(), requestURI);
+                    tenantId, accessState.getStatus(), requestURI);
             
-            // 접근 거부 응답 설정
+            // 접근 거부 응답 설정 (상태 전이 시 미리 생성된 본문 사용)
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.setContentType("application/json;charset=UTF-8");
-            
-            String errorResponse = String.format(
-                "{\"error\":\"ACCESS_DENIED\",\"message\":\"%s\",\"subscriptionStatus\":\"%s\",\"redirectUrl\":\"%s\"}", 
-                accessResult.getMessage(),
-                accessResult.getSubscriptionStatus(),
-                accessResult.getRedirectUrl()
-            );
-            
-            response.getWriter().write(errorResponse);
+            response.getWriter().write(accessState.getDenialBody());
             return false;
         }
         
         log.debug("구독 접근 제어 통과 - 테넌트: {}", tenantId);
         return true;
     }
-    
-    /**
-     * 접근 제어 제외 경로 확인
-     */
-    private boolean isExcludedPath(String requestURI) {
-        // 인증 관련 경로
-        if (requestURI.startsWith("/api/v1/auth/")) {
-            return true;
-        }
-        
-        // 구독 관련 경로 (구독 신청, 상태 조회 등)
-        if (requestURI.startsWith("/api/v1/subscriptions/")) {
-            return true;
-        }
-        
-        // 슈퍼관리자 경로
-        if (requestURI.startsWith("/api/v1/admin/")) {
-            return true;
-        }
-        
-        // 헬스체크 및 시스템 경로
-        if (requestURI.startsWith("/api/actuator/") || 
-            requestURI.startsWith("/api/h2-console/") ||
-            requestURI.equals("/api/health")) {
-            return true;
-        }
-        
-        // 정적 리소스
-        if (requestURI.startsWith("/static/") || 
-            requestURI.startsWith("/assets/") ||
-            requestURI.endsWith(".js") ||
-            requestURI.endsWith(".css") ||
-            requestURI.endsWith(".ico")) {
-            return true;
-        }
-        
-        return false;
-    }
 }
\ No newline at end of file
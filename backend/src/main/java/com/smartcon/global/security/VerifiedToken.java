@@ -0,0 +1,102 @@
+package com.smartcon.global.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 완료된 JWT 토큰의 Claims 스냅샷
+ * 토큰을 한 번만 파싱하고 필요한 값을 타입별 접근자로 제공합니다.
+ */
+@Getter
+public final class VerifiedToken {
+
+    private static final String TOKEN_TYPE_ACCESS = "access";
+    private static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    /**
+     * 권한 비트마스크 클레임 이름
+     */
+    static final String PERMISSIONS_CLAIM = "perm";
+
+    /**
+     * 토큰 ID (jti, 폐기 처리용)
+     */
+    private final String tokenId;
+
+    /**
+     * 사용자 ID (subject)
+     */
+    private final String userId;
+
+    /**
+     * 테넌트 ID (슈퍼관리자는 null)
+     */
+    private final String tenantId;
+
+    /**
+     * 사용자 역할 (Refresh Token은 null)
+     */
+    private final String role;
+
+    /**
+     * 토큰 타입 (access/refresh)
+     */
+    private final String tokenType;
+
+    /**
+     * 권한 집합
+     */
+    private final PermissionSet permissions;
+
+    /**
+     * 발급 시간
+     */
+    private final Instant issuedAt;
+
+    /**
+     * 만료 시간
+     */
+    private final Instant expiresAt;
+
+    private VerifiedToken(Claims claims) {
+        this.tokenId = claims.getId();
+        this.userId = claims.getSubject();
+        this.tenantId = claims.get("tenant_id", String.class);
+        this.role = claims.get("role", String.class);
+        this.tokenType = claims.get("token_type", String.class);
+        Integer permissionMask = claims.get(PERMISSIONS_CLAIM, Integer.class);
+        this.permissions = permissionMask != null ? PermissionSet.fromMask(permissionMask) : PermissionSet.empty();
+        this.issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+        this.expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+    }
+
+    /**
+     * 검증된 Claims로부터 스냅샷 생성
+     */
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(claims);
+    }
+
+    /**
+     * Access Token인지 확인
+     */
+    public boolean isAccessToken() {
+        return TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    /**
+     * Refresh Token인지 확인
+     */
+    public boolean isRefreshToken() {
+        return TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+
+    /**
+     * 주어진 시점 기준 만료 여부 확인
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,195 @@
+package com.smartcon.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증 완료된 JWT Claims 스냅샷 캐시
+ *
+ * 동일한 Access Token이 만료 전까지 반복 전송될 때 서명 재검증을 생략합니다.
+ * - 키: 토큰 원문의 SHA-256 다이제스트 (토큰 원문은 보관하지 않음)
+ * - 만료: 각 항목은 토큰 자체의 exp 시점에 만료 (Caffeine 항목별 만료, 조회되지 않는 항목도 스케줄러가 제거)
+ * - 크기 제한: jwt.verified-token-cache.max-size 초과 시 Caffeine 크기 정책으로 제거 (저장 시 전체 스캔 없음)
+ *
+ * 변조된 토큰은 다이제스트가 달라 항상 캐시 미스가 되므로 전체 검증을 거칩니다.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<String, VerifiedToken> entries;
+    private final boolean enabled;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @Autowired
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-token-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.verified-token-cache.max-size:10000}") int maxSize) {
+        this(enabled, maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(boolean enabled, int maxSize, Clock clock) {
+        this.enabled = enabled && maxSize > 0;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .expireAfter(new TokenExpiry(clock))
+                .ticker(ticker(clock))
+                .scheduler(Scheduler.systemScheduler())
+                .executor(Runnable::run)
+                .evictionListener((key, value, cause) -> evictionCount.incrementAndGet())
+                .build();
+
+        log.info("JWT 검증 캐시 초기화 - 활성화: {}, 최대 크기: {}", this.enabled, maxSize);
+    }
+
+    /**
+     * 캐시를 사용하지 않는 인스턴스 생성
+     */
+    public static VerifiedTokenCache disabled() {
+        return new VerifiedTokenCache(false, 0, Clock.systemUTC());
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     * 만료된 항목은 조회되지 않으므로 전체 검증(및 만료 거부)을 거치게 됩니다.
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled || token == null || token.isEmpty()) {
+            return null;
+        }
+
+        VerifiedToken cached = entries.getIfPresent(digest(token));
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * 검증 결과 저장
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled || token == null || verified.getExpiresAt() == null) {
+            return;
+        }
+        entries.put(digest(token), verified);
+    }
+
+    /**
+     * 특정 토큰의 캐시 항목 제거
+     */
+    public void invalidate(String token) {
+        if (!enabled || token == null || token.isEmpty()) {
+            return;
+        }
+        if (entries.asMap().remove(digest(token)) != null) {
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verified.cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit")
+                .description("JWT 검증 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss")
+                .description("JWT 검증 캐시 미스 수")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache.evictions", evictionCount, AtomicLong::get)
+                .description("JWT 검증 캐시 제거 수")
+                .register(registry);
+        Gauge.builder("jwt.verified.cache.size", entries, Cache::estimatedSize)
+                .description("JWT 검증 캐시 항목 수")
+                .register(registry);
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 다이제스트
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 시각 기준을 Clock으로 맞춘 Caffeine 시계 (테스트에서 만료 시점 조절)
+     */
+    private static Ticker ticker(Clock clock) {
+        return () -> {
+            Instant now = clock.instant();
+            return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        };
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 exp까지 남은 시간
+     */
+    private record TokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.smartcon.global.security.route;
+
+/**
+ * 요청 경로 분류
+ * 보안 필터와 인터셉터가 공통으로 사용하는 경로 정책 구분입니다.
+ */
+public enum RouteClass {
+
+    /**
+     * 인증 없이 접근 가능한 API (로그인, 구독 플랜 조회 등)
+     */
+    PUBLIC,
+
+    /**
+     * 정적 리소스
+     */
+    STATIC,
+
+    /**
+     * 슈퍼관리자 전용 API
+     */
+    ADMIN,
+
+    /**
+     * 구독 상태 검사에서 제외되는 API (구독 신청/조회, 헬스체크 등)
+     */
+    EXEMPT,
+
+    /**
+     * 일반 테넌트 API (구독 상태 검사 대상)
+     */
+    TENANT;
+
+    /**
+     * JWT 인증 처리를 건너뛰는 경로인지 확인
+     */
+    public boolean isAuthenticationSkipped() {
+        return this == PUBLIC || this == STATIC;
+    }
+
+    /**
+     * 구독 상태 접근 제어 대상인지 확인
+     */
+    public boolean isSubscriptionChecked() {
+        return this == TENANT;
+    }
+
+    /**
+     * 슈퍼관리자 전용 경로인지 확인
+     */
+    public boolean isAdmin() {
+        return this == ADMIN;
+    }
+}
@@ -0,0 +1,49 @@
+package com.smartcon.global.security.route;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 정책 설정 (security.routes)
+ *
+ * 패턴 형식 (컨텍스트 경로 /api 제외):
+ * - /v1/auth/**  : 접두사 일치 (/v1/auth 자신 포함)
+ * - /v1/health   : 정확히 일치
+ * - *.js         : 확장자 일치
+ */
+@Component
+@ConfigurationProperties(prefix = "security.routes")
+@Getter
+@Setter
+public class RoutePolicyProperties {
+
+    /**
+     * 일치하는 규칙이 없을 때의 기본 분류
+     */
+    private RouteClass defaultClass = RouteClass.TENANT;
+
+    /**
+     * 경로 규칙 목록
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 경로 패턴
+         */
+        private String pattern;
+
+        /**
+         * 경로 분류
+         */
+        private RouteClass type;
+    }
+}
@@ -0,0 +1,198 @@
+package com.smartcon.global.security.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로 정책 레지스트리
+ *
+ * security.routes 설정을 기동 시 경로 세그먼트 단위 접두사 트리로 컴파일하고,
+ * 요청마다 한 번만 분류하여 요청 속성에 저장합니다.
+ * JWT 필터, 구독 접근 제어, 감사 로깅, 테넌트 인터셉터가 같은 결과를 사용합니다.
+ *
+ * 분류 우선순위: 정확 일치 > 가장 긴 접두사 일치 > 확장자 일치 > 기본 분류
+ */
+@Component
+@Slf4j
+public class RoutePolicyRegistry {
+
+    /**
+     * 분류 결과를 저장하는 요청 속성 이름
+     */
+    public static final String ROUTE_CLASS_ATTRIBUTE = RoutePolicyRegistry.class.getName() + ".ROUTE_CLASS";
+
+    private static final String LEGACY_API_PREFIX = "/api";
+    private static final String PREFIX_WILDCARD = "/**";
+    private static final String EXTENSION_WILDCARD = "*.";
+
+    private final Node root = new Node();
+    private final Map<String, RouteClass> extensionRules = new HashMap<>();
+    private final RouteClass defaultClass;
+
+    public RoutePolicyRegistry(RoutePolicyProperties properties) {
+        this.defaultClass = properties.getDefaultClass() != null ? properties.getDefaultClass() : RouteClass.TENANT;
+
+        for (RoutePolicyProperties.Rule rule : properties.getRules()) {
+            compile(rule.getPattern(), rule.getType());
+        }
+
+        log.info("경로 정책 컴파일 완료 - 규칙 수: {}, 기본 분류: {}", properties.getRules().size(), defaultClass);
+    }
+
+    /**
+     * 요청 분류 (요청당 한 번만 계산하고 요청 속성에 저장)
+     */
+    public RouteClass classify(HttpServletRequest request) {
+        Object cached = request.getAttribute(ROUTE_CLASS_ATTRIBUTE);
+        if (cached instanceof RouteClass) {
+            return (RouteClass) cached;
+        }
+
+        RouteClass routeClass = classify(pathWithinApplication(request));
+        request.setAttribute(ROUTE_CLASS_ATTRIBUTE, routeClass);
+        return routeClass;
+    }
+
+    /**
+     * 애플리케이션 내부 경로 분류
+     * 컨텍스트 경로가 제거된 경로를 받으며, 레거시 /api 접두사는 무시합니다.
+     */
+    public RouteClass classify(String path) {
+        if (path == null || path.isEmpty()) {
+            return defaultClass;
+        }
+
+        String normalized = stripLegacyPrefix(path);
+
+        // 접두사 트리 탐색
+        RouteClass matched = null;
+        Node node = root;
+        if (node.prefixClass != null) {
+            matched = node.prefixClass;
+        }
+
+        int length = normalized.length();
+        int start = 0;
+        while (start < length && node != null) {
+            while (start < length && normalized.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= length) {
+                break;
+            }
+            int end = normalized.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+
+            node = node.children.get(normalized.substring(start, end));
+            if (node != null) {
+                if (node.prefixClass != null) {
+                    matched = node.prefixClass;
+                }
+                if (end >= length || isTrailingSlashOnly(normalized, end)) {
+                    if (node.exactClass != null) {
+                        return node.exactClass;
+                    }
+                    break;
+                }
+            }
+            start = end;
+        }
+
+        if (matched != null) {
+            return matched;
+        }
+
+        // 확장자 규칙
+        if (!extensionRules.isEmpty()) {
+            int dot = normalized.lastIndexOf('.');
+            if (dot > normalized.lastIndexOf('/')) {
+                RouteClass extensionClass = extensionRules.get(normalized.substring(dot + 1));
+                if (extensionClass != null) {
+                    return extensionClass;
+                }
+            }
+        }
+
+        return defaultClass;
+    }
+
+    /**
+     * 컨텍스트 경로를 제외한 요청 경로
+     */
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (requestURI == null) {
+            return "";
+        }
+        if (contextPath != null && !contextPath.isEmpty() && requestURI.startsWith(contextPath)) {
+            return requestURI.substring(contextPath.length());
+        }
+        return requestURI;
+    }
+
+    /**
+     * 컨트롤러 매핑에 남아있는 /api 접두사 제거
+     */
+    private static String stripLegacyPrefix(String path) {
+        if (path.startsWith(LEGACY_API_PREFIX)
+                && (path.length() == LEGACY_API_PREFIX.length() || path.charAt(LEGACY_API_PREFIX.length()) == '/')) {
+            return path.substring(LEGACY_API_PREFIX.length());
+        }
+        return path;
+    }
+
+    private static boolean isTrailingSlashOnly(String path, int from) {
+        for (int i = from; i < path.length(); i++) {
+            if (path.charAt(i) != '/') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 패턴을 트리에 등록
+     */
+    private void compile(String pattern, RouteClass type) {
+        if (pattern == null || pattern.isBlank() || type == null) {
+            throw new IllegalArgumentException("경로 정책 규칙에 pattern과 type이 필요합니다: " + pattern);
+        }
+
+        if (pattern.startsWith(EXTENSION_WILDCARD)) {
+            extensionRules.put(pattern.substring(EXTENSION_WILDCARD.length()), type);
+            return;
+        }
+
+        boolean prefix = pattern.endsWith(PREFIX_WILDCARD);
+        String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_WILDCARD.length()) : pattern;
+
+        Node node = root;
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+
+        if (prefix) {
+            node.prefixClass = type;
+        } else {
+            node.exactClass = type;
+        }
+    }
+
+    /**
+     * 경로 세그먼트 트리 노드
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private RouteClass exactClass;
+        private RouteClass prefixClass;
+    }
+}
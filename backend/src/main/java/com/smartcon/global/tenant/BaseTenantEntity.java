@@ -4,18 +4,15 @@ import com.smartcon.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
-import org.hibernate.annotations.Filter;
-import org.hibernate.annotations.FilterDef;
-import org.hibernate.annotations.ParamDef;
+import org.hibernate.annotations.TenantId;
 
 /**
  * 모든 테넌트 관련 엔티티의 공통 부모 클래스
  * tenant_id 컬럼을 자동으로 관리하며 멀티테넌트 데이터 격리를 제공
+ * Hibernate @TenantId 판별자 방식으로 조회 SQL에 테넌트 조건이 자동 추가됩니다.
  * MariaDB 최적화된 설정 적용
  */
 @MappedSuperclass
-@FilterDef(name = "tenantFilter", parameters = @ParamDef(name = "tenantId", type = Long.class))
-@Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 @Getter
 @Setter
 public abstract class BaseTenantEntity extends BaseEntity {
@@ -23,7 +20,9 @@ public abstract class BaseTenantEntity extends BaseEntity {
     /**
      * 테넌트 ID (멀티테넌트 데이터 격리용)
      * MariaDB BIGINT 타입으로 최적화
+     * 테넌트 세션에서는 세션 테넌트로 자동 설정, 루트 세션에서는 지정한 값 유지
      */
+    @TenantId
     @Column(name = "tenant_id", nullable = false, updatable = false)
     private Long tenantId;
 
@@ -0,0 +1,73 @@
+package com.smartcon.global.tenant;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.Generator;
+import org.hibernate.generator.internal.TenantIdGeneration;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.GeneratorCreator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.EnumSet;
+
+/**
+ * 루트 세션 저장 시 tenant_id 처리 보정
+ *
+ * @TenantId 기본 동작은 루트 세션에서 테넌트를 지정하지 않은 엔티티에 루트 테넌트 ID(0)를 채웁니다.
+ * tenants 테이블을 참조하는 tenant_id에 0이 기록되지 않도록, 루트 세션에서 값이 없으면 NULL을 유지합니다.
+ * (슈퍼관리자 사용자처럼 테넌트가 없는 행은 NULL로 저장, 테넌트 세션 동작은 그대로)
+ */
+public class RootTenantIdIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        for (PersistentClass entityBinding : metadata.getEntityBindings()) {
+            for (Property property : entityBinding.getPropertyClosure()) {
+                GeneratorCreator creator = property.getValueGeneratorCreator();
+                if (creator != null) {
+                    property.setValueGeneratorCreator(context -> wrap(creator.createGenerator(context)));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static Generator wrap(Generator generator) {
+        return generator instanceof TenantIdGeneration tenantIdGeneration
+                ? new RootTenantIdGeneration(tenantIdGeneration)
+                : generator;
+    }
+
+    /**
+     * 루트 세션에서 지정되지 않은 테넌트 ID는 NULL로 두는 @TenantId 생성기
+     */
+    private record RootTenantIdGeneration(TenantIdGeneration delegate) implements BeforeExecutionGenerator {
+
+        @Override
+        public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                               EventType eventType) {
+            if (currentValue == null) {
+                CurrentTenantIdentifierResolver<Object> resolver = session.getFactory().getCurrentTenantIdentifierResolver();
+                if (resolver != null && resolver.isRoot(session.getTenantIdentifierValue())) {
+                    return null;
+                }
+            }
+            return delegate.generate(session, owner, currentValue, eventType);
+        }
+
+        @Override
+        public EnumSet<EventType> getEventTypes() {
+            return delegate.getEventTypes();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.smartcon.global.tenant;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.Callable;
+
 /**
  * ThreadLocal을 사용하여 현재 요청의 테넌트 식별자를 관리하는 클래스
  * MariaDB 최적화를 위해 Long 타입 사용
@@ -56,6 +58,46 @@ public class TenantContext {
         return CURRENT_TENANT_ID.get() == null;
     }
 
+    /**
+     * 지정한 테넌트 컨텍스트에서 작업 실행
+     * 실행 후에는 항상 이전 테넌트 ID로 복원되므로 가상 스레드나 스레드 풀에서도 안전합니다.
+     * @param tenantId 테넌트 ID (null이면 슈퍼관리자 컨텍스트)
+     * @param task 실행할 작업
+     */
+    public static void runWithTenant(Long tenantId, Runnable task) {
+        Long previousTenantId = CURRENT_TENANT_ID.get();
+        setCurrentTenantId(tenantId);
+        try {
+            task.run();
+        } finally {
+            restore(previousTenantId);
+        }
+    }
+
+    /**
+     * 지정한 테넌트 컨텍스트에서 결과를 반환하는 작업 실행
+     * @param tenantId 테넌트 ID (null이면 슈퍼관리자 컨텍스트)
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T callWithTenant(Long tenantId, Callable<T> task) throws Exception {
+        Long previousTenantId = CURRENT_TENANT_ID.get();
+        setCurrentTenantId(tenantId);
+        try {
+            return task.call();
+        } finally {
+            restore(previousTenantId);
+        }
+    }
+
+    private static void restore(Long previousTenantId) {
+        if (previousTenantId == null) {
+            CURRENT_TENANT_ID.remove();
+        } else {
+            CURRENT_TENANT_ID.set(previousTenantId);
+        }
+    }
+
     /**
      * 현재 테넌트 ID를 문자열로 반환 (하위 호환성)
      * @return 테넌트 ID 문자열 (null이면 null 반환)
@@ -0,0 +1,54 @@
+package com.smartcon.global.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate 현재 테넌트 식별자 리졸버
+ *
+ * 세션이 열릴 때 TenantContext의 테넌트 ID를 세션 테넌트로 사용합니다.
+ * Hibernate는 @TenantId 엔티티의 SQL 생성 시 tenant_id 조건을 직접 추가하므로
+ * 요청마다 필터를 켜고 끌 필요가 없고, 다른 스레드에서 열린 세션에도 적용됩니다.
+ *
+ * 테넌트 컨텍스트가 없는 경우(슈퍼관리자, 시스템 작업)는 루트 테넌트로 처리되어
+ * 테넌트 조건 없이 전체 데이터에 접근합니다.
+ * 루트 세션에서 테넌트 없이 저장한 행은 RootTenantIdIntegrator가 tenant_id를 NULL로 기록합니다.
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<Long>, HibernatePropertiesCustomizer {
+
+    /**
+     * 루트 테넌트 ID (실제 테넌트 ID는 항상 양수)
+     */
+    public static final Long ROOT_TENANT_ID = 0L;
+
+    @Override
+    public Long resolveCurrentTenantIdentifier() {
+        Long tenantId = TenantContext.getCurrentTenantId();
+        return tenantId != null ? tenantId : ROOT_TENANT_ID;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(Long tenantId) {
+        return ROOT_TENANT_ID.equals(tenantId);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new RootTenantIdIntegrator()));
+    }
+}
@@ -0,0 +1,40 @@
+-- 승인/알림 일별 집계 테이블 생성 (워터마크 기반 증분 집계)
+
+CREATE TABLE approval_daily_rollups (
+    stat_date DATE NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    admin_id BIGINT NOT NULL,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    timed_count BIGINT NOT NULL DEFAULT 0,
+    processing_minutes_sum BIGINT NOT NULL DEFAULT 0,
+    processing_minutes_sq_sum BIGINT NOT NULL DEFAULT 0,
+    min_processing_minutes BIGINT,
+    max_processing_minutes BIGINT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (stat_date, action, admin_id)
+);
+
+CREATE TABLE notification_daily_rollups (
+    stat_date DATE NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    read_count BIGINT NOT NULL DEFAULT 0,
+    read_minutes_sum BIGINT NOT NULL DEFAULT 0,
+    read_timed_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (stat_date, type)
+);
+
+CREATE TABLE stats_rollup_watermarks (
+    rollup_name VARCHAR(50) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+INSERT INTO stats_rollup_watermarks (rollup_name, watermark) VALUES
+    ('approval', '2000-01-01 00:00:00'),
+    ('notification', '2000-01-01 00:00:00');
+
+-- 워터마크 이후 변경된 원본 행 조회용 인덱스
+ALTER TABLE subscription_approvals ADD INDEX idx_subscription_approvals_updated_at (updated_at);
+ALTER TABLE notifications ADD INDEX idx_notifications_updated_at (updated_at);
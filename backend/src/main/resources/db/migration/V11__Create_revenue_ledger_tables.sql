@@ -0,0 +1,25 @@
+-- 월 마감 매출 원장 테이블 생성 (마감된 월은 변경하지 않고 조정 항목으로 보정)
+
+CREATE TABLE revenue_month_closings (
+    revenue_month DATE PRIMARY KEY,
+    total_amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+    payment_count BIGINT NOT NULL DEFAULT 0,
+    tenant_count INT NOT NULL DEFAULT 0,
+    closed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE revenue_ledger_entries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    revenue_month DATE NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    payment_count BIGINT NOT NULL DEFAULT 0,
+    note VARCHAR(255),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_revenue_ledger_month_tenant (revenue_month, tenant_id),
+    INDEX idx_revenue_ledger_type_month (entry_type, revenue_month)
+);
+
+-- 미마감 구간 매출 및 월 마감 집계용 인덱스
+ALTER TABLE subscription_billing ADD INDEX idx_billing_status_completed_at (payment_status, payment_completed_at);
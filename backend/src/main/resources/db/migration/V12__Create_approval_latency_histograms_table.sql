@@ -0,0 +1,14 @@
+-- 승인 처리 시간 히스토그램 테이블 생성 (일자 × 액션 × 관리자, 처리 시간 초 단위)
+
+CREATE TABLE approval_latency_histograms (
+    stat_date DATE NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    admin_id BIGINT NOT NULL,
+    total_count BIGINT NOT NULL DEFAULT 0,
+    encoded_histogram VARBINARY(8192) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (stat_date, action, admin_id)
+);
+
+-- 최초 백필 여부 (워터마크가 초기값이면 보존 기간의 승인 이력으로 백필)
+INSERT INTO stats_rollup_watermarks (rollup_name, watermark) VALUES ('approval_latency', '2000-01-01 00:00:00');
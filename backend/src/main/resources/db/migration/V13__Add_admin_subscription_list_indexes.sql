@@ -0,0 +1,7 @@
+-- 관리자 구독 목록 DB 페이지네이션 인덱스
+
+-- 생성일 정렬 + 커서(created_at, id) 조회용 인덱스
+ALTER TABLE subscriptions ADD INDEX idx_subscriptions_created_id (created_at, id);
+
+-- 페이지 구독별 마지막 결제 시각 조회용 인덱스
+ALTER TABLE payments ADD INDEX idx_payments_subscription_created (subscription_id, created_at);
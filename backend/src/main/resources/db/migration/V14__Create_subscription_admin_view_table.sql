@@ -0,0 +1,36 @@
+-- 관리자 구독 목록/검색/내보내기용 읽기 모델 (구독당 한 행, 조인 없이 조회)
+
+CREATE TABLE subscription_admin_view (
+    subscription_id BIGINT PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    tenant_name VARCHAR(100),
+    plan_id VARCHAR(50),
+    plan_name VARCHAR(100),
+    status VARCHAR(30),
+    monthly_price DECIMAL(10,2),
+    created_at TIMESTAMP NULL,
+    approved_at TIMESTAMP NULL,
+    approval_reason TEXT,
+    admin_name VARCHAR(50),
+    auto_approved BOOLEAN NOT NULL DEFAULT FALSE,
+    last_payment_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_subscription_admin_view_created (created_at, subscription_id),
+    INDEX idx_subscription_admin_view_status_created (status, created_at, subscription_id),
+    INDEX idx_subscription_admin_view_tenant (tenant_id),
+    INDEX idx_subscription_admin_view_plan (plan_id)
+);
+
+-- 기존 구독으로 초기 적재 (최근 승인 이력, 마지막 결제 시각 포함)
+INSERT INTO subscription_admin_view (subscription_id, tenant_id, tenant_name, plan_id, plan_name, status,
+                                     monthly_price, created_at, approved_at, approval_reason, admin_name,
+                                     auto_approved, last_payment_at)
+SELECT s.id, s.tenant_id, t.company_name, s.plan_id, sp.name, s.status, s.monthly_price, s.created_at,
+       sa.processed_at, sa.reason, u.name, COALESCE(sa.auto_approved, FALSE),
+       (SELECT MAX(p.created_at) FROM payments p WHERE p.subscription_id = s.id)
+FROM subscriptions s
+LEFT JOIN tenants t ON t.id = s.tenant_id
+LEFT JOIN subscription_plans sp ON sp.plan_id = s.plan_id
+LEFT JOIN subscription_approvals sa ON sa.id =
+    (SELECT MAX(sa2.id) FROM subscription_approvals sa2 WHERE sa2.subscription_id = s.id)
+LEFT JOIN users u ON u.id = sa.admin_id;
@@ -0,0 +1,25 @@
+-- 테넌트 요약 프로젝션 (테넌트 목록의 사용자 수 등을 테넌트별로 미리 계산, 목록은 tenants와 PK 조인 한 번으로 조회)
+
+CREATE TABLE tenant_summaries (
+    tenant_id BIGINT PRIMARY KEY,
+    user_count BIGINT NOT NULL DEFAULT 0,
+    active_user_count BIGINT NOT NULL DEFAULT 0,
+    site_count INT NOT NULL DEFAULT 0,
+    subscription_status VARCHAR(30),
+    last_payment_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 테넌트별 마지막 결제 시각 조회용 인덱스
+ALTER TABLE payments ADD INDEX idx_payments_tenant_status_paid (tenant_id, status, paid_at);
+
+-- 기존 테넌트로 초기 적재
+INSERT INTO tenant_summaries (tenant_id, user_count, active_user_count, site_count, subscription_status, last_payment_at)
+SELECT t.id,
+       (SELECT COUNT(*) FROM users u WHERE u.tenant_id = t.id),
+       (SELECT COUNT(*) FROM users u WHERE u.tenant_id = t.id AND u.is_active = TRUE),
+       COALESCE((SELECT b.sites_count FROM subscription_billing b WHERE b.tenant_id = t.id
+                 ORDER BY b.billing_period_start DESC, b.id DESC LIMIT 1), 0),
+       (SELECT s.status FROM subscriptions s WHERE s.tenant_id = t.id ORDER BY s.id DESC LIMIT 1),
+       (SELECT MAX(p.paid_at) FROM payments p WHERE p.tenant_id = t.id AND p.status = 'SUCCESS')
+FROM tenants t;
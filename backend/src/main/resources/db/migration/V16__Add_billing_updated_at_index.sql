@@ -0,0 +1,2 @@
+-- 월 매출 원장 조정 범위 이전 월의 결제 변경 감지용 인덱스
+ALTER TABLE subscription_billing ADD INDEX idx_billing_updated_at (updated_at);
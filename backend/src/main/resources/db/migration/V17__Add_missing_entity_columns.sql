@@ -0,0 +1,20 @@
+-- 엔티티에 매핑되었으나 마이그레이션에 없던 컬럼 추가
+
+-- 사용자 대표 역할 (user_roles 중 가장 높은 역할로 채움)
+ALTER TABLE users
+ADD COLUMN role ENUM('ROLE_SUPER', 'ROLE_HQ', 'ROLE_SITE', 'ROLE_TEAM', 'ROLE_WORKER')
+    NOT NULL DEFAULT 'ROLE_WORKER' COMMENT '역할' AFTER tenant_id,
+ADD INDEX idx_users_role (role);
+
+UPDATE users u
+JOIN (
+    SELECT user_id,
+           MIN(FIELD(role, 'ROLE_SUPER', 'ROLE_HQ', 'ROLE_SITE', 'ROLE_TEAM', 'ROLE_WORKER')) AS role_rank
+    FROM user_roles
+    GROUP BY user_id
+) r ON r.user_id = u.id
+SET u.role = ELT(r.role_rank, 'ROLE_SUPER', 'ROLE_HQ', 'ROLE_SITE', 'ROLE_TEAM', 'ROLE_WORKER');
+
+-- 결제 실패 사유
+ALTER TABLE subscription_billing
+ADD COLUMN failure_reason VARCHAR(500) COMMENT '실패 사유' AFTER payment_completed_at;
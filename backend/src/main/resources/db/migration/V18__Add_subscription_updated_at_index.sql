@@ -0,0 +1,2 @@
+-- 승인 요청 시각이 바뀐 구독의 승인 처리 일자 집계 재계산용 인덱스
+ALTER TABLE subscriptions ADD INDEX idx_subscriptions_updated_at (updated_at);
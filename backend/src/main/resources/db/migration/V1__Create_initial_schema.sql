@@ -78,9 +78,12 @@ CREATE TABLE users (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
+    -- 테넌트별 이메일 유일성 키 (슈퍼관리자는 0)
+    tenant_key BIGINT AS (IFNULL(tenant_id, 0)) PERSISTENT COMMENT '이메일 유일성 테넌트 키',
+    
     -- 외래키 및 제약조건
     FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_email_per_tenant (IFNULL(tenant_id, 0), email),
+    UNIQUE KEY unique_email_per_tenant (tenant_key, email),
     
     -- 인덱스
     INDEX idx_users_tenant_id (tenant_id),
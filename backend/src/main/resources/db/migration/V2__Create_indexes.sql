@@ -118,8 +118,7 @@ ADD INDEX idx_tenants_stats (status, created_at, subscription_plan);
 -- 월별 결제 통계용 인덱스
 ALTER TABLE subscription_billing
 ADD INDEX idx_billing_monthly_stats (
-    YEAR(billing_date), 
-    MONTH(billing_date), 
+    billing_date, 
     payment_status
 );
 
@@ -36,8 +36,7 @@ ADD INDEX idx_subscriptions_plan_status_stats (plan_id, status, created_at);
 
 -- 승인 처리 통계 최적화
 ALTER TABLE subscription_approvals
-ADD INDEX idx_approvals_stats_date_action (processed_at, action),
-ADD INDEX idx_approvals_monthly_stats (YEAR(processed_at), MONTH(processed_at), action);
+ADD INDEX idx_approvals_stats_date_action (processed_at, action);
 
 -- =============================================================================
 -- 자동 승인 규칙 성능 최적화
@@ -70,7 +69,7 @@ ADD INDEX idx_notifications_cursor_pagination (recipient_id, id, created_at);
 -- 테넌트 정보 검색 최적화 (구독 승인 시 테넌트 정보 조회)
 ALTER TABLE tenants
 ADD INDEX idx_tenants_search_optimization (company_name, ceo_name, business_number),
-ADD INDEX idx_tenants_contact_search (contact_email, contact_phone);
+ADD INDEX idx_tenants_contact_search (email, phone_number);
 
 -- 사용자 검색 최적화 (승인 담당자 검색)
 ALTER TABLE users
@@ -143,21 +142,21 @@ ORDER BY notification_date DESC, type;
 -- 승인 대기 목록 조회 최적화 프로시저
 DELIMITER //
 CREATE PROCEDURE GetPendingApprovals(
-    IN p_limit INT DEFAULT 20,
-    IN p_offset INT DEFAULT 0,
-    IN p_sort_by VARCHAR(50) DEFAULT 'approval_requested_at',
-    IN p_sort_order VARCHAR(4) DEFAULT 'DESC'
+    IN p_limit INT,
+    IN p_offset INT,
+    IN p_sort_by VARCHAR(50),
+    IN p_sort_order VARCHAR(4)
 )
 BEGIN
     DECLARE sql_query TEXT;
     
     SET sql_query = CONCAT(
         'SELECT s.id, s.tenant_id, s.plan_id, s.status, s.approval_requested_at, ',
-        't.company_name, t.ceo_name, t.contact_email, ',
-        'sp.plan_name, sp.monthly_price ',
+        't.company_name, t.ceo_name, t.email, ',
+        'sp.name, sp.monthly_price ',
         'FROM subscriptions s ',
         'JOIN tenants t ON s.tenant_id = t.id ',
-        'JOIN subscription_plans sp ON s.plan_id = sp.id ',
+        'JOIN subscription_plans sp ON s.plan_id = sp.plan_id ',
         'WHERE s.status = ''PENDING_APPROVAL'' ',
         'ORDER BY s.', p_sort_by, ' ', p_sort_order, ' ',
         'LIMIT ', p_limit, ' OFFSET ', p_offset
@@ -0,0 +1,13 @@
+-- 폐기된 토큰 테이블 생성 (로그아웃 등으로 만료 전에 무효화된 JWT)
+
+CREATE TABLE revoked_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_id VARCHAR(36) NOT NULL,
+    user_id VARCHAR(50),
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_revoked_tokens_token_id (token_id),
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+);
@@ -0,0 +1,11 @@
+-- 캐시 무효화 로그 테이블 생성 (노드 간 로컬 캐시 무효화 전파용)
+
+CREATE TABLE cache_invalidations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(100) NOT NULL,
+    cache_key VARCHAR(255),
+    origin_node VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_cache_invalidations_created_at (created_at)
+);
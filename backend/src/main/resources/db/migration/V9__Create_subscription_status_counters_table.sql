@@ -0,0 +1,11 @@
+-- 구독 상태별 건수 카운터 테이블 생성 (대시보드 건수 O(1) 조회용)
+
+CREATE TABLE subscription_status_counters (
+    status VARCHAR(30) PRIMARY KEY,
+    subscription_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 기존 구독으로 초기 건수 적재
+INSERT INTO subscription_status_counters (status, subscription_count)
+SELECT status, COUNT(*) FROM subscriptions GROUP BY status;
@@ -0,0 +1,152 @@
+package com.smartcon.domain.admin.service;
+
+import com.smartcon.domain.billing.entity.BillingRecord;
+import com.smartcon.domain.billing.repository.BillingRecordRepository;
+import com.smartcon.domain.billing.service.RevenueLedgerService;
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import com.smartcon.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 관리자 대시보드 스냅샷 조립 테스트
+ */
+class AdminDashboardAssemblerTest {
+
+    private TenantRepository tenantRepository;
+    private UserRepository userRepository;
+    private BillingRecordRepository billingRecordRepository;
+    private RevenueLedgerService revenueLedgerService;
+    private PlatformTransactionManager transactionManager;
+    private AdminDashboardAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        tenantRepository = mock(TenantRepository.class);
+        userRepository = mock(UserRepository.class);
+        billingRecordRepository = mock(BillingRecordRepository.class);
+        revenueLedgerService = mock(RevenueLedgerService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+
+        when(tenantRepository.count()).thenReturn(10L);
+        when(tenantRepository.countByStatus(Tenant.SubscriptionStatus.ACTIVE)).thenReturn(7L);
+        when(userRepository.count()).thenReturn(42L);
+        when(billingRecordRepository.getTotalRevenueByPeriod(any(), any())).thenReturn(new BigDecimal("1000"));
+        when(revenueLedgerService.totalRevenue()).thenReturn(new BigDecimal("5000"));
+        when(billingRecordRepository.countByPaymentStatus(BillingRecord.PaymentStatus.FAILED)).thenReturn(2L);
+        when(billingRecordRepository.getMonthlyRevenueStats(any())).thenReturn(List.of());
+        when(billingRecordRepository.findTop10ByPaymentStatusOrderByCreatedAtDesc(any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (assembler != null) {
+            assembler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 항목을 조회하여 버전이 붙은 스냅샷을 만들고, 수명 동안 같은 스냅샷을 공유한다")
+    void assemblesAndSharesSnapshot() {
+        // Given
+        assembler = new AdminDashboardAssembler(tenantRepository, userRepository, billingRecordRepository,
+                revenueLedgerService, transactionManager, 2000, 60_000, 4);
+
+        // When
+        AdminDashboardSnapshot first = assembler.current();
+        AdminDashboardSnapshot second = assembler.current();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, first.getVersion());
+        assertFalse(first.isPartial());
+        assertEquals(10L, first.get(DashboardMetric.TOTAL_TENANTS));
+        assertEquals(7L, first.get(DashboardMetric.ACTIVE_TENANTS));
+        assertEquals(new BigDecimal("1000"), first.get(DashboardMetric.MONTHLY_REVENUE));
+        assertEquals(new BigDecimal("5000"), first.get(DashboardMetric.TOTAL_REVENUE));
+        verify(tenantRepository, times(1)).count();
+        verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition ->
+                definition.isReadOnly() && definition.getTimeout() == 2));
+
+        // 강제 재조립 시 버전 증가
+        assertEquals(2, assembler.refresh().getVersion());
+    }
+
+    @Test
+    @DisplayName("대기 한도를 넘긴 항목은 이전 값으로 채우고 지연 항목으로 표시하며, 실행 중인 조회는 취소한다")
+    void slowMetricIsMarkedStaleAndCancelled() throws Exception {
+        // Given: 두 번째 조립부터 전체 사용자 수 조회가 대기 한도보다 오래 걸림
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(userRepository.count()).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                return 42L;
+            }
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 43L;
+        });
+        assembler = new AdminDashboardAssembler(tenantRepository, userRepository, billingRecordRepository,
+                revenueLedgerService, transactionManager, 200, 0, 4);
+        AdminDashboardSnapshot first = assembler.refresh();
+        assertFalse(first.isPartial());
+
+        // When
+        AdminDashboardSnapshot second = assembler.refresh();
+
+        // Then: 이전 값 사용, 나머지 항목은 정상
+        assertTrue(second.isPartial());
+        assertEquals(List.of("totalUsers"), second.getStaleMetrics());
+        assertEquals(42L, second.get(DashboardMetric.TOTAL_USERS));
+        assertEquals(10L, second.get(DashboardMetric.TOTAL_TENANTS));
+        assertEquals(first.getVersion() + 1, second.getVersion());
+
+        // 지연된 조회는 중단되어 동시 실행 슬롯과 커넥션을 반환
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 만료되었을 때 동시 요청은 한 번만 조립한다")
+    void concurrentRequestsAssembleOnce() throws Exception {
+        // Given: 조립 중 다른 요청이 들어오도록 첫 조회를 지연
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tenantRepository.count()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 10L;
+        });
+        assembler = new AdminDashboardAssembler(tenantRepository, userRepository, billingRecordRepository,
+                revenueLedgerService, transactionManager, 5000, 60_000, 4);
+
+        // When
+        CompletableFuture<AdminDashboardSnapshot> first = CompletableFuture.supplyAsync(assembler::current);
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<AdminDashboardSnapshot> second = CompletableFuture.supplyAsync(assembler::current);
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        verify(tenantRepository, times(1)).count();
+    }
+}
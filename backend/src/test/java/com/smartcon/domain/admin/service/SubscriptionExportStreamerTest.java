@@ -0,0 +1,149 @@
+package com.smartcon.domain.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smartcon.domain.admin.dto.SubscriptionExportFormat;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewProjector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 구독 데이터 스트리밍 내보내기 테스트
+ */
+class SubscriptionExportStreamerTest {
+
+    private JdbcTemplate jdbc;
+    private SubscriptionExportStreamer streamer;
+    private SubscriptionAdminViewProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:subscription_export;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE tenants (id BIGINT PRIMARY KEY, company_name VARCHAR(100))");
+        jdbc.execute("CREATE TABLE subscription_plans (plan_id VARCHAR(50) PRIMARY KEY, name VARCHAR(100))");
+        jdbc.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        jdbc.execute("CREATE TABLE subscriptions (id BIGINT PRIMARY KEY, tenant_id BIGINT, plan_id VARCHAR(50), " +
+                "status VARCHAR(30), monthly_price DECIMAL(10, 2), created_at TIMESTAMP)");
+        jdbc.execute("CREATE TABLE subscription_approvals (id BIGINT PRIMARY KEY, subscription_id BIGINT, admin_id BIGINT, " +
+                "processed_at TIMESTAMP, reason TEXT, auto_approved BOOLEAN)");
+        jdbc.execute("CREATE TABLE payments (id BIGINT PRIMARY KEY, subscription_id BIGINT, created_at TIMESTAMP)");
+        jdbc.execute("CREATE TABLE subscription_admin_view (subscription_id BIGINT PRIMARY KEY, tenant_id BIGINT, " +
+                "tenant_name VARCHAR(100), plan_id VARCHAR(50), plan_name VARCHAR(100), status VARCHAR(30), " +
+                "monthly_price DECIMAL(10, 2), created_at TIMESTAMP, approved_at TIMESTAMP, approval_reason TEXT, " +
+                "admin_name VARCHAR(50), auto_approved BOOLEAN, last_payment_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        jdbc.update("INSERT INTO tenants VALUES (1, '스마트, \"건설\"'), (2, '=HYPERLINK(\"x\")')");
+        jdbc.update("INSERT INTO subscription_plans VALUES ('basic', '베이직')");
+        jdbc.update("INSERT INTO users VALUES (1, '관리자')");
+        jdbc.update("INSERT INTO subscriptions VALUES " +
+                "(1, 1, 'basic', 'ACTIVE', 50000, TIMESTAMP '2024-01-01 09:00:00'), " +
+                "(2, 2, 'basic', 'PENDING_APPROVAL', 50000, TIMESTAMP '2024-01-02 09:00:00'), " +
+                "(3, 1, 'basic', 'ACTIVE', 50000, TIMESTAMP '2024-01-03 09:00:00')");
+        jdbc.update("INSERT INTO subscription_approvals VALUES " +
+                "(1, 1, 1, TIMESTAMP '2024-01-01 10:00:00', '보류', FALSE), " +
+                "(2, 1, 1, TIMESTAMP '2024-01-01 11:00:00', '최종 승인', TRUE)");
+        jdbc.update("INSERT INTO payments VALUES " +
+                "(1, 1, TIMESTAMP '2024-02-01 00:00:00'), (2, 1, TIMESTAMP '2024-03-01 00:00:00')");
+        projector = new SubscriptionAdminViewProjector(jdbc, new DataSourceTransactionManager(dataSource));
+        projector.rebuildRange(1, 10_000);
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        streamer = new SubscriptionExportStreamer(dataSource, objectMapper, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("CSV는 구독당 한 행을 생성일 역순으로 기록하고, 따옴표와 수식 문자를 처리하며 gzip으로 압축한다")
+    void exportsGzippedCsv() throws IOException {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = streamer.export(SubscriptionExportFormat.CSV, true, null, null, null, out);
+
+        // Then
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        assertEquals(3, count);
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("\uFEFFsubscriptionId,tenantName"));
+        assertTrue(lines[1].startsWith("3,\"스마트, \"\"건설\"\"\",베이직,ACTIVE,50000.00,2024-01-03T09:00,,,"));
+        assertTrue(lines[2].startsWith("2,\"'=HYPERLINK(\"\"x\"\")\""));
+        assertEquals("1,\"스마트, \"\"건설\"\"\",베이직,ACTIVE,50000.00,2024-01-01T09:00,2024-01-01T11:00,"
+                + "2024-03-01T00:00,최종 승인,관리자,true", lines[3]);
+    }
+
+    @Test
+    @DisplayName("NDJSON과 JSON 배열은 조건에 맞는 구독만 기록한다")
+    void exportsJsonFormats() throws IOException {
+        // When
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        streamer.export(SubscriptionExportFormat.NDJSON, false, SubscriptionStatus.ACTIVE, null, null, ndjson);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        streamer.export(SubscriptionExportFormat.JSON, false, null, null, null, json);
+
+        // Then
+        ObjectMapper reader = new ObjectMapper();
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = reader.readTree(lines[1]);
+        assertEquals(1, first.get("subscriptionId").asLong());
+        assertEquals("관리자", first.get("adminName").asText());
+        assertTrue(first.get("autoApproved").asBoolean());
+
+        JsonNode array = reader.readTree(json.toByteArray());
+        assertTrue(array.isArray());
+        assertEquals(3, array.size());
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊겨 쓰기가 실패하면 나머지 행을 읽지 않고 중단한다")
+    void stopsWhenClientDisconnects() {
+        // Given: 쓰기 버퍼를 넘는 행
+        jdbc.update("INSERT INTO subscriptions SELECT X + 10, 1, 'basic', 'ACTIVE', 50000, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2024-02-01 00:00:00') FROM SYSTEM_RANGE(1, 5000)");
+        projector.rebuildRange(1, 10_000);
+        AtomicInteger writes = new AtomicInteger();
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writes.incrementAndGet();
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When & Then
+        IOException thrown = assertThrows(IOException.class, () -> streamer.export(
+                SubscriptionExportFormat.NDJSON, false, null, null, null, disconnected));
+        assertEquals("Broken pipe", thrown.getMessage());
+        assertEquals(1, writes.get());
+    }
+}
@@ -0,0 +1,295 @@
+package com.smartcon.domain.admin.service;
+
+import com.smartcon.domain.admin.dto.SubscriptionCursorPageDto;
+import com.smartcon.domain.admin.dto.SubscriptionExportDto;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.SubscriptionAdminViewRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionApprovalRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewProjector;
+import com.smartcon.domain.subscription.service.SubscriptionAdminViewReconciler;
+import com.smartcon.domain.tenant.service.TenantSearchIndex;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 구독 목록 조회 벤치마크 (기본 20,000건, -Dbenchmark.subscriptions로 조정, 100만 건은 -DargLine=-Xmx3500m)
+ *
+ * 기존 방식(전체 내보내기 데이터를 메모리에서 검색/페이지 처리)과
+ * 읽기 모델(subscription_admin_view) 페이지 조회, 깊은 OFFSET 페이지, 커서 조회의 처리 시간과 결과를 비교합니다.
+ */
+@Slf4j
+class SubscriptionListBenchmarkTest {
+
+    private static final int SUBSCRIPTIONS = Integer.getInteger("benchmark.subscriptions", 20_000);
+    private static final int TENANTS = Math.max(10, SUBSCRIPTIONS / 10);
+    private static final int PAGE_SIZE = 20;
+    private static final int REBUILD_CHUNK = 50_000;
+    private static final String SPECIAL_TENANT_NAME = "100%_할인 건설";
+
+    private static ConfigurableApplicationContext context;
+    private static SuperAdminService service;
+
+    @BeforeAll
+    static void setUp() {
+        context = TestDatabase.start(ListConfig.class, "subscription_list");
+        service = new SuperAdminService(null,
+                context.getBean(SubscriptionRepository.class),
+                context.getBean(SubscriptionApprovalRepository.class),
+                null, null,
+                context.getBean(SubscriptionAdminViewRepository.class),
+                new TenantSearchIndex(context.getBean(DataSource.class)));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long start = System.nanoTime();
+        insertData(jdbc);
+        log.info("구독 {}건 적재 완료 - {} ms", SUBSCRIPTIONS, (System.nanoTime() - start) / 1_000_000);
+
+        long rebuildStart = System.nanoTime();
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        new SubscriptionAdminViewReconciler(new SubscriptionAdminViewProjector(jdbc, transactionManager), jdbc,
+                transactionManager, REBUILD_CHUNK).rebuild();
+        log.info("구독 목록 읽기 모델 재구성 - {} ms", (System.nanoTime() - rebuildStart) / 1_000_000);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("DB 페이지 조회는 기존 메모리 필터링과 같은 구독을 같은 순서로 반환한다")
+    void pageMatchesLegacyFiltering() {
+        // Given: 기존 방식 결과 (전체 적재 후 메모리 필터링)
+        String search = "테넌트-1";
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+        long legacyStart = System.nanoTime();
+        List<SubscriptionExportDto> legacyAll = legacyAll(search, SubscriptionStatus.ACTIVE);
+        List<SubscriptionExportDto> legacy = legacyAll.subList(0, Math.min(PAGE_SIZE, legacyAll.size()));
+        long legacyNanos = System.nanoTime() - legacyStart;
+        List<Long> expectedIds = distinctOrdered(legacyAll);
+
+        // When
+        long pageStart = System.nanoTime();
+        Page<SubscriptionExportDto> page = service.getSubscriptions(search, SubscriptionStatus.ACTIVE, null, null, pageable);
+        long pageNanos = System.nanoTime() - pageStart;
+
+        int lastPage = (int) ((expectedIds.size() - 1) / PAGE_SIZE);
+        long deepStart = System.nanoTime();
+        Page<SubscriptionExportDto> deepPage = service.getSubscriptions(search, SubscriptionStatus.ACTIVE, null, null,
+                PageRequest.of(lastPage, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+        long deepNanos = System.nanoTime() - deepStart;
+
+        // Then
+        log.info("구독 {}건 목록 첫 페이지 - 기존(전체 적재 후 필터링): {} ms, DB 페이지: {} ms, 마지막 페이지({}): {} ms",
+                SUBSCRIPTIONS, legacyNanos / 1_000_000, pageNanos / 1_000_000, lastPage, deepNanos / 1_000_000);
+        assertEquals(PAGE_SIZE, legacy.size());
+        assertEquals(expectedIds.size(), page.getTotalElements());
+        assertEquals(expectedIds.subList(0, PAGE_SIZE), ids(page.getContent()));
+        assertEquals(expectedIds.subList(lastPage * PAGE_SIZE, expectedIds.size()), ids(deepPage.getContent()));
+
+        // 구독당 한 행 (최근 승인 이력과 마지막 결제 시각)
+        SubscriptionExportDto approved = page.getContent().stream()
+                .filter(dto -> dto.getSubscriptionId() % 2 == 0)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("최종 승인", approved.getApprovalReason());
+        assertEquals("관리자", approved.getAdminName());
+        assertNotNull(approved.getApprovedAt());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 누락이나 중복 없이 전체 결과를 순서대로 이어서 반환한다")
+    void cursorWalkCoversAllRows() {
+        // Given
+        String search = "테넌트-2";
+        List<Long> expectedIds = distinctOrdered(legacyAll(search, SubscriptionStatus.PENDING_APPROVAL));
+
+        // When
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        long lastPageNanos = 0;
+        do {
+            long start = System.nanoTime();
+            SubscriptionCursorPageDto page = service.getSubscriptionsByCursor(search, SubscriptionStatus.PENDING_APPROVAL,
+                    null, null, cursor, PAGE_SIZE, Sort.Direction.DESC);
+            lastPageNanos = System.nanoTime() - start;
+            walked.addAll(ids(page.getContent()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        log.info("구독 {}건 커서 조회 - {}페이지, 마지막 페이지: {} us", SUBSCRIPTIONS, pages, lastPageNanos / 1_000);
+        assertEquals(expectedIds, walked);
+        assertEquals(walked.size(), new HashSet<>(walked).size());
+
+        // 오래된순 첫 페이지는 최신순 마지막 구독부터 시작
+        SubscriptionCursorPageDto ascending = service.getSubscriptionsByCursor(search, SubscriptionStatus.PENDING_APPROVAL,
+                null, null, null, PAGE_SIZE, Sort.Direction.ASC);
+        assertEquals(expectedIds.get(expectedIds.size() - 1), ascending.getContent().get(0).getSubscriptionId());
+        assertThrows(IllegalArgumentException.class, () -> service.getSubscriptionsByCursor(
+                null, null, null, null, "잘못된-커서", PAGE_SIZE, Sort.Direction.DESC));
+
+        // 검색 색인이 적재되면 테넌트 ID 목록으로 같은 결과를 반환
+        TenantSearchIndex searchIndex = new TenantSearchIndex(context.getBean(DataSource.class));
+        searchIndex.reload();
+        SuperAdminService indexed = new SuperAdminService(null, null, null, null, null,
+                context.getBean(SubscriptionAdminViewRepository.class), searchIndex);
+        SubscriptionCursorPageDto indexedFirst = indexed.getSubscriptionsByCursor(search,
+                SubscriptionStatus.PENDING_APPROVAL, null, null, null, PAGE_SIZE, Sort.Direction.DESC);
+        assertEquals(expectedIds.subList(0, Math.min(PAGE_SIZE, expectedIds.size())), ids(indexedFirst.getContent()));
+        assertEquals(expectedIds.size(), indexed.getSubscriptions(search, SubscriptionStatus.PENDING_APPROVAL,
+                null, null, PageRequest.of(0, PAGE_SIZE)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("일치 테넌트가 ID 목록 한도를 넘는 초성 검색은 순위 상위 테넌트로 좁혀 조회한다")
+    void broadChoseongSearchIsCapped() {
+        // Given: 'ㅌㄴㅌ'는 '테넌트-N' 테넌트 전체와 일치
+        TenantSearchIndex searchIndex = new TenantSearchIndex(context.getBean(DataSource.class));
+        searchIndex.reload();
+        SuperAdminService indexed = new SuperAdminService(null, context.getBean(SubscriptionRepository.class),
+                context.getBean(SubscriptionApprovalRepository.class), null, null,
+                context.getBean(SubscriptionAdminViewRepository.class), searchIndex);
+        assertTrue(searchIndex.matchCompanyName("ㅌㄴㅌ").size() > 1000);
+        Set<String> topTenants = searchIndex.searchCompanyName("ㅌㄴㅌ", 1000).stream()
+                .map(TenantSearchIndex.Hit::companyName)
+                .collect(Collectors.toSet());
+        List<Long> expectedIds = distinctOrdered(indexed.exportSubscriptionData(SubscriptionStatus.ACTIVE, null, null).stream()
+                .filter(dto -> topTenants.contains(dto.getTenantName()))
+                .toList());
+
+        // When
+        Page<SubscriptionExportDto> page = indexed.getSubscriptions("ㅌㄴㅌ", SubscriptionStatus.ACTIVE, null, null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Then
+        assertEquals(expectedIds.size(), page.getTotalElements());
+        assertEquals(expectedIds.subList(0, PAGE_SIZE), ids(page.getContent()));
+    }
+
+    @Test
+    @DisplayName("검색어의 %와 _는 와일드카드가 아닌 문자로 검색한다")
+    void searchEscapesWildcards() {
+        // When
+        Page<SubscriptionExportDto> page = service.getSubscriptions("%_할인", null, null, null,
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // Then
+        assertFalse(page.getContent().isEmpty());
+        assertTrue(page.getContent().stream().allMatch(dto -> SPECIAL_TENANT_NAME.equals(dto.getTenantName())));
+    }
+
+    /**
+     * 기존 구현: 전체 내보내기 데이터를 적재한 뒤 메모리에서 검색 처리
+     */
+    private static List<SubscriptionExportDto> legacyAll(String search, SubscriptionStatus status) {
+        return service.exportSubscriptionData(status, null, null).stream()
+                .filter(dto -> dto.getTenantName().toLowerCase().contains(search.toLowerCase()))
+                .toList();
+    }
+
+    /**
+     * 구독 단위로 중복을 제거하고 생성일, ID 역순으로 정렬
+     */
+    private static List<Long> distinctOrdered(List<SubscriptionExportDto> rows) {
+        Map<Long, LocalDateTime> createdAt = new LinkedHashMap<>();
+        rows.forEach(dto -> createdAt.putIfAbsent(dto.getSubscriptionId(), dto.getCreatedAt()));
+        return createdAt.keySet().stream()
+                .sorted(Comparator.comparing((Long id) -> createdAt.get(id)).thenComparing(id -> id).reversed())
+                .toList();
+    }
+
+    private static List<Long> ids(List<SubscriptionExportDto> rows) {
+        return rows.stream().map(SubscriptionExportDto::getSubscriptionId).toList();
+    }
+
+    private static void insertData(JdbcTemplate jdbc) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TestFixtures.plan(jdbc, "basic", "베이직", 50000);
+        TestFixtures.plan(jdbc, "premium", "프리미엄", 150000);
+        TestFixtures.batch(jdbc, "INSERT INTO tenants (id, business_number, company_name, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'ACTIVE', NOW(), NOW())", TENANTS, i -> {
+                    long id = i + 1;
+                    return new Object[]{id, TestFixtures.businessNumber(id), id == 7 ? SPECIAL_TENANT_NAME : "테넌트-" + id};
+                });
+        jdbc.update("INSERT INTO users (id, tenant_id, name, email, provider, is_active, is_email_verified, role, created_at, updated_at) " +
+                "VALUES (1, 1, '관리자', 'admin@smartcon.test', 'LOCAL', TRUE, TRUE, 'ROLE_SUPER', NOW(), NOW())");
+
+        // 생성일은 3건씩 같은 초를 공유 (커서의 ID 보조 정렬 검증)
+        String[] statuses = {"ACTIVE", "PENDING_APPROVAL", "ACTIVE", "CANCELLED"};
+        TestFixtures.batch(jdbc, "INSERT INTO subscriptions (id, tenant_id, plan_id, status, start_date, billing_cycle, " +
+                "monthly_price, discount_rate, auto_renewal, version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, DATE '2024-01-01', 'MONTHLY', 50000, 0, TRUE, 0, ?, ?)", SUBSCRIPTIONS, i -> {
+                    long id = i + 1;
+                    LocalDateTime createdAt = base.plusSeconds(id / 3);
+                    return new Object[]{id, id % TENANTS + 1, id % 2 == 0 ? "basic" : "premium", statuses[(int) (id % 4)],
+                            createdAt, createdAt};
+                });
+
+        // 짝수 구독은 승인 이력 2건 (마지막 이력이 최근 승인), 3의 배수 구독은 결제 2건
+        TestFixtures.batch(jdbc, "INSERT INTO subscription_approvals (id, subscription_id, admin_id, from_status, to_status, " +
+                "reason, action, processed_at, auto_approved, created_at, updated_at) " +
+                "VALUES (?, ?, 1, 'PENDING_APPROVAL', 'ACTIVE', ?, ?, ?, FALSE, NOW(), NOW())", SUBSCRIPTIONS / 2 * 2, i -> {
+                    long id = i + 1;
+                    boolean last = id % 2 == 0;
+                    return new Object[]{id, (id + 1) / 2 * 2, last ? "최종 승인" : "검토 보류", last ? "APPROVE" : "SUSPEND",
+                            base.plusMinutes(id)};
+                });
+        TestFixtures.batch(jdbc, "INSERT INTO payments (id, tenant_id, subscription_id, amount, status, created_at, updated_at) " +
+                "VALUES (?, 1, ?, 50000, 'SUCCESS', ?, NOW())", SUBSCRIPTIONS / 3 * 2, i -> {
+                    long id = i + 1;
+                    return new Object[]{id, (id + 1) / 2 * 3, base.plusMinutes(id)};
+                });
+
+        if (!TestDatabase.isMariaDb()) {
+            // H2는 엔티티 기준 스키마이므로 마이그레이션 인덱스 (V5, V13, V14)를 직접 생성
+            jdbc.execute("CREATE INDEX idx_subscription_approvals_subscription_id ON subscription_approvals (subscription_id)");
+            jdbc.execute("CREATE INDEX idx_payments_subscription_created ON payments (subscription_id, created_at)");
+            jdbc.execute("CREATE INDEX idx_subscription_admin_view_created ON subscription_admin_view (created_at, subscription_id)");
+            jdbc.execute("CREATE INDEX idx_subscription_admin_view_status_created " +
+                    "ON subscription_admin_view (status, created_at, subscription_id)");
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = SubscriptionRepository.class)
+    @Import(TenantIdentifierResolver.class)
+    static class ListConfig {
+    }
+}
@@ -0,0 +1,210 @@
+package com.smartcon.domain.billing.service;
+
+import com.smartcon.domain.billing.entity.BillingRecord;
+import com.smartcon.domain.billing.entity.RevenueLedgerEntry;
+import com.smartcon.domain.billing.entity.RevenueMonthClosing;
+import com.smartcon.domain.billing.repository.BillingRecordRepository;
+import com.smartcon.domain.billing.repository.RevenueLedgerEntryRepository;
+import com.smartcon.domain.billing.repository.RevenueMonthClosingRepository;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 월 매출 원장 서비스 테스트
+ */
+class RevenueLedgerServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 4, 1, 12, 0);
+
+    private RevenueMonthClosingRepository closingRepository;
+    private RevenueLedgerEntryRepository entryRepository;
+    private BillingRecordRepository billingRecordRepository;
+    private RevenueLedgerService service;
+
+    @BeforeEach
+    void setUp() {
+        closingRepository = mock(RevenueMonthClosingRepository.class);
+        entryRepository = mock(RevenueLedgerEntryRepository.class);
+        billingRecordRepository = mock(BillingRecordRepository.class);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(entryRepository.sumSnapshot(any())).thenReturn(Collections.singletonList(new Object[]{BigDecimal.TEN, 1L, 1L}));
+
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        service = new RevenueLedgerService(closingRepository, entryRepository, billingRecordRepository,
+                transactionManager, 24, 12, 48, clock);
+    }
+
+    @Test
+    @DisplayName("최초 실행 시 첫 결제 월부터 유예 시간이 지난 월까지 순서대로 마감한다")
+    void closesMonthsFromFirstPaymentUntilGraceBoundary() {
+        // Given: 첫 결제는 1월, 현재 4월 1일 12시 (3월은 유예 24시간이 지나지 않음)
+        when(closingRepository.findTopByOrderByRevenueMonthDesc()).thenReturn(Optional.empty());
+        when(billingRecordRepository.findFirstPaymentCompletedAt()).thenReturn(LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        // When
+        List<LocalDate> closed = service.closeMonths();
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)), closed);
+        verify(entryRepository).insertSnapshot(LocalDate.of(2024, 2, 1),
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 1, 0, 0));
+        verify(closingRepository).insertClosing(LocalDate.of(2024, 2, 1), BigDecimal.TEN, 1L, 1L);
+        verify(entryRepository, never()).insertSnapshot(eq(LocalDate.of(2024, 3, 1)), any(), any());
+    }
+
+    @Test
+    @DisplayName("누적 매출은 마감 합계와 조정 항목에 마감 이후 구간의 원본 결제만 더한다")
+    void revenueCombinesClosedMonthsAndOpenRange() {
+        // Given: 2월까지 마감
+        RevenueMonthClosing february = mock(RevenueMonthClosing.class);
+        when(february.getRevenueMonth()).thenReturn(LocalDate.of(2024, 2, 1));
+        when(closingRepository.findTopByOrderByRevenueMonthDesc()).thenReturn(Optional.of(february));
+        when(closingRepository.sumTotalAmount(any(), any())).thenReturn(new BigDecimal("1000"));
+        when(entryRepository.sumAdjustments(any(), any())).thenReturn(new BigDecimal("-50"));
+        when(billingRecordRepository.getTotalRevenueByPeriod(any(), any())).thenReturn(new BigDecimal("200"));
+
+        // When
+        BigDecimal total = service.totalRevenue();
+
+        // Then: 원본 결제는 3월 1일 이후만 조회
+        assertEquals(new BigDecimal("1150"), total);
+        verify(billingRecordRepository).getTotalRevenueByPeriod(LocalDateTime.of(2024, 3, 1, 0, 0), NOW);
+        verify(closingRepository).sumTotalAmount(RevenueLedgerService.INITIAL_MONTH, LocalDate.of(2024, 2, 1));
+    }
+
+    @Test
+    @DisplayName("마감 이후 바뀐 결제는 마감 행을 고치지 않고 차이만큼 조정 항목으로 기록한다")
+    void reconcileRecordsAdjustmentForDrift() {
+        // Given: 테넌트 1은 환불로 100 감소, 테넌트 2는 변동 없음
+        LocalDate month = LocalDate.of(2024, 2, 1);
+        when(closingRepository.findForUpdate(month)).thenReturn(Optional.of(mock(RevenueMonthClosing.class)));
+        when(entryRepository.sumByTenant(month)).thenReturn(List.of(
+                new Object[]{1L, new BigDecimal("300.00"), 3L},
+                new Object[]{2L, new BigDecimal("500.00"), 5L}));
+        when(billingRecordRepository.sumSuccessfulByTenant(month.atStartOfDay(), month.plusMonths(1).atStartOfDay()))
+                .thenReturn(List.of(
+                        new Object[]{1L, new BigDecimal("200.00"), 2L},
+                        new Object[]{2L, new BigDecimal("500.00"), 5L}));
+
+        // When
+        int recorded = service.reconcileMonth(month);
+
+        // Then
+        assertEquals(1, recorded);
+        ArgumentCaptor<RevenueLedgerEntry> captor = ArgumentCaptor.forClass(RevenueLedgerEntry.class);
+        verify(entryRepository).save(captor.capture());
+        RevenueLedgerEntry adjustment = captor.getValue();
+        assertEquals(RevenueLedgerEntry.EntryType.ADJUSTMENT, adjustment.getEntryType());
+        assertEquals(month, adjustment.getRevenueMonth());
+        assertEquals(1L, adjustment.getTenantId());
+        assertEquals(new BigDecimal("-100.00"), adjustment.getAmount());
+        assertEquals(-1L, adjustment.getPaymentCount());
+        verify(closingRepository, never()).insertClosing(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("조정 범위 이전 월도 최근 결제가 바뀐 마감 월이면 조정한다")
+    void reconcileIncludesChangedMonthsBeforeLookback() {
+        // Given: 범위(12개월)는 2023년 4월부터, 2022년 11월 결제가 최근 환불됨 (2021년 1월은 마감 전 이력)
+        LocalDate changed = LocalDate.of(2022, 11, 1);
+        when(billingRecordRepository.findCompletedMonthsChangedSince(NOW.minusHours(48), LocalDateTime.of(2023, 4, 1, 0, 0)))
+                .thenReturn(List.of(new Object[]{2022, 11}, new Object[]{2021, 1}));
+        when(closingRepository.existsById(changed)).thenReturn(true);
+        when(closingRepository.findForUpdate(changed)).thenReturn(Optional.of(mock(RevenueMonthClosing.class)));
+        when(entryRepository.sumByTenant(changed)).thenReturn(Collections.singletonList(
+                new Object[]{1L, new BigDecimal("300.00"), 3L}));
+        when(billingRecordRepository.sumSuccessfulByTenant(changed.atStartOfDay(), changed.plusMonths(1).atStartOfDay()))
+                .thenReturn(Collections.singletonList(new Object[]{1L, new BigDecimal("200.00"), 2L}));
+
+        // When
+        int recorded = service.reconcileClosedMonths();
+
+        // Then
+        assertEquals(1, recorded);
+        ArgumentCaptor<RevenueLedgerEntry> captor = ArgumentCaptor.forClass(RevenueLedgerEntry.class);
+        verify(entryRepository).save(captor.capture());
+        assertEquals(changed, captor.getValue().getRevenueMonth());
+        assertEquals(new BigDecimal("-100.00"), captor.getValue().getAmount());
+        verify(closingRepository, never()).findForUpdate(LocalDate.of(2021, 1, 1));
+    }
+
+    @Test
+    @DisplayName("마이그레이션된 스키마에서 마감 후 환불은 조정 항목 한 건으로만 반영되고 마감 행은 그대로 남는다")
+    void closesAndReconcilesOnDatabase() {
+        try (ConfigurableApplicationContext context = TestDatabase.start(LedgerConfig.class, "revenue_ledger")) {
+            // Given: 1월·2월 성공 결제, 2월 실패 결제, 아직 마감 전인 3월 결제
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            TestFixtures.tenant(jdbc, 1, "본사");
+            TestFixtures.tenant(jdbc, 2, "지사");
+            TestFixtures.tenant(jdbc, 3, "협력사");
+            TestFixtures.billing(jdbc, 1, 100000, BillingRecord.PaymentStatus.SUCCESS, LocalDateTime.of(2024, 1, 10, 9, 0));
+            TestFixtures.billing(jdbc, 1, 200000, BillingRecord.PaymentStatus.SUCCESS, LocalDateTime.of(2024, 2, 10, 9, 0));
+            TestFixtures.billing(jdbc, 2, 50000, BillingRecord.PaymentStatus.SUCCESS, LocalDateTime.of(2024, 2, 20, 9, 0));
+            TestFixtures.billing(jdbc, 3, 999, BillingRecord.PaymentStatus.FAILED, LocalDateTime.of(2024, 2, 21, 9, 0));
+            TestFixtures.billing(jdbc, 1, 70000, BillingRecord.PaymentStatus.SUCCESS, LocalDateTime.of(2024, 3, 20, 9, 0));
+            RevenueLedgerService ledger = new RevenueLedgerService(context.getBean(RevenueMonthClosingRepository.class),
+                    context.getBean(RevenueLedgerEntryRepository.class), context.getBean(BillingRecordRepository.class),
+                    context.getBean(PlatformTransactionManager.class), 24, 12, 48,
+                    Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE));
+
+            // When
+            List<LocalDate> closed = ledger.closeMonths();
+
+            // Then
+            assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)), closed);
+            assertEquals(List.of(), ledger.closeMonths());
+            assertEquals(0, new BigDecimal("420000").compareTo(ledger.totalRevenue()));
+            assertEquals(0, ledger.reconcileClosedMonths());
+
+            // When: 마감된 2월 결제 환불
+            jdbc.update("UPDATE subscription_billing SET payment_status = 'REFUNDED', updated_at = ? " +
+                    "WHERE tenant_id = 1 AND total_amount = 200000", NOW.minusHours(1));
+
+            // Then: 조정은 한 번만 기록되고 마감 합계는 그대로
+            assertEquals(1, ledger.reconcileClosedMonths());
+            assertEquals(0, ledger.reconcileClosedMonths());
+            assertEquals(0, new BigDecimal("220000").compareTo(ledger.totalRevenue()));
+            assertEquals(0, new BigDecimal("250000").compareTo(jdbc.queryForObject(
+                    "SELECT total_amount FROM revenue_month_closings WHERE revenue_month = ?", BigDecimal.class,
+                    LocalDate.of(2024, 2, 1))));
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = BillingRecordRepository.class)
+    @Import(TenantIdentifierResolver.class)
+    static class LedgerConfig {
+    }
+}
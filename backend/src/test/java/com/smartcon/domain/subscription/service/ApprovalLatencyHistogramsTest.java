@@ -0,0 +1,169 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.ApprovalAction;
+import com.smartcon.domain.subscription.entity.ApprovalLatencyHistogram;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionApproval;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.ApprovalLatencyHistogramRepository;
+import com.smartcon.domain.subscription.repository.StatsRollupWatermarkRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.user.entity.User;
+import com.smartcon.global.common.LatencyHistogram;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 승인 처리 시간 히스토그램 저장소 테스트
+ */
+class ApprovalLatencyHistogramsTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private ApprovalLatencyHistogramRepository histogramRepository;
+    private ApprovalLatencyHistograms histograms;
+
+    @BeforeEach
+    void setUp() {
+        histogramRepository = mock(ApprovalLatencyHistogramRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        histograms = new ApprovalLatencyHistograms(histogramRepository, mock(StatsRollupWatermarkRepository.class),
+                mock(JdbcTemplate.class), mock(EntityManagerFactory.class), transactionManager, 180);
+    }
+
+    @Test
+    @DisplayName("기간 조회는 액션과 관리자 조건에 맞는 일별 히스토그램만 병합한다")
+    void mergedFiltersByDateActionAndAdmin() {
+        // Given
+        histograms.record(new ApprovalLatencyHistogram.Key(TODAY, ApprovalAction.APPROVE, 1L), 60);
+        histograms.record(new ApprovalLatencyHistogram.Key(TODAY.minusDays(1), ApprovalAction.APPROVE, 2L), 120);
+        histograms.record(new ApprovalLatencyHistogram.Key(TODAY, ApprovalAction.REJECT, 1L), 600);
+        histograms.record(new ApprovalLatencyHistogram.Key(TODAY.minusDays(10), ApprovalAction.APPROVE, 1L), 6000);
+
+        // When & Then
+        assertEquals(3, histograms.merged(TODAY.minusDays(1), TODAY, null, null).getTotalCount());
+        assertEquals(2, histograms.merged(TODAY.minusDays(1), TODAY, ApprovalAction.APPROVE, null).getTotalCount());
+        assertEquals(60, histograms.merged(TODAY.minusDays(1), TODAY, ApprovalAction.APPROVE, 1L).getMax());
+    }
+
+    @Test
+    @DisplayName("반영 시 기존 행에는 증분을 병합하고 없는 행은 새로 만든다")
+    void flushMergesIntoExistingRowsAndCreatesMissing() {
+        // Given: 관리자 1 행은 이미 존재
+        ApprovalLatencyHistogram.Key existingKey = new ApprovalLatencyHistogram.Key(TODAY, ApprovalAction.APPROVE, 1L);
+        ApprovalLatencyHistogram.Key newKey = new ApprovalLatencyHistogram.Key(TODAY, ApprovalAction.APPROVE, 2L);
+        LatencyHistogram stored = new LatencyHistogram();
+        stored.record(30);
+        ApprovalLatencyHistogram existing = new ApprovalLatencyHistogram(existingKey, stored);
+        when(histogramRepository.findForUpdate(TODAY, ApprovalAction.APPROVE, 1L)).thenReturn(Optional.of(existing));
+        when(histogramRepository.findForUpdate(TODAY, ApprovalAction.APPROVE, 2L)).thenReturn(Optional.empty());
+
+        histograms.record(existingKey, 90);
+        histograms.record(newKey, 45);
+
+        // When
+        int flushed = histograms.flush();
+
+        // Then
+        assertEquals(2, flushed);
+        assertEquals(2, existing.toHistogram().getTotalCount());
+        assertEquals(90, existing.toHistogram().getMax());
+        verify(histogramRepository).save(argThat(row -> row.getKey().equals(newKey)
+                && row.toHistogram().getTotalCount() == 1));
+        assertEquals(0, histograms.flush());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 다음 반영과 재적재에 그대로 남는다")
+    void failedFlushKeepsPendingDeltas() {
+        // Given
+        ApprovalLatencyHistogram.Key key = new ApprovalLatencyHistogram.Key(TODAY, ApprovalAction.APPROVE, 1L);
+        when(histogramRepository.findForUpdate(any(), any(), any())).thenThrow(new IllegalStateException("lock timeout"));
+        histograms.record(key, 90);
+
+        // When
+        assertThrows(IllegalStateException.class, histograms::flush);
+        when(histogramRepository.findByStatDateGreaterThanEqual(any())).thenReturn(List.of());
+        histograms.reload();
+
+        // Then: 저장된 행이 없어도 미반영 증분이 메모리 사본에 유지
+        assertEquals(1, histograms.merged(TODAY, TODAY, null, null).getTotalCount());
+        reset(histogramRepository);
+        when(histogramRepository.findForUpdate(any(), any(), any())).thenReturn(Optional.empty());
+        assertEquals(1, histograms.flush());
+    }
+
+    @Test
+    @DisplayName("승인 요청 시각은 영속성 컨텍스트에 있는 구독에서 읽고 커밋 후에 기록한다")
+    void readsRequestedAtFromPersistenceContext() {
+        try (ConfigurableApplicationContext context = TestDatabase.start(HistogramConfig.class, "approval_latency")) {
+            // Given: DB의 승인 요청 시각은 1시간 전
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            LocalDateTime processedAt = LocalDateTime.now().withNano(0);
+            TestFixtures.tenant(jdbc, 1, "본사");
+            TestFixtures.plan(jdbc, "basic", "베이직", 50000);
+            TestFixtures.subscription(jdbc, 1, 1, "basic", SubscriptionStatus.PENDING_APPROVAL, TODAY);
+            jdbc.update("UPDATE subscriptions SET approval_requested_at = ? WHERE id = 1", processedAt.minusHours(1));
+            TestFixtures.users(jdbc, 1, User.Role.ROLE_SUPER, 7, 7);
+            ApprovalLatencyHistograms latencyHistograms = context.getBean(ApprovalLatencyHistograms.class);
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            // When: 적재된 구독의 요청 시각을 1분 전으로 바꾼 뒤 (아직 flush 전) 승인 이력 저장
+            transactionTemplate.executeWithoutResult(status -> {
+                Subscription subscription = entityManager.find(Subscription.class, 1L);
+                subscription.updateApprovalRequestedAt(processedAt.minusSeconds(60));
+                entityManager.persist(SubscriptionApproval.builder()
+                        .subscriptionId(1L)
+                        .admin(entityManager.getReference(User.class, 7L))
+                        .fromStatus(SubscriptionStatus.PENDING_APPROVAL)
+                        .toStatus(SubscriptionStatus.ACTIVE)
+                        .action(ApprovalAction.APPROVE)
+                        .processedAt(processedAt)
+                        .build());
+                assertEquals(0, latencyHistograms.merged(TODAY, TODAY, ApprovalAction.APPROVE, 7L).getTotalCount());
+            });
+
+            // Then: DB 값(1시간)이 아닌 영속성 컨텍스트 값(1분)으로 기록
+            LatencyHistogram recorded = latencyHistograms.merged(
+                    processedAt.toLocalDate(), processedAt.toLocalDate(), ApprovalAction.APPROVE, 7L);
+            assertEquals(1, recorded.getTotalCount());
+            assertEquals(60, recorded.getMax());
+        }
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = SubscriptionRepository.class)
+    @Import({TenantIdentifierResolver.class, ApprovalLatencyHistograms.class})
+    static class HistogramConfig {
+    }
+}
@@ -0,0 +1,108 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.entity.AutoApprovalRule;
+import com.smartcon.domain.subscription.entity.SubscriptionPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 자동 승인 규칙 평가 마이크로 벤치마크 (활성 규칙 1,000건)
+ *
+ * 기존 방식(규칙마다 JSON 조건 파싱)과 컴파일된 규칙 집합의 평가당 처리 시간을 비교합니다.
+ * 일치하는 규칙이 가장 낮은 우선순위에 있는 최악의 경우를 측정합니다.
+ */
+@Slf4j
+class AutoApprovalRuleBenchmarkTest {
+
+    private static final int RULE_COUNT = 1_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 1_000;
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<AutoApprovalRule> rules;
+    private SubscriptionPlan plan;
+    private AutoApprovalRuleSet ruleSet;
+
+    @BeforeEach
+    void setUp() {
+        rules = new ArrayList<>();
+        for (int i = 0; i < RULE_COUNT - 1; i++) {
+            rules.add(AutoApprovalRuleEngineTest.rule("규칙-" + i,
+                    "[\"plan-" + i + "\",\"plan-" + (i + 1) + "\"]", "1000000", RULE_COUNT - i));
+        }
+        rules.add(AutoApprovalRuleEngineTest.rule("최종 규칙", "[\"basic\",\"premium\"]", "1000000", 0));
+        plan = AutoApprovalRuleEngineTest.plan("premium", "300000");
+        ruleSet = AutoApprovalRuleSet.compile(rules, List.of(plan), objectMapper);
+    }
+
+    @Test
+    void benchmarkRuleEvaluation() throws Exception {
+        // 워밍업
+        runLegacy(WARMUP_ITERATIONS);
+        runCompiled(WARMUP_ITERATIONS * 100);
+
+        // 측정
+        long legacyNanos = runLegacy(MEASURE_ITERATIONS);
+        long compiledNanos = runCompiled(MEASURE_ITERATIONS);
+
+        double legacyMicros = legacyNanos / 1_000.0 / MEASURE_ITERATIONS;
+        double compiledMicros = compiledNanos / 1_000.0 / MEASURE_ITERATIONS;
+        log.info("규칙 {}건 평가당 처리 시간 - 기존(JSON 파싱): {} us, 컴파일된 규칙: {} us, 향상 비율: {}배",
+                RULE_COUNT,
+                String.format("%.2f", legacyMicros),
+                String.format("%.2f", compiledMicros),
+                String.format("%.1f", legacyMicros / compiledMicros));
+
+        assertEquals("최종 규칙", ruleSet.findFirstMatch("premium").getRuleName());
+        assertTrue(compiledNanos < legacyNanos, "컴파일된 규칙 평가가 더 빨라야 합니다");
+    }
+
+    private long runLegacy(int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertNotNull(legacyFirstMatch());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runCompiled(int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertNotNull(ruleSet.findFirstMatch("premium"));
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 기존 평가 방식: 규칙마다 planIds/paymentMethods JSON 파싱 후 비교
+     */
+    private AutoApprovalRule legacyFirstMatch() throws Exception {
+        for (AutoApprovalRule rule : rules) {
+            if (rule.getPlanIds() != null && !rule.getPlanIds().isEmpty()) {
+                List<String> allowedPlanIds = objectMapper.readValue(rule.getPlanIds(), STRING_LIST);
+                if (!allowedPlanIds.contains(plan.getPlanId())) {
+                    continue;
+                }
+            }
+            if (rule.getPaymentMethods() != null && !rule.getPaymentMethods().isEmpty()) {
+                objectMapper.readValue(rule.getPaymentMethods(), STRING_LIST);
+            }
+            BigDecimal planAmount = plan.getMonthlyPrice();
+            if (rule.getMaxAmount() != null && planAmount.compareTo(rule.getMaxAmount()) > 0) {
+                continue;
+            }
+            return rule;
+        }
+        return null;
+    }
+}
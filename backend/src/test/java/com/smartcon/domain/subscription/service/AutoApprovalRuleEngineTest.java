@@ -0,0 +1,153 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.dto.CreateSubscriptionRequest;
+import com.smartcon.domain.subscription.entity.AutoApprovalRule;
+import com.smartcon.domain.subscription.entity.SubscriptionPlan;
+import com.smartcon.domain.subscription.repository.AutoApprovalRuleRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionPlanRepository;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import com.smartcon.global.cache.RemoteCacheInvalidatedEvent;
+import com.smartcon.global.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 자동 승인 규칙 엔진 테스트
+ */
+class AutoApprovalRuleEngineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<AutoApprovalRule> activeRules = new ArrayList<>();
+    private AutoApprovalRuleRepository ruleRepository;
+    private SubscriptionPlanRepository planRepository;
+    private AutoApprovalRuleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        ruleRepository = mock(AutoApprovalRuleRepository.class);
+        planRepository = mock(SubscriptionPlanRepository.class);
+        when(ruleRepository.findByIsActiveTrueOrderByPriorityDescIdAsc()).thenAnswer(invocation -> List.copyOf(activeRules));
+        when(planRepository.findAll()).thenReturn(List.of(
+                plan("basic", "50000"), plan("premium", "300000")));
+        engine = new AutoApprovalRuleEngine(ruleRepository, planRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("우선순위 순으로 처음 일치하는 규칙을 반환하고 평가 시 DB를 조회하지 않는다")
+    void firstMatchingRuleWithoutDatabaseCalls() {
+        // Given
+        activeRules.add(rule("프리미엄 전용", "[\"premium\"]", null, 10));
+        activeRules.add(rule("소액 요금제", null, "100000", 5));
+
+        // When
+        AutoApprovalRuleSet.CompiledRule basic = null;
+        for (int i = 0; i < 100; i++) {
+            basic = engine.current().findFirstMatch("basic");
+        }
+        AutoApprovalRuleSet.CompiledRule premium = engine.current().findFirstMatch("premium");
+
+        // Then
+        assertEquals("소액 요금제", basic.getRuleName());
+        assertEquals("프리미엄 전용", premium.getRuleName());
+        verify(ruleRepository, times(1)).findByIsActiveTrueOrderByPriorityDescIdAsc();
+        verify(planRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("금액 초과, 빈 요금제 목록, 알 수 없는 요금제는 일치하지 않는다")
+    void nonMatchingConditions() {
+        // Given
+        activeRules.add(rule("소액 요금제", null, "100000", 5));
+        activeRules.add(rule("빈 요금제 목록", "[]", null, 1));
+
+        // When
+        AutoApprovalRuleSet ruleSet = engine.current();
+
+        // Then
+        assertNull(ruleSet.findFirstMatch("premium"));
+        assertNull(ruleSet.findFirstMatch("unknown"));
+        assertNull(ruleSet.findFirstMatch(null));
+    }
+
+    @Test
+    @DisplayName("규칙 변경과 원격 무효화 시에만 규칙 집합이 다시 만들어진다")
+    void ruleSetIsSwappedOnChange() {
+        // Given
+        AutoApprovalRuleSet initial = engine.current();
+        assertTrue(initial.isEmpty());
+
+        // When
+        activeRules.add(rule("전체 허용", null, null, 0));
+        engine.onRemoteInvalidation(new RemoteCacheInvalidatedEvent("subscriptionStats", null));
+        AutoApprovalRuleSet unrelated = engine.current();
+        engine.onRemoteInvalidation(new RemoteCacheInvalidatedEvent("autoApprovalRules", null));
+        AutoApprovalRuleSet swapped = engine.current();
+
+        // Then
+        assertSame(initial, unrelated);
+        assertNotSame(initial, swapped);
+        assertEquals(1, swapped.size());
+        assertNotNull(swapped.findFirstMatch("premium"));
+    }
+
+    @Test
+    @DisplayName("규칙이 일치해도 현재 테넌트가 존재하지 않으면 자동 승인하지 않는다")
+    void nonexistentTenantIsNotAutoApproved() {
+        // Given
+        activeRules.add(rule("전체 허용", null, null, 0));
+        TenantRepository tenantRepository = mock(TenantRepository.class);
+        when(tenantRepository.existsById(1L)).thenReturn(true);
+        when(tenantRepository.existsById(99L)).thenReturn(false);
+        AutoApprovalRuleServiceImpl service = new AutoApprovalRuleServiceImpl(
+                ruleRepository, engine, tenantRepository, objectMapper);
+        CreateSubscriptionRequest request = new CreateSubscriptionRequest();
+        request.setPlanId("basic");
+
+        try {
+            // When & Then - 존재하는 테넌트
+            TenantContext.setCurrentTenantId(1L);
+            assertTrue(service.evaluateAutoApproval(request));
+            assertEquals("전체 허용", service.getAppliedRule(request).getRuleName());
+
+            // When & Then - 존재하지 않는 테넌트
+            TenantContext.setCurrentTenantId(99L);
+            assertFalse(service.evaluateAutoApproval(request));
+            assertNull(service.getAppliedRule(request));
+
+            // When & Then - 테넌트 정보 없음
+            TenantContext.clear();
+            assertFalse(service.evaluateAutoApproval(request));
+            assertNull(service.getAppliedRule(request));
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    static AutoApprovalRule rule(String name, String planIdsJson, String maxAmount, int priority) {
+        return AutoApprovalRule.builder()
+                .ruleName(name)
+                .isActive(true)
+                .planIds(planIdsJson)
+                .paymentMethods("[\"CARD\"]")
+                .maxAmount(maxAmount != null ? new BigDecimal(maxAmount) : null)
+                .priority(priority)
+                .build();
+    }
+
+    static SubscriptionPlan plan(String planId, String monthlyPrice) {
+        return SubscriptionPlan.builder()
+                .planId(planId)
+                .name(planId)
+                .monthlyPrice(new BigDecimal(monthlyPrice))
+                .build();
+    }
+}
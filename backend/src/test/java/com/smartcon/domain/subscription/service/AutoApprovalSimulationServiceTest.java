@@ -0,0 +1,162 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.dto.AutoApprovalRuleDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationDto;
+import com.smartcon.domain.subscription.dto.AutoApprovalSimulationRequest;
+import com.smartcon.domain.subscription.repository.SubscriptionApprovalRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionPlanRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.smartcon.domain.subscription.service.AutoApprovalRuleEngineTest.plan;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 자동 승인 규칙 시뮬레이션 테스트
+ */
+class AutoApprovalSimulationServiceTest {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final List<Object[]> history = new ArrayList<>();
+    private final List<Long> requestedAfterIds = new ArrayList<>();
+    private SubscriptionRepository subscriptionRepository;
+    private AutoApprovalRuleEngine ruleEngine;
+    private AutoApprovalSimulationServiceImpl simulationService;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionRepository = mock(SubscriptionRepository.class);
+        SubscriptionApprovalRepository approvalRepository = mock(SubscriptionApprovalRepository.class);
+        SubscriptionPlanRepository planRepository = mock(SubscriptionPlanRepository.class);
+        ruleEngine = mock(AutoApprovalRuleEngine.class);
+
+        when(planRepository.findAll()).thenReturn(List.of(
+                plan("basic", "50000"), plan("premium", "300000")));
+        when(subscriptionRepository.findPlanIdsCreatedSince(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(1);
+                    Pageable pageable = invocation.getArgument(2);
+                    requestedAfterIds.add(afterId);
+                    return history.stream()
+                            .filter(row -> (Long) row[0] > afterId)
+                            .limit(pageable.getPageSize())
+                            .toList();
+                });
+        when(approvalRepository.countByActionInAndProcessedAtGreaterThanEqual(anyCollection(), any()))
+                .thenReturn(10L);
+
+        simulationService = new AutoApprovalSimulationServiceImpl(
+                subscriptionRepository, approvalRepository, planRepository, ruleEngine, CHUNK_SIZE, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크 단위로 이력을 재현하여 요금제별 자동 승인 건수와 적용 규칙을 집계한다")
+    void simulateProposedRulesInChunks() {
+        // Given: basic 2,000건, premium 500건
+        for (long id = 1; id <= 2_500; id++) {
+            history.add(new Object[]{id, id <= 2_000 ? "basic" : "premium"});
+        }
+        AutoApprovalSimulationRequest request = AutoApprovalSimulationRequest.builder()
+                .rules(List.of(
+                        proposed("소액 요금제", null, "100000", 10),
+                        proposed("비활성 규칙", null, null, 99, false)))
+                .months(3)
+                .build();
+
+        // When
+        AutoApprovalSimulationDto result = simulationService.simulate(request);
+
+        // Then
+        assertEquals(1, result.getRuleCount());
+        assertEquals(2_500, result.getTotalRequests());
+        assertEquals(2_000, result.getSimulatedAutoApproved());
+        assertEquals(80.0, result.getSimulatedAutoApprovalRate());
+
+        Map<String, AutoApprovalSimulationDto.PlanResult> plans = new HashMap<>();
+        result.getPlans().forEach(plan -> plans.put(plan.getPlanId(), plan));
+        assertEquals(2_000, plans.get("basic").getAutoApproved());
+        assertEquals(Map.of("소액 요금제", 2_000L), plans.get("basic").getFiredRules());
+        assertEquals(500, plans.get("premium").getTotalRequests());
+        assertEquals(0, plans.get("premium").getAutoApproved());
+
+        assertEquals(List.of(0L, 1_000L, 2_000L), requestedAfterIds);
+        assertEquals(50.0, result.getActual().getAutoApprovalRate());
+        verifyNoInteractions(ruleEngine);
+    }
+
+    @Test
+    @DisplayName("제안 규칙이 없으면 현재 운영 중인 규칙 집합으로 재현한다")
+    void simulateCurrentRulesWhenNoneProposed() {
+        // Given
+        history.add(new Object[]{1L, "premium"});
+        when(ruleEngine.current()).thenReturn(AutoApprovalRuleSet.compileProposed(
+                List.of(proposed("프리미엄 전용", List.of("premium"), null, 1)),
+                List.of(plan("premium", "300000"))));
+
+        // When
+        AutoApprovalSimulationDto result = simulationService.simulate(
+                AutoApprovalSimulationRequest.builder().build());
+
+        // Then
+        assertEquals(1, result.getSimulatedAutoApproved());
+        assertEquals(Map.of("프리미엄 전용", 1L), result.getPlans().get(0).getFiredRules());
+        verify(ruleEngine).current();
+    }
+
+    @Test
+    @DisplayName("이름 없는 제안 규칙도 자동 승인으로 집계하고 우선순위로 표시한다")
+    void simulateUnnamedProposedRule() {
+        // Given
+        history.add(new Object[]{1L, "basic"});
+        history.add(new Object[]{2L, "premium"});
+        AutoApprovalSimulationRequest request = AutoApprovalSimulationRequest.builder()
+                .rules(List.of(proposed(null, List.of("basic"), null, 7)))
+                .months(3)
+                .build();
+
+        // When
+        AutoApprovalSimulationDto result = simulationService.simulate(request);
+
+        // Then
+        assertEquals(1, result.getSimulatedAutoApproved());
+        assertEquals(50.0, result.getSimulatedAutoApprovalRate());
+        AutoApprovalSimulationDto.PlanResult basic = result.getPlans().get(0);
+        assertEquals("basic", basic.getPlanId());
+        assertEquals(1, basic.getAutoApproved());
+        assertEquals(Map.of("rule#7", 1L), basic.getFiredRules());
+    }
+
+    private static AutoApprovalRuleDto proposed(String name, List<String> planIds, String maxAmount, int priority) {
+        return proposed(name, planIds, maxAmount, priority, true);
+    }
+
+    private static AutoApprovalRuleDto proposed(String name, List<String> planIds, String maxAmount,
+                                                int priority, boolean active) {
+        return AutoApprovalRuleDto.builder()
+                .ruleName(name)
+                .isActive(active)
+                .planIds(planIds)
+                .maxAmount(maxAmount != null ? new BigDecimal(maxAmount) : null)
+                .priority(priority)
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.StatsRollupWatermark;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.ApprovalDailyRollupRepository;
+import com.smartcon.domain.subscription.repository.NotificationDailyRollupRepository;
+import com.smartcon.domain.subscription.repository.StatsRollupWatermarkRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.user.entity.User;
+import com.smartcon.global.cache.RefreshAheadRegistry;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일별 통계 집계 작업 테스트
+ */
+class DailyStatsRollupJobTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private ApprovalDailyRollupRepository approvalRollupRepository;
+    private NotificationDailyRollupRepository notificationRollupRepository;
+    private StatsRollupWatermarkRepository watermarkRepository;
+    private RefreshAheadRegistry refreshAheadRegistry;
+    private StatsRollupWatermark approvalWatermark;
+    private StatsRollupWatermark notificationWatermark;
+    private DailyStatsRollupJob job;
+
+    @BeforeEach
+    void setUp() {
+        approvalRollupRepository = mock(ApprovalDailyRollupRepository.class);
+        notificationRollupRepository = mock(NotificationDailyRollupRepository.class);
+        watermarkRepository = mock(StatsRollupWatermarkRepository.class);
+
+        approvalWatermark = new StatsRollupWatermark(DailyStatsRollupJob.APPROVAL_ROLLUP);
+        approvalWatermark.advanceTo(NOW.minusMinutes(10));
+        notificationWatermark = new StatsRollupWatermark(DailyStatsRollupJob.NOTIFICATION_ROLLUP);
+        notificationWatermark.advanceTo(NOW.minusMinutes(10));
+        when(watermarkRepository.existsById(anyString())).thenReturn(true);
+        when(watermarkRepository.findForUpdate(DailyStatsRollupJob.APPROVAL_ROLLUP)).thenReturn(Optional.of(approvalWatermark));
+        when(watermarkRepository.findForUpdate(DailyStatsRollupJob.NOTIFICATION_ROLLUP)).thenReturn(Optional.of(notificationWatermark));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        refreshAheadRegistry = mock(RefreshAheadRegistry.class);
+
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        job = new DailyStatsRollupJob(approvalRollupRepository, notificationRollupRepository, watermarkRepository,
+                transactionManager, refreshAheadRegistry, 120, clock);
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 변경된 일자만 다시 계산하고 워터마크를 유예 시간만큼 앞선 시점까지 전진한다")
+    void rebuildsChangedDaysOnly() {
+        // Given: 자정을 넘긴 처리 건으로 이틀이 변경됨
+        LocalDate yesterday = NOW.toLocalDate().minusDays(1);
+        LocalDate today = NOW.toLocalDate();
+        when(approvalRollupRepository.findChangedDays(any(), any()))
+                .thenReturn(List.of(Date.valueOf(today), Date.valueOf(yesterday), Date.valueOf(today)));
+
+        // When
+        int rebuilt = job.rollUp();
+
+        // Then
+        assertEquals(2, rebuilt);
+        LocalDateTime upperBound = NOW.minusSeconds(120);
+        verify(approvalRollupRepository).findChangedDays(NOW.minusMinutes(10), upperBound);
+        verify(approvalRollupRepository).deleteByDay(yesterday);
+        verify(approvalRollupRepository).rebuildDay(yesterday, yesterday.atStartOfDay(), today.atStartOfDay());
+        verify(approvalRollupRepository).rebuildDay(today, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        verify(notificationRollupRepository, never()).rebuildDay(any(), any(), any());
+        assertEquals(upperBound, approvalWatermark.getWatermark());
+        assertEquals(upperBound, notificationWatermark.getWatermark());
+        verify(refreshAheadRegistry).refreshAll("approvalStats");
+        verify(refreshAheadRegistry, never()).refreshAll("notificationStats");
+    }
+
+    @Test
+    @DisplayName("유예 구간 안쪽까지 이미 반영되었으면 원본을 조회하지 않는다")
+    void skipsWhenWatermarkIsWithinGrace() {
+        // Given
+        approvalWatermark.advanceTo(NOW.minusSeconds(60));
+        notificationWatermark.advanceTo(NOW.minusSeconds(60));
+
+        // When
+        int rebuilt = job.rollUp();
+
+        // Then
+        assertEquals(0, rebuilt);
+        verify(approvalRollupRepository, never()).findChangedDays(any(), any());
+        verify(notificationRollupRepository, never()).findChangedDays(any(), any());
+        verifyNoInteractions(refreshAheadRegistry);
+    }
+
+    @Test
+    @DisplayName("워터마크가 없으면 초기 시점으로 생성하여 전체 이력을 백필한다")
+    void createsMissingWatermark() {
+        // Given
+        when(watermarkRepository.existsById(DailyStatsRollupJob.APPROVAL_ROLLUP)).thenReturn(false);
+        StatsRollupWatermark created = new StatsRollupWatermark(DailyStatsRollupJob.APPROVAL_ROLLUP);
+        when(watermarkRepository.findForUpdate(DailyStatsRollupJob.APPROVAL_ROLLUP)).thenReturn(Optional.of(created));
+
+        // When
+        job.rollUp();
+
+        // Then
+        verify(watermarkRepository).saveAndFlush(argThat(watermark ->
+                watermark.getWatermark().equals(StatsRollupWatermark.INITIAL)));
+        verify(approvalRollupRepository).findChangedDays(StatsRollupWatermark.INITIAL, NOW.minusSeconds(120));
+    }
+
+    @Test
+    @DisplayName("구독의 승인 요청 시각이 바뀌면 그 구독의 승인 처리 일자 집계를 다시 계산한다")
+    void rebuildsDaysOfSubscriptionsWithChangedRequestedAt() {
+        try (ConfigurableApplicationContext context = TestDatabase.start(RollupConfig.class, "daily_stats_rollup")) {
+            // Given: 3월 9일 10:00 승인, 요청 시각 09:00 (처리 60분)
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            LocalDateTime processedAt = LocalDateTime.of(2024, 3, 9, 10, 0);
+            TestFixtures.tenant(jdbc, 1, "본사");
+            TestFixtures.plan(jdbc, "basic", "베이직", 50000);
+            TestFixtures.subscription(jdbc, 1, 1, "basic", SubscriptionStatus.ACTIVE, processedAt.toLocalDate());
+            TestFixtures.users(jdbc, 1, User.Role.ROLE_SUPER, 7, 7);
+            jdbc.update("UPDATE subscriptions SET approval_requested_at = ?, updated_at = ? WHERE id = 1",
+                    processedAt.minusHours(1), NOW.minusHours(3));
+            jdbc.update("INSERT INTO subscription_approvals (subscription_id, admin_id, from_status, to_status, action, " +
+                    "processed_at, auto_approved, created_at, updated_at) " +
+                    "VALUES (1, 7, 'PENDING_APPROVAL', 'ACTIVE', 'APPROVE', ?, FALSE, ?, ?)",
+                    processedAt, NOW.minusHours(3), NOW.minusHours(3));
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            ApprovalDailyRollupRepository rollups = context.getBean(ApprovalDailyRollupRepository.class);
+            assertEquals(1, rollUpAt(context, transactionManager, NOW.minusHours(2)));
+            assertEquals(60L, minutesSum(jdbc));
+
+            // When: 승인 이력은 그대로 두고 구독의 승인 요청 시각만 09:30으로 정정
+            jdbc.update("UPDATE subscriptions SET approval_requested_at = ?, updated_at = ? WHERE id = 1",
+                    processedAt.minusMinutes(30), NOW.minusHours(1));
+            int rebuilt = rollUpAt(context, transactionManager, NOW);
+
+            // Then
+            assertEquals(1, rebuilt);
+            assertEquals(30L, minutesSum(jdbc));
+            assertEquals(1, rollups.count());
+        }
+    }
+
+    private static int rollUpAt(ConfigurableApplicationContext context, PlatformTransactionManager transactionManager,
+                                LocalDateTime now) {
+        DailyStatsRollupJob rollupJob = new DailyStatsRollupJob(context.getBean(ApprovalDailyRollupRepository.class),
+                context.getBean(NotificationDailyRollupRepository.class), context.getBean(StatsRollupWatermarkRepository.class),
+                transactionManager, mock(RefreshAheadRegistry.class), 0, Clock.fixed(now.atZone(ZONE).toInstant(), ZONE));
+        return rollupJob.rollUp();
+    }
+
+    private static long minutesSum(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT processing_minutes_sum FROM approval_daily_rollups WHERE stat_date = ?",
+                Long.class, LocalDate.of(2024, 3, 9));
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = SubscriptionRepository.class)
+    @Import(TenantIdentifierResolver.class)
+    static class RollupConfig {
+    }
+}
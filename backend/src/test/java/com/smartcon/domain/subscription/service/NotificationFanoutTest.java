@@ -0,0 +1,158 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.Notification;
+import com.smartcon.domain.subscription.entity.NotificationType;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.NotificationRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.user.entity.User;
+import com.smartcon.domain.user.repository.UserRepository;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림 일괄 발송 테스트
+ */
+@Slf4j
+class NotificationFanoutTest {
+
+    private static final int SUPER_ADMINS = 10_000;
+
+    private static ConfigurableApplicationContext context;
+    private static JdbcTemplate jdbc;
+    private static TransactionTemplate transactionTemplate;
+    private static NotificationServiceImpl service;
+
+    @BeforeAll
+    static void setUp() {
+        context = TestDatabase.start(FanoutConfig.class, "notification_fanout");
+        jdbc = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        service = new NotificationServiceImpl(context.getBean(NotificationRepository.class),
+                context.getBean(SubscriptionRepository.class),
+                context.getBean(UserRepository.class),
+                context.getBean(NotificationFanout.class));
+
+        TestFixtures.tenant(jdbc, 1, "본사");
+        TestFixtures.tenant(jdbc, 2, "고객사");
+        TestFixtures.plan(jdbc, "basic", "베이직", 50000);
+        TestFixtures.subscription(jdbc, 1, 2, "basic", SubscriptionStatus.ACTIVE, LocalDate.of(2024, 1, 1));
+
+        // 본사 슈퍼관리자 1만 명 + HQ 1명, 고객사 HQ 3명 + 작업자 1명
+        TestFixtures.users(jdbc, 1, User.Role.ROLE_SUPER, 1, SUPER_ADMINS);
+        TestFixtures.users(jdbc, 1, User.Role.ROLE_HQ, SUPER_ADMINS + 1, SUPER_ADMINS + 1);
+        TestFixtures.users(jdbc, 2, User.Role.ROLE_HQ, SUPER_ADMINS + 2, SUPER_ADMINS + 4);
+        TestFixtures.users(jdbc, 2, User.Role.ROLE_WORKER, SUPER_ADMINS + 5, SUPER_ADMINS + 5);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @BeforeEach
+    void clearNotifications() {
+        jdbc.update("DELETE FROM notifications");
+    }
+
+    @Test
+    @DisplayName("구독 신청 알림은 슈퍼관리자 1만 명에게 배치 INSERT로 기록하며, 수신자별 엔티티 저장보다 초당 기록 수가 많다")
+    void broadcastsToSuperAdminsInBatches() {
+        // When: 일괄 발송
+        long fanoutStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> service.sendSubscriptionRequestNotification(1L));
+        long fanoutNanos = System.nanoTime() - fanoutStart;
+
+        // Then
+        assertEquals(SUPER_ADMINS, jdbc.queryForObject(
+                "SELECT COUNT(DISTINCT recipient_id) FROM notifications WHERE type = 'SUBSCRIPTION_REQUEST' " +
+                "AND related_entity_type = 'Subscription' AND related_entity_id = 1 AND is_read = FALSE " +
+                "AND created_at IS NOT NULL AND recipient_id <= ?", Long.class, SUPER_ADMINS));
+        assertEquals(SUPER_ADMINS, jdbc.queryForObject("SELECT COUNT(*) FROM notifications", Long.class));
+        assertEquals(1, service.getUnreadNotificationCount(1L));
+
+        // When: 기존 방식 (수신자별 엔티티 저장)
+        jdbc.update("DELETE FROM notifications");
+        List<Long> recipientIds = context.getBean(UserRepository.class).findIdsByRole(User.Role.ROLE_SUPER);
+        NotificationRepository notificationRepository = context.getBean(NotificationRepository.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        long legacyStart = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long recipientId : recipientIds) {
+                notificationRepository.save(Notification.builder()
+                        .recipient(entityManager.getReference(User.class, recipientId))
+                        .type(NotificationType.SUBSCRIPTION_REQUEST)
+                        .title("새로운 구독 신청")
+                        .message("새로운 구독 신청이 있습니다. (구독 ID: 1)")
+                        .relatedEntityType("Subscription")
+                        .relatedEntityId(1L)
+                        .build());
+            }
+        });
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        // Then
+        double fanoutRate = SUPER_ADMINS / (fanoutNanos / 1_000_000_000.0);
+        double legacyRate = SUPER_ADMINS / (legacyNanos / 1_000_000_000.0);
+        log.info("알림 {}건 기록 - 일괄 발송: {} ms ({}건/초), 수신자별 저장: {} ms ({}건/초)",
+                SUPER_ADMINS, fanoutNanos / 1_000_000, Math.round(fanoutRate),
+                legacyNanos / 1_000_000, Math.round(legacyRate));
+        assertEquals(SUPER_ADMINS, jdbc.queryForObject("SELECT COUNT(*) FROM notifications", Long.class));
+        assertTrue(fanoutRate > legacyRate, "일괄 발송 " + fanoutRate + "건/초, 수신자별 저장 " + legacyRate + "건/초");
+    }
+
+    @Test
+    @DisplayName("승인 결과와 상태 변경 알림은 구독 테넌트의 본사 관리자에게만 기록하고, 없는 구독은 기록하지 않는다")
+    void notifiesTenantHeadquartersOnly() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            service.sendApprovalResultNotification(1L, false, "서류 미비");
+            service.sendSubscriptionSuspendedNotification(1L, "결제 실패");
+            service.sendSubscriptionRequestNotification(999L);
+            service.sendApprovalResultNotification(999L, true, "승인");
+        });
+
+        // Then
+        List<Long> rejected = jdbc.queryForList(
+                "SELECT recipient_id FROM notifications WHERE type = 'SUBSCRIPTION_REJECTED' ORDER BY recipient_id", Long.class);
+        List<Long> suspended = jdbc.queryForList(
+                "SELECT recipient_id FROM notifications WHERE type = 'SUBSCRIPTION_SUSPENDED' ORDER BY recipient_id", Long.class);
+        List<Long> expected = List.of((long) SUPER_ADMINS + 2, (long) SUPER_ADMINS + 3, (long) SUPER_ADMINS + 4);
+        assertEquals(expected, rejected);
+        assertEquals(expected, suspended);
+        assertEquals(6, jdbc.queryForObject("SELECT COUNT(*) FROM notifications", Long.class));
+        assertEquals("구독 신청이 거부되었습니다. 사유: 서류 미비", jdbc.queryForObject(
+                "SELECT message FROM notifications WHERE type = 'SUBSCRIPTION_REJECTED' LIMIT 1", String.class));
+        assertEquals(2, service.getUnreadNotifications((long) SUPER_ADMINS + 2).size());
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = {SubscriptionRepository.class, UserRepository.class})
+    @Import({TenantIdentifierResolver.class, NotificationFanout.class})
+    static class FanoutConfig {
+    }
+}
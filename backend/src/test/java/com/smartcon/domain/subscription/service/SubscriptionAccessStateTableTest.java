@@ -0,0 +1,186 @@
+package com.smartcon.domain.subscription.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcon.domain.subscription.entity.Subscription;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 구독 접근 상태 테이블 테스트
+ */
+class SubscriptionAccessStateTableTest {
+
+    private SubscriptionRepository subscriptionRepository;
+    private TenantRepository tenantRepository;
+    private SubscriptionAccessStateTable table;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionRepository = mock(SubscriptionRepository.class);
+        tenantRepository = mock(TenantRepository.class);
+        table = new SubscriptionAccessStateTable(subscriptionRepository, tenantRepository);
+    }
+
+    @Test
+    @DisplayName("미스 시 DB 조회 후 적재하고 이후 요청은 DB를 조회하지 않는다")
+    void loadsOnMissThenServesFromTable() {
+        // Given
+        when(subscriptionRepository.findFirstByTenant_IdOrderByIdDesc(1L))
+                .thenReturn(Optional.of(subscription(10L, 1L, SubscriptionStatus.ACTIVE)));
+
+        // When
+        SubscriptionAccessState first = table.get(1L);
+        SubscriptionAccessState second = table.get(1L);
+
+        // Then
+        assertTrue(first.isAllowed());
+        assertSame(first, second);
+        verify(subscriptionRepository, times(1)).findFirstByTenant_IdOrderByIdDesc(1L);
+        verifyNoInteractions(tenantRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 테넌트는 거부하되 테이블에 적재하지 않는다")
+    void unknownTenantIsNotCached() {
+        // Given
+        when(subscriptionRepository.findFirstByTenant_IdOrderByIdDesc(99L)).thenReturn(Optional.empty());
+        when(tenantRepository.existsById(99L)).thenReturn(false);
+
+        // When
+        SubscriptionAccessState state = table.get(99L);
+
+        // Then
+        assertFalse(state.isAllowed());
+        assertEquals("/error", state.getResult().getRedirectUrl());
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    @DisplayName("상태 전이가 반영되고 이전 구독의 변경은 무시된다")
+    void transitionsReplaceStateButOlderSubscriptionsAreIgnored() {
+        // Given
+        table.onTransition(1L, SubscriptionAccessState.of(subscription(10L, 1L, SubscriptionStatus.PENDING_APPROVAL)));
+        assertEquals(SubscriptionStatus.PENDING_APPROVAL, table.get(1L).getStatus());
+
+        // When
+        table.onTransition(1L, SubscriptionAccessState.of(subscription(10L, 1L, SubscriptionStatus.ACTIVE)));
+        table.onTransition(1L, SubscriptionAccessState.of(subscription(5L, 1L, SubscriptionStatus.TERMINATED)));
+
+        // Then
+        assertEquals(SubscriptionStatus.ACTIVE, table.get(1L).getStatus());
+        verifyNoInteractions(subscriptionRepository);
+    }
+
+    @Test
+    @DisplayName("워밍업 시 테넌트별 최신 구독이 적재된다")
+    void warmUpLoadsLatestSubscriptions() {
+        // Given
+        when(subscriptionRepository.findLatestPerTenant()).thenReturn(List.of(
+                subscription(10L, 1L, SubscriptionStatus.ACTIVE),
+                subscription(11L, 2L, SubscriptionStatus.SUSPENDED)));
+
+        // When
+        table.warmUp();
+
+        // Then
+        assertEquals(2, table.size());
+        assertFalse(table.get(2L).isAllowed());
+        verify(subscriptionRepository, never()).findFirstByTenant_IdOrderByIdDesc(anyLong());
+    }
+
+    @Test
+    @DisplayName("재적재 중 커밋된 상태 전이는 재적재 스냅샷에 덮어써지지 않는다")
+    void transitionsDuringReloadSurviveSnapshot() {
+        // Given: 스냅샷 조회 도중 같은 구독의 정지와 다른 테넌트의 제거가 커밋됨
+        table.onTransition(2L, SubscriptionAccessState.of(subscription(11L, 2L, SubscriptionStatus.ACTIVE)));
+        when(subscriptionRepository.findLatestPerTenant()).thenAnswer(invocation -> {
+            List<Subscription> snapshot = List.of(
+                    subscription(10L, 1L, SubscriptionStatus.ACTIVE),
+                    subscription(11L, 2L, SubscriptionStatus.ACTIVE));
+            table.onTransition(1L, SubscriptionAccessState.of(subscription(10L, 1L, SubscriptionStatus.SUSPENDED)));
+            table.evict(2L);
+            return snapshot;
+        });
+
+        // When
+        table.refresh();
+
+        // Then
+        assertEquals(SubscriptionStatus.SUSPENDED, table.get(1L).getStatus());
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("삭제된 구독은 커밋 후에 항목을 제거하고, 주기적 재적재는 스냅샷에 없는 테넌트를 제거한다")
+    void removalEvictsAfterCommitAndRefreshDropsMissingTenants() {
+        // Given
+        when(subscriptionRepository.findLatestPerTenant()).thenReturn(List.of(
+                subscription(10L, 1L, SubscriptionStatus.ACTIVE),
+                subscription(11L, 2L, SubscriptionStatus.ACTIVE)));
+        table.warmUp();
+
+        // When: 트랜잭션 안에서 테넌트 1의 구독 삭제
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            table.onRemoved(1L);
+            assertEquals(2, table.size());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(1, table.size());
+
+        // When: 다른 노드에서 테넌트 2의 구독이 모두 삭제된 뒤 재적재
+        when(subscriptionRepository.findLatestPerTenant()).thenReturn(List.of(
+                subscription(10L, 1L, SubscriptionStatus.ACTIVE)));
+        table.refresh();
+
+        // Then
+        assertEquals(1, table.size());
+        assertEquals(10L, table.get(1L).getSubscriptionId());
+        verify(subscriptionRepository, never()).findFirstByTenant_IdOrderByIdDesc(anyLong());
+    }
+
+    @Test
+    @DisplayName("거부 응답 본문은 사유 문자열을 JSON 이스케이프한다")
+    void denialBodyEscapesReason() throws Exception {
+        // Given
+        Subscription subscription = subscription(10L, 1L, SubscriptionStatus.REJECTED);
+        subscription.setRejectionReason("서류 \"미비\"");
+
+        // When
+        SubscriptionAccessState state = SubscriptionAccessState.of(subscription);
+
+        // Then
+        JsonNode body = new ObjectMapper().readTree(state.getDenialBody());
+        assertEquals("ACCESS_DENIED", body.get("error").asText());
+        assertEquals("REJECTED", body.get("subscriptionStatus").asText());
+        assertTrue(body.get("message").asText().contains("서류 \"미비\""));
+    }
+
+    private static Subscription subscription(Long subscriptionId, Long tenantId, SubscriptionStatus status) {
+        Tenant tenant = new Tenant();
+        tenant.setId(tenantId);
+        Subscription subscription = new Subscription();
+        subscription.setId(subscriptionId);
+        subscription.setTenant(tenant);
+        subscription.setStatus(status);
+        return subscription;
+    }
+}
@@ -0,0 +1,164 @@
+package com.smartcon.domain.subscription.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 구독 목록 읽기 모델 반영/재구성 테스트
+ */
+class SubscriptionAdminViewProjectorTest {
+
+    private JdbcTemplate jdbc;
+    private DriverManagerDataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private SubscriptionAdminViewProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:subscription_admin_view;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE tenants (id BIGINT PRIMARY KEY, company_name VARCHAR(100))");
+        jdbc.execute("CREATE TABLE subscription_plans (plan_id VARCHAR(50) PRIMARY KEY, name VARCHAR(100))");
+        jdbc.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        jdbc.execute("CREATE TABLE subscriptions (id BIGINT PRIMARY KEY, tenant_id BIGINT, plan_id VARCHAR(50), " +
+                "status VARCHAR(30), monthly_price DECIMAL(10, 2), created_at TIMESTAMP)");
+        jdbc.execute("CREATE TABLE subscription_approvals (id BIGINT PRIMARY KEY, subscription_id BIGINT, admin_id BIGINT, " +
+                "processed_at TIMESTAMP, reason TEXT, auto_approved BOOLEAN)");
+        jdbc.execute("CREATE TABLE payments (id BIGINT PRIMARY KEY, subscription_id BIGINT, created_at TIMESTAMP)");
+        jdbc.execute("CREATE TABLE subscription_admin_view (subscription_id BIGINT PRIMARY KEY, tenant_id BIGINT, " +
+                "tenant_name VARCHAR(100), plan_id VARCHAR(50), plan_name VARCHAR(100), status VARCHAR(30), " +
+                "monthly_price DECIMAL(10, 2), created_at TIMESTAMP, approved_at TIMESTAMP, approval_reason TEXT, " +
+                "admin_name VARCHAR(50), auto_approved BOOLEAN, last_payment_at TIMESTAMP, updated_at TIMESTAMP)");
+
+        jdbc.update("INSERT INTO tenants VALUES (1, '스마트건설'), (2, '한빛토건')");
+        jdbc.update("INSERT INTO subscription_plans VALUES ('basic', '베이직')");
+        jdbc.update("INSERT INTO users VALUES (1, '관리자')");
+        jdbc.update("INSERT INTO subscriptions VALUES " +
+                "(1, 1, 'basic', 'PENDING_APPROVAL', 50000, TIMESTAMP '2024-01-01 09:00:00'), " +
+                "(2, 2, 'basic', 'ACTIVE', 50000, TIMESTAMP '2024-01-02 09:00:00'), " +
+                "(3, 1, 'basic', 'ACTIVE', 50000, TIMESTAMP '2024-01-03 09:00:00')");
+
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        projector = new SubscriptionAdminViewProjector(jdbc, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("구독 변경 시 최근 승인 이력과 마지막 결제 시각을 포함해 행을 다시 계산하고, 이름 변경은 해당 행에만 반영한다")
+    void refreshesSubscriptionRow() {
+        // Given
+        projector.refresh(1L);
+        assertEquals("PENDING_APPROVAL", row(1).get("status"));
+        assertNull(row(1).get("approval_reason"));
+
+        // When: 승인 처리와 결제
+        jdbc.update("UPDATE subscriptions SET status = 'ACTIVE' WHERE id = 1");
+        jdbc.update("INSERT INTO subscription_approvals VALUES " +
+                "(1, 1, 1, TIMESTAMP '2024-01-01 10:00:00', '보류', FALSE), " +
+                "(2, 1, 1, TIMESTAMP '2024-01-01 11:00:00', '최종 승인', TRUE)");
+        jdbc.update("INSERT INTO payments VALUES (1, 1, TIMESTAMP '2024-02-01 00:00:00'), (2, 1, TIMESTAMP '2024-03-01 00:00:00')");
+        projector.refresh(1L);
+        projector.refresh(3L);
+        jdbc.update("UPDATE tenants SET company_name = '스마트건설(주)' WHERE id = 1");
+        projector.onTenantChanged(1L);
+
+        // Then
+        Map<String, Object> refreshed = row(1);
+        assertEquals("ACTIVE", refreshed.get("status"));
+        assertEquals("최종 승인", refreshed.get("approval_reason"));
+        assertEquals("관리자", refreshed.get("admin_name"));
+        assertEquals(Boolean.TRUE, refreshed.get("auto_approved"));
+        assertEquals("2024-03-01 00:00:00.0", refreshed.get("last_payment_at").toString());
+        assertEquals("스마트건설(주)", refreshed.get("tenant_name"));
+        assertEquals("스마트건설(주)", row(3).get("tenant_name"));
+        assertEquals(Boolean.FALSE, row(3).get("auto_approved"));
+
+        // 삭제된 구독은 다시 계산하면 행이 사라짐
+        jdbc.update("DELETE FROM subscriptions WHERE id = 3");
+        projector.refresh(3L);
+        assertEquals(List.of(1L), viewIds());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후 한 번만 반영되고, 롤백된 변경은 반영되지 않는다")
+    void refreshesAfterCommitOnce() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        projector.refresh(1L);
+
+        // When - 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbc.update("UPDATE subscriptions SET status = 'ACTIVE' WHERE id = 1");
+            projector.refresh(1L);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals("PENDING_APPROVAL", row(1).get("status"));
+
+        // When - 같은 구독과 테넌트를 여러 번 변경 후 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbc.update("UPDATE subscriptions SET status = 'ACTIVE' WHERE id = 1");
+            jdbc.update("UPDATE tenants SET company_name = '스마트종합건설' WHERE id = 1");
+            projector.refresh(1L);
+            projector.refresh(1L);
+            projector.refresh(2L);
+            projector.onTenantChanged(1L);
+            projector.onPlanChanged("basic");
+
+            // 커밋 전에는 반영되지 않음
+            assertEquals("PENDING_APPROVAL", row(1).get("status"));
+            assertEquals(List.of(1L), viewIds());
+        });
+
+        // Then
+        assertEquals("ACTIVE", row(1).get("status"));
+        assertEquals("스마트종합건설", row(1).get("tenant_name"));
+        assertEquals(List.of(1L, 2L), viewIds());
+    }
+
+    @Test
+    @DisplayName("재구성은 구간별로 누락된 행을 채우고, 오래된 행을 고치고, 삭제된 구독의 행을 제거한다")
+    void rebuildRepairsDrift() {
+        // Given: 누락(2, 3), 오래된 값(1), 삭제된 구독(9)
+        projector.refresh(1L);
+        jdbc.update("UPDATE subscriptions SET status = 'CANCELLED' WHERE id = 1");
+        jdbc.update("INSERT INTO subscription_admin_view (subscription_id, tenant_id, status, auto_approved) " +
+                "VALUES (9, 1, 'ACTIVE', FALSE)");
+        SubscriptionAdminViewReconciler reconciler = new SubscriptionAdminViewReconciler(
+                projector, jdbc, transactionManager, 2);
+
+        // When
+        long rows = reconciler.rebuild();
+
+        // Then
+        assertEquals(3, rows);
+        assertEquals(List.of(1L, 2L, 3L), viewIds());
+        assertEquals("CANCELLED", row(1).get("status"));
+        assertEquals("한빛토건", row(2).get("tenant_name"));
+    }
+
+    private Map<String, Object> row(long subscriptionId) {
+        return jdbc.queryForMap("SELECT * FROM subscription_admin_view WHERE subscription_id = ?", subscriptionId);
+    }
+
+    private List<Long> viewIds() {
+        return jdbc.queryForList("SELECT subscription_id FROM subscription_admin_view ORDER BY subscription_id", Long.class);
+    }
+}
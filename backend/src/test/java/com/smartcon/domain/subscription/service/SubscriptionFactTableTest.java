@@ -0,0 +1,165 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsDimension;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsDto;
+import com.smartcon.domain.subscription.dto.SubscriptionAnalyticsRequest;
+import com.smartcon.domain.subscription.entity.BillingCycle;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 구독 분석 컬럼 저장소 테스트
+ */
+class SubscriptionFactTableTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    private SubscriptionFactTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new SubscriptionFactTable(mock(DataSource.class));
+    }
+
+    @Test
+    @DisplayName("조건으로 거른 뒤 요금제와 상태별로 건수와 월 요금 합계를 집계한다")
+    void filtersAndGroupsByPlanAndStatus() {
+        // Given
+        table.upsert(fact(1, "basic", SubscriptionStatus.ACTIVE, BillingCycle.MONTHLY, JANUARY, false, "10000"));
+        table.upsert(fact(2, "basic", SubscriptionStatus.ACTIVE, BillingCycle.YEARLY, FEBRUARY, true, "9000.50"));
+        table.upsert(fact(3, "premium", SubscriptionStatus.ACTIVE, BillingCycle.MONTHLY, FEBRUARY, false, "50000"));
+        table.upsert(fact(4, "premium", SubscriptionStatus.CANCELLED, BillingCycle.MONTHLY, FEBRUARY, false, "50000"));
+        table.upsert(fact(5, "basic", SubscriptionStatus.ACTIVE, BillingCycle.MONTHLY, YearMonth.of(2023, 12), false, "10000"));
+
+        // When
+        SubscriptionAnalyticsDto result = table.query(SubscriptionAnalyticsRequest.builder()
+                .groupBy(List.of(SubscriptionAnalyticsDimension.PLAN, SubscriptionAnalyticsDimension.STATUS))
+                .fromMonth(JANUARY)
+                .toMonth(FEBRUARY)
+                .build());
+
+        // Then
+        assertEquals(4, result.getTotalCount());
+        assertEquals(new BigDecimal("119000.50"), result.getTotalMonthlyPrice());
+        assertEquals(3, result.getRows().size());
+        SubscriptionAnalyticsDto.Row basicActive = result.getRows().get(0);
+        assertEquals(Map.of(SubscriptionAnalyticsDimension.PLAN, "basic",
+                SubscriptionAnalyticsDimension.STATUS, "ACTIVE"), basicActive.getDimensions());
+        assertEquals(2, basicActive.getCount());
+        assertEquals(new BigDecimal("19000.50"), basicActive.getMonthlyPriceSum());
+
+        // 자동 승인 + 연간 결제 조건
+        SubscriptionAnalyticsDto autoApproved = table.query(SubscriptionAnalyticsRequest.builder()
+                .groupBy(List.of(SubscriptionAnalyticsDimension.MONTH))
+                .autoApproved(true)
+                .billingCycles(List.of(BillingCycle.YEARLY))
+                .build());
+        assertEquals(1, autoApproved.getTotalCount());
+        assertEquals("2024-02", autoApproved.getRows().get(0).getDimensions().get(SubscriptionAnalyticsDimension.MONTH));
+    }
+
+    @Test
+    @DisplayName("상태 변경은 기존 행을 갱신하고, 삭제된 구독과 없는 요금제 조건은 집계에서 빠진다")
+    void updatesAndRemovesRows() {
+        // Given: ID 순서가 뒤바뀐 커밋 순서
+        table.upsert(fact(20, "basic", SubscriptionStatus.PENDING_APPROVAL, BillingCycle.MONTHLY, JANUARY, false, "10000"));
+        table.upsert(fact(10, "basic", SubscriptionStatus.PENDING_APPROVAL, BillingCycle.MONTHLY, JANUARY, false, "10000"));
+
+        // When
+        table.upsert(fact(10, "basic", SubscriptionStatus.ACTIVE, BillingCycle.MONTHLY, JANUARY, false, "10000"));
+        table.remove(20);
+
+        // Then
+        SubscriptionAnalyticsDto result = table.query(SubscriptionAnalyticsRequest.builder()
+                .groupBy(List.of(SubscriptionAnalyticsDimension.STATUS))
+                .build());
+        assertEquals(1, table.size());
+        assertEquals(1, result.getRows().size());
+        assertEquals("ACTIVE", result.getRows().get(0).getDimensions().get(SubscriptionAnalyticsDimension.STATUS));
+        assertEquals(0, table.query(SubscriptionAnalyticsRequest.builder().plans(List.of("unknown")).build())
+                .getTotalCount());
+    }
+
+    @Test
+    @DisplayName("자동 승인 여부는 가장 최근 승인 이력 값으로 적재/갱신하고, 구독 변경은 그 값을 유지한다")
+    void autoApprovedFollowsLatestApproval() {
+        // Given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:subscription_fact;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE subscriptions (id BIGINT PRIMARY KEY, plan_id VARCHAR(50), status VARCHAR(30), " +
+                "billing_cycle VARCHAR(20), created_at TIMESTAMP, monthly_price DECIMAL(10, 2))");
+        jdbc.execute("CREATE TABLE subscription_approvals (id BIGINT PRIMARY KEY, subscription_id BIGINT, auto_approved BOOLEAN)");
+        jdbc.update("INSERT INTO subscriptions VALUES " +
+                "(1, 'basic', 'ACTIVE', 'MONTHLY', TIMESTAMP '2024-01-10 00:00:00', 10000), " +
+                "(2, 'basic', 'ACTIVE', 'MONTHLY', TIMESTAMP '2024-01-11 00:00:00', 10000), " +
+                "(3, 'basic', 'PENDING_APPROVAL', 'MONTHLY', TIMESTAMP '2024-01-12 00:00:00', 10000)");
+        // 구독 1: 관리자 보류 후 자동 승인, 구독 2: 자동 승인 후 관리자 재처리
+        jdbc.update("INSERT INTO subscription_approvals VALUES (1, 1, FALSE), (2, 1, TRUE), (3, 2, TRUE), (4, 2, FALSE)");
+        SubscriptionFactTable loaded = new SubscriptionFactTable(dataSource);
+
+        try {
+            // When
+            assertEquals(3, loaded.reload());
+            loaded.upsert(new SubscriptionFact(1, "basic", SubscriptionStatus.SUSPENDED, BillingCycle.MONTHLY,
+                    JANUARY, null, new BigDecimal("10000")));
+            loaded.onApprovalRecorded(3L, true);
+
+            // Then
+            SubscriptionAnalyticsDto autoApproved = loaded.query(SubscriptionAnalyticsRequest.builder()
+                    .autoApproved(true)
+                    .groupBy(List.of(SubscriptionAnalyticsDimension.STATUS))
+                    .build());
+            assertEquals(2, autoApproved.getTotalCount());
+            assertEquals(List.of("PENDING_APPROVAL", "SUSPENDED"), autoApproved.getRows().stream()
+                    .map(row -> row.getDimensions().get(SubscriptionAnalyticsDimension.STATUS))
+                    .sorted()
+                    .toList());
+        } finally {
+            jdbc.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    @DisplayName("여러 구간으로 나누어 병렬 집계한 결과가 전체 건수와 일치한다")
+    void parallelScanCoversAllChunks() {
+        // Given: 구간 크기(65,536)보다 많은 행
+        int rows = 300_000;
+        String[] plans = {"basic", "standard", "premium"};
+        for (int i = 1; i <= rows; i++) {
+            table.upsert(fact(i, plans[i % 3], i % 2 == 0 ? SubscriptionStatus.ACTIVE : SubscriptionStatus.CANCELLED,
+                    BillingCycle.MONTHLY, JANUARY.plusMonths(i % 12), i % 5 == 0, "100"));
+        }
+
+        // When
+        SubscriptionAnalyticsDto result = table.query(SubscriptionAnalyticsRequest.builder()
+                .groupBy(List.of(SubscriptionAnalyticsDimension.PLAN, SubscriptionAnalyticsDimension.MONTH,
+                        SubscriptionAnalyticsDimension.AUTO_APPROVED))
+                .statuses(List.of(SubscriptionStatus.ACTIVE))
+                .build());
+
+        // Then
+        assertEquals(rows / 2, result.getTotalCount());
+        assertEquals(new BigDecimal("15000000.00"), result.getTotalMonthlyPrice());
+        assertEquals(rows, result.getScannedRows());
+    }
+
+    private static SubscriptionFact fact(long id, String planId, SubscriptionStatus status, BillingCycle cycle,
+                                         YearMonth month, boolean autoApproved, String price) {
+        return new SubscriptionFact(id, planId, status, cycle, month, autoApproved, new BigDecimal(price));
+    }
+}
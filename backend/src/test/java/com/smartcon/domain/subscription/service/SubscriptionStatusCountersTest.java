@@ -0,0 +1,168 @@
+package com.smartcon.domain.subscription.service;
+
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.subscription.entity.SubscriptionStatusCounter;
+import com.smartcon.domain.subscription.repository.SubscriptionRepository;
+import com.smartcon.domain.subscription.repository.SubscriptionStatusCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 구독 상태 카운터 테스트
+ */
+class SubscriptionStatusCountersTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SubscriptionStatusCounterRepository counterRepository;
+    private SubscriptionStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counterRepository = mock(SubscriptionStatusCounterRepository.class);
+        when(jdbcTemplate.update(anyString(), any(), any())).thenReturn(1);
+        counters = new SubscriptionStatusCounters(jdbcTemplate, counterRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("상태 전이 시 카운터 행을 상태 순서대로 증감하고 메모리 사본에 반영한다")
+    void transitionUpdatesRowsInStatusOrder() {
+        // When: ACTIVE -> PENDING_APPROVAL 순서와 무관하게 PENDING_APPROVAL 행부터 갱신
+        counters.onTransition(null, SubscriptionStatus.ACTIVE);
+        counters.onTransition(SubscriptionStatus.ACTIVE, SubscriptionStatus.PENDING_APPROVAL);
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(1L), eq("ACTIVE"));
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(1L), eq("PENDING_APPROVAL"));
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(-1L), eq("ACTIVE"));
+        assertEquals(1, counters.count(SubscriptionStatus.PENDING_APPROVAL));
+        assertEquals(0, counters.count(SubscriptionStatus.ACTIVE));
+        assertEquals(1, counters.total());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 전이는 커밋 이후에만 메모리 사본에 반영된다")
+    void mirrorIsUpdatedAfterCommitOnly() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        counters.onTransition(SubscriptionStatus.PENDING_APPROVAL, SubscriptionStatus.ACTIVE);
+        counters.onTransition(null, SubscriptionStatus.REJECTED);
+
+        // Then: 커밋 전에는 반영되지 않음
+        assertEquals(0, counters.count(SubscriptionStatus.ACTIVE));
+        assertEquals(0, counters.count(SubscriptionStatus.REJECTED));
+
+        // 롤백된 전이는 반영되지 않고, 커밋된 전이만 반영
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        synchronizations.get(0).afterCommit();
+        assertEquals(1, counters.count(SubscriptionStatus.ACTIVE));
+        assertEquals(-1, counters.count(SubscriptionStatus.PENDING_APPROVAL));
+        assertEquals(0, counters.count(SubscriptionStatus.REJECTED));
+    }
+
+    @Test
+    @DisplayName("재적재 중 커밋된 전이는 스냅샷으로 덮어쓰이지 않고 한 번만 반영된다")
+    void transitionDuringReloadIsReplayed() {
+        // Given: 카운터 조회 직후(스냅샷 반영 전) PENDING_APPROVAL -> ACTIVE 전이 커밋
+        when(counterRepository.findAll()).thenAnswer(invocation -> {
+            List<SubscriptionStatusCounter> snapshot = List.of(
+                    new SubscriptionStatusCounter(SubscriptionStatus.ACTIVE, 5),
+                    new SubscriptionStatusCounter(SubscriptionStatus.PENDING_APPROVAL, 2));
+            counters.onTransition(SubscriptionStatus.PENDING_APPROVAL, SubscriptionStatus.ACTIVE);
+            return snapshot;
+        });
+
+        // When
+        counters.reload();
+
+        // Then
+        assertEquals(6, counters.count(SubscriptionStatus.ACTIVE));
+        assertEquals(1, counters.count(SubscriptionStatus.PENDING_APPROVAL));
+
+        // 재적재가 끝난 뒤의 전이는 기록하지 않고 바로 반영
+        reset(counterRepository);
+        when(counterRepository.findAll()).thenReturn(List.of(
+                new SubscriptionStatusCounter(SubscriptionStatus.ACTIVE, 6),
+                new SubscriptionStatusCounter(SubscriptionStatus.PENDING_APPROVAL, 1)));
+        counters.onTransition(null, SubscriptionStatus.PENDING_APPROVAL);
+        assertEquals(2, counters.count(SubscriptionStatus.PENDING_APPROVAL));
+        counters.reload();
+        assertEquals(1, counters.count(SubscriptionStatus.PENDING_APPROVAL));
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 새로 만든다")
+    void missingRowIsInserted() {
+        // Given
+        when(jdbcTemplate.update(startsWith("UPDATE"), any(), any())).thenReturn(0);
+
+        // When
+        counters.onTransition(null, SubscriptionStatus.TRIAL);
+
+        // Then
+        verify(jdbcTemplate).update(startsWith("INSERT"), eq("TRIAL"), eq(1L));
+    }
+
+    @Test
+    @DisplayName("재집계는 실제 건수로 카운터를 덮어쓰고 차이를 보고한다")
+    void reconcileReportsDrift() {
+        // Given: 카운터 ACTIVE 5건, PENDING_APPROVAL 2건 / 실제 ACTIVE 3건, PENDING_APPROVAL 2건, REJECTED 1건
+        SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+        SubscriptionStatusCounter active = new SubscriptionStatusCounter(SubscriptionStatus.ACTIVE, 5);
+        SubscriptionStatusCounter pending = new SubscriptionStatusCounter(SubscriptionStatus.PENDING_APPROVAL, 2);
+        List<SubscriptionStatusCounter> stored = new ArrayList<>(List.of(active, pending));
+        when(counterRepository.findAllForUpdate()).thenReturn(stored);
+        when(counterRepository.save(any())).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(counterRepository.findAll()).thenReturn(stored);
+        when(subscriptionRepository.countGroupByStatus()).thenReturn(List.of(
+                new Object[]{SubscriptionStatus.ACTIVE, 3L},
+                new Object[]{SubscriptionStatus.PENDING_APPROVAL, 2L},
+                new Object[]{SubscriptionStatus.REJECTED, 1L}));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        SubscriptionStatusCounterReconciler reconciler = new SubscriptionStatusCounterReconciler(
+                subscriptionRepository, counterRepository, counters, transactionManager);
+
+        // When
+        Map<SubscriptionStatus, Long> drift = reconciler.reconcile();
+
+        // Then
+        assertEquals(Map.of(SubscriptionStatus.ACTIVE, 2L, SubscriptionStatus.REJECTED, -1L), drift);
+        assertEquals(3, active.getSubscriptionCount());
+        assertEquals(3, counters.count(SubscriptionStatus.ACTIVE));
+        assertEquals(1, counters.count(SubscriptionStatus.REJECTED));
+        assertEquals(6, counters.total());
+        verify(transactionManager).commit(any());
+    }
+}
@@ -0,0 +1,176 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.domain.tenant.entity.Tenant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 테넌트 검색 색인 테스트
+ */
+@Slf4j
+class TenantSearchIndexTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private TenantSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:tenant_search;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE tenants (id BIGINT PRIMARY KEY, company_name VARCHAR(100), ceo_name VARCHAR(50), " +
+                "business_number VARCHAR(20), email VARCHAR(100))");
+        jdbc.update("INSERT INTO tenants VALUES " +
+                "(1, '스마트건설', '김철수', '123-45-67890', 'ceo@smart.co.kr'), " +
+                "(2, '한빛 스마트 건설', '이영희', '220-81-12345', 'contact@hanbit.com'), " +
+                "(3, '대한토목', '박스마', '314-86-55501', 'smart@daehan.com'), " +
+                "(4, 'Smart Build Inc.', 'John Kim', '105-87-00042', 'john@build.io')");
+        index = new TenantSearchIndex(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("공백/하이픈/대소문자를 무시하고 회사명, 대표자명, 사업자번호, 이메일의 부분 문자열로 찾는다")
+    void findsSubstringsAcrossFields() {
+        // Given
+        assertFalse(index.isReady());
+        assertEquals(4, index.reload());
+
+        // When & Then
+        assertTrue(index.isReady());
+        assertEquals(Set.of(1L, 2L), index.matchAny("스마트 건설"));
+        assertEquals(Set.of(1L), index.matchAny("4567890"));
+        assertEquals(Set.of(2L), index.matchAny("220-81"));
+        assertEquals(Set.of(4L), index.matchAny("SMART BUILD"));
+        assertEquals(Set.of(2L), index.matchAny("hanbit"));
+        assertEquals(Set.of(3L), index.matchAny("박스"));
+        assertTrue(index.matchAny("없는회사").isEmpty());
+        assertTrue(index.matchAny("  ").isEmpty());
+
+        // 회사명만 검색하면 대표자명/이메일 일치는 제외
+        assertEquals(Set.of(1L, 2L), index.matchCompanyName("스마"));
+    }
+
+    @Test
+    @DisplayName("초성 검색어는 회사명과 대표자명의 초성으로 찾고, 결과는 일치 위치와 필드 가중치 순으로 정렬한다")
+    void matchesChoseongAndRanks() {
+        // Given
+        index.reload();
+
+        // When
+        List<TenantSearchIndex.Hit> choseong = index.search("ㅅㅁㅌ", 10);
+        List<TenantSearchIndex.Hit> mixed = index.search("스ㅁㅌㄱ", 10);
+        List<TenantSearchIndex.Hit> ranked = index.search("스마", 10);
+
+        // Then
+        assertTrue(TenantSearchIndex.isChoseongQuery("ㅅㅁㅌ"));
+        assertFalse(TenantSearchIndex.isChoseongQuery("스마트"));
+        assertEquals(List.of(1L, 2L), choseong.stream().map(TenantSearchIndex.Hit::tenantId).toList());
+        assertEquals(List.of(1L, 2L), mixed.stream().map(TenantSearchIndex.Hit::tenantId).toList());
+
+        // 회사명 접두 일치 > 회사명 부분 일치 > 대표자명 부분 일치
+        assertEquals(List.of(1L, 2L, 3L), ranked.stream().map(TenantSearchIndex.Hit::tenantId).toList());
+        assertEquals(TenantSearchIndex.Field.COMPANY_NAME, ranked.get(0).matchedField());
+        assertEquals(TenantSearchIndex.Field.REPRESENTATIVE_NAME, ranked.get(2).matchedField());
+        assertEquals(1, index.search("스마", 1).size());
+    }
+
+    @Test
+    @DisplayName("테넌트 변경은 트랜잭션 커밋 후에만 반영되고, 삭제된 테넌트는 검색되지 않는다")
+    void appliesChangesAfterCommit() {
+        // Given
+        index.reload();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        Tenant renamed = tenant(1L, "스마트종합건설");
+        Tenant created = tenant(5L, "푸른하늘건설");
+
+        // When - 롤백된 변경
+        transactionTemplate.executeWithoutResult(status -> {
+            index.onChanged(created);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(index.matchAny("푸른하늘").isEmpty());
+
+        // When - 커밋된 변경
+        transactionTemplate.executeWithoutResult(status -> {
+            index.onChanged(created);
+            index.onChanged(renamed);
+            index.onRemoved(3L);
+        });
+
+        // Then
+        assertEquals(Set.of(5L), index.matchAny("ㅍㄹㅎㄴ"));
+        assertEquals(Set.of(1L), index.matchAny("종합"));
+        assertTrue(index.matchAny("123-45-67890").isEmpty());
+        assertTrue(index.matchAny("박스마").isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("테넌트 5만 곳 색인에서 검색어 하나를 1ms 안팎으로 찾는다")
+    void searchesLargeIndexQuickly() {
+        // Given
+        String[] prefixes = {"스마트", "한빛", "대한", "미래", "푸른", "동방", "서울", "부산", "제일", "우리"};
+        String[] suffixes = {"건설", "토목", "종합건설", "엔지니어링", "산업", "개발"};
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 50_000; i++) {
+            rows.add(new Object[]{i + 10L, prefixes[i % prefixes.length] + i + suffixes[i % suffixes.length],
+                    "대표" + i, String.format("%03d-%02d-%05d", i % 1000, i % 100, i), "user" + i + "@example.com"});
+        }
+        jdbc.batchUpdate("INSERT INTO tenants VALUES (?, ?, ?, ?, ?)", rows);
+        long loadStart = System.nanoTime();
+        index.reload();
+        log.info("테넌트 검색 색인 적재 - {}곳, {} ms", index.size(), (System.nanoTime() - loadStart) / 1_000_000);
+
+        String[] queries = {"스마트12340", "ㅎㅂ", "12345", "user4242@", "종합건설", "대표777"};
+        for (String query : queries) {
+            index.search(query, 20);
+        }
+
+        // When
+        int rounds = 200;
+        long started = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String query : queries) {
+                index.search(query, 20);
+            }
+        }
+        double averageMillis = (System.nanoTime() - started) / 1_000_000.0 / (rounds * queries.length);
+        log.info("테넌트 검색 평균 - {} ms", String.format("%.3f", averageMillis));
+
+        // Then
+        assertEquals(12350L, index.search("스마트12340", 1).get(0).tenantId());
+        assertEquals(TenantSearchIndex.Field.EMAIL, index.search("user4242@", 1).get(0).matchedField());
+        assertTrue(averageMillis < 20, "평균 검색 시간: " + averageMillis + " ms");
+    }
+
+    private static Tenant tenant(Long id, String companyName) {
+        Tenant tenant = new Tenant();
+        tenant.setId(id);
+        tenant.setCompanyName(companyName);
+        tenant.setRepresentativeName("정대표");
+        tenant.setBusinessNo("999-99-" + id);
+        tenant.setEmail("tenant" + id + "@example.com");
+        return tenant;
+    }
+}
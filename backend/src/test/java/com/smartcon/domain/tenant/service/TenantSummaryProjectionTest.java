@@ -0,0 +1,233 @@
+package com.smartcon.domain.tenant.service;
+
+import com.smartcon.domain.admin.dto.TenantSummaryDto;
+import com.smartcon.domain.admin.service.SuperAdminService;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.tenant.entity.Tenant;
+import com.smartcon.domain.tenant.repository.TenantRepository;
+import com.smartcon.domain.user.entity.User;
+import com.smartcon.global.config.TestDatabase;
+import com.smartcon.global.config.TestFixtures;
+import com.smartcon.global.tenant.TenantIdentifierResolver;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 테넌트 요약 프로젝션 테스트
+ */
+class TenantSummaryProjectionTest {
+
+    private static final int TENANTS = 30;
+
+    private static ConfigurableApplicationContext context;
+    private static EntityManager entityManager;
+    private static TransactionTemplate transactionTemplate;
+    private static JdbcTemplate jdbc;
+    private static SuperAdminService service;
+
+    @BeforeAll
+    static void setUp() {
+        context = TestDatabase.start(SummaryConfig.class, "tenant_summary",
+                "spring.jpa.properties.hibernate.generate_statistics=true");
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbc = context.getBean(JdbcTemplate.class);
+        service = new SuperAdminService(context.getBean(TenantRepository.class), null, null, null, null, null,
+                new TenantSearchIndex(context.getBean(DataSource.class)));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("사용자 생성과 비활성화는 커밋 후 요약에 반영되고 롤백된 변경은 반영되지 않으며, 테넌트 목록은 테넌트 수와 관계없이 한 번의 쿼리로 조회한다")
+    void maintainsUserCountsAndServesPageInOneQuery() {
+        // Given: 테넌트마다 (순번 % 3) + 1명의 사용자
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= TENANTS; i++) {
+                Tenant tenant = Tenant.builder()
+                        .businessNo(String.format("%03d-00-00000", i))
+                        .companyName("테넌트-" + i)
+                        .status(Tenant.SubscriptionStatus.ACTIVE)
+                        .build();
+                entityManager.persist(tenant);
+                for (int u = 0; u <= i % 3; u++) {
+                    User user = User.builder().name("사용자" + u).email(i + "-" + u + "@smartcon.test").build();
+                    user.setTenantId(tenant.getId());
+                    entityManager.persist(user);
+                }
+            }
+        });
+        Long firstTenantId = jdbc.queryForObject("SELECT id FROM tenants WHERE company_name = '테넌트-1'", Long.class);
+
+        // When: 사용자 한 명 비활성화, 다른 사용자는 로그인 실패 횟수만 변경
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = entityManager.createQuery(
+                    "SELECT u FROM User u WHERE u.tenantId = :tenantId ORDER BY u.id", User.class)
+                    .setParameter("tenantId", firstTenantId)
+                    .getResultList();
+            users.get(0).setIsActive(false);
+            users.get(1).incrementLoginFailureCount();
+        });
+
+        // When: 롤백된 사용자 추가
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = User.builder().name("롤백").email("rollback@smartcon.test").build();
+            user.setTenantId(firstTenantId);
+            entityManager.persist(user);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<TenantSummaryDto> page = service.getTenants(null, null,
+                PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "id")));
+        long pageStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(jdbc.queryForObject("SELECT COUNT(*) FROM tenants", Long.class), page.getTotalElements());
+        assertEquals(1, pageStatements);
+        TenantSummaryDto first = page.getContent().stream()
+                .filter(dto -> firstTenantId.equals(dto.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, first.getUserCount());
+        assertEquals(1, first.getActiveUserCount());
+        Map<Long, Long> userCounts = page.getContent().stream()
+                .collect(Collectors.toMap(TenantSummaryDto::getId, TenantSummaryDto::getUserCount));
+        assertEquals(jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class),
+                userCounts.values().stream().mapToLong(Long::longValue).sum());
+
+        // 검색/상태 조건과 최근 테넌트도 요약 값을 함께 반환
+        Page<TenantSummaryDto> searched = service.getTenants("테넌트-1", Tenant.SubscriptionStatus.ACTIVE,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "id")));
+        assertTrue(searched.getContent().stream().allMatch(dto -> dto.getCompanyName().startsWith("테넌트-1")));
+
+        // 검색 색인이 적재되면 같은 검색을 색인의 테넌트 ID 목록으로 처리 (초성 검색 포함)
+        TenantSearchIndex searchIndex = new TenantSearchIndex(context.getBean(DataSource.class));
+        searchIndex.reload();
+        SuperAdminService indexed = new SuperAdminService(context.getBean(TenantRepository.class),
+                null, null, null, null, null, searchIndex);
+        Page<TenantSummaryDto> indexedPage = indexed.getTenants("테넌트-1", Tenant.SubscriptionStatus.ACTIVE,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "id")));
+        Page<TenantSummaryDto> choseongPage = indexed.getTenants("ㅌㄴㅌ1", null,
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "id")));
+        assertEquals(searched.getTotalElements(), indexedPage.getTotalElements());
+        assertEquals(searched.getContent().stream().map(TenantSummaryDto::getId).toList(),
+                indexedPage.getContent().stream().map(TenantSummaryDto::getId).toList());
+        assertEquals(searched.getTotalElements(), choseongPage.getTotalElements());
+        assertEquals(0, indexed.getTenants("없는회사", null, PageRequest.of(0, 5)).getTotalElements());
+        assertEquals(10, service.getRecentTenants().size());
+    }
+
+    @Test
+    @DisplayName("재구성은 리스너를 거치지 않은 변경까지 반영해 현장 수, 현재 구독 상태, 마지막 결제 시각을 다시 계산한다")
+    void rebuildRecomputesFromSources() {
+        // Given: 직접 SQL로 추가한 사용자, 결제 기록, 구독, 결제
+        TestFixtures.tenant(jdbc, 900, "직접 등록");
+        jdbc.update("INSERT INTO users (tenant_id, name, email, provider, is_active, is_email_verified, role, created_at, updated_at) " +
+                "VALUES (900, '직접', 'direct@smartcon.test', 'LOCAL', TRUE, FALSE, 'ROLE_WORKER', NOW(), NOW())");
+        insertDirectSources(jdbc);
+        TenantSummaryReconciler reconciler = new TenantSummaryReconciler(context.getBean(TenantSummaryProjector.class),
+                jdbc, context.getBean(PlatformTransactionManager.class), 7);
+
+        // When
+        long rows = reconciler.rebuild();
+
+        // Then
+        assertEquals(jdbc.queryForObject("SELECT COUNT(*) FROM tenants", Long.class), rows);
+        TenantSummaryDto summary = service.getTenants("직접 등록", null, PageRequest.of(0, 1)).getContent().get(0);
+        assertEquals(1, summary.getUserCount());
+        assertEquals(4, summary.getSiteCount());
+        assertEquals(SubscriptionStatus.ACTIVE, summary.getSubscriptionStatus());
+        assertEquals(LocalDateTime.of(2024, 2, 1, 10, 0), summary.getLastPaymentAt());
+    }
+
+    @Test
+    @DisplayName("V15 마이그레이션은 기존 테넌트의 요약을 원천 테이블에서 초기 적재한다 (MariaDB)")
+    void migrationBackfillsExistingTenants() {
+        assumeTrue(TestDatabase.isMariaDb(), "Flyway 마이그레이션은 MariaDB에서만 검증");
+
+        // Given: V14까지 적용한 데이터베이스의 원천 데이터 (users.role은 V17에서 추가되므로 제외)
+        Flyway beforeSummaries = TestDatabase.flyway("tenant_summary_migration", "14");
+        beforeSummaries.migrate();
+        JdbcTemplate source = new JdbcTemplate(beforeSummaries.getConfiguration().getDataSource());
+        TestFixtures.tenant(source, 900, "직접 등록");
+        source.update("INSERT INTO users (tenant_id, name, email, provider, is_active, is_email_verified, created_at, updated_at) " +
+                "VALUES (900, '직접', 'direct@smartcon.test', 'LOCAL', TRUE, FALSE, NOW(), NOW())");
+        insertDirectSources(source);
+
+        // When
+        TestDatabase.flyway("tenant_summary_migration", null).migrate();
+
+        // Then
+        assertEquals(source.queryForObject("SELECT COUNT(*) FROM tenants", Long.class),
+                source.queryForObject("SELECT COUNT(*) FROM tenant_summaries", Long.class));
+        Map<String, Object> summary = source.queryForMap("SELECT * FROM tenant_summaries WHERE tenant_id = 900");
+        assertEquals(1L, ((Number) summary.get("user_count")).longValue());
+        assertEquals(1L, ((Number) summary.get("active_user_count")).longValue());
+        assertEquals(4, ((Number) summary.get("site_count")).intValue());
+        assertEquals(SubscriptionStatus.ACTIVE.name(), summary.get("subscription_status"));
+        assertEquals(LocalDateTime.of(2024, 2, 1, 10, 0),
+                source.queryForObject("SELECT last_payment_at FROM tenant_summaries WHERE tenant_id = 900",
+                        LocalDateTime.class));
+    }
+
+    /**
+     * 테넌트 900의 결제 기록, 구독, 결제 (마지막 결제 기록의 현장 수 4, 현재 구독 ACTIVE, 마지막 성공 결제 2024-02-01 10:00)
+     */
+    private static void insertDirectSources(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO subscription_plans (plan_id, name, monthly_price, max_sites, max_users, created_at, updated_at) " +
+                "VALUES ('direct-basic', '직접 베이직', 50000, 5, 20, NOW(), NOW())");
+        jdbc.update("INSERT INTO subscription_billing (tenant_id, billing_period_start, billing_period_end, billing_date, " +
+                "subscription_plan, plan_amount, sites_count, base_amount, total_amount, payment_method, payment_status, created_at, updated_at) VALUES " +
+                "(900, DATE '2024-01-01', DATE '2024-01-31', DATE '2024-01-01', 'direct-basic', 50000, 2, 50000, 55000, 'CARD', 'SUCCESS', NOW(), NOW()), " +
+                "(900, DATE '2024-02-01', DATE '2024-02-29', DATE '2024-02-01', 'direct-basic', 50000, 4, 50000, 55000, 'CARD', 'SUCCESS', NOW(), NOW())");
+        jdbc.update("INSERT INTO subscriptions (id, tenant_id, plan_id, status, start_date, billing_cycle, monthly_price, " +
+                "discount_rate, auto_renewal, version, created_at, updated_at) VALUES " +
+                "(901, 900, 'direct-basic', 'CANCELLED', DATE '2024-01-01', 'MONTHLY', 50000, 0, TRUE, 0, NOW(), NOW()), " +
+                "(902, 900, 'direct-basic', 'ACTIVE', DATE '2024-02-01', 'MONTHLY', 50000, 0, TRUE, 0, NOW(), NOW())");
+        jdbc.update("INSERT INTO payments (tenant_id, subscription_id, amount, status, paid_at, created_at, updated_at) VALUES " +
+                "(900, 902, 50000, 'SUCCESS', TIMESTAMP '2024-02-01 10:00:00', NOW(), NOW()), " +
+                "(900, 902, 50000, 'FAILED', TIMESTAMP '2024-03-01 10:00:00', NOW(), NOW())");
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackages = "com.smartcon")
+    @EnableJpaRepositories(basePackageClasses = TenantRepository.class)
+    @Import({TenantIdentifierResolver.class, TenantSummaryProjector.class})
+    static class SummaryConfig {
+    }
+}
@@ -0,0 +1,66 @@
+package com.smartcon.domain.user.service;
+
+import com.smartcon.domain.user.entity.RevokedToken;
+import com.smartcon.domain.user.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 토큰 폐기 동기화 테스트
+ */
+class TokenRevocationServiceTest {
+
+    @Test
+    @DisplayName("워터마크보다 앞선 ID가 늦게 커밋되어도 다음 동기화에서 폐기 목록에 반영된다")
+    void lateCommittedRevocationIsNotSkipped() {
+        // Given
+        List<RevokedToken> revoked = new ArrayList<>();
+        RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+        when(repository.findMaxId()).thenReturn(0L);
+        when(repository.findActiveTokenIds(any())).thenReturn(List.of());
+        when(repository.existsByTokenId(any())).thenAnswer(invocation -> revoked.stream()
+                .anyMatch(token -> token.getTokenId().equals(invocation.getArgument(0))));
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return revoked.stream().filter(token -> token.getId() > afterId).toList();
+        });
+        TokenRevocationService service = new TokenRevocationService(repository, 1000, 0.001, 100);
+        service.initialize();
+
+        // When - ID 2만 보이는 상태에서 동기화
+        revoked.add(revokedToken(2L, "token-2"));
+        service.syncRecentRevocations();
+
+        // Then
+        assertTrue(service.isRevoked("token-2"));
+        assertFalse(service.isRevoked("token-1"));
+
+        // When - ID 1이 뒤늦게 커밋됨
+        revoked.add(revokedToken(1L, "token-1"));
+        service.syncRecentRevocations();
+
+        // Then
+        assertTrue(service.isRevoked("token-1"));
+        assertEquals(2L, ReflectionTestUtils.getField(service, "lastSyncedId"));
+    }
+
+    private static RevokedToken revokedToken(Long id, String tokenId) {
+        RevokedToken token = RevokedToken.builder()
+                .tokenId(tokenId)
+                .userId("1")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+        ReflectionTestUtils.setField(token, "id", id);
+        return token;
+    }
+}
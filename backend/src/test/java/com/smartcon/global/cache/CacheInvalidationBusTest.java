@@ -0,0 +1,161 @@
+package com.smartcon.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 캐시 무효화 채널 발행/워터마크 테스트
+ */
+class CacheInvalidationBusTest {
+
+    private final List<CacheInvalidation> log = new ArrayList<>();
+    private CacheInvalidationRepository repository;
+    private CacheManager localCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CacheInvalidationRepository.class);
+        when(repository.findMaxId()).thenReturn(0L);
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong())).thenAnswer(invocation -> {
+            long watermark = invocation.getArgument(0);
+            return log.stream().filter(entry -> entry.getId() > watermark).toList();
+        });
+        localCacheManager = new ConcurrentMapCacheManager("autoApprovalRules", "subscriptionStats");
+    }
+
+    @Test
+    @DisplayName("앞선 ID가 늦게 커밋되어도 워터마크가 건너뛰지 않아 무효화가 반영된다")
+    void lateCommittedInvalidationIsNotSkipped() {
+        // Given
+        CacheInvalidationBus bus = bus(1000);
+        localCacheManager.getCache("autoApprovalRules").put("active", "rules");
+        localCacheManager.getCache("subscriptionStats").put("overall", "stats");
+        log.add(invalidation(2L, "subscriptionStats", "overall"));
+
+        // When - ID 2만 보이는 상태에서 폴링
+        bus.poll();
+
+        // Then
+        assertNull(localCacheManager.getCache("subscriptionStats").get("overall"));
+        assertEquals(2L, watermark(bus));
+
+        // When - ID 1이 뒤늦게 커밋됨
+        log.add(invalidation(1L, "autoApprovalRules", null));
+        bus.poll();
+
+        // Then
+        assertNull(localCacheManager.getCache("autoApprovalRules").get("active"));
+        assertEquals(2L, watermark(bus));
+    }
+
+    @Test
+    @DisplayName("워터마크 이전 재조회 구간만 다시 읽고, 이미 반영한 무효화는 다시 반영하지 않는다")
+    void rescansTrailingWindowOnce() {
+        // Given
+        CacheInvalidationBus bus = bus(2);
+        for (long id = 1; id <= 5; id++) {
+            log.add(invalidation(id, "subscriptionStats", "overall"));
+        }
+        bus.poll();
+        localCacheManager.getCache("subscriptionStats").put("overall", "reloaded");
+
+        // When
+        bus.poll();
+
+        // Then
+        assertEquals(5L, watermark(bus));
+        verify(repository).findByIdGreaterThanOrderByIdAsc(3L);
+        assertNotNull(localCacheManager.getCache("subscriptionStats").get("overall"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 발행은 커밋 후 한 번만 기록되고, 롤백되면 기록하지 않으며, 기록 실패가 호출자 트랜잭션을 롤백시키지 않는다")
+    void publishesAfterCommitInSeparateTransaction() {
+        // Given
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:cache_invalidation_bus;DB_CLOSE_DELAY=-1", "sa", ""));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CacheInvalidationBus bus = new CacheInvalidationBus(repository, event -> { }, true, "node-a", 1000, 60,
+                transactionManager);
+
+        // When - 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            bus.publish("subscriptionStats", "overall");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        verify(repository, never()).save(any());
+
+        // When - 같은 키 중복 발행 후 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            bus.publish("subscriptionStats", "overall");
+            bus.publish("subscriptionStats", "overall");
+            verify(repository, never()).save(any());
+        });
+
+        // Then
+        verify(repository, times(1)).save(any());
+
+        // When - 기록 실패
+        when(repository.save(any())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // Then
+        assertDoesNotThrow(() -> transactionTemplate.executeWithoutResult(status ->
+                bus.publish("autoApprovalRules", null)));
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 무효화는 다시 반영하지 않는다")
+    void ownInvalidationsAreIgnored() {
+        // Given
+        CacheInvalidationBus bus = bus(1000);
+        localCacheManager.getCache("subscriptionStats").put("overall", "reloaded");
+        log.add(CacheInvalidationBusTest.withId(CacheInvalidation.builder()
+                .cacheName("subscriptionStats").cacheKey("overall").originNode("node-a").build(), 1L));
+
+        // When
+        bus.poll();
+
+        // Then
+        assertNotNull(localCacheManager.getCache("subscriptionStats").get("overall"));
+        assertEquals(1L, watermark(bus));
+    }
+
+    private CacheInvalidationBus bus(long rescanWindow) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(repository, event -> { }, true, "node-a", rescanWindow, 60,
+                mock(PlatformTransactionManager.class));
+        bus.attach(localCacheManager);
+        bus.initialize();
+        return bus;
+    }
+
+    private static CacheInvalidation invalidation(Long id, String cacheName, String key) {
+        return withId(CacheInvalidation.builder().cacheName(cacheName).cacheKey(key).originNode("node-b").build(), id);
+    }
+
+    private static CacheInvalidation withId(CacheInvalidation invalidation, Long id) {
+        invalidation.setId(id);
+        return invalidation;
+    }
+
+    private static long watermark(CacheInvalidationBus bus) {
+        return (long) ReflectionTestUtils.getField(bus, "watermark");
+    }
+}
@@ -0,0 +1,116 @@
+package com.smartcon.global.cache;
+
+import com.smartcon.global.config.CacheConfig;
+import com.smartcon.global.config.CachePolicyProperties;
+import com.smartcon.global.config.TestDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 노드 간 캐시 무효화 수렴 테스트
+ *
+ * 같은 테스트 데이터베이스를 공유하는 두 애플리케이션 컨텍스트를 띄워,
+ * 한 노드의 캐시 제거가 다른 노드의 로컬 캐시에 반영되기까지의 시간을 측정합니다.
+ */
+@Slf4j
+class ClusterCacheInvalidationTest {
+
+    private static final long POLL_INTERVAL_MS = 50;
+    private static final long CONVERGENCE_LIMIT_MS = 2_000;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 키를 제거하면 다른 노드의 로컬 캐시에서도 제거된다")
+    void keyEvictionConverges() throws InterruptedException {
+        // Given
+        Cache cacheA = cache(nodeA, "autoApprovalRules");
+        Cache cacheB = cache(nodeB, "autoApprovalRules");
+        cacheA.put("active", "rules-v1");
+        cacheB.put("active", "rules-v1");
+
+        // When
+        cacheA.evict("active");
+        long convergenceMillis = awaitEvicted(cacheB, "active");
+
+        // Then
+        log.info("캐시 키 무효화 수렴 시간: {} ms (폴링 주기 {} ms)", convergenceMillis, POLL_INTERVAL_MS);
+        assertNull(cacheA.get("active"));
+        assertTrue(convergenceMillis < CONVERGENCE_LIMIT_MS);
+    }
+
+    @Test
+    @DisplayName("전체 제거는 다른 노드의 캐시 전체를 비운다")
+    void clearConverges() throws InterruptedException {
+        // Given
+        Cache cacheA = cache(nodeA, "approvalStats");
+        Cache cacheB = cache(nodeB, "approvalStats");
+        cacheB.put("monthly", "stats");
+        cacheB.put("daily", "stats");
+
+        // When
+        cacheA.clear();
+        long convergenceMillis = Math.max(awaitEvicted(cacheB, "monthly"), awaitEvicted(cacheB, "daily"));
+
+        // Then
+        log.info("캐시 전체 무효화 수렴 시간: {} ms", convergenceMillis);
+        assertTrue(convergenceMillis < CONVERGENCE_LIMIT_MS);
+    }
+
+    private static long awaitEvicted(Cache cache, Object key) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + CONVERGENCE_LIMIT_MS * 2 * 1_000_000;
+        while (cache.get(key) != null) {
+            if (System.nanoTime() > deadline) {
+                fail("캐시 무효화가 수렴하지 않았습니다: " + key);
+            }
+            Thread.sleep(5);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static Cache cache(ConfigurableApplicationContext node, String cacheName) {
+        return node.getBean(CacheManager.class).getCache(cacheName);
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return TestDatabase.start(NodeConfig.class, "cluster_cache",
+                "spring.profiles.active=cluster-node",
+                "cache.invalidation.node-id=" + nodeId,
+                "cache.invalidation.poll-interval-ms=" + POLL_INTERVAL_MS);
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = CacheInvalidation.class)
+    @EnableJpaRepositories(basePackageClasses = CacheInvalidationRepository.class)
+    @Import({CacheConfig.class, CachePolicyProperties.class, CacheInvalidationBus.class})
+    static class NodeConfig {
+    }
+}
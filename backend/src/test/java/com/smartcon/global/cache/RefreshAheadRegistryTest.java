@@ -0,0 +1,135 @@
+package com.smartcon.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 선제 갱신 캐시 로더 등록소 테스트
+ */
+class RefreshAheadRegistryTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+    private RefreshAheadRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RefreshAheadRegistry(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("갱신 기준 시간이 지난 항목은 조회 시 갱신되고, 주기 점검은 만료 전 항목과 빈 항목을 미리 다시 계산한다")
+    void refreshesAheadOfExpiry() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        registry.register("approvalStats", "monthly", () -> "v" + loads.incrementAndGet());
+        registry.register("approvalStats", "daily", () -> "daily");
+        LoadingCache<Object, Object> cache = registry.build("approvalStats", newBuilder(), Duration.ofMinutes(4));
+
+        // When & Then: 최초 조회 시 등록된 로더로 적재, 등록되지 않은 키는 캐시하지 않음
+        assertEquals("v1", cache.get("monthly"));
+        assertNull(cache.get("unknown"));
+
+        // 갱신 기준 전에는 점검해도 다시 계산하지 않음 (비어 있던 daily만 적재)
+        nanos.addAndGet(Duration.ofMinutes(3).toNanos());
+        registry.refreshDue();
+        assertEquals("v1", cache.getIfPresent("monthly"));
+        assertEquals("daily", cache.getIfPresent("daily"));
+
+        // 갱신 기준이 지나면 점검 시 만료(5분) 전에 다시 계산
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        registry.refreshDue();
+        assertEquals("v2", cache.getIfPresent("monthly"));
+
+        // 이후 만료 시간이 지나도 최근 갱신 기준으로 유지
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertEquals("v2", cache.getIfPresent("monthly"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("다시 계산하는 동안에는 이전 값을 반환하고, 같은 키의 동시 미스는 한 번만 적재한다")
+    void servesStaleWhileRefreshingAndCoalescesMisses() throws Exception {
+        // Given: 두 번째 적재는 해제 신호까지 대기
+        registry = new RefreshAheadRegistry(command -> new Thread(command).start());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        registry.register("notificationStats", "overall", () -> {
+            int load = loads.incrementAndGet();
+            if (load > 1) {
+                await(release);
+            }
+            return "v" + load;
+        });
+        Cache cache = new CaffeineCache("notificationStats",
+                registry.build("notificationStats", newBuilder(), Duration.ofMinutes(4)), false);
+        assertEquals("v1", cache.get("overall").get());
+
+        // When: 갱신 중 조회
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        registry.refreshAll("notificationStats");
+
+        // Then
+        assertEquals("v1", cache.get("overall", () -> "direct"));
+        release.countDown();
+        waitUntil(() -> "v2".equals(cache.get("overall", () -> "direct")));
+
+        // 동시 미스는 한 번만 계산
+        cache.evict("overall");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger missLoads = new AtomicInteger();
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> cache.get("overall", () -> {
+            missLoads.incrementAndGet();
+            started.countDown();
+            await(finish);
+            return "loaded";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> cache.get("overall", () -> {
+            missLoads.incrementAndGet();
+            return "duplicate";
+        }));
+        Thread.sleep(50);
+        finish.countDown();
+        assertEquals("loaded", first.get(5, TimeUnit.SECONDS));
+        assertEquals("loaded", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, missLoads.get());
+    }
+
+    private Caffeine<Object, Object> newBuilder() {
+        return Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).ticker(ticker);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
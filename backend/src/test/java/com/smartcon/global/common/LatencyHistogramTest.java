@@ -0,0 +1,94 @@
+package com.smartcon.global.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 지연 시간 히스토그램 테스트
+ */
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 정확한 값과의 상대 오차가 3% 이내이다")
+    void percentilesWithinRelativeError() {
+        // Given: 수 초 ~ 수 일 범위의 로그 정규 분포
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(8 + random.nextGaussian() * 2);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Then
+        for (double percentile : new double[]{50, 90, 95, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+            long estimated = histogram.valueAtPercentile(percentile);
+            assertTrue(Math.abs(estimated - exact) <= Math.max(1, exact * 0.03),
+                    "p" + percentile + " exact=" + exact + " estimated=" + estimated);
+        }
+        assertEquals(values.length, histogram.getTotalCount());
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("나누어 기록한 히스토그램을 병합하면 한 번에 기록한 것과 같다")
+    void mergeEqualsCombinedRecording() {
+        // Given
+        LatencyHistogram combined = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (long value = 0; value < 10_000; value += 7) {
+            combined.record(value);
+            (value % 2 == 0 ? first : second).record(value);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertArrayEquals(combined.toBytes(), first.toBytes());
+        assertEquals(combined.valueAtPercentile(95), first.valueAtPercentile(95));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원하면 건수, 범위, 백분위 값이 유지된다")
+    void bytesRoundTrip() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(125);
+        histogram.record(86_400);
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_VALUE * 4);
+
+        // When
+        LatencyHistogram restored = LatencyHistogram.fromBytes(histogram.toBytes());
+
+        // Then
+        assertEquals(4, restored.getTotalCount());
+        assertEquals(3, restored.getMin());
+        assertEquals(histogram.getMax(), restored.getMax());
+        assertEquals(histogram.getMean(), restored.getMean());
+        assertEquals(histogram.valueAtPercentile(50), restored.valueAtPercentile(50));
+        assertEquals(0, LatencyHistogram.fromBytes(new LatencyHistogram().toBytes()).getTotalCount());
+    }
+
+    @Test
+    @DisplayName("모든 값은 하한과 폭이 맞는 버킷에 들어간다")
+    void bucketBoundariesAreConsistent() {
+        for (long value : new long[]{0, 15, 16, 17, 31, 32, 1_000, 65_535, LatencyHistogram.MAX_TRACKABLE_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long lower = LatencyHistogram.bucketLowerBound(index);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(lower <= value && value < lower + LatencyHistogram.bucketWidth(index), "value=" + value);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.smartcon.global.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시 설정 테스트
+ */
+class CacheConfigTest {
+
+    @Test
+    @DisplayName("캐시별 정책은 지정하지 않은 항목을 기본 정책으로 보완한다")
+    void resolvesPolicyWithDefaults() {
+        // Given: 기본 정책의 최대 항목 수와 유휴 만료만 변경
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getDefaultPolicy().setMaxSize(500L);
+        properties.getDefaultPolicy().setExpireAfterAccess(Duration.ofMinutes(1));
+        CachePolicyProperties.Policy statsPolicy = new CachePolicyProperties.Policy();
+        statsPolicy.setTtl(Duration.ofMinutes(5));
+        properties.getPolicies().put("approvalStats", statsPolicy);
+
+        // When
+        CachePolicyProperties.Policy resolved = CacheConfig.resolve(properties, "approvalStats");
+
+        // Then
+        assertEquals(500L, resolved.getMaxSize());
+        assertEquals(Duration.ofMinutes(5), resolved.getTtl());
+        assertEquals(Duration.ofMinutes(1), resolved.getExpireAfterAccess());
+        assertEquals(Duration.ofMinutes(10), properties.getDefaultPolicy().getTtl());
+        assertSame(properties.getDefaultPolicy(), CacheConfig.resolve(properties, "tenantInfo"));
+    }
+
+    @Test
+    @DisplayName("캐시는 최대 항목 수로 제한되고 적중/미스/제거 통계를 기록한다")
+    void cachesAreBoundedAndRecordStats() {
+        // Given
+        CachePolicyProperties properties = new CachePolicyProperties();
+        CachePolicyProperties.Policy policy = new CachePolicyProperties.Policy();
+        policy.setMaxSize(2L);
+        properties.getPolicies().put("tenantInfo", policy);
+        CacheManager cacheManager = CacheConfig.localCacheManager(properties);
+        Cache cache = cacheManager.getCache("tenantInfo");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "tenant-" + i);
+        }
+        cache.get(9);
+        cache.get(-1);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = ((CaffeineCache) cache).getNativeCache();
+        nativeCache.cleanUp();
+
+        // Then
+        CacheStats stats = nativeCache.stats();
+        assertTrue(nativeCache.estimatedSize() <= 2);
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertTrue(stats.evictionCount() >= 8);
+        assertNull(cacheManager.getCache("unknownCache"));
+    }
+}
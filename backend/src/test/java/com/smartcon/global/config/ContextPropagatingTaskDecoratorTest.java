@@ -0,0 +1,110 @@
+package com.smartcon.global.config;
+
+import com.smartcon.global.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 컨텍스트 전파 데코레이터 테스트
+ */
+class ContextPropagatingTaskDecoratorTest {
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void testContextIsPropagatedToWorkerThread() throws Exception {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user-1", null);
+        TenantContext.setCurrentTenantId(42L);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        MDC.put("requestId", "req-1");
+
+        AtomicReference<Long> tenantId = new AtomicReference<>();
+        AtomicReference<Authentication> propagatedAuthentication = new AtomicReference<>();
+        AtomicReference<String> requestId = new AtomicReference<>();
+
+        Executor executor = ContextPropagatingTaskDecorator.wrap(executorService);
+
+        // When
+        Runnable task = () -> {
+            tenantId.set(TenantContext.getCurrentTenantId());
+            propagatedAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+            requestId.set(MDC.get("requestId"));
+        };
+        runAndWait(executor, task);
+
+        // Then
+        assertEquals(42L, tenantId.get());
+        assertSame(authentication, propagatedAuthentication.get());
+        assertEquals("req-1", requestId.get());
+    }
+
+    @Test
+    void testWorkerThreadContextIsRestoredAfterTask() throws Exception {
+        // Given - 테넌트 컨텍스트가 있는 상태에서 작업 제출
+        TenantContext.setCurrentTenantId(7L);
+        MDC.put("requestId", "req-7");
+        Executor executor = ContextPropagatingTaskDecorator.wrap(executorService);
+        runAndWait(executor, () -> { });
+
+        // When - 이후 원본 실행자에서 실행되는 작업
+        AtomicReference<Long> leakedTenantId = new AtomicReference<>(-1L);
+        AtomicReference<String> leakedRequestId = new AtomicReference<>("unset");
+        executorService.submit(() -> {
+            leakedTenantId.set(TenantContext.getCurrentTenantId());
+            leakedRequestId.set(MDC.get("requestId"));
+        }).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertNull(leakedTenantId.get());
+        assertNull(leakedRequestId.get());
+    }
+
+    @Test
+    void testRunWithTenantRestoresPreviousTenant() {
+        TenantContext.setCurrentTenantId(1L);
+
+        TenantContext.runWithTenant(2L, () -> assertEquals(2L, TenantContext.getCurrentTenantId()));
+
+        assertEquals(1L, TenantContext.getCurrentTenantId());
+    }
+
+    private static void runAndWait(Executor executor, Runnable task) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.smartcon.global.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MariaDBContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 통합 테스트용 데이터베이스
+ *
+ * -Dtest.mariadb.url로 MariaDB 서버를 지정하거나 Docker를 사용할 수 있으면 test 프로필로 MariaDB에 연결하고,
+ * 스키마는 Flyway 마이그레이션으로 만듭니다. 둘 다 없으면 H2(MariaDB 모드)에 엔티티 기준으로 스키마를 만듭니다.
+ * 데이터베이스는 이름별로 JVM당 한 번 새로 만들며, 마이그레이션이 넣은 개발용 시드(V3)는 첫 기동 후 비웁니다.
+ */
+public final class TestDatabase {
+
+    private static final String IMAGE = "mariadb:10.11";
+    private static final String HISTORY_TABLE = "flyway_schema_history";
+
+    private static final Set<String> PREPARED = ConcurrentHashMap.newKeySet();
+    private static MariaDBContainer<?> container;
+    private static Server server;
+    private static boolean resolved;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * MariaDB에 연결하는지 여부 (false면 H2)
+     */
+    public static boolean isMariaDb() {
+        return server() != null;
+    }
+
+    /**
+     * 테스트 데이터베이스에 연결한 애플리케이션 컨텍스트 기동
+     *
+     * @param name       데이터베이스 이름 (같은 이름의 컨텍스트는 같은 데이터베이스를 공유)
+     * @param properties 추가 설정 ("key=value")
+     */
+    public static ConfigurableApplicationContext start(Class<?> configuration, String name, String... properties) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("spring.jpa.open-in-view", "false");
+        settings.put("spring.main.banner-mode", "off");
+
+        boolean created = PREPARED.add(name);
+        Server mariaDb = server();
+        if (mariaDb != null) {
+            if (created) {
+                mariaDb.recreate(name);
+            }
+            settings.put("spring.profiles.active", "test");
+            settings.put("spring.datasource.url", mariaDb.url() + name);
+            settings.put("spring.datasource.username", mariaDb.username());
+            settings.put("spring.datasource.password", mariaDb.password());
+            // 벤치마크 테스트가 있어 test 프로필의 SQL 로그는 끔
+            settings.put("spring.jpa.show-sql", "false");
+            settings.put("logging.level.com.smartcon", "INFO");
+            settings.put("logging.level.org.hibernate.SQL", "INFO");
+            settings.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "INFO");
+        } else {
+            settings.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            settings.put("spring.datasource.url", "jdbc:h2:mem:" + name + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+            settings.put("spring.datasource.username", "sa");
+            settings.put("spring.datasource.password", "");
+            settings.put("spring.jpa.hibernate.ddl-auto", "update");
+            settings.put("spring.flyway.enabled", "false");
+        }
+
+        for (String property : properties) {
+            int separator = property.indexOf('=');
+            String key = property.substring(0, separator);
+            String value = property.substring(separator + 1);
+            if (key.equals("spring.profiles.active") && settings.containsKey(key)) {
+                value = settings.get(key) + "," + value;
+            }
+            settings.put(key, value);
+        }
+
+        List<String> args = new ArrayList<>();
+        settings.forEach((key, value) -> args.add("--" + key + "=" + value));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(configuration)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+
+        if (mariaDb != null && created) {
+            truncateAll(context.getBean(JdbcTemplate.class));
+        }
+        return context;
+    }
+
+    /**
+     * 새 MariaDB 데이터베이스에 대한 Flyway (마이그레이션 자체를 검증하는 테스트용, MariaDB에서만 사용)
+     *
+     * @param target 적용할 마지막 버전 (null이면 최신)
+     */
+    public static Flyway flyway(String name, String target) {
+        Server mariaDb = server();
+        if (mariaDb == null) {
+            throw new IllegalStateException("Flyway 마이그레이션은 MariaDB에서만 실행할 수 있습니다");
+        }
+        if (PREPARED.add(name)) {
+            mariaDb.recreate(name);
+        }
+        return Flyway.configure()
+                .dataSource(mariaDb.url() + name, mariaDb.username(), mariaDb.password())
+                .locations("classpath:db/migration")
+                .target(target != null ? target : "latest")
+                .load();
+    }
+
+    /**
+     * 마이그레이션 이력을 제외한 모든 테이블 비우기
+     */
+    private static void truncateAll(JdbcTemplate jdbc) {
+        jdbc.execute((ConnectionCallback<Void>) connection -> {
+            List<String> tables = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getTables(connection.getCatalog(), null, "%",
+                    new String[]{"TABLE"})) {
+                while (rs.next()) {
+                    tables.add(rs.getString("TABLE_NAME"));
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                for (String table : tables) {
+                    if (!table.equalsIgnoreCase(HISTORY_TABLE)) {
+                        statement.execute("TRUNCATE TABLE " + table);
+                    }
+                }
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+            }
+            return null;
+        });
+    }
+
+    private static synchronized Server server() {
+        if (resolved) {
+            return server;
+        }
+        resolved = true;
+        String url = System.getProperty("test.mariadb.url");
+        if (url != null && !url.isBlank()) {
+            server = new Server(url.endsWith("/") ? url : url + "/",
+                    System.getProperty("test.mariadb.username", "root"),
+                    System.getProperty("test.mariadb.password", ""));
+        } else if (DockerClientFactory.instance().isDockerAvailable()) {
+            container = new MariaDBContainer<>(IMAGE)
+                    .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+            container.start();
+            server = new Server("jdbc:mariadb://" + container.getHost() + ":" + container.getMappedPort(3306) + "/",
+                    "root", container.getPassword());
+        }
+        return server;
+    }
+
+    private record Server(String url, String username, String password) {
+
+        void recreate(String name) {
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                 Statement statement = connection.createStatement()) {
+                statement.execute("DROP DATABASE IF EXISTS " + name);
+                statement.execute("CREATE DATABASE " + name + " CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci");
+            } catch (SQLException e) {
+                throw new IllegalStateException("테스트 데이터베이스 생성 실패: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.smartcon.global.config;
+
+import com.smartcon.domain.billing.entity.BillingRecord;
+import com.smartcon.domain.subscription.entity.SubscriptionStatus;
+import com.smartcon.domain.user.entity.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 통합 테스트 공통 시드 데이터 (H2와 MariaDB 모두에서 동작하는 SQL만 사용)
+ */
+public final class TestFixtures {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private TestFixtures() {
+    }
+
+    public static void tenant(JdbcTemplate jdbc, long id, String companyName) {
+        jdbc.update("INSERT INTO tenants (id, business_number, company_name, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'ACTIVE', NOW(), NOW())", id, businessNumber(id), companyName);
+    }
+
+    /**
+     * ID별로 유일한 사업자등록번호 (000-00-00000 형식)
+     */
+    public static String businessNumber(long id) {
+        return String.format("%03d-%02d-%05d", id / 10_000_000 % 1_000, id / 100_000 % 100, id % 100_000);
+    }
+
+    public static void plan(JdbcTemplate jdbc, String planId, String name, long monthlyPrice) {
+        jdbc.update("INSERT INTO subscription_plans (plan_id, name, monthly_price, max_sites, max_users, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 5, 20, NOW(), NOW())", planId, name, monthlyPrice);
+    }
+
+    public static void subscription(JdbcTemplate jdbc, long id, long tenantId, String planId,
+                                    SubscriptionStatus status, LocalDate startDate) {
+        jdbc.update("INSERT INTO subscriptions (id, tenant_id, plan_id, status, start_date, billing_cycle, monthly_price, " +
+                "discount_rate, auto_renewal, version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, 'MONTHLY', 50000, 0, TRUE, 0, NOW(), NOW())",
+                id, tenantId, planId, status.name(), startDate);
+    }
+
+    /**
+     * 결제 기록 (결제 완료 시각이 속한 월을 결제 기간으로 사용)
+     */
+    public static void billing(JdbcTemplate jdbc, long tenantId, long totalAmount,
+                               BillingRecord.PaymentStatus status, LocalDateTime completedAt) {
+        LocalDate month = completedAt.toLocalDate().withDayOfMonth(1);
+        jdbc.update("INSERT INTO subscription_billing (tenant_id, billing_period_start, billing_period_end, billing_date, " +
+                "subscription_plan, plan_amount, sites_count, base_amount, total_amount, payment_method, payment_status, " +
+                "payment_completed_at, created_at, updated_at) VALUES (?, ?, ?, ?, 'basic', ?, 1, ?, ?, 'CARD', ?, ?, ?, ?)",
+                tenantId, month, month.plusMonths(1).minusDays(1), completedAt.toLocalDate(),
+                totalAmount, totalAmount, totalAmount, status.name(), completedAt, completedAt, completedAt);
+    }
+
+    /**
+     * ID 구간 [fromId, toId]의 사용자 적재 (이름은 "사용자{ID}", 이메일은 "user{ID}@smartcon.test")
+     */
+    public static void users(JdbcTemplate jdbc, long tenantId, User.Role role, long fromId, long toId) {
+        batch(jdbc, "INSERT INTO users (id, tenant_id, name, email, provider, is_active, is_email_verified, role, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, 'LOCAL', TRUE, TRUE, ?, NOW(), NOW())",
+                (int) (toId - fromId + 1), i -> {
+                    long id = fromId + i;
+                    return new Object[]{id, tenantId, "사용자" + id, "user" + id + "@smartcon.test", role.name()};
+                });
+    }
+
+    /**
+     * 행 생성 함수로 count건을 나누어 배치 적재 (구간마다 커밋)
+     */
+    public static void batch(JdbcTemplate jdbc, String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(Math.min(count, BATCH_SIZE));
+        for (int i = 0; i < count; i++) {
+            rows.add(row.apply(i));
+            if (rows.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(sql, rows);
+        }
+    }
+}
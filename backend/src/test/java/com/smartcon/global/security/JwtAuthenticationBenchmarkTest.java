@@ -0,0 +1,96 @@
+package com.smartcon.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청당 JWT 인증 CPU 비용 마이크로 벤치마크
+ *
+ * 기존 방식(검증 + 5회 추출, 매번 파서 생성 및 서명 재검증)과
+ * 한 번만 파싱하는 VerifiedToken 방식의 요청당 처리 시간을 비교합니다.
+ */
+@Slf4j
+class JwtAuthenticationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 10_000;
+
+    private JwtTokenService jwtTokenService;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService(
+                "test-secret-key-for-jwt-token-service-testing-only",
+                60,
+                7
+        );
+
+        PermissionSet permissions = PermissionSet.of(
+                Permission.ADMIN_READ, Permission.ADMIN_WRITE, Permission.SUBSCRIPTION_APPROVE);
+        accessToken = jwtTokenService.generateAccessToken("1", "100", "ROLE_SUPER", permissions);
+    }
+
+    @Test
+    void benchmarkPerRequestAuthentication() {
+        // 워밍업
+        runLegacy(WARMUP_ITERATIONS);
+        runVerified(WARMUP_ITERATIONS);
+
+        // 측정
+        long legacyNanos = runLegacy(MEASURE_ITERATIONS);
+        long verifiedNanos = runVerified(MEASURE_ITERATIONS);
+
+        double legacyMicrosPerRequest = legacyNanos / 1_000.0 / MEASURE_ITERATIONS;
+        double verifiedMicrosPerRequest = verifiedNanos / 1_000.0 / MEASURE_ITERATIONS;
+
+        log.info("요청당 인증 처리 시간 - 기존(6회 파싱): {} us, VerifiedToken(1회 파싱): {} us, 향상 비율: {}배",
+                String.format("%.2f", legacyMicrosPerRequest),
+                String.format("%.2f", verifiedMicrosPerRequest),
+                String.format("%.1f", legacyMicrosPerRequest / verifiedMicrosPerRequest));
+
+        assertTrue(verifiedNanos < legacyNanos, "한 번만 파싱하는 방식이 더 빨라야 합니다");
+    }
+
+    /**
+     * 기존 필터 방식: validateToken, isAccessToken, extract* 각각 토큰 파싱
+     */
+    private long runLegacy(int iterations) {
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (jwtTokenService.validateToken(accessToken) && jwtTokenService.isAccessToken(accessToken)) {
+                sink += jwtTokenService.extractUserId(accessToken).length();
+                sink += jwtTokenService.extractTenantId(accessToken).length();
+                sink += jwtTokenService.extractRole(accessToken).length();
+                sink += Integer.bitCount(jwtTokenService.extractPermissions(accessToken).getMask());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+
+    /**
+     * 신규 필터 방식: verifyToken 한 번으로 모든 Claims 조회
+     */
+    private long runVerified(int iterations) {
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            VerifiedToken verified = jwtTokenService.verifyToken(accessToken).orElseThrow();
+            if (verified.isAccessToken()) {
+                sink += verified.getUserId().length();
+                sink += verified.getTenantId().length();
+                sink += verified.getRole().length();
+                sink += Integer.bitCount(verified.getPermissions().getMask());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed;
+    }
+}
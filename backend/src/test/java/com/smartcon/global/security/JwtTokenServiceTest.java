@@ -3,9 +3,6 @@ package com.smartcon.global.security;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -31,9 +28,7 @@ class JwtTokenServiceTest {
         String userId = "test-user-123";
         String tenantId = "test-tenant-456";
         String role = "ROLE_SUPER";
-        Map<String, Object> permissions = new HashMap<>();
-        permissions.put("admin.read", true);
-        permissions.put("admin.write", true);
+        PermissionSet permissions = PermissionSet.of(Permission.ADMIN_READ, Permission.ADMIN_WRITE);
 
         // When
         String accessToken = jwtTokenService.generateAccessToken(userId, tenantId, role, permissions);
@@ -49,9 +44,11 @@ class JwtTokenServiceTest {
         assertEquals(tenantId, jwtTokenService.extractTenantId(accessToken));
         assertEquals(role, jwtTokenService.extractRole(accessToken));
         
-        Map<String, Object> extractedPermissions = jwtTokenService.extractPermissions(accessToken);
-        assertEquals(true, extractedPermissions.get("admin.read"));
-        assertEquals(true, extractedPermissions.get("admin.write"));
+        PermissionSet extractedPermissions = jwtTokenService.extractPermissions(accessToken);
+        assertEquals(permissions, extractedPermissions);
+        assertTrue(extractedPermissions.contains(Permission.ADMIN_READ));
+        assertTrue(extractedPermissions.contains("admin.write"));
+        assertFalse(extractedPermissions.contains(Permission.USER_MANAGE));
     }
 
     @Test
@@ -74,6 +71,31 @@ class JwtTokenServiceTest {
         assertEquals(tenantId, jwtTokenService.extractTenantId(refreshToken));
     }
 
+    @Test
+    void testVerifyTokenReturnsClaimsSnapshot() {
+        // Given
+        PermissionSet permissions = PermissionSet.of(Permission.ADMIN_READ);
+        String accessToken = jwtTokenService.generateAccessToken("test-user-123", "456", "ROLE_SUPER", permissions);
+
+        // When
+        VerifiedToken verified = jwtTokenService.verifyToken(accessToken).orElseThrow();
+
+        // Then
+        assertEquals("test-user-123", verified.getUserId());
+        assertEquals("456", verified.getTenantId());
+        assertEquals("ROLE_SUPER", verified.getRole());
+        assertTrue(verified.isAccessToken());
+        assertFalse(verified.isRefreshToken());
+        assertTrue(verified.getPermissions().contains(Permission.ADMIN_READ));
+        assertNotNull(verified.getExpiresAt());
+
+        // 변조/잘못된 토큰은 빈 결과
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+        assertTrue(jwtTokenService.verifyToken(tampered).isEmpty());
+        assertTrue(jwtTokenService.verifyToken("invalid.jwt.token").isEmpty());
+        assertTrue(jwtTokenService.verifyToken(null).isEmpty());
+    }
+
     @Test
     void testInvalidTokenValidation() {
         // Given
@@ -97,7 +119,7 @@ class JwtTokenServiceTest {
         String userId = "test-user-123";
         String tenantId = "test-tenant-456";
         String role = "ROLE_USER";
-        Map<String, Object> permissions = new HashMap<>();
+        PermissionSet permissions = PermissionSet.empty();
 
         // When
         String accessToken = shortExpiryService.generateAccessToken(userId, tenantId, role, permissions);
@@ -0,0 +1,55 @@
+package com.smartcon.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 권한 집합 테스트
+ */
+class PermissionSetTest {
+
+    @Test
+    void testMaskRoundTrip() {
+        // Given
+        PermissionSet permissions = PermissionSet.of(Permission.SITE_READ, Permission.WORKER_WRITE);
+
+        // When
+        PermissionSet restored = PermissionSet.fromMask(permissions.getMask());
+
+        // Then
+        assertEquals(permissions, restored);
+        assertTrue(restored.contains(Permission.SITE_READ));
+        assertTrue(restored.contains(Permission.WORKER_WRITE));
+        assertFalse(restored.contains(Permission.SITE_WRITE));
+    }
+
+    @Test
+    void testUnknownBitsAreIgnored() {
+        PermissionSet permissions = PermissionSet.fromMask(Permission.TEAM_READ.mask() | (1 << 30));
+
+        assertEquals(PermissionSet.of(Permission.TEAM_READ), permissions);
+        assertTrue(PermissionSet.fromMask(1 << 30).isEmpty());
+    }
+
+    @Test
+    void testToMapKeepsLegacyResponseFormat() {
+        Map<String, Object> map = PermissionSet.of(Permission.ADMIN_READ, Permission.PROFILE_WRITE).toMap();
+
+        assertEquals(2, map.size());
+        assertEquals(true, map.get("admin.read"));
+        assertEquals(true, map.get("profile.write"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("admin.write", true));
+    }
+
+    @Test
+    void testPermissionBitsAreUnique() {
+        int seen = 0;
+        for (Permission permission : Permission.values()) {
+            assertEquals(0, seen & permission.mask(), "중복 비트: " + permission);
+            seen |= permission.mask();
+        }
+    }
+}
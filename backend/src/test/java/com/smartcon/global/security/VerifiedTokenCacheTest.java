@@ -0,0 +1,130 @@
+package com.smartcon.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JWT 검증 캐시 테스트
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-service-testing-only";
+
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+    private JwtTokenService jwtTokenService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        cache = new VerifiedTokenCache(true, 3, clock);
+        jwtTokenService = new JwtTokenService(SECRET, 60, 7, cache);
+    }
+
+    @Test
+    void testRepeatedVerificationHitsCache() {
+        // Given
+        String token = jwtTokenService.generateAccessToken("1", "100", "ROLE_HQ", PermissionSet.empty());
+
+        // When
+        VerifiedToken first = jwtTokenService.verifyToken(token).orElseThrow();
+        VerifiedToken second = jwtTokenService.verifyToken(token).orElseThrow();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void testTamperedTokenIsRejectedEvenWhenOriginalIsCached() {
+        // Given
+        String token = jwtTokenService.generateAccessToken("1", "100", "ROLE_HQ", PermissionSet.empty());
+        assertTrue(jwtTokenService.verifyToken(token).isPresent());
+
+        // When
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // Then
+        assertTrue(jwtTokenService.verifyToken(tampered).isEmpty());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testEntryExpiresAtTokenExpiration() {
+        // Given
+        String token = jwtTokenService.generateAccessToken("1", "100", "ROLE_HQ", PermissionSet.empty());
+        VerifiedToken verified = jwtTokenService.verifyToken(token).orElseThrow();
+
+        // When - 토큰 만료 시점 도달
+        clock.set(verified.getExpiresAt());
+
+        // Then
+        assertNull(cache.get(token));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testCacheIsBoundedByMaxSize() {
+        // Given & When
+        for (int i = 1; i <= 10; i++) {
+            String token = jwtTokenService.generateAccessToken(String.valueOf(i), "100", "ROLE_HQ", PermissionSet.empty());
+            jwtTokenService.verifyToken(token);
+        }
+
+        // Then
+        assertTrue(cache.size() <= 3);
+        assertTrue(cache.getEvictionCount() >= 7);
+    }
+
+    @Test
+    void testDisabledCacheStoresNothing() {
+        VerifiedTokenCache disabled = VerifiedTokenCache.disabled();
+        JwtTokenService service = new JwtTokenService(SECRET, 60, 7, disabled);
+        String token = service.generateAccessToken("1", "100", "ROLE_HQ", PermissionSet.empty());
+
+        assertTrue(service.verifyToken(token).isPresent());
+        assertTrue(service.verifyToken(token).isPresent());
+        assertEquals(0, disabled.size());
+        assertEquals(0, disabled.getHitCount());
+    }
+
+    /**
+     * 테스트용 시간 조절 가능 Clock
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
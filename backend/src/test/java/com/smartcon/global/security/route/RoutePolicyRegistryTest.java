@@ -0,0 +1,81 @@
+package com.smartcon.global.security.route;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 경로 정책 레지스트리 테스트
+ */
+class RoutePolicyRegistryTest {
+
+    private RoutePolicyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        RoutePolicyProperties properties = new RoutePolicyProperties();
+        properties.setRules(List.of(
+                rule("/actuator/**", RouteClass.PUBLIC),
+                rule("/v1/auth/**", RouteClass.PUBLIC),
+                rule("/v1/subscriptions/plans", RouteClass.PUBLIC),
+                rule("/v1/subscriptions/**", RouteClass.EXEMPT),
+                rule("/v1/admin/**", RouteClass.ADMIN),
+                rule("/health", RouteClass.EXEMPT),
+                rule("/static/**", RouteClass.STATIC),
+                rule("*.js", RouteClass.STATIC)
+        ));
+        registry = new RoutePolicyRegistry(properties);
+    }
+
+    @Test
+    void testClassifyByPrefixAndExactRules() {
+        assertEquals(RouteClass.PUBLIC, registry.classify("/v1/auth/login"));
+        assertEquals(RouteClass.PUBLIC, registry.classify("/v1/subscriptions/plans"));
+        assertEquals(RouteClass.EXEMPT, registry.classify("/v1/subscriptions/plans/1"));
+        assertEquals(RouteClass.EXEMPT, registry.classify("/v1/subscriptions/current/history"));
+        assertEquals(RouteClass.ADMIN, registry.classify("/v1/admin"));
+        assertEquals(RouteClass.ADMIN, registry.classify("/v1/admin/dashboard/stats"));
+        assertEquals(RouteClass.EXEMPT, registry.classify("/health"));
+        assertEquals(RouteClass.TENANT, registry.classify("/health/detail"));
+        assertEquals(RouteClass.TENANT, registry.classify("/v1/payments/1"));
+        assertEquals(RouteClass.TENANT, registry.classify("/v1/administrator"));
+    }
+
+    @Test
+    void testLegacyApiPrefixIsIgnored() {
+        assertEquals(RouteClass.ADMIN, registry.classify("/api/v1/admin/tenants"));
+        assertEquals(RouteClass.EXEMPT, registry.classify("/api/v1/subscriptions/create"));
+        assertEquals(RouteClass.TENANT, registry.classify("/apiv1/admin/tenants"));
+    }
+
+    @Test
+    void testExtensionRuleDoesNotOverridePrefixRule() {
+        assertEquals(RouteClass.STATIC, registry.classify("/static/app.css"));
+        assertEquals(RouteClass.STATIC, registry.classify("/main.js"));
+        assertEquals(RouteClass.ADMIN, registry.classify("/v1/admin/export.js"));
+    }
+
+    @Test
+    void testRequestClassificationStrippedOfContextPathAndCached() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/dashboard");
+        request.setContextPath("/api");
+
+        assertEquals(RouteClass.ADMIN, registry.classify(request));
+        assertEquals(RouteClass.ADMIN, request.getAttribute(RoutePolicyRegistry.ROUTE_CLASS_ATTRIBUTE));
+
+        MockHttpServletRequest legacy = new MockHttpServletRequest("GET", "/api/api/v1/admin/dashboard");
+        legacy.setContextPath("/api");
+        assertEquals(RouteClass.ADMIN, registry.classify(legacy));
+    }
+
+    private static RoutePolicyProperties.Rule rule(String pattern, RouteClass type) {
+        RoutePolicyProperties.Rule rule = new RoutePolicyProperties.Rule();
+        rule.setPattern(pattern);
+        rule.setType(type);
+        return rule;
+    }
+}
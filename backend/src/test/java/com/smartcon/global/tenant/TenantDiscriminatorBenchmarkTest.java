@@ -0,0 +1,272 @@
+package com.smartcon.global.tenant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 테넌트 격리 방식별 조회 비용 마이크로 벤치마크
+ *
+ * 요청마다 세션을 열고 tenantFilter를 켜고 끄는 기존 방식과
+ * @TenantId 판별자 방식의 요청당 조회 시간 및 메모리 할당량을 비교합니다.
+ */
+@Slf4j
+class TenantDiscriminatorBenchmarkTest {
+
+    private static final int TENANT_COUNT = 5;
+    private static final int ROWS_PER_TENANT = 50;
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+    private static final String NAME_PATTERN = "record-1%";
+
+    private static SessionFactory filterSessionFactory;
+    private static SessionFactory discriminatorSessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        filterSessionFactory = buildSessionFactory("filter_bench", FilteredRecord.class, false);
+        discriminatorSessionFactory = buildSessionFactory("tenant_id_bench", DiscriminatedRecord.class, true);
+
+        try (Session session = filterSessionFactory.openSession()) {
+            session.beginTransaction();
+            for (long tenantId = 1; tenantId <= TENANT_COUNT; tenantId++) {
+                for (int i = 0; i < ROWS_PER_TENANT; i++) {
+                    session.persist(new FilteredRecord(tenantId, "record-" + i));
+                }
+            }
+            session.getTransaction().commit();
+        }
+
+        // 루트 세션에서 테넌트 ID를 직접 지정하여 데이터 준비
+        try (Session session = discriminatorSessionFactory.openSession()) {
+            session.beginTransaction();
+            for (long tenantId = 1; tenantId <= TENANT_COUNT; tenantId++) {
+                for (int i = 0; i < ROWS_PER_TENANT; i++) {
+                    session.persist(new DiscriminatedRecord(tenantId, "record-" + i));
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        filterSessionFactory.close();
+        discriminatorSessionFactory.close();
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void discriminatorIsolatesTenantRows() {
+        // Given
+        TenantContext.setCurrentTenantId(2L);
+
+        // When
+        List<DiscriminatedRecord> records = queryWithDiscriminator("record-%");
+
+        // Then
+        assertEquals(ROWS_PER_TENANT, records.size());
+        assertTrue(records.stream().allMatch(record -> record.tenantId == 2L));
+    }
+
+    @Test
+    void discriminatorAssignsSessionTenantOnPersist() {
+        // Given
+        TenantContext.setCurrentTenantId(3L);
+        DiscriminatedRecord record = new DiscriminatedRecord(null, "assigned");
+
+        // When
+        try (Session session = discriminatorSessionFactory.openSession()) {
+            session.beginTransaction();
+            session.persist(record);
+            session.getTransaction().rollback();
+        }
+
+        // Then
+        assertEquals(3L, record.tenantId);
+    }
+
+    @Test
+    void rootSessionPersistsTenantlessRowWithNullTenant() {
+        // Given - 테넌트 컨텍스트 없음 (루트 세션), users.tenant_id처럼 NULL 허용 컬럼
+        DiscriminatedRecord record = new DiscriminatedRecord(null, "tenantless");
+
+        // When
+        Long storedTenantId;
+        try (Session session = discriminatorSessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("alter table discriminated_record alter column tenant_id set null")
+                    .executeUpdate();
+            session.persist(record);
+            session.flush();
+            storedTenantId = session.createNativeQuery(
+                            "select tenant_id from discriminated_record where id = :id", Long.class)
+                    .setParameter("id", record.id)
+                    .getSingleResult();
+            session.getTransaction().rollback();
+        }
+
+        // Then
+        assertNull(storedTenantId);
+        assertNull(record.tenantId);
+    }
+
+    @Test
+    void benchmarkPerRequestTenantQuery() {
+        TenantContext.setCurrentTenantId(1L);
+
+        // 워밍업
+        runFilter(WARMUP_ITERATIONS);
+        runDiscriminator(WARMUP_ITERATIONS);
+
+        // 측정
+        long[] filter = runFilter(MEASURE_ITERATIONS);
+        long[] discriminator = runDiscriminator(MEASURE_ITERATIONS);
+
+        log.info("요청당 테넌트 조회 - 필터 방식: {} us / {} KB, @TenantId 방식: {} us / {} KB",
+                String.format("%.2f", filter[0] / 1_000.0 / MEASURE_ITERATIONS),
+                String.format("%.1f", filter[1] / 1_024.0 / MEASURE_ITERATIONS),
+                String.format("%.2f", discriminator[0] / 1_000.0 / MEASURE_ITERATIONS),
+                String.format("%.1f", discriminator[1] / 1_024.0 / MEASURE_ITERATIONS));
+
+        assertTrue(filter[0] > 0 && discriminator[0] > 0);
+    }
+
+    /**
+     * 기존 방식: 세션마다 tenantFilter 활성화, 파라미터 설정, 비활성화
+     * @return {경과 나노초, 할당 바이트}
+     */
+    private long[] runFilter(int iterations) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            try (Session session = filterSessionFactory.openSession()) {
+                session.enableFilter("benchTenantFilter").setParameter("tenantId", TenantContext.getCurrentTenantId());
+                List<FilteredRecord> records = session
+                        .createQuery("from FilteredRecord r where r.name like :name", FilteredRecord.class)
+                        .setParameter("name", NAME_PATTERN)
+                        .getResultList();
+                session.disableFilter("benchTenantFilter");
+                assertFalse(records.isEmpty());
+            }
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - allocatedBefore};
+    }
+
+    /**
+     * 판별자 방식: 세션 생성 시 리졸버가 테넌트를 결정하고 SQL에 조건이 포함됨
+     * @return {경과 나노초, 할당 바이트}
+     */
+    private long[] runDiscriminator(int iterations) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertFalse(queryWithDiscriminator(NAME_PATTERN).isEmpty());
+        }
+        return new long[] {System.nanoTime() - start, allocatedBytes() - allocatedBefore};
+    }
+
+    private List<DiscriminatedRecord> queryWithDiscriminator(String namePattern) {
+        try (Session session = discriminatorSessionFactory.openSession()) {
+            return session
+                    .createQuery("from DiscriminatedRecord r where r.name like :name", DiscriminatedRecord.class)
+                    .setParameter("name", namePattern)
+                    .getResultList();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private static SessionFactory buildSessionFactory(String database, Class<?> entityClass, boolean discriminator) {
+        BootstrapServiceRegistryBuilder bootstrap = new BootstrapServiceRegistryBuilder();
+        if (discriminator) {
+            bootstrap.applyIntegrator(new RootTenantIdIntegrator());
+        }
+        Configuration configuration = new Configuration(bootstrap.build())
+                .addAnnotatedClass(entityClass)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.SHOW_SQL, "false");
+        if (discriminator) {
+            configuration.getProperties().put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver());
+        }
+        return configuration.buildSessionFactory();
+    }
+
+    @Entity(name = "FilteredRecord")
+    @Table(name = "filtered_record")
+    @FilterDef(name = "benchTenantFilter", parameters = @ParamDef(name = "tenantId", type = Long.class))
+    @Filter(name = "benchTenantFilter", condition = "tenant_id = :tenantId")
+    static class FilteredRecord {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(name = "tenant_id", nullable = false)
+        Long tenantId;
+
+        String name;
+
+        protected FilteredRecord() {
+        }
+
+        FilteredRecord(Long tenantId, String name) {
+            this.tenantId = tenantId;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "DiscriminatedRecord")
+    @Table(name = "discriminated_record")
+    static class DiscriminatedRecord {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @TenantId
+        @Column(name = "tenant_id", nullable = false)
+        Long tenantId;
+
+        String name;
+
+        protected DiscriminatedRecord() {
+        }
+
+        DiscriminatedRecord(Long tenantId, String name) {
+            this.tenantId = tenantId;
+            this.name = name;
+        }
+    }
+}